@@ -21,8 +21,11 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
@@ -33,6 +36,8 @@ import org.apache.geode.internal.Sendable;
 import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
 import org.apache.geode.pdx.WritablePdxInstance;
+import org.apache.geode.pdx.internal.PdxInstanceImpl;
+import org.apache.geode.pdx.internal.PdxType;
 
 /**
  * The {@link PdxInstanceWrapper} class is an implementation of the {@link PdxInstance} interface
@@ -66,6 +71,12 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 	protected static final String OBJECT_BEGIN = "{";
 	protected static final String OBJECT_END = "}";
 
+	private static final AtomicReference<ObjectMapper> SHARED_OBJECT_MAPPER = new AtomicReference<>();
+
+	private static final int IDENTITY_FIELD_NAME_CACHE_MAX_SIZE = 1024;
+
+	private static final Map<Integer, IdentityFieldName> IDENTITY_FIELD_NAME_CACHE = new ConcurrentHashMap<>();
+
 	/**
 	 * Smart, {@literal null-safe} factory method used to evaluate the given {@link Object} and wrap the {@link Object}
 	 * in a new instance of {@link PdxInstanceWrapper} if the {@link Object} is an instance of {@link PdxInstance}
@@ -121,6 +132,15 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 			: pdxInstance;
 	}
 
+	/**
+	 * Clears the cache of {@link PdxInstance#isIdentityField(String) identity field} names resolved per PDX type.
+	 *
+	 * @see #getIdentifier()
+	 */
+	static void clearIdentityFieldNameCache() {
+		IDENTITY_FIELD_NAME_CACHE.clear();
+	}
+
 	private final PdxInstance delegate;
 
 	/**
@@ -153,22 +173,42 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 	 * Returns an {@link Optional} reference to a configured Jackson {@link ObjectMapper} used to
 	 * deserialize the {@link String JSON} generated from {@link PdxInstance PDX} back into an {@link Object}.
 	 *
+	 * The Jackson {@link ObjectMapper} is thread-safe and shared by all {@link PdxInstanceWrapper} instances.
+	 *
 	 * This method is meant ot be overridden by {@link Class subclasses}.
 	 *
 	 * @return an {@link Optional} {@link ObjectMapper}.
 	 * @see com.fasterxml.jackson.databind.ObjectMapper
 	 * @see java.util.Optional
+	 * @see #newObjectMapper()
 	 */
 	protected Optional<ObjectMapper> getObjectMapper() {
 
-		ObjectMapper objectMapper = newJsonMapperBuilder()
+		ObjectMapper objectMapper = SHARED_OBJECT_MAPPER.get();
+
+		if (objectMapper == null) {
+			SHARED_OBJECT_MAPPER.compareAndSet(null, newObjectMapper());
+			objectMapper = SHARED_OBJECT_MAPPER.get();
+		}
+
+		return Optional.of(objectMapper);
+	}
+
+	/**
+	 * Constructs and configures a new Jackson {@link ObjectMapper}.
+	 *
+	 * @return a new, configured Jackson {@link ObjectMapper}; never {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 * @see #newJsonMapperBuilder()
+	 */
+	ObjectMapper newObjectMapper() {
+
+		return newJsonMapperBuilder()
 			.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false)
 			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
 			.configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true)
 			.build()
 			.findAndRegisterModules();
-
-		return Optional.of(objectMapper);
 	}
 
 	/**
@@ -225,6 +265,12 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 	 * Determines the {@link Object identifier} for, or {@link PdxInstance#isIdentityField(String) identity} of,
 	 * this {@link PdxInstance}.
 	 *
+	 * The {@link PdxInstance#isIdentityField(String) identity field} is resolved once per PDX type and cached by
+	 * PDX type ID, so that identifying subsequent {@link PdxInstance PdxInstances} of the same type does not require
+	 * testing every field. Since PDX type IDs are only unique within a distributed system, a cached identity field
+	 * is only used for the same PDX type it was resolved from, for instance after the cache is closed and recreated
+	 * in the same JVM. The cache is bounded, evicting the least recently used PDX type when full.
+	 *
 	 * @return the {@link Object identifier} for this {@link PdxInstance}; never {@literal null}.
 	 * @throws IllegalStateException if the {@link PdxInstance} does not have an id.
 	 * @see #isIdentityField(String)
@@ -234,14 +280,85 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 	 */
 	public Object getIdentifier() {
 
-		Optional<String> identityFieldName = nullSafeList(getFieldNames()).stream()
+		PdxType pdxType = resolvePdxType();
+
+		String identityFieldName = pdxType != null
+			? getCachedIdentityFieldName(pdxType)
+			: null;
+
+		if (identityFieldName == null) {
+
+			identityFieldName = resolveIdentityFieldName();
+
+			if (pdxType != null) {
+				cacheIdentityFieldName(pdxType, identityFieldName);
+			}
+		}
+
+		return NO_FIELD_NAME.equals(identityFieldName)
+			? getId()
+			: getField(identityFieldName);
+	}
+
+	private static String getCachedIdentityFieldName(PdxType pdxType) {
+
+		IdentityFieldName identityFieldName = IDENTITY_FIELD_NAME_CACHE.get(pdxType.getTypeId());
+
+		return identityFieldName != null && identityFieldName.isFor(pdxType)
+			? identityFieldName.touch().getName()
+			: null;
+	}
+
+	private static void cacheIdentityFieldName(PdxType pdxType, String identityFieldName) {
+
+		// Bound the cache; PdxInstances of generated or JSON types can have an unbounded number of PDX types.
+		if (IDENTITY_FIELD_NAME_CACHE.size() >= IDENTITY_FIELD_NAME_CACHE_MAX_SIZE
+				&& !IDENTITY_FIELD_NAME_CACHE.containsKey(pdxType.getTypeId())) {
+
+			IDENTITY_FIELD_NAME_CACHE.entrySet().stream()
+				.min(Map.Entry.comparingByValue())
+				.ifPresent(leastRecentlyUsed ->
+					IDENTITY_FIELD_NAME_CACHE.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue()));
+		}
+
+		IDENTITY_FIELD_NAME_CACHE.put(pdxType.getTypeId(), new IdentityFieldName(pdxType, identityFieldName));
+	}
+
+	/**
+	 * Resolves the {@link String name} of the first {@link PdxInstance#isIdentityField(String) identity field}
+	 * declared by the PDX type of this {@link PdxInstance}.
+	 *
+	 * @return the {@link String name} of the first {@link PdxInstance#isIdentityField(String) identity field},
+	 * or an {@link String empty String} if this {@link PdxInstance} declares no identity fields.
+	 * @see #isIdentityField(String)
+	 * @see #getFieldNames()
+	 */
+	private String resolveIdentityFieldName() {
+
+		return nullSafeList(getFieldNames()).stream()
 			.filter(this::hasText)
 			.filter(this::isIdentityField)
-			.findFirst();
+			.findFirst()
+			.orElse(NO_FIELD_NAME);
+	}
 
-		return identityFieldName
-			.map(this::getField)
-			.orElseGet(this::getId);
+	/**
+	 * Resolves the PDX type of this {@link PdxInstance}.
+	 *
+	 * The PDX type is used to cache the resolved {@link PdxInstance#isIdentityField(String) identity field}
+	 * for all {@link PdxInstance PdxInstances} of the same type.
+	 *
+	 * @return the PDX type of this {@link PdxInstance}, or {@literal null} if this {@link PdxInstance}
+	 * is not backed by Apache Geode's {@link PdxInstanceImpl}.
+	 * @see org.apache.geode.pdx.internal.PdxInstanceImpl#getPdxType()
+	 */
+	PdxType resolvePdxType() {
+
+		PdxInstance delegate = getDelegate();
+
+		return delegate instanceof PdxInstanceImpl
+			? ((PdxInstanceImpl) delegate).getPdxType()
+			: null;
 	}
 
 	/**
@@ -497,4 +614,45 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 	private Class<?> nullSafeType(Object value) {
 		return value != null ? value.getClass() : Object.class;
 	}
+
+	/**
+	 * {@link PdxInstance#isIdentityField(String) Identity field} name resolved for a PDX type, along with the time
+	 * it was last used, to evict the least recently used PDX type from the cache.
+	 */
+	static final class IdentityFieldName implements Comparable<IdentityFieldName> {
+
+		private volatile long lastUsedTime = System.nanoTime();
+
+		private final PdxType pdxType;
+
+		private final String name;
+
+		IdentityFieldName(PdxType pdxType, String name) {
+			this.pdxType = pdxType;
+			this.name = name;
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+		boolean isFor(PdxType pdxType) {
+			return this.pdxType == pdxType || this.pdxType.equals(pdxType);
+		}
+
+		IdentityFieldName touch() {
+			this.lastUsedTime = System.nanoTime();
+			return this;
+		}
+
+		@Override
+		public int compareTo(IdentityFieldName that) {
+			return Long.compare(this.lastUsedTime, that.lastUsedTime);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s[%2$s]", this.pdxType.getClassName(), this.name);
+		}
+	}
 }
@@ -47,12 +47,15 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 
+import org.junit.After;
 import org.junit.Test;
 
 import org.apache.geode.internal.Sendable;
 import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
 import org.apache.geode.pdx.WritablePdxInstance;
+import org.apache.geode.pdx.internal.PdxInstanceImpl;
+import org.apache.geode.pdx.internal.PdxType;
 
 /**
  * Unit Tests for {@link PdxInstanceWrapper}.
@@ -70,6 +73,11 @@ import org.apache.geode.pdx.WritablePdxInstance;
  */
 public class PdxInstanceWrapperUnitTests {
 
+	@After
+	public void tearDown() {
+		PdxInstanceWrapper.clearIdentityFieldNameCache();
+	}
+
 	@Test
 	public void constructPdxInstanceWrapper() {
 
@@ -160,6 +168,19 @@ public class PdxInstanceWrapperUnitTests {
 		assertThat(PdxInstanceWrapper.unwrap(null)).isNull();
 	}
 
+	@Test
+	public void objectMapperIsShared() {
+
+		PdxInstanceWrapper wrapperOne = PdxInstanceWrapper.from(mock(PdxInstance.class));
+		PdxInstanceWrapper wrapperTwo = PdxInstanceWrapper.from(mock(PdxInstance.class));
+
+		ObjectMapper objectMapper = wrapperOne.getObjectMapper().orElse(null);
+
+		assertThat(objectMapper).isNotNull();
+		assertThat(wrapperOne.getObjectMapper()).containsSame(objectMapper);
+		assertThat(wrapperTwo.getObjectMapper()).containsSame(objectMapper);
+	}
+
 	@Test
 	public void objectMapperConfigurationIsCorrect() {
 
@@ -181,7 +202,7 @@ public class PdxInstanceWrapperUnitTests {
 
 		assertThat(wrapper.getDelegate()).isEqualTo(mockPdxInstance);
 
-		ObjectMapper objectMapper = wrapper.getObjectMapper().orElse(null);
+		ObjectMapper objectMapper = wrapper.newObjectMapper();
 
 		assertThat(objectMapper).isNotNull();
 
@@ -374,6 +395,171 @@ public class PdxInstanceWrapperUnitTests {
 		}
 	}
 
+	private PdxInstance mockPdxInstance(String name, PdxType pdxType) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstanceImpl.class, name);
+
+		doReturn(pdxType).when((PdxInstanceImpl) mockPdxInstance).getPdxType();
+
+		return mockPdxInstance;
+	}
+
+	private PdxType newPdxType(int typeId, String className) {
+
+		PdxType pdxType = new PdxType(className, true);
+
+		pdxType.setTypeId(typeId);
+
+		return pdxType;
+	}
+
+	@Test
+	public void getIdentifierCachesIdentityFieldNamePerPdxType() {
+
+		PdxType pdxType = newPdxType(1, "example.Person");
+
+		PdxInstance mockPdxInstanceOne = mockPdxInstance("PdxInstanceOne", pdxType);
+		PdxInstance mockPdxInstanceTwo = mockPdxInstance("PdxInstanceTwo", pdxType);
+
+		doReturn(Arrays.asList("age", "id", "name")).when(mockPdxInstanceOne).getFieldNames();
+		doReturn(true).when(mockPdxInstanceOne).isIdentityField(eq("id"));
+		doReturn(1).when(mockPdxInstanceOne).getField(eq("id"));
+		doReturn(2).when(mockPdxInstanceTwo).getField(eq("id"));
+
+		PdxInstanceWrapper wrapperOne = spy(new PdxInstanceWrapper(mockPdxInstanceOne));
+		PdxInstanceWrapper wrapperTwo = spy(new PdxInstanceWrapper(mockPdxInstanceTwo));
+
+		assertThat(wrapperOne.getIdentifier()).isEqualTo(1);
+		assertThat(wrapperTwo.getIdentifier()).isEqualTo(2);
+
+		verify(mockPdxInstanceOne, times(1)).getFieldNames();
+		verify(mockPdxInstanceOne, times(1)).isIdentityField(eq("age"));
+		verify(mockPdxInstanceOne, times(1)).isIdentityField(eq("id"));
+		verify(mockPdxInstanceOne, times(1)).getField(eq("id"));
+		verify(mockPdxInstanceTwo, never()).getFieldNames();
+		verify(mockPdxInstanceTwo, never()).isIdentityField(anyString());
+		verify(mockPdxInstanceTwo, times(1)).getField(eq("id"));
+		verify(wrapperTwo, never()).getId();
+	}
+
+	@Test
+	public void getIdentifierCachesNoIdentityFieldPerPdxType() {
+
+		PdxType pdxType = newPdxType(1, "example.Person");
+
+		PdxInstance mockPdxInstanceOne = mockPdxInstance("PdxInstanceOne", pdxType);
+		PdxInstance mockPdxInstanceTwo = mockPdxInstance("PdxInstanceTwo", pdxType);
+
+		doReturn(Collections.singletonList("name")).when(mockPdxInstanceOne).getFieldNames();
+		doReturn(false).when(mockPdxInstanceOne).isIdentityField(anyString());
+
+		PdxInstanceWrapper wrapperOne = spy(new PdxInstanceWrapper(mockPdxInstanceOne));
+		PdxInstanceWrapper wrapperTwo = spy(new PdxInstanceWrapper(mockPdxInstanceTwo));
+
+		doReturn(1).when(wrapperOne).getId();
+		doReturn(2).when(wrapperTwo).getId();
+
+		assertThat(wrapperOne.getIdentifier()).isEqualTo(1);
+		assertThat(wrapperTwo.getIdentifier()).isEqualTo(2);
+
+		verify(mockPdxInstanceOne, times(1)).isIdentityField(eq("name"));
+		verify(mockPdxInstanceTwo, never()).isIdentityField(anyString());
+		verify(wrapperOne, times(1)).getId();
+		verify(wrapperTwo, times(1)).getId();
+	}
+
+	@Test
+	public void getIdentifierDoesNotShareIdentityFieldNameAcrossDifferentPdxTypes() {
+
+		PdxInstance mockPdxInstanceOne = mockPdxInstance("PdxInstanceOne", newPdxType(1, "example.Person"));
+		PdxInstance mockPdxInstanceTwo = mockPdxInstance("PdxInstanceTwo", newPdxType(2, "example.Person"));
+
+		doReturn(Arrays.asList("id", "name")).when(mockPdxInstanceOne).getFieldNames();
+		doReturn(Arrays.asList("name", "ssn")).when(mockPdxInstanceTwo).getFieldNames();
+		doReturn(true).when(mockPdxInstanceOne).isIdentityField(eq("id"));
+		doReturn(true).when(mockPdxInstanceTwo).isIdentityField(eq("ssn"));
+		doReturn(1).when(mockPdxInstanceOne).getField(eq("id"));
+		doReturn("123-45-6789").when(mockPdxInstanceTwo).getField(eq("ssn"));
+
+		assertThat(new PdxInstanceWrapper(mockPdxInstanceOne).getIdentifier()).isEqualTo(1);
+		assertThat(new PdxInstanceWrapper(mockPdxInstanceTwo).getIdentifier()).isEqualTo("123-45-6789");
+	}
+
+	@Test
+	public void getIdentifierDoesNotUseIdentityFieldNameCachedForDifferentPdxTypeWithSameTypeId() {
+
+		PdxInstance mockPdxInstanceOne = mockPdxInstance("PdxInstanceOne", newPdxType(1, "example.Person"));
+		PdxInstance mockPdxInstanceTwo = mockPdxInstance("PdxInstanceTwo", newPdxType(1, "example.Customer"));
+
+		doReturn(Arrays.asList("id", "name")).when(mockPdxInstanceOne).getFieldNames();
+		doReturn(Arrays.asList("name", "ssn")).when(mockPdxInstanceTwo).getFieldNames();
+		doReturn(true).when(mockPdxInstanceOne).isIdentityField(eq("id"));
+		doReturn(true).when(mockPdxInstanceTwo).isIdentityField(eq("ssn"));
+		doReturn(1).when(mockPdxInstanceOne).getField(eq("id"));
+		doReturn("123-45-6789").when(mockPdxInstanceTwo).getField(eq("ssn"));
+
+		assertThat(new PdxInstanceWrapper(mockPdxInstanceOne).getIdentifier()).isEqualTo(1);
+		assertThat(new PdxInstanceWrapper(mockPdxInstanceTwo).getIdentifier()).isEqualTo("123-45-6789");
+
+		verify(mockPdxInstanceTwo, times(1)).getFieldNames();
+	}
+
+	@Test
+	public void getIdentifierEvictsLeastRecentlyUsedPdxTypeWhenCacheIsFull() {
+
+		PdxType leastRecentlyUsedPdxType = newPdxType(0, "example.Type0");
+
+		PdxInstance mockLeastRecentlyUsedPdxInstance =
+			mockPdxInstance("LeastRecentlyUsedPdxInstance", leastRecentlyUsedPdxType);
+
+		doReturn(Collections.singletonList("id")).when(mockLeastRecentlyUsedPdxInstance).getFieldNames();
+		doReturn(true).when(mockLeastRecentlyUsedPdxInstance).isIdentityField(eq("id"));
+
+		new PdxInstanceWrapper(mockLeastRecentlyUsedPdxInstance).getIdentifier();
+
+		PdxInstance mockRecentlyUsedPdxInstance =
+			mockPdxInstance("RecentlyUsedPdxInstance", newPdxType(1, "example.Type1"));
+
+		doReturn(Collections.singletonList("id")).when(mockRecentlyUsedPdxInstance).getFieldNames();
+		doReturn(true).when(mockRecentlyUsedPdxInstance).isIdentityField(eq("id"));
+
+		new PdxInstanceWrapper(mockRecentlyUsedPdxInstance).getIdentifier();
+
+		for (int typeId = 2; typeId <= 1024; typeId++) {
+
+			PdxInstance mockPdxInstance = mockPdxInstance("PdxInstance" + typeId,
+				newPdxType(typeId, "example.Type" + typeId));
+
+			doReturn(Collections.singletonList("id")).when(mockPdxInstance).getFieldNames();
+			doReturn(true).when(mockPdxInstance).isIdentityField(eq("id"));
+
+			new PdxInstanceWrapper(mockPdxInstance).getIdentifier();
+
+			if (typeId == 512) {
+				new PdxInstanceWrapper(mockRecentlyUsedPdxInstance).getIdentifier();
+			}
+		}
+
+		new PdxInstanceWrapper(mockLeastRecentlyUsedPdxInstance).getIdentifier();
+		new PdxInstanceWrapper(mockRecentlyUsedPdxInstance).getIdentifier();
+
+		verify(mockLeastRecentlyUsedPdxInstance, times(2)).getFieldNames();
+		verify(mockRecentlyUsedPdxInstance, times(1)).getFieldNames();
+	}
+
+	@Test
+	public void resolvePdxTypeOfNonPdxInstanceImplIsNull() {
+		assertThat(new PdxInstanceWrapper(mock(PdxInstance.class)).resolvePdxType()).isNull();
+	}
+
+	@Test
+	public void resolvePdxTypeOfPdxInstanceImpl() {
+
+		PdxType pdxType = newPdxType(1, "example.Person");
+
+		assertThat(new PdxInstanceWrapper(mockPdxInstance("PdxInstance", pdxType)).resolvePdxType()).isSameAs(pdxType);
+	}
+
 	@Test
 	public void getIdFromPdxInstanceHavingIdField() {
 
@@ -28,6 +28,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.gemfire.CacheFactoryBean;
 import org.springframework.geode.boot.actuate.autoconfigure.config.BaseGeodeHealthIndicatorConfiguration;
 import org.springframework.geode.boot.actuate.autoconfigure.config.ClientCacheHealthIndicatorConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.HealthSnapshotConfiguration;
 import org.springframework.geode.boot.actuate.autoconfigure.config.PeerCacheHealthIndicatorConfiguration;
 import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
 
@@ -45,6 +46,7 @@ import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
  * @see org.springframework.data.gemfire.CacheFactoryBean
  * @see org.springframework.geode.boot.actuate.autoconfigure.config.BaseGeodeHealthIndicatorConfiguration
  * @see org.springframework.geode.boot.actuate.autoconfigure.config.ClientCacheHealthIndicatorConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.HealthSnapshotConfiguration
  * @see org.springframework.geode.boot.actuate.autoconfigure.config.PeerCacheHealthIndicatorConfiguration
  * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
  * @since 1.0.0
@@ -57,6 +59,7 @@ import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
 @Import({
 	BaseGeodeHealthIndicatorConfiguration.class,
 	ClientCacheHealthIndicatorConfiguration.class,
+	HealthSnapshotConfiguration.class,
 	PeerCacheHealthIndicatorConfiguration.class,
 })
 @SuppressWarnings("unused")
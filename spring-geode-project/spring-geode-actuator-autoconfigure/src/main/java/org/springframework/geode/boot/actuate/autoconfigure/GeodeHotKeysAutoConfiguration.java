@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.geode.boot.actuate.hotkeys.GeodeHotKeysEndpoint;
+import org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch;
+import org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListenerRegistrar;
+import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} for tracking the hottest keys of
+ * the {@link GemFireCache} {@literal Regions} and exposing them with the {@link GeodeHotKeysEndpoint}.
+ *
+ * Tracking is enabled with {@literal spring.boot.data.gemfire.hotkeys.enabled=true}, which registers
+ * a {@literal HotKeysCacheListener} on all {@literal Regions}, or only on the {@literal Regions} listed in
+ * {@literal spring.boot.data.gemfire.hotkeys.regions}. Counts are halved every
+ * {@literal spring.boot.data.gemfire.hotkeys.decay-interval} (default: 1 minute) so that the hottest keys
+ * reflect recent traffic.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.hotkeys.GeodeHotKeysEndpoint
+ * @see org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch
+ * @see org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListenerRegistrar
+ * @since 2.0.0
+ */
+@Configuration
+@AutoConfigureAfter(ClientCacheAutoConfiguration.class)
+@ConditionalOnBean(GemFireCache.class)
+@ConditionalOnClass(CacheFactoryBean.class)
+@ConditionalOnProperty(name = GeodeHotKeysAutoConfiguration.HOT_KEYS_ENABLED_PROPERTY, havingValue = "true")
+@SuppressWarnings("unused")
+public class GeodeHotKeysAutoConfiguration {
+
+	public static final String HOT_KEYS_PROPERTY_PREFIX = "spring.boot.data.gemfire.hotkeys.";
+	public static final String HOT_KEYS_BUCKET_LIMIT_PROPERTY = HOT_KEYS_PROPERTY_PREFIX + "bucket-limit";
+	public static final String HOT_KEYS_CAPACITY_PROPERTY = HOT_KEYS_PROPERTY_PREFIX + "capacity";
+	public static final String HOT_KEYS_DECAY_INTERVAL_PROPERTY = HOT_KEYS_PROPERTY_PREFIX + "decay-interval";
+	public static final String HOT_KEYS_ENABLED_PROPERTY = HOT_KEYS_PROPERTY_PREFIX + "enabled";
+	public static final String HOT_KEYS_REGIONS_PROPERTY = HOT_KEYS_PROPERTY_PREFIX + "regions";
+	public static final String HOT_KEYS_SKETCH_DEPTH_PROPERTY = HOT_KEYS_PROPERTY_PREFIX + "sketch.depth";
+	public static final String HOT_KEYS_SKETCH_WIDTH_PROPERTY = HOT_KEYS_PROPERTY_PREFIX + "sketch.width";
+
+	@Bean
+	@ConditionalOnMissingBean
+	HotKeysCacheListenerRegistrar hotKeysCacheListenerRegistrar(GemFireCache gemfireCache, Environment environment) {
+
+		String[] regionNames = environment.getProperty(HOT_KEYS_REGIONS_PROPERTY, String[].class, new String[0]);
+
+		int capacity = environment.getProperty(HOT_KEYS_CAPACITY_PROPERTY, Integer.class,
+			HeavyHittersSketch.DEFAULT_CAPACITY);
+
+		int depth = environment.getProperty(HOT_KEYS_SKETCH_DEPTH_PROPERTY, Integer.class,
+			HeavyHittersSketch.DEFAULT_DEPTH);
+
+		int width = environment.getProperty(HOT_KEYS_SKETCH_WIDTH_PROPERTY, Integer.class,
+			HeavyHittersSketch.DEFAULT_WIDTH);
+
+		Duration decayInterval = environment.getProperty(HOT_KEYS_DECAY_INTERVAL_PROPERTY, Duration.class,
+			HeavyHittersSketch.DEFAULT_DECAY_INTERVAL);
+
+		return new HotKeysCacheListenerRegistrar(gemfireCache, new LinkedHashSet<>(Arrays.asList(regionNames)),
+			() -> new HeavyHittersSketch(capacity, depth, width, decayInterval, Clock.systemUTC()));
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnAvailableEndpoint(endpoint = GeodeHotKeysEndpoint.class)
+	GeodeHotKeysEndpoint geodeHotKeysEndpoint(GemFireCache gemfireCache, Environment environment) {
+
+		int bucketLimit = environment.getProperty(HOT_KEYS_BUCKET_LIMIT_PROPERTY, Integer.class,
+			GeodeHotKeysEndpoint.DEFAULT_BUCKET_LIMIT);
+
+		return new GeodeHotKeysEndpoint(gemfireCache, bucketLimit);
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTrackerRegistrar;
+import org.springframework.geode.boot.actuate.metrics.GeodeAsyncEventQueuesMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeCacheServersMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeContinuousQueriesMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeDiskStoresMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeFunctionResultCacheMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeGatewayReceiversMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeGatewaySendersMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeHotKeysMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeIndexesMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodePoolsMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeRegionsMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.TimedGemfireTemplate;
+import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
+import org.springframework.geode.boot.autoconfigure.ContinuousQueryAutoConfiguration;
+import org.springframework.geode.boot.autoconfigure.FunctionExecutionAutoConfiguration;
+import org.springframework.geode.boot.autoconfigure.RegionTemplateAutoConfiguration;
+import org.springframework.geode.function.support.FunctionResultCache;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} for Apache Geode Micrometer
+ * {@link MeterBinder MeterBinders}.
+ *
+ * Each {@link MeterBinder} only binds {@literal Meters} for the Apache Geode objects applicable to
+ * the type of {@link GemFireCache}, e.g. {@literal Pools} for a {@literal ClientCache}, or {@literal CacheServers}
+ * for a peer {@literal Cache}. Individual {@literal Meters} can be disabled with Spring Boot's
+ * {@literal management.metrics.enable.geode.*} properties.
+ *
+ * Additionally, when {@literal spring.boot.data.gemfire.metrics.region.operations.enabled} is {@literal true},
+ * {@link GemfireTemplate GemfireTemplates} are replaced with {@link TimedGemfireTemplate TimedGemfireTemplates}
+ * recording the latency of {@literal Region} data access operations. When
+ * {@literal spring.boot.data.gemfire.metrics.continuous-query.enabled} is {@literal true}, the events of
+ * {@literal Continuous Queries} are tracked and bound as {@literal Meters}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.GeodeHealthIndicatorAutoConfiguration
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeAsyncEventQueuesMeterBinder
+ * @see org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTrackerRegistrar
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeCacheServersMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeContinuousQueriesMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeDiskStoresMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeFunctionResultCacheMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeGatewayReceiversMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeGatewaySendersMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeHotKeysMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeIndexesMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodePoolsMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeRegionsMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.TimedGemfireTemplate
+ * @since 2.0.0
+ */
+@Configuration
+@AutoConfigureAfter({
+	ClientCacheAutoConfiguration.class,
+	CompositeMeterRegistryAutoConfiguration.class,
+	ContinuousQueryAutoConfiguration.class,
+	FunctionExecutionAutoConfiguration.class,
+	MetricsAutoConfiguration.class,
+	RegionTemplateAutoConfiguration.class
+})
+@ConditionalOnBean({ GemFireCache.class, MeterRegistry.class })
+@ConditionalOnClass({ CacheFactoryBean.class, MeterBinder.class })
+@SuppressWarnings("unused")
+public class GeodeMetricsAutoConfiguration {
+
+	public static final String CONTINUOUS_QUERY_METRICS_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.metrics.continuous-query.enabled";
+
+	public static final String REGION_OPERATION_TIMERS_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.metrics.region.operations.enabled";
+
+	@Bean
+	@ConditionalOnProperty(name = REGION_OPERATION_TIMERS_ENABLED_PROPERTY, havingValue = "true")
+	static BeanPostProcessor timedGemfireTemplateBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return new BeanPostProcessor() {
+
+			// Only plain GemfireTemplates, like those created by RegionTemplateAutoConfiguration, are replaced;
+			// user-defined GemfireTemplate subclasses are left as is.
+			@Nullable @Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+				if (bean != null && GemfireTemplate.class.equals(bean.getClass())) {
+
+					GemfireTemplate template = (GemfireTemplate) bean;
+
+					TimedGemfireTemplate timedTemplate =
+						new TimedGemfireTemplate(template.getRegion(), meterRegistry.getObject());
+
+					timedTemplate.setExposeNativeRegion(template.isExposeNativeRegion());
+
+					return timedTemplate;
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeAsyncEventQueuesMeterBinder asyncEventQueuesMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeAsyncEventQueuesMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeCacheServersMeterBinder cacheServersMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeCacheServersMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	@ConditionalOnBean(ContinuousQueryListenerContainer.class)
+	@ConditionalOnProperty(name = CONTINUOUS_QUERY_METRICS_ENABLED_PROPERTY, havingValue = "true")
+	ContinuousQueryEventTrackerRegistrar continuousQueryEventTrackerRegistrar(
+			ContinuousQueryListenerContainer continuousQueryListenerContainer) {
+
+		return new ContinuousQueryEventTrackerRegistrar(continuousQueryListenerContainer);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(ContinuousQueryListenerContainer.class)
+	@ConditionalOnProperty(name = CONTINUOUS_QUERY_METRICS_ENABLED_PROPERTY, havingValue = "true")
+	GeodeContinuousQueriesMeterBinder continuousQueriesMeterBinder(
+			ContinuousQueryListenerContainer continuousQueryListenerContainer) {
+
+		return new GeodeContinuousQueriesMeterBinder(continuousQueryListenerContainer);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeDiskStoresMeterBinder diskStoresMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeDiskStoresMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnSingleCandidate(FunctionResultCache.class)
+	GeodeFunctionResultCacheMeterBinder functionResultCacheMeterBinder(FunctionResultCache functionResultCache) {
+		return new GeodeFunctionResultCacheMeterBinder(functionResultCache);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeGatewayReceiversMeterBinder gatewayReceiversMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeGatewayReceiversMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeGatewaySendersMeterBinder gatewaySendersMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeGatewaySendersMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = GeodeHotKeysAutoConfiguration.HOT_KEYS_ENABLED_PROPERTY, havingValue = "true")
+	GeodeHotKeysMeterBinder hotKeysMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeHotKeysMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeIndexesMeterBinder indexesMeterBinder(ApplicationContext applicationContext) {
+		return new GeodeIndexesMeterBinder(applicationContext);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodePoolsMeterBinder poolsMeterBinder(GemFireCache gemfireCache) {
+		return new GeodePoolsMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeRegionsMeterBinder regionsMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeRegionsMeterBinder(gemfireCache);
+	}
+}
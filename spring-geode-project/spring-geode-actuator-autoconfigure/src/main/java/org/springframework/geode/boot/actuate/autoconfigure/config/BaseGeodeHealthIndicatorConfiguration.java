@@ -15,6 +15,8 @@
  */
 package org.springframework.geode.boot.actuate.autoconfigure.config;
 
+import java.time.Duration;
+
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.client.ClientCache;
@@ -23,6 +25,7 @@ import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.geode.boot.actuate.GeodeCacheHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeDiskStoresHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeIndexesHealthIndicator;
@@ -40,6 +43,7 @@ import org.springframework.geode.boot.actuate.GeodeRegionsHealthIndicator;
  * @see org.springframework.context.ApplicationContext
  * @see org.springframework.context.annotation.Bean
  * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.core.env.Environment
  * @see org.springframework.geode.boot.actuate.GeodeCacheHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeDiskStoresHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeIndexesHealthIndicator
@@ -50,14 +54,27 @@ import org.springframework.geode.boot.actuate.GeodeRegionsHealthIndicator;
 @SuppressWarnings("unused")
 public class BaseGeodeHealthIndicatorConfiguration {
 
+	public static final String DISK_STORE_LATENCY_THRESHOLD_PROPERTY =
+		"spring.boot.data.gemfire.health.disk-store.latency-threshold";
+
+	public static final String DISK_STORE_LATENCY_WINDOW_PROPERTY =
+		"spring.boot.data.gemfire.health.disk-store.latency-window";
+
 	@Bean("GeodeCacheHealthIndicator")
 	GeodeCacheHealthIndicator cacheHealthIndicator(GemFireCache gemfireCache) {
 		return new GeodeCacheHealthIndicator(gemfireCache);
 	}
 
 	@Bean("GeodeDiskStoresHealthIndicator")
-	GeodeDiskStoresHealthIndicator diskStoresHealthIndicator(ApplicationContext applicationContext) {
-		return new GeodeDiskStoresHealthIndicator(applicationContext);
+	GeodeDiskStoresHealthIndicator diskStoresHealthIndicator(ApplicationContext applicationContext,
+			Environment environment) {
+
+		Duration latencyThreshold = environment.getProperty(DISK_STORE_LATENCY_THRESHOLD_PROPERTY, Duration.class);
+
+		Duration latencyWindow = environment.getProperty(DISK_STORE_LATENCY_WINDOW_PROPERTY, Duration.class,
+			GeodeDiskStoresHealthIndicator.DEFAULT_LATENCY_WINDOW);
+
+		return new GeodeDiskStoresHealthIndicator(applicationContext, latencyThreshold, latencyWindow);
 	}
 
 	@Bean("GeodeIndexesHealthIndicator")
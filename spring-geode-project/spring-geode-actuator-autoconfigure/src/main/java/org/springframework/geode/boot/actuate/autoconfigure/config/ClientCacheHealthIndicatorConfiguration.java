@@ -15,6 +15,8 @@
  */
 package org.springframework.geode.boot.actuate.autoconfigure.config;
 
+import java.time.Duration;
+
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.client.ClientCache;
@@ -26,6 +28,7 @@ import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.data.gemfire.util.CacheUtils;
@@ -51,11 +54,17 @@ import org.springframework.geode.boot.actuate.GeodePoolsHealthIndicator;
 @SuppressWarnings("unused")
 public class ClientCacheHealthIndicatorConfiguration {
 
+	public static final String CONTINUOUS_QUERY_LAG_THRESHOLD_PROPERTY =
+		"spring.boot.data.gemfire.health.continuous-query.lag-threshold";
+
 	@Bean("GeodeContinuousQueryHealthIndicator")
 	GeodeContinuousQueriesHealthIndicator continuousQueriesHealthIndicator(
-			@Autowired(required = false) ContinuousQueryListenerContainer continuousQueryListenerContainer) {
+			@Autowired(required = false) ContinuousQueryListenerContainer continuousQueryListenerContainer,
+			Environment environment) {
+
+		Duration lagThreshold = environment.getProperty(CONTINUOUS_QUERY_LAG_THRESHOLD_PROPERTY, Duration.class);
 
-		return new GeodeContinuousQueriesHealthIndicator(continuousQueryListenerContainer);
+		return new GeodeContinuousQueriesHealthIndicator(continuousQueryListenerContainer, lagThreshold);
 	}
 
 	@Bean("GeodePoolsHealthIndicator")
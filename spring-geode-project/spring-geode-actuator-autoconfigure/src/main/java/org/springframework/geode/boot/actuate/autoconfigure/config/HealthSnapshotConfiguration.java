@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthContributorNameFactory;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.HealthSnapshotScheduler;
+import org.springframework.geode.boot.actuate.health.support.SnapshotHealthIndicator;
+
+/**
+ * Spring {@link Configuration} class enabling background snapshots of the Apache Geode
+ * {@link HealthIndicator HealthIndicators}.
+ *
+ * When {@literal spring.boot.data.gemfire.health.snapshot.enabled} is {@literal true}, every Apache Geode
+ * {@link HealthIndicator} bean is wrapped in a {@link SnapshotHealthIndicator} refreshed by a single
+ * {@link HealthSnapshotScheduler} every {@literal spring.boot.data.gemfire.health.snapshot.interval}
+ * (default: 10 seconds) plus a random {@literal spring.boot.data.gemfire.health.snapshot.jitter}
+ * (default: 1 second). The {@link SnapshotHealthIndicator} replaces the Apache Geode {@link HealthIndicator}
+ * in the {@link HealthContributorRegistry} under the same name, so health requests are served from the latest
+ * snapshot. The Apache Geode {@link HealthIndicator} beans themselves are left as is.
+ *
+ * Each refresh is bounded by {@literal spring.boot.data.gemfire.health.snapshot.refresh-timeout} (default: 5 seconds)
+ * and a snapshot older than {@literal spring.boot.data.gemfire.health.snapshot.max-staleness-intervals} intervals
+ * (default: 3) is reported as {@literal UNKNOWN}.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.SmartInitializingSingleton
+ * @see org.springframework.boot.actuate.health.HealthContributorRegistry
+ * @see org.springframework.boot.actuate.health.HealthIndicator
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.HealthSnapshotScheduler
+ * @see org.springframework.geode.boot.actuate.health.support.SnapshotHealthIndicator
+ * @since 2.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = HealthSnapshotConfiguration.HEALTH_SNAPSHOT_ENABLED_PROPERTY, havingValue = "true")
+@SuppressWarnings("unused")
+public class HealthSnapshotConfiguration {
+
+	public static final String HEALTH_SNAPSHOT_PROPERTY_PREFIX = "spring.boot.data.gemfire.health.snapshot.";
+	public static final String HEALTH_SNAPSHOT_ENABLED_PROPERTY = HEALTH_SNAPSHOT_PROPERTY_PREFIX + "enabled";
+	public static final String HEALTH_SNAPSHOT_INTERVAL_PROPERTY = HEALTH_SNAPSHOT_PROPERTY_PREFIX + "interval";
+	public static final String HEALTH_SNAPSHOT_JITTER_PROPERTY = HEALTH_SNAPSHOT_PROPERTY_PREFIX + "jitter";
+	public static final String HEALTH_SNAPSHOT_MAX_STALENESS_INTERVALS_PROPERTY =
+		HEALTH_SNAPSHOT_PROPERTY_PREFIX + "max-staleness-intervals";
+	public static final String HEALTH_SNAPSHOT_REFRESH_TIMEOUT_PROPERTY =
+		HEALTH_SNAPSHOT_PROPERTY_PREFIX + "refresh-timeout";
+
+	@Bean
+	static HealthSnapshotScheduler geodeHealthSnapshotScheduler(Environment environment) {
+
+		Duration interval = environment.getProperty(HEALTH_SNAPSHOT_INTERVAL_PROPERTY, Duration.class,
+			HealthSnapshotScheduler.DEFAULT_INTERVAL);
+
+		Duration jitter = environment.getProperty(HEALTH_SNAPSHOT_JITTER_PROPERTY, Duration.class,
+			HealthSnapshotScheduler.DEFAULT_JITTER);
+
+		Duration refreshTimeout = environment.getProperty(HEALTH_SNAPSHOT_REFRESH_TIMEOUT_PROPERTY, Duration.class,
+			HealthSnapshotScheduler.DEFAULT_REFRESH_TIMEOUT);
+
+		int maxStalenessIntervals = environment.getProperty(HEALTH_SNAPSHOT_MAX_STALENESS_INTERVALS_PROPERTY,
+			Integer.class, HealthSnapshotScheduler.DEFAULT_MAX_STALENESS_INTERVALS);
+
+		return new HealthSnapshotScheduler(interval, jitter, refreshTimeout, maxStalenessIntervals);
+	}
+
+	@Bean
+	static SmartInitializingSingleton geodeHealthSnapshotContributorRegistrar(ListableBeanFactory beanFactory,
+			ObjectProvider<HealthContributorRegistry> healthContributorRegistry,
+			ObjectProvider<HealthSnapshotScheduler> healthSnapshotScheduler) {
+
+		return () -> healthContributorRegistry.ifAvailable(registry ->
+			beanFactory.getBeansOfType(AbstractGeodeHealthIndicator.class).forEach((beanName, healthIndicator) -> {
+
+				String name = HealthContributorNameFactory.INSTANCE.apply(beanName);
+
+				HealthContributor healthContributor = registry.getContributor(name);
+
+				if (healthContributor == healthIndicator) {
+
+					SnapshotHealthIndicator snapshotHealthIndicator =
+						healthSnapshotScheduler.getObject().register(beanName, healthIndicator);
+
+					registry.unregisterContributor(name);
+					registry.registerContributor(name, snapshotHealthIndicator);
+				}
+			}));
+	}
+}
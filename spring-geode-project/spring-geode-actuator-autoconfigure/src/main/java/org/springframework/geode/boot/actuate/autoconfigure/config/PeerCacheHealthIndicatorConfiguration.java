@@ -15,6 +15,7 @@
  */
 package org.springframework.geode.boot.actuate.autoconfigure.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.apache.geode.cache.Cache;
@@ -31,6 +32,7 @@ import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.data.gemfire.server.CacheServerFactoryBean;
 import org.springframework.data.gemfire.util.CacheUtils;
@@ -53,6 +55,7 @@ import org.springframework.lang.Nullable;
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.context.annotation.Bean
  * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.core.env.Environment
  * @see org.springframework.geode.boot.actuate.GeodeAsyncEventQueuesHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeCacheServersHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeGatewayReceiversHealthIndicator
@@ -64,6 +67,12 @@ import org.springframework.lang.Nullable;
 @SuppressWarnings("unused")
 public class PeerCacheHealthIndicatorConfiguration {
 
+	public static final String GATEWAY_SENDER_LAG_THRESHOLD_PROPERTY =
+		"spring.boot.data.gemfire.health.gateway-sender.lag-threshold";
+
+	public static final String GATEWAY_SENDER_QUEUE_SIZE_THRESHOLD_PROPERTY =
+		"spring.boot.data.gemfire.health.gateway-sender.queue-size-threshold";
+
 	@Bean("GeodeAsyncEventQueuesHealthIndicator")
 	GeodeAsyncEventQueuesHealthIndicator asyncEventQueuesHealthIndicator(GemFireCache gemfireCache) {
 		return new GeodeAsyncEventQueuesHealthIndicator(gemfireCache);
@@ -80,8 +89,15 @@ public class PeerCacheHealthIndicatorConfiguration {
 	}
 
 	@Bean("GeodeGatewaySendersHealthIndicator")
-	GeodeGatewaySendersHealthIndicator gatewaySendersHealthIndicator(GemFireCache gemfireCache) {
-		return new GeodeGatewaySendersHealthIndicator(gemfireCache);
+	GeodeGatewaySendersHealthIndicator gatewaySendersHealthIndicator(GemFireCache gemfireCache,
+			Environment environment) {
+
+		Duration lagThreshold = environment.getProperty(GATEWAY_SENDER_LAG_THRESHOLD_PROPERTY, Duration.class);
+
+		Integer queueSizeThreshold =
+			environment.getProperty(GATEWAY_SENDER_QUEUE_SIZE_THRESHOLD_PROPERTY, Integer.class);
+
+		return new GeodeGatewaySendersHealthIndicator(gemfireCache, lagThreshold, queueSizeThreshold);
 	}
 
 	@Bean
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.actuate.health.DefaultHealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.geode.boot.actuate.GeodeRegionsHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.HealthSnapshotScheduler;
+import org.springframework.geode.boot.actuate.health.support.SnapshotHealthIndicator;
+
+/**
+ * Unit Tests for {@link HealthSnapshotConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.boot.actuate.health.HealthContributorRegistry
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.HealthSnapshotConfiguration
+ * @since 2.0.0
+ */
+public class HealthSnapshotConfigurationUnitTests {
+
+	@Test
+	public void registersSnapshotsInHealthContributorRegistryWithoutReplacingBeans() {
+
+		GeodeRegionsHealthIndicator regionsHealthIndicator = new GeodeRegionsHealthIndicator();
+
+		HealthIndicator otherHealthIndicator = mock(HealthIndicator.class);
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("GeodeRegionsHealthIndicator", regionsHealthIndicator);
+
+		Map<String, HealthContributor> healthContributors = Map.of(
+			"GeodeRegionsHealthIndicator", regionsHealthIndicator,
+			"otherHealthIndicator", otherHealthIndicator);
+
+		HealthContributorRegistry registry = new DefaultHealthContributorRegistry(healthContributors);
+
+		beanFactory.registerSingleton("healthContributorRegistry", registry);
+		beanFactory.registerSingleton("healthSnapshotScheduler", new HealthSnapshotScheduler());
+
+		HealthSnapshotConfiguration.geodeHealthSnapshotContributorRegistrar(beanFactory,
+				beanFactory.getBeanProvider(HealthContributorRegistry.class),
+				beanFactory.getBeanProvider(HealthSnapshotScheduler.class))
+			.afterSingletonsInstantiated();
+
+		HealthContributor geodeRegionsContributor = registry.getContributor("GeodeRegions");
+
+		assertThat(geodeRegionsContributor).isInstanceOf(SnapshotHealthIndicator.class);
+		assertThat(((SnapshotHealthIndicator) geodeRegionsContributor).getDelegate()).isSameAs(regionsHealthIndicator);
+		assertThat(registry.getContributor("other")).isSameAs(otherHealthIndicator);
+		assertThat(beanFactory.getBean(GeodeRegionsHealthIndicator.class)).isSameAs(regionsHealthIndicator);
+	}
+
+	@Test
+	public void doesNothingWithoutHealthContributorRegistry() {
+
+		GeodeRegionsHealthIndicator regionsHealthIndicator = new GeodeRegionsHealthIndicator();
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("GeodeRegionsHealthIndicator", regionsHealthIndicator);
+		beanFactory.registerSingleton("healthSnapshotScheduler", new HealthSnapshotScheduler());
+
+		HealthSnapshotConfiguration.geodeHealthSnapshotContributorRegistrar(beanFactory,
+				beanFactory.getBeanProvider(HealthContributorRegistry.class),
+				beanFactory.getBeanProvider(HealthSnapshotScheduler.class))
+			.afterSingletonsInstantiated();
+
+		assertThat(beanFactory.getBean(GeodeRegionsHealthIndicator.class)).isSameAs(regionsHealthIndicator);
+	}
+}
@@ -15,11 +15,14 @@
  */
 package org.springframework.geode.boot.actuate;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.geode.cache.query.CqQuery;
 import org.apache.geode.cache.query.CqState;
@@ -31,12 +34,19 @@ import org.apache.geode.cache.query.QueryStatistics;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker;
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTrackerRegistrar;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.lang.Nullable;
 
 /**
  * The {@link GeodeContinuousQueriesHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details
  * about the health of the registered Apache Geode {@link CqQuery Continuous Queries}.
  *
+ * When the events of a {@link CqQuery} are tracked by a {@link ContinuousQueryEventTracker}, the number of events
+ * waiting to be handled and the current lag are reported as well. If a lag threshold is configured, the health status
+ * is {@literal DOWN} while the current lag of any {@link CqQuery} exceeds the threshold.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.query.CqQuery
  * @see org.apache.geode.cache.query.Query
@@ -44,6 +54,7 @@ import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicato
  * @see org.springframework.boot.actuate.health.Health
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker
  * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
  * @since 1.0.0
  */
@@ -52,6 +63,8 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 
 	private final ContinuousQueryListenerContainer continuousQueryListenerContainer;
 
+	private final Duration lagThreshold;
+
 	/**
 	 * Default constructor to construct an uninitialized instance of {@link GeodeContinuousQueriesHealthIndicator},
 	 * which will not provide any health information.
@@ -59,6 +72,7 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 	public GeodeContinuousQueriesHealthIndicator() {
 		super("Continuous Queries health check failed");
 		this.continuousQueryListenerContainer = null;
+		this.lagThreshold = null;
 	}
 
 	/**
@@ -69,10 +83,26 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 	 * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
 	 */
 	public GeodeContinuousQueriesHealthIndicator(ContinuousQueryListenerContainer continuousQueryListenerContainer) {
+		this(continuousQueryListenerContainer, null);
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeContinuousQueriesHealthIndicator} initialized with a reference to
+	 * the {@link ContinuousQueryListenerContainer} and the lag above which the health status is {@literal DOWN}.
+	 *
+	 * @param continuousQueryListenerContainer reference to the SDG {@link ContinuousQueryListenerContainer}.
+	 * @param lagThreshold {@link Duration} above which the current lag of a tracked {@link CqQuery} causes
+	 * the health status to be {@literal DOWN}; the lag is only reported when {@literal null}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+	 * @see java.time.Duration
+	 */
+	public GeodeContinuousQueriesHealthIndicator(ContinuousQueryListenerContainer continuousQueryListenerContainer,
+			@Nullable Duration lagThreshold) {
 
 		super("Continuous Queries health check enabled");
 
 		this.continuousQueryListenerContainer = continuousQueryListenerContainer;
+		this.lagThreshold = lagThreshold;
 	}
 
 	/**
@@ -86,6 +116,17 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 		return Optional.ofNullable(this.continuousQueryListenerContainer);
 	}
 
+	/**
+	 * Returns an {@link Optional} lag above which the health status is {@literal DOWN}.
+	 *
+	 * @return an {@link Optional} lag above which the health status is {@literal DOWN}.
+	 * @see java.time.Duration
+	 * @see java.util.Optional
+	 */
+	protected Optional<Duration> getLagThreshold() {
+		return Optional.ofNullable(this.lagThreshold);
+	}
+
 	@Override
 	protected void doHealthCheck(Health.Builder builder) {
 
@@ -112,6 +153,8 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 						.withDetail("geode.continuous-query.number-on-client", cqServiceStatistics.numCqsOnClient())
 				);
 
+			AtomicBoolean lagging = new AtomicBoolean(false);
+
 			continuousQueries.stream()
 				.filter(Objects::nonNull)
 				.forEach(continuousQuery -> {
@@ -146,9 +189,26 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 							.withDetail(continuousQueryStatisticsKey(continuousQueryName, "number-of-inserts"), continuousQueryStatistics.numInserts())
 							.withDetail(continuousQueryStatisticsKey(continuousQueryName, "number-of-updates"), continuousQueryStatistics.numUpdates());
 					}
+
+					ContinuousQueryEventTrackerRegistrar.findEventTracker(continuousQuery).ifPresent(tracker -> {
+
+						long currentLag = (long) tracker.getCurrentLag(TimeUnit.MILLISECONDS);
+
+						builder.withDetail(continuousQueryListenerKey(continuousQueryName, "lag"), currentLag)
+							.withDetail(continuousQueryListenerKey(continuousQueryName, "queue-size"), tracker.getPendingCount());
+
+						if (getLagThreshold().filter(lagThreshold -> currentLag > lagThreshold.toMillis()).isPresent()) {
+							lagging.set(true);
+						}
+					});
 				});
 
-			builder.up();
+			if (lagging.get()) {
+				builder.down();
+			}
+			else {
+				builder.up();
+			}
 
 			return;
 		}
@@ -160,6 +220,10 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 		return String.format("geode.continuous-query.%1$s.%2$s", continuousQueryName, suffix);
 	}
 
+	private String continuousQueryListenerKey(String continuousQueryName, String suffix) {
+		return String.format("geode.continuous-query.%1$s.listener.%2$s", continuousQueryName, suffix);
+	}
+
 	private String continuousQueryQueryKey(String continuousQueryName, String suffix) {
 		return String.format("geode.continuous-query.%1$s.query.%2$s", continuousQueryName, suffix);
 	}
@@ -16,38 +16,79 @@
 package org.springframework.geode.boot.actuate;
 
 import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.GemFireCache;
 
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsResolver;
+import org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsResolver.DiskStoreStatistics;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * The {@link GeodeDiskStoresHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details about
  * the health of Apache Geode {@link DiskStore DiskStores}.
  *
+ * Besides the {@link DiskStore} configuration, the disk usage and the average latency of writes and of asynchronous
+ * write queue flushes over a fixed {@link #getLatencyWindow() latency window} are reported. The health status is
+ * {@literal DOWN} when the disk usage of any {@link DiskStore} reaches its
+ * {@link DiskStore#getDiskUsageCriticalPercentage() critical percentage}, at which point Apache Geode stops writing
+ * to the {@link DiskStore}, and {@literal OUT_OF_SERVICE} when either latency exceeds the configured threshold.
+ *
+ * The latencies are averaged from the most recent sample of the {@link DiskStore} statistics that is at least
+ * the latency window old. Samples are kept in a small, time-bounded buffer per {@link DiskStore}, holding at most
+ * one sample per tenth of the window, so the averaged period does not depend on how often, or by how many callers,
+ * the health check is performed. Until a sample old enough is available, the latencies are averaged from the oldest
+ * sample, or, on the first health check, over the lifetime of the {@link DiskStore}.
+ *
  * @author John Blum
+ * @see java.time.Clock
+ * @see java.time.Duration
  * @see org.apache.geode.cache.DiskStore
  * @see org.springframework.boot.actuate.health.Health
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.context.ApplicationContext
  * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsResolver
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator {
 
+	public static final Duration DEFAULT_LATENCY_WINDOW = Duration.ofMinutes(1L);
+
+	protected static final int LATENCY_WINDOW_SAMPLES = 10;
+
 	private final ApplicationContext applicationContext;
 
+	private final Clock clock;
+
+	private final Duration latencyThreshold;
+
+	private final Duration latencyWindow;
+
+	private final Map<String, LatencySamples> latencySamples = new ConcurrentHashMap<>();
+
 	/**
 	 * Default constructor to construct an uninitialized instance of {@link GeodeDiskStoresHealthIndicator},
 	 * which will not provide any health information.
@@ -55,6 +96,9 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 	public GeodeDiskStoresHealthIndicator() {
 		super("Disk Stores health check failed");
 		this.applicationContext = null;
+		this.clock = Clock.systemUTC();
+		this.latencyThreshold = null;
+		this.latencyWindow = DEFAULT_LATENCY_WINDOW;
 	}
 
 	/**
@@ -66,12 +110,75 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 	 * @see org.springframework.context.ApplicationContext
 	 */
 	public GeodeDiskStoresHealthIndicator(ApplicationContext applicationContext) {
+		this(applicationContext, null);
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeDiskStoresHealthIndicator} initialized with a reference to
+	 * the {@link ApplicationContext} instance and the average write or flush latency above which
+	 * the health status is {@literal OUT_OF_SERVICE}.
+	 *
+	 * @param applicationContext reference to the Spring {@link ApplicationContext}.
+	 * @param latencyThreshold {@link Duration} above which the average write or flush latency is considered
+	 * unhealthy; may be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ApplicationContext} is {@literal null}.
+	 * @see org.springframework.context.ApplicationContext
+	 * @see java.time.Duration
+	 */
+	public GeodeDiskStoresHealthIndicator(ApplicationContext applicationContext, @Nullable Duration latencyThreshold) {
+		this(applicationContext, latencyThreshold, DEFAULT_LATENCY_WINDOW);
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeDiskStoresHealthIndicator} initialized with a reference to
+	 * the {@link ApplicationContext} instance, the average write or flush latency above which the health status
+	 * is {@literal OUT_OF_SERVICE} and the window over which the latencies are averaged.
+	 *
+	 * @param applicationContext reference to the Spring {@link ApplicationContext}.
+	 * @param latencyThreshold {@link Duration} above which the average write or flush latency is considered
+	 * unhealthy; may be {@literal null}.
+	 * @param latencyWindow {@link Duration} over which the write and flush latencies are averaged.
+	 * @throws IllegalArgumentException if {@link ApplicationContext} is {@literal null}
+	 * or the {@link Duration latencyWindow} is {@literal null} or not positive.
+	 * @see #GeodeDiskStoresHealthIndicator(ApplicationContext, Duration, Duration, Clock)
+	 */
+	public GeodeDiskStoresHealthIndicator(ApplicationContext applicationContext, @Nullable Duration latencyThreshold,
+			@NonNull Duration latencyWindow) {
+
+		this(applicationContext, latencyThreshold, latencyWindow, Clock.systemUTC());
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeDiskStoresHealthIndicator} initialized with a reference to
+	 * the {@link ApplicationContext} instance, the average write or flush latency above which the health status
+	 * is {@literal OUT_OF_SERVICE}, the window over which the latencies are averaged and the {@link Clock}
+	 * used to sample the {@link DiskStore} statistics.
+	 *
+	 * @param applicationContext reference to the Spring {@link ApplicationContext}.
+	 * @param latencyThreshold {@link Duration} above which the average write or flush latency is considered
+	 * unhealthy; may be {@literal null}.
+	 * @param latencyWindow {@link Duration} over which the write and flush latencies are averaged.
+	 * @param clock {@link Clock} used to time the samples of the {@link DiskStore} statistics.
+	 * @throws IllegalArgumentException if {@link ApplicationContext} or {@link Clock} is {@literal null},
+	 * or the {@link Duration latencyWindow} is {@literal null} or not positive.
+	 * @see org.springframework.context.ApplicationContext
+	 * @see java.time.Duration
+	 * @see java.time.Clock
+	 */
+	public GeodeDiskStoresHealthIndicator(ApplicationContext applicationContext, @Nullable Duration latencyThreshold,
+			@NonNull Duration latencyWindow, @NonNull Clock clock) {
 
 		super("Disk Stores health check enabled");
 
 		Assert.notNull(applicationContext, "ApplicationContext is required");
+		Assert.isTrue(latencyWindow != null && !latencyWindow.isNegative() && !latencyWindow.isZero(),
+			() -> String.format("Latency window [%s] must be greater than 0", latencyWindow));
+		Assert.notNull(clock, "Clock is required");
 
 		this.applicationContext = applicationContext;
+		this.clock = clock;
+		this.latencyThreshold = latencyThreshold;
+		this.latencyWindow = latencyWindow;
 	}
 
 	/**
@@ -85,6 +192,29 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 		return Optional.ofNullable(this.applicationContext);
 	}
 
+	/**
+	 * Returns an {@link Optional} average write or flush latency above which the health status
+	 * is {@literal OUT_OF_SERVICE}.
+	 *
+	 * @return an {@link Optional} average write or flush latency above which the health status
+	 * is {@literal OUT_OF_SERVICE}.
+	 * @see java.time.Duration
+	 * @see java.util.Optional
+	 */
+	protected Optional<Duration> getLatencyThreshold() {
+		return Optional.ofNullable(this.latencyThreshold);
+	}
+
+	/**
+	 * Returns the {@link Duration} over which the average write and flush latencies are computed.
+	 *
+	 * @return the {@link Duration} over which the average write and flush latencies are computed.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getLatencyWindow() {
+		return this.latencyWindow;
+	}
+
 	@Override
 	protected void doHealthCheck(Health.Builder builder) {
 
@@ -96,6 +226,15 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 
 			builder.withDetail("geode.disk-store.count", diskStores.size());
 
+			Map<String, DiskStoreStatistics> diskStoreStatistics = getApplicationContext()
+				.map(it -> it.getBeansOfType(GemFireCache.class))
+				.filter(gemfireCaches -> gemfireCaches.size() == 1)
+				.map(gemfireCaches -> gemfireCaches.values().iterator().next())
+				.map(DiskStoreStatisticsResolver::resolveAll)
+				.orElseGet(Collections::emptyMap);
+
+			AtomicReference<Status> status = new AtomicReference<>(Status.UP);
+
 			diskStores.values().forEach(diskStore -> {
 
 				String diskStoreName = diskStore.getName();
@@ -112,9 +251,43 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 					.withDetail(diskStoreKey(diskStoreName, "time-interval"), diskStore.getTimeInterval())
 					.withDetail(diskStoreKey(diskStoreName, "uuid"), diskStore.getDiskStoreUUID().toString())
 					.withDetail(diskStoreKey(diskStoreName, "write-buffer-size"), diskStore.getWriteBufferSize());
+
+				double diskUsagePercentage = DiskStoreStatisticsResolver.resolveDiskUsagePercentage(diskStore);
+
+				if (!Double.isNaN(diskUsagePercentage)) {
+
+					builder.withDetail(diskStoreKey(diskStoreName, "disk-usage-percentage"), diskUsagePercentage);
+
+					if (diskStore.getDiskUsageCriticalPercentage() > 0.0f
+							&& diskUsagePercentage >= diskStore.getDiskUsageCriticalPercentage()) {
+
+						status.set(Status.DOWN);
+					}
+				}
+
+				DiskStoreStatistics statistics = diskStoreStatistics.get(diskStoreName);
+
+				if (statistics != null) {
+
+					double[] latencies = computeLatencies(statistics);
+
+					builder.withDetail(diskStoreKey(diskStoreName, "write-latency"), latencies[0])
+						.withDetail(diskStoreKey(diskStoreName, "flush-latency"), latencies[1])
+						.withDetail(diskStoreKey(diskStoreName, "queued-entries"), statistics.getQueueSize())
+						.withDetail(diskStoreKey(diskStoreName, "open-oplogs"), statistics.getOpenOplogs())
+						.withDetail(diskStoreKey(diskStoreName, "compactions-in-progress"), statistics.getCompactionsInProgress());
+
+					boolean slow = getLatencyThreshold()
+						.filter(latencyThreshold -> Math.max(latencies[0], latencies[1]) > latencyThreshold.toMillis())
+						.isPresent();
+
+					if (slow) {
+						status.compareAndSet(Status.UP, Status.OUT_OF_SERVICE);
+					}
+				}
 			});
 
-			builder.up();
+			builder.status(status.get());
 
 			return;
 		}
@@ -122,6 +295,32 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 		builder.unknown();
 	}
 
+	// Computes the average write and flush latencies, in milliseconds, over the latency window.
+	private double[] computeLatencies(DiskStoreStatistics statistics) {
+
+		long[] current = {
+			this.clock.millis(),
+			statistics.getWrites(), (long) statistics.getWriteTime(TimeUnit.NANOSECONDS),
+			statistics.getFlushes(), (long) statistics.getFlushTime(TimeUnit.NANOSECONDS)
+		};
+
+		long[] baseline = this.latencySamples
+			.computeIfAbsent(statistics.getName(), name -> new LatencySamples(getLatencyWindow()))
+			.sample(current);
+
+		return new double[] {
+			averageLatency(current[1] - baseline[1], current[2] - baseline[2]),
+			averageLatency(current[3] - baseline[3], current[4] - baseline[4])
+		};
+	}
+
+	private double averageLatency(long count, long totalTimeNanoseconds) {
+
+		return count > 0L && totalTimeNanoseconds > 0L
+			? (double) totalTimeNanoseconds / count / TimeUnit.MILLISECONDS.toNanos(1L)
+			: 0.0d;
+	}
+
 	private String diskStoreKey(String diskStoreName, String suffix) {
 		return String.format("geode.disk-store.%1$s.%2$s", diskStoreName, suffix);
 	}
@@ -138,4 +337,63 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 			.distinct()
 			.toArray());
 	}
+
+	/**
+	 * Time-bounded buffer of samples of the cumulative {@link DiskStore} write and flush statistics, each sample
+	 * holding the sample time in milliseconds followed by the writes, write time, flushes and flush time.
+	 */
+	static class LatencySamples {
+
+		private final Deque<long[]> samples = new ArrayDeque<>();
+
+		private final long resolution;
+		private final long window;
+
+		LatencySamples(@NonNull Duration window) {
+			this.window = window.toMillis();
+			this.resolution = Math.max(this.window / LATENCY_WINDOW_SAMPLES, 1L);
+		}
+
+		/**
+		 * Records the given sample and returns the baseline sample to compute the averages from, that is,
+		 * the most recent sample at least the window old, the oldest sample if none is that old yet,
+		 * or a sample of all zeros when no sample has been recorded.
+		 *
+		 * @param current current sample of the {@link DiskStore} statistics.
+		 * @return the baseline sample.
+		 */
+		synchronized @NonNull long[] sample(@NonNull long[] current) {
+
+			long now = current[0];
+			long windowStart = now - this.window;
+
+			// Retain only the most recent sample at least the window old along with all newer samples.
+			while (this.samples.size() > 1 && secondSampleTime() <= windowStart) {
+				this.samples.removeFirst();
+			}
+
+			long[] baseline = this.samples.isEmpty() ? new long[current.length] : this.samples.peekFirst();
+
+			long[] last = this.samples.peekLast();
+
+			if (last == null || now - last[0] >= this.resolution) {
+				this.samples.addLast(current);
+			}
+
+			return baseline;
+		}
+
+		private long secondSampleTime() {
+
+			Iterator<long[]> iterator = this.samples.iterator();
+
+			iterator.next();
+
+			return iterator.next()[0];
+		}
+
+		synchronized int size() {
+			return this.samples.size();
+		}
+	}
 }
@@ -15,10 +15,14 @@
  */
 package org.springframework.geode.boot.actuate;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.GemFireCache;
@@ -28,11 +32,16 @@ import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.data.gemfire.util.CacheUtils;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver.GatewayReceiverStatistics;
 
 /**
  * The {@link GeodeGatewayReceiversHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details
  * about the health of Apache Geode {@link GatewayReceiver GatewayReceivers}.
  *
+ * Besides the {@link GatewayReceiver} configuration, the number of events and batches received from remote sites,
+ * including duplicate and out of order batches, and the average batch processing time are reported.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.Cache
  * @see org.apache.geode.cache.GemFireCache
@@ -40,6 +49,7 @@ import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicato
  * @see org.springframework.boot.actuate.health.Health
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -95,6 +105,32 @@ public class GeodeGatewayReceiversHealthIndicator extends AbstractGeodeHealthInd
 						.withDetail(gatewayReceiverKey(index, "start-port"), gatewayReceiver.getStartPort());
 				});
 
+			Collection<GatewayReceiverStatistics> gatewayReceiverStatistics = getGemFireCache()
+				.map(GatewayStatisticsResolver::resolveGatewayReceivers)
+				.map(Map::values)
+				.orElseGet(Collections::emptyList);
+
+			if (!gatewayReceiverStatistics.isEmpty()) {
+
+				long batchesProcessed = sum(gatewayReceiverStatistics, GatewayReceiverStatistics::getBatchesProcessed);
+
+				double batchProcessingTime = gatewayReceiverStatistics.stream()
+					.mapToDouble(statistics -> statistics.getBatchProcessingTime(TimeUnit.MILLISECONDS))
+					.sum();
+
+				builder.withDetail("geode.gateway-receiver.events-received",
+						sum(gatewayReceiverStatistics, GatewayReceiverStatistics::getEventsReceived))
+					.withDetail("geode.gateway-receiver.batches-processed", batchesProcessed)
+					.withDetail("geode.gateway-receiver.average-batch-processing-time",
+						batchesProcessed > 0L ? batchProcessingTime / batchesProcessed : 0.0d)
+					.withDetail("geode.gateway-receiver.duplicate-batches-received",
+						sum(gatewayReceiverStatistics, GatewayReceiverStatistics::getDuplicateBatchesReceived))
+					.withDetail("geode.gateway-receiver.out-of-order-batches-received",
+						sum(gatewayReceiverStatistics, GatewayReceiverStatistics::getOutOfOrderBatchesReceived))
+					.withDetail("geode.gateway-receiver.exceptions",
+						sum(gatewayReceiverStatistics, GatewayReceiverStatistics::getExceptionsOccurred));
+			}
+
 			builder.up();
 
 			return;
@@ -103,6 +139,12 @@ public class GeodeGatewayReceiversHealthIndicator extends AbstractGeodeHealthInd
 		builder.unknown();
 	}
 
+	private long sum(Collection<GatewayReceiverStatistics> gatewayReceiverStatistics,
+			ToLongFunction<GatewayReceiverStatistics> statisticFunction) {
+
+		return gatewayReceiverStatistics.stream().mapToLong(statisticFunction).sum();
+	}
+
 	private String gatewayReceiverKey(int index, String suffix) {
 		return String.format("geode.gateway-receiver.%d.%s", index, suffix);
 	}
@@ -15,9 +15,15 @@
  */
 package org.springframework.geode.boot.actuate;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.GemFireCache;
@@ -25,14 +31,25 @@ import org.apache.geode.cache.wan.GatewaySender;
 
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.data.gemfire.util.CacheUtils;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver.GatewaySenderStatistics;
+import org.springframework.geode.boot.actuate.health.support.ReplicationLagEstimator;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
  * The {@link GeodeGatewaySendersHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details about
  * the health of Apache Geode {@link GatewaySender GatewaySenders}.
  *
+ * Besides the {@link GatewaySender} configuration, the size of the queue, the number of events and batches
+ * dispatched to the remote site, the average batch dispatch time and the estimated replication lag are reported
+ * for each {@link GatewaySender}, along with the total queue size and the highest replication lag for each remote
+ * distributed system. The health status is {@literal DOWN} when the replication lag or the queue size of any
+ * {@link GatewaySender} exceeds the configured threshold.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.Cache
  * @see org.apache.geode.cache.GemFireCache
@@ -40,17 +57,25 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.boot.actuate.health.Health
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver
+ * @see org.springframework.geode.boot.actuate.health.support.ReplicationLagEstimator
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public class GeodeGatewaySendersHealthIndicator extends AbstractGeodeHealthIndicator {
 
+	private final Duration lagThreshold;
+
+	private final Integer queueSizeThreshold;
+
 	/**
 	 * Default constructor to construct an uninitialized instance of {@link GeodeGatewaySendersHealthIndicator},
 	 * which will not provide any health information.
 	 */
 	public GeodeGatewaySendersHealthIndicator() {
 		super("Gateway Senders health check failed");
+		this.lagThreshold = null;
+		this.queueSizeThreshold = null;
 	}
 
 	/**
@@ -62,7 +87,51 @@ public class GeodeGatewaySendersHealthIndicator extends AbstractGeodeHealthIndic
 	 * @see org.apache.geode.cache.GemFireCache
 	 */
 	public GeodeGatewaySendersHealthIndicator(GemFireCache gemfireCache) {
+		this(gemfireCache, null, null);
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeGatewaySendersHealthIndicator} initialized with a reference to
+	 * the {@link GemFireCache} instance and the replication lag and queue size above which the health status
+	 * is {@literal DOWN}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect health information.
+	 * @param lagThreshold {@link Duration} above which the estimated replication lag of a {@link GatewaySender}
+	 * causes the health status to be {@literal DOWN}; may be {@literal null}.
+	 * @param queueSizeThreshold number of queued events above which a {@link GatewaySender} causes
+	 * the health status to be {@literal DOWN}; may be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 * @see java.time.Duration
+	 */
+	public GeodeGatewaySendersHealthIndicator(GemFireCache gemfireCache, @Nullable Duration lagThreshold,
+			@Nullable Integer queueSizeThreshold) {
+
 		super(gemfireCache);
+
+		this.lagThreshold = lagThreshold;
+		this.queueSizeThreshold = queueSizeThreshold;
+	}
+
+	/**
+	 * Returns an {@link Optional} replication lag above which the health status is {@literal DOWN}.
+	 *
+	 * @return an {@link Optional} replication lag above which the health status is {@literal DOWN}.
+	 * @see java.time.Duration
+	 * @see java.util.Optional
+	 */
+	protected Optional<Duration> getLagThreshold() {
+		return Optional.ofNullable(this.lagThreshold);
+	}
+
+	/**
+	 * Returns an {@link Optional} number of queued events above which the health status is {@literal DOWN}.
+	 *
+	 * @return an {@link Optional} number of queued events above which the health status is {@literal DOWN}.
+	 * @see java.util.Optional
+	 */
+	protected Optional<Integer> getQueueSizeThreshold() {
+		return Optional.ofNullable(this.queueSizeThreshold);
 	}
 
 	@Override
@@ -77,6 +146,14 @@ public class GeodeGatewaySendersHealthIndicator extends AbstractGeodeHealthIndic
 
 			builder.withDetail("geode.gateway-sender.count", gatewaySenders.size());
 
+			Map<String, GatewaySenderStatistics> gatewaySenderStatistics = getGemFireCache()
+				.map(GatewayStatisticsResolver::resolveGatewaySenders)
+				.orElseGet(Collections::emptyMap);
+
+			Map<Integer, long[]> remoteDistributedSystems = new TreeMap<>();
+
+			AtomicReference<Status> status = new AtomicReference<>(Status.UP);
+
 			gatewaySenders.stream()
 				.filter(Objects::nonNull)
 				.forEach(gatewaySender -> {
@@ -100,9 +177,47 @@ public class GeodeGatewaySendersHealthIndicator extends AbstractGeodeHealthIndic
 						.withDetail(gatewaySendersKey(gatewaySenderId, "running"), toYesNoString(gatewaySender.isRunning()))
 						.withDetail(gatewaySendersKey(gatewaySenderId, "socket-buffer-size"), gatewaySender.getSocketBufferSize())
 						.withDetail(gatewaySendersKey(gatewaySenderId, "socket-read-timeout"), gatewaySender.getSocketReadTimeout());
+
+					GatewaySenderStatistics statistics = gatewaySenderStatistics.get(gatewaySenderId);
+
+					if (statistics != null) {
+
+						long queueSize = statistics.getEventQueueSize();
+						long replicationLag = (long) ReplicationLagEstimator.shared(statistics)
+							.getReplicationLag(TimeUnit.MILLISECONDS);
+
+						builder.withDetail(gatewaySendersKey(gatewaySenderId, "queue-size"), queueSize)
+							.withDetail(gatewaySendersKey(gatewaySenderId, "secondary-queue-size"), statistics.getSecondaryEventQueueSize())
+							.withDetail(gatewaySendersKey(gatewaySenderId, "events-distributed"), statistics.getEventsDistributed())
+							.withDetail(gatewaySendersKey(gatewaySenderId, "events-exceeding-alert-threshold"), statistics.getEventsExceedingAlertThreshold())
+							.withDetail(gatewaySendersKey(gatewaySenderId, "batches-distributed"), statistics.getBatchesDistributed())
+							.withDetail(gatewaySendersKey(gatewaySenderId, "batches-redistributed"), statistics.getBatchesRedistributed())
+							.withDetail(gatewaySendersKey(gatewaySenderId, "average-batch-dispatch-time"), averageBatchDispatchTime(statistics))
+							.withDetail(gatewaySendersKey(gatewaySenderId, "events-per-batch"), statistics.getEventsPerBatch())
+							.withDetail(gatewaySendersKey(gatewaySenderId, "replication-lag"), replicationLag);
+
+						remoteDistributedSystems.merge(gatewaySender.getRemoteDSId(), new long[] { queueSize, replicationLag },
+							(current, next) -> new long[] { current[0] + next[0], Math.max(current[1], next[1]) });
+
+						boolean lagging = getLagThreshold()
+							.filter(lagThreshold -> replicationLag > lagThreshold.toMillis())
+							.isPresent();
+
+						boolean backedUp = getQueueSizeThreshold()
+							.filter(queueSizeThreshold -> queueSize > queueSizeThreshold)
+							.isPresent();
+
+						if (lagging || backedUp) {
+							status.set(Status.DOWN);
+						}
+					}
 				});
 
-			builder.up();
+			remoteDistributedSystems.forEach((remoteDistributedSystemId, statistics) ->
+				builder.withDetail(remoteDistributedSystemKey(remoteDistributedSystemId, "queue-size"), statistics[0])
+					.withDetail(remoteDistributedSystemKey(remoteDistributedSystemId, "replication-lag"), statistics[1]));
+
+			builder.status(status.get());
 
 			return;
 		}
@@ -110,6 +225,16 @@ public class GeodeGatewaySendersHealthIndicator extends AbstractGeodeHealthIndic
 		builder.unknown();
 	}
 
+	// Average batch dispatch time, in milliseconds, since the GatewaySender was started.
+	private double averageBatchDispatchTime(GatewaySenderStatistics statistics) {
+
+		long batchesDistributed = statistics.getBatchesDistributed();
+
+		return batchesDistributed > 0L
+			? statistics.getBatchDistributionTime(TimeUnit.MILLISECONDS) / batchesDistributed
+			: 0.0d;
+	}
+
 	private String emptyIfUnset(String value) {
 		return StringUtils.hasText(value) ? value : "";
 	}
@@ -117,4 +242,8 @@ public class GeodeGatewaySendersHealthIndicator extends AbstractGeodeHealthIndic
 	private String gatewaySendersKey(String id, String suffix) {
 		return String.format("geode.gateway-sender.%1$s.%2$s", id, suffix);
 	}
+
+	private String remoteDistributedSystemKey(int id, String suffix) {
+		return String.format("geode.gateway-sender.remote-distributed-system.%1$d.%2$s", id, suffix);
+	}
 }
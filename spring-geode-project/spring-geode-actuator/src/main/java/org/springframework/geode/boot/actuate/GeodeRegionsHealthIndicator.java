@@ -35,6 +35,7 @@ import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
 import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver;
+import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver.PartitionRegionCacheStatistics;
 import org.springframework.util.StringUtils;
 
 /**
@@ -232,13 +233,23 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 				.filter(this::isNotLocalDataSet)
 				.filter(this::isStatisticsEnabled)
 				.map(RegionStatisticsResolver::resolve)
-				.ifPresent(cacheStatistics -> builder
-					.withDetail(cacheRegionStatisticsKey(regionName, "cache-statistics-type"), nullSafeClassName(cacheStatistics.getClass()))
-					.withDetail(cacheRegionStatisticsKey(regionName, "hit-count"), cacheStatistics.getHitCount())
-					.withDetail(cacheRegionStatisticsKey(regionName, "hit-ratio"), cacheStatistics.getHitRatio())
-					.withDetail(cacheRegionStatisticsKey(regionName, "last-accessed-time"), cacheStatistics.getLastAccessedTime())
-					.withDetail(cacheRegionStatisticsKey(regionName, "last-modified-time"), cacheStatistics.getLastModifiedTime())
-					.withDetail(cacheRegionStatisticsKey(regionName, "miss-count"), cacheStatistics.getMissCount()));
+				.ifPresent(cacheStatistics -> {
+
+					builder.withDetail(cacheRegionStatisticsKey(regionName, "cache-statistics-type"), nullSafeClassName(cacheStatistics.getClass()))
+						.withDetail(cacheRegionStatisticsKey(regionName, "hit-count"), cacheStatistics.getHitCount())
+						.withDetail(cacheRegionStatisticsKey(regionName, "hit-ratio"), cacheStatistics.getHitRatio())
+						.withDetail(cacheRegionStatisticsKey(regionName, "last-accessed-time"), cacheStatistics.getLastAccessedTime())
+						.withDetail(cacheRegionStatisticsKey(regionName, "last-modified-time"), cacheStatistics.getLastModifiedTime())
+						.withDetail(cacheRegionStatisticsKey(regionName, "miss-count"), cacheStatistics.getMissCount());
+
+					if (cacheStatistics instanceof PartitionRegionCacheStatistics partitionRegionStatistics) {
+						builder.withDetail(cacheRegionStatisticsKey(regionName, "bucket-count"), partitionRegionStatistics.getBucketCount())
+							.withDetail(cacheRegionStatisticsKey(regionName, "entry-count"), partitionRegionStatistics.getEntryCount())
+							.withDetail(cacheRegionStatisticsKey(regionName, "bucket-entry-count.max"), partitionRegionStatistics.getMaxBucketEntryCount())
+							.withDetail(cacheRegionStatisticsKey(regionName, "bucket-entry-count.min"), partitionRegionStatistics.getMinBucketEntryCount())
+							.withDetail(cacheRegionStatisticsKey(regionName, "bucket-entry-count.p99"), partitionRegionStatistics.getP99BucketEntryCount());
+					}
+				});
 		};
 	}
 
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.cq;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ContinuousQueryEventTracker} class tracks the {@link CqEvent CqEvents} of a single
+ * {@link CqQuery Continuous Query} from the time they are received by the client until they have been handled
+ * by the application listener.
+ *
+ * The lag of a {@link CqEvent} is the time between the {@link CqEvent} being received and the application listener
+ * starting to handle it. The {@link #getCurrentLag(TimeUnit) current lag} is the age of the oldest {@link CqEvent}
+ * not yet handled, so it keeps growing while the application listener falls behind and drops to {@literal 0}
+ * once it has caught up.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.apache.geode.cache.query.CqQuery
+ * @since 2.0.0
+ */
+public class ContinuousQueryEventTracker {
+
+	private static final ThreadLocal<PendingEvent> CURRENT_EVENT = new ThreadLocal<>();
+
+	static void bindCurrentEvent(@NonNull PendingEvent pendingEvent) {
+		CURRENT_EVENT.set(pendingEvent);
+	}
+
+	static @Nullable PendingEvent currentEvent() {
+		return CURRENT_EVENT.get();
+	}
+
+	static void unbindCurrentEvent() {
+		CURRENT_EVENT.remove();
+	}
+
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final ConcurrentNavigableMap<Long, Long> pendingEventReceiveTimes = new ConcurrentSkipListMap<>();
+
+	private final LongAdder eventCount = new LongAdder();
+	private final LongAdder lagCount = new LongAdder();
+	private final LongAdder lagTotal = new LongAdder();
+	private final LongAdder processedCount = new LongAdder();
+	private final LongAdder processingTotal = new LongAdder();
+
+	private final LongSupplier nanoClock;
+
+	private final String name;
+
+	/**
+	 * Constructs a new instance of {@link ContinuousQueryEventTracker} for the {@link CqQuery} with the given name.
+	 *
+	 * @param name {@link String} containing the name of the {@link CqQuery}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the name is {@literal null}.
+	 */
+	public ContinuousQueryEventTracker(@NonNull String name) {
+		this(name, System::nanoTime);
+	}
+
+	ContinuousQueryEventTracker(@NonNull String name, @NonNull LongSupplier nanoClock) {
+
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(nanoClock, "Nano clock must not be null");
+
+		this.name = name;
+		this.nanoClock = nanoClock;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the age of the oldest {@link CqEvent} that has been received but is not yet being handled.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value.
+	 * @return the age of the oldest {@link CqEvent} not yet being handled, or {@literal 0} if there is none.
+	 */
+	public double getCurrentLag(@NonNull TimeUnit timeUnit) {
+
+		Map.Entry<Long, Long> oldestPendingEvent = this.pendingEventReceiveTimes.firstEntry();
+
+		long lagNanos = oldestPendingEvent != null
+			? Math.max(0L, this.nanoClock.getAsLong() - oldestPendingEvent.getValue())
+			: 0L;
+
+		return toTimeUnit(lagNanos, timeUnit);
+	}
+
+	public long getEventCount() {
+		return this.eventCount.sum();
+	}
+
+	public long getLagCount() {
+		return this.lagCount.sum();
+	}
+
+	public double getLagTotal(@NonNull TimeUnit timeUnit) {
+		return toTimeUnit(this.lagTotal.sum(), timeUnit);
+	}
+
+	public int getPendingCount() {
+		return this.pendingCount.get();
+	}
+
+	public long getProcessedCount() {
+		return this.processedCount.sum();
+	}
+
+	public double getProcessingTotal(@NonNull TimeUnit timeUnit) {
+		return toTimeUnit(this.processingTotal.sum(), timeUnit);
+	}
+
+	private static double toTimeUnit(long nanos, TimeUnit timeUnit) {
+		return (double) nanos / TimeUnit.NANOSECONDS.convert(1L, timeUnit);
+	}
+
+	long nanoTime() {
+		return this.nanoClock.getAsLong();
+	}
+
+	/**
+	 * Records that a {@link CqEvent} has been received.
+	 *
+	 * @return the {@link PendingEvent} used to record the handling of the received {@link CqEvent}.
+	 */
+	public PendingEvent eventReceived() {
+
+		long receiveTime = this.nanoClock.getAsLong();
+
+		PendingEvent pendingEvent = new PendingEvent(this, this.sequence.incrementAndGet(), receiveTime);
+
+		this.eventCount.increment();
+		this.pendingEventReceiveTimes.put(pendingEvent.getSequence(), receiveTime);
+		this.pendingCount.incrementAndGet();
+
+		return pendingEvent;
+	}
+
+	/**
+	 * Records that the application listener started handling the {@link PendingEvent}.
+	 *
+	 * @param pendingEvent {@link PendingEvent} being handled.
+	 * @return the time the application listener started handling the {@link PendingEvent}
+	 * in {@link TimeUnit#NANOSECONDS}.
+	 */
+	public long eventDispatched(@NonNull PendingEvent pendingEvent) {
+		return eventDispatched(pendingEvent, this.nanoClock.getAsLong());
+	}
+
+	long eventDispatched(PendingEvent pendingEvent, long dispatchTime) {
+
+		if (removePending(pendingEvent)) {
+			this.lagCount.increment();
+			this.lagTotal.add(Math.max(0L, dispatchTime - pendingEvent.getReceiveTime()));
+		}
+
+		return dispatchTime;
+	}
+
+	/**
+	 * Records that the application listener finished handling a {@link CqEvent}.
+	 *
+	 * @param dispatchTime time the application listener started handling the {@link CqEvent}
+	 * in {@link TimeUnit#NANOSECONDS}.
+	 * @see #eventDispatched(PendingEvent)
+	 */
+	public void eventProcessed(long dispatchTime) {
+		this.processedCount.increment();
+		this.processingTotal.add(Math.max(0L, this.nanoClock.getAsLong() - dispatchTime));
+	}
+
+	/**
+	 * Records that the {@link PendingEvent} will not be handled, e.g. because it was rejected.
+	 *
+	 * @param pendingEvent {@link PendingEvent} that will not be handled.
+	 */
+	public void eventDiscarded(@NonNull PendingEvent pendingEvent) {
+		removePending(pendingEvent);
+	}
+
+	private boolean removePending(PendingEvent pendingEvent) {
+
+		if (this.pendingEventReceiveTimes.remove(pendingEvent.getSequence()) != null) {
+			this.pendingCount.decrementAndGet();
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * A received {@link CqEvent} that has not yet been handled.
+	 */
+	public static class PendingEvent {
+
+		private boolean claimed;
+
+		private final ContinuousQueryEventTracker tracker;
+
+		private final long receiveTime;
+		private final long sequence;
+
+		PendingEvent(ContinuousQueryEventTracker tracker, long sequence, long receiveTime) {
+			this.tracker = tracker;
+			this.sequence = sequence;
+			this.receiveTime = receiveTime;
+		}
+
+		/**
+		 * Claims this {@link PendingEvent} for asynchronous handling.
+		 *
+		 * @return {@literal true} if this {@link PendingEvent} was not claimed before.
+		 */
+		boolean claim() {
+
+			boolean claimed = this.claimed;
+
+			this.claimed = true;
+
+			return !claimed;
+		}
+
+		boolean isClaimed() {
+			return this.claimed;
+		}
+
+		public long getReceiveTime() {
+			return this.receiveTime;
+		}
+
+		public long getSequence() {
+			return this.sequence;
+		}
+
+		ContinuousQueryEventTracker getTracker() {
+			return this.tracker;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.cq;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.apache.geode.cache.query.CqAttributes;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ContinuousQueryEventTrackerRegistrar} class decorates the {@link CqListener CqListeners} registered by
+ * the {@link ContinuousQueryListenerContainer} with {@link EventTrackingCqListener EventTrackingCqListeners}, and the
+ * {@link Executor} of the {@link ContinuousQueryListenerContainer} with an {@link EventTrackingExecutor}, once all
+ * Spring singleton beans have been created.
+ *
+ * Each {@link CqQuery} gets its own {@link ContinuousQueryEventTracker}. Only the {@link CqListener CqListeners}
+ * adapting the SDG {@literal ContinuousQueryListeners} are decorated, since Apache Geode closes the
+ * {@link CqListener CqListeners} it replaces. {@link CqQuery CqQueries} already being tracked are left as is,
+ * so {@link #register()} can safely be called again to track {@link CqQuery CqQueries} created later.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.Executor
+ * @see org.apache.geode.cache.query.CqListener
+ * @see org.apache.geode.cache.query.CqQuery
+ * @see org.springframework.beans.factory.SmartInitializingSingleton
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker
+ * @see org.springframework.geode.boot.actuate.cq.EventTrackingCqListener
+ * @see org.springframework.geode.boot.actuate.cq.EventTrackingExecutor
+ * @since 2.0.0
+ */
+public class ContinuousQueryEventTrackerRegistrar implements SmartInitializingSingleton {
+
+	/**
+	 * Finds the {@link ContinuousQueryEventTracker} tracking the {@link CqEvent CqEvents} of the given {@link CqQuery}.
+	 *
+	 * @param continuousQuery {@link CqQuery} to evaluate.
+	 * @return an {@link Optional} {@link ContinuousQueryEventTracker} tracking the given {@link CqQuery}.
+	 */
+	public static Optional<ContinuousQueryEventTracker> findEventTracker(@Nullable CqQuery continuousQuery) {
+
+		CqListener[] cqListeners = Optional.ofNullable(continuousQuery)
+			.map(CqQuery::getCqAttributes)
+			.map(CqAttributes::getCqListeners)
+			.orElse(null);
+
+		return cqListeners != null
+			? Arrays.stream(cqListeners)
+				.filter(EventTrackingCqListener.class::isInstance)
+				.map(EventTrackingCqListener.class::cast)
+				.map(EventTrackingCqListener::getTracker)
+				.findFirst()
+			: Optional.empty();
+	}
+
+	private final ContinuousQueryListenerContainer continuousQueryListenerContainer;
+
+	/**
+	 * Constructs a new instance of {@link ContinuousQueryEventTrackerRegistrar} initialized with
+	 * the {@link ContinuousQueryListenerContainer}.
+	 *
+	 * @param continuousQueryListenerContainer reference to the SDG {@link ContinuousQueryListenerContainer};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ContinuousQueryListenerContainer} is {@literal null}.
+	 */
+	public ContinuousQueryEventTrackerRegistrar(
+			@NonNull ContinuousQueryListenerContainer continuousQueryListenerContainer) {
+
+		Assert.notNull(continuousQueryListenerContainer, "ContinuousQueryListenerContainer must not be null");
+
+		this.continuousQueryListenerContainer = continuousQueryListenerContainer;
+	}
+
+	protected ContinuousQueryListenerContainer getContinuousQueryListenerContainer() {
+		return this.continuousQueryListenerContainer;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		register();
+	}
+
+	/**
+	 * Decorates the {@link Executor} of the {@link ContinuousQueryListenerContainer} and the {@link CqListener
+	 * CqListeners} of all {@link CqQuery CqQueries} not yet being tracked.
+	 */
+	public void register() {
+
+		ContinuousQueryListenerContainer container = getContinuousQueryListenerContainer();
+
+		Executor taskExecutor = container.getTaskExecutor();
+
+		if (taskExecutor != null && !(taskExecutor instanceof EventTrackingExecutor)) {
+			container.setTaskExecutor(new EventTrackingExecutor(taskExecutor));
+		}
+
+		CqQuery[] continuousQueries = Optional.ofNullable(container.getQueryService())
+			.map(QueryService::getCqs)
+			.orElse(null);
+
+		if (continuousQueries != null) {
+			Arrays.stream(continuousQueries)
+				.filter(Objects::nonNull)
+				.filter(continuousQuery -> findEventTracker(continuousQuery).isEmpty())
+				.forEach(this::register);
+		}
+	}
+
+	private void register(CqQuery continuousQuery) {
+
+		CqListener[] cqListeners = continuousQuery.getCqAttributes() != null
+			? continuousQuery.getCqAttributes().getCqListeners()
+			: null;
+
+		if (cqListeners != null && cqListeners.length > 0 && Arrays.stream(cqListeners).allMatch(this::isDecoratable)) {
+
+			ContinuousQueryEventTracker tracker = new ContinuousQueryEventTracker(continuousQuery.getName());
+
+			CqListener[] decoratedCqListeners = new CqListener[cqListeners.length];
+
+			// Only the first CqListener is tracked so that each CqEvent is counted once.
+			decoratedCqListeners[0] = new EventTrackingCqListener(cqListeners[0], tracker);
+
+			System.arraycopy(cqListeners, 1, decoratedCqListeners, 1, cqListeners.length - 1);
+
+			continuousQuery.getCqAttributesMutator().setCqListeners(decoratedCqListeners);
+		}
+	}
+
+	/**
+	 * Determines whether the given {@link CqListener} was registered by the {@link ContinuousQueryListenerContainer}
+	 * and can therefore be decorated.
+	 *
+	 * @param cqListener {@link CqListener} to evaluate.
+	 * @return a boolean value indicating whether the given {@link CqListener} can be decorated.
+	 */
+	protected boolean isDecoratable(@Nullable CqListener cqListener) {
+		return cqListener != null
+			&& ContinuousQueryListenerContainer.class.equals(cqListener.getClass().getEnclosingClass());
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.cq;
+
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker.PendingEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link EventTrackingCqListener} class is a {@link CqListener} decorating the {@link CqListener} registered
+ * by the application in order to record the {@link CqEvent CqEvents} it receives with
+ * a {@link ContinuousQueryEventTracker}.
+ *
+ * When the decorated {@link CqListener} hands the {@link CqEvent} off to an {@link EventTrackingExecutor}, the
+ * {@link EventTrackingExecutor} records when the {@link CqEvent} is handled. Otherwise, the {@link CqEvent} is
+ * considered to be handled by the decorated {@link CqListener} itself.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.apache.geode.cache.query.CqListener
+ * @see org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker
+ * @see org.springframework.geode.boot.actuate.cq.EventTrackingExecutor
+ * @since 2.0.0
+ */
+public class EventTrackingCqListener implements CqListener {
+
+	private final ContinuousQueryEventTracker tracker;
+
+	private final CqListener delegate;
+
+	/**
+	 * Constructs a new instance of {@link EventTrackingCqListener} initialized with the {@link CqListener} to decorate
+	 * and the {@link ContinuousQueryEventTracker} used to record {@link CqEvent CqEvents}.
+	 *
+	 * @param delegate {@link CqListener} to decorate; must not be {@literal null}.
+	 * @param tracker {@link ContinuousQueryEventTracker} used to record {@link CqEvent CqEvents};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link CqListener} or {@link ContinuousQueryEventTracker}
+	 * is {@literal null}.
+	 */
+	public EventTrackingCqListener(@NonNull CqListener delegate, @NonNull ContinuousQueryEventTracker tracker) {
+
+		Assert.notNull(delegate, "CqListener must not be null");
+		Assert.notNull(tracker, "ContinuousQueryEventTracker must not be null");
+
+		this.delegate = delegate;
+		this.tracker = tracker;
+	}
+
+	public CqListener getDelegate() {
+		return this.delegate;
+	}
+
+	public ContinuousQueryEventTracker getTracker() {
+		return this.tracker;
+	}
+
+	@Override
+	public void onEvent(CqEvent event) {
+		track(event, false);
+	}
+
+	@Override
+	public void onError(CqEvent event) {
+		track(event, true);
+	}
+
+	private void track(CqEvent event, boolean error) {
+
+		ContinuousQueryEventTracker tracker = getTracker();
+
+		PendingEvent pendingEvent = tracker.eventReceived();
+
+		long dispatchTime = tracker.nanoTime();
+
+		ContinuousQueryEventTracker.bindCurrentEvent(pendingEvent);
+
+		try {
+			if (error) {
+				getDelegate().onError(event);
+			}
+			else {
+				getDelegate().onEvent(event);
+			}
+		}
+		finally {
+
+			ContinuousQueryEventTracker.unbindCurrentEvent();
+
+			if (pendingEvent.claim()) {
+				tracker.eventDispatched(pendingEvent, dispatchTime);
+				tracker.eventProcessed(dispatchTime);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		getDelegate().close();
+	}
+}
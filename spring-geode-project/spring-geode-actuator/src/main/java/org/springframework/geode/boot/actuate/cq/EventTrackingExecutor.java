@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.cq;
+
+import java.util.concurrent.Executor;
+
+import org.apache.geode.cache.query.CqEvent;
+
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker.PendingEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link EventTrackingExecutor} class is an {@link Executor} decorating the {@link Executor} used by
+ * the {@link ContinuousQueryListenerContainer} to hand {@link CqEvent CqEvents} off to the application listeners.
+ *
+ * Tasks submitted while an {@link EventTrackingCqListener} is handling a {@link CqEvent} are recorded with
+ * the {@link ContinuousQueryEventTracker} of that {@link EventTrackingCqListener}, so the time a {@link CqEvent}
+ * spends waiting for a {@link Thread} and the time the application listener takes to handle it are both known.
+ * All other tasks are passed through as is.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker
+ * @see org.springframework.geode.boot.actuate.cq.EventTrackingCqListener
+ * @since 2.0.0
+ */
+public class EventTrackingExecutor implements Executor {
+
+	private final Executor delegate;
+
+	/**
+	 * Constructs a new instance of {@link EventTrackingExecutor} initialized with the {@link Executor} to decorate.
+	 *
+	 * @param delegate {@link Executor} to decorate; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Executor} is {@literal null}.
+	 */
+	public EventTrackingExecutor(@NonNull Executor delegate) {
+
+		Assert.notNull(delegate, "Executor must not be null");
+
+		this.delegate = delegate;
+	}
+
+	public Executor getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public void execute(@NonNull Runnable task) {
+
+		PendingEvent pendingEvent = ContinuousQueryEventTracker.currentEvent();
+
+		if (pendingEvent != null && pendingEvent.claim()) {
+
+			ContinuousQueryEventTracker tracker = pendingEvent.getTracker();
+
+			try {
+				getDelegate().execute(() -> {
+
+					long dispatchTime = tracker.eventDispatched(pendingEvent);
+
+					try {
+						task.run();
+					}
+					finally {
+						tracker.eventProcessed(dispatchTime);
+					}
+				});
+			}
+			catch (RuntimeException cause) {
+				tracker.eventDiscarded(pendingEvent);
+				throw cause;
+			}
+		}
+		else {
+			getDelegate().execute(task);
+		}
+	}
+}
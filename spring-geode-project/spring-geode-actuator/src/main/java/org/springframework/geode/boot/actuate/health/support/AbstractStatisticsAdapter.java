@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AbstractStatisticsAdapter} class is an abstract base class for typed views of the {@link Statistics}
+ * Apache Geode keeps for its components, resolved through the public Apache Geode {@link Statistics} API.
+ *
+ * Statistics missing from the {@link Statistics}, for instance in a different version of Apache Geode,
+ * are reported as {@literal 0}. Apache Geode only records times when {@literal enable-time-statistics}
+ * is {@literal true}; otherwise, all times are {@literal 0}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsType
+ * @since 2.0.0
+ */
+public abstract class AbstractStatisticsAdapter {
+
+	/**
+	 * Finds all open {@link Statistics} of the {@link StatisticsType} with the given {@link String name}.
+	 *
+	 * @param gemfireCache {@link GemFireCache} from which to resolve the {@link Statistics}.
+	 * @param statisticsTypeName {@link String name} of the {@link StatisticsType}.
+	 * @return a {@link Stream} of open {@link Statistics}; never {@literal null}.
+	 * @see org.apache.geode.distributed.DistributedSystem#findStatisticsByType(StatisticsType)
+	 */
+	public static @NonNull Stream<Statistics> findStatistics(@Nullable GemFireCache gemfireCache,
+			@NonNull String statisticsTypeName) {
+
+		DistributedSystem distributedSystem = gemfireCache != null ? gemfireCache.getDistributedSystem() : null;
+
+		StatisticsType statisticsType = distributedSystem != null
+			? distributedSystem.findType(statisticsTypeName)
+			: null;
+
+		Statistics[] statistics = statisticsType != null
+			? distributedSystem.findStatisticsByType(statisticsType)
+			: null;
+
+		return statistics != null
+			? Arrays.stream(statistics).filter(Objects::nonNull).filter(it -> !it.isClosed())
+			: Stream.empty();
+	}
+
+	private final Statistics statistics;
+
+	/**
+	 * Constructs a new instance of {@link AbstractStatisticsAdapter} initialized with the Apache Geode
+	 * {@link Statistics} to adapt.
+	 *
+	 * @param statistics {@link Statistics} to adapt; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Statistics} is {@literal null}.
+	 */
+	protected AbstractStatisticsAdapter(@NonNull Statistics statistics) {
+
+		Assert.notNull(statistics, "Statistics must not be null");
+
+		this.statistics = statistics;
+	}
+
+	protected @NonNull Statistics getStatistics() {
+		return this.statistics;
+	}
+
+	public String getTextId() {
+		return getStatistics().getTextId();
+	}
+
+	public boolean isClosed() {
+		return getStatistics().isClosed();
+	}
+
+	protected long get(String statisticName) {
+
+		try {
+			Number value = getStatistics().get(statisticName);
+			return value != null ? value.longValue() : 0L;
+		}
+		catch (IllegalArgumentException ignore) {
+			return 0L;
+		}
+	}
+
+	// Apache Geode records times in nanoseconds.
+	protected double toTime(long nanoseconds, TimeUnit timeUnit) {
+		return (double) nanoseconds / TimeUnit.NANOSECONDS.convert(1L, timeUnit);
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link DiskStoreStatisticsResolver} class is a utility class for resolving the {@link Statistics} Apache Geode
+ * keeps for each {@link DiskStore}, such as the number of writes, reads and flushes, the time spent performing them,
+ * the size of the asynchronous write queue, the number of oplogs and compaction progress.
+ *
+ * The {@link Statistics} are resolved through the public Apache Geode {@link Statistics} API using the
+ * {@value #DISK_STORE_STATISTICS_TYPE_NAME} {@link StatisticsType}. Apache Geode only records times when
+ * {@literal enable-time-statistics} is {@literal true}; otherwise, all times are {@literal 0}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsType
+ * @see org.apache.geode.cache.DiskStore
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.geode.boot.actuate.health.support.AbstractStatisticsAdapter
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class DiskStoreStatisticsResolver {
+
+	public static final String DISK_STORE_STATISTICS_TYPE_NAME = "DiskStoreStatistics";
+
+	/**
+	 * Resolves the {@link DiskStoreStatistics} of all {@link DiskStore DiskStores} in the given {@link GemFireCache}.
+	 *
+	 * @param gemfireCache {@link GemFireCache} from which to resolve the {@link DiskStoreStatistics}.
+	 * @return a {@link Map} of {@link DiskStoreStatistics} keyed by {@link DiskStore#getName() DiskStore name};
+	 * never {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public static @NonNull Map<String, DiskStoreStatistics> resolveAll(@Nullable GemFireCache gemfireCache) {
+
+		return AbstractStatisticsAdapter.findStatistics(gemfireCache, DISK_STORE_STATISTICS_TYPE_NAME)
+			.map(DiskStoreStatistics::new)
+			.collect(Collectors.toMap(DiskStoreStatistics::getName, it -> it, (first, second) -> second,
+				TreeMap::new));
+	}
+
+	/**
+	 * Resolves the {@link DiskStoreStatistics} of the given {@link DiskStore}.
+	 *
+	 * @param gemfireCache {@link GemFireCache} from which to resolve the {@link DiskStoreStatistics}.
+	 * @param diskStore {@link DiskStore} for which to resolve the {@link DiskStoreStatistics}.
+	 * @return an {@link Optional} {@link DiskStoreStatistics} of the given {@link DiskStore}.
+	 * @see #resolveAll(GemFireCache)
+	 */
+	public static Optional<DiskStoreStatistics> resolve(@Nullable GemFireCache gemfireCache,
+			@Nullable DiskStore diskStore) {
+
+		return diskStore != null
+			? Optional.ofNullable(resolveAll(gemfireCache).get(diskStore.getName()))
+			: Optional.empty();
+	}
+
+	/**
+	 * Resolves the percentage of disk space used on the file system of the most used directory
+	 * of the given {@link DiskStore}.
+	 *
+	 * This is the usage Apache Geode compares to the {@link DiskStore#getDiskUsageWarningPercentage() warning}
+	 * and {@link DiskStore#getDiskUsageCriticalPercentage() critical} percentages of the {@link DiskStore}.
+	 *
+	 * @param diskStore {@link DiskStore} to evaluate.
+	 * @return the percentage of disk space used, or {@link Double#NaN} if it cannot be determined.
+	 * @see org.apache.geode.cache.DiskStore#getDiskDirs()
+	 */
+	public static double resolveDiskUsagePercentage(@Nullable DiskStore diskStore) {
+
+		File[] diskDirectories = diskStore != null ? diskStore.getDiskDirs() : null;
+
+		return Arrays.stream(ArrayUtils.nullSafeArray(diskDirectories, File.class))
+			.filter(Objects::nonNull)
+			.filter(diskDirectory -> diskDirectory.getTotalSpace() > 0L)
+			.mapToDouble(diskDirectory -> 100.0d
+				* (diskDirectory.getTotalSpace() - diskDirectory.getUsableSpace()) / diskDirectory.getTotalSpace())
+			.max()
+			.orElse(Double.NaN);
+	}
+
+	/**
+	 * Typed view of the Apache Geode {@link Statistics} kept for a single {@link DiskStore}.
+	 */
+	public static class DiskStoreStatistics extends AbstractStatisticsAdapter {
+
+		/**
+		 * Constructs a new instance of {@link DiskStoreStatistics} initialized with the Apache Geode
+		 * {@link Statistics} of a {@link DiskStore}.
+		 *
+		 * @param statistics {@link Statistics} of a {@link DiskStore}; must not be {@literal null}.
+		 * @throws IllegalArgumentException if {@link Statistics} is {@literal null}.
+		 */
+		public DiskStoreStatistics(@NonNull Statistics statistics) {
+			super(statistics);
+		}
+
+		public String getName() {
+			return getTextId();
+		}
+
+		public long getBytesFlushed() {
+			return get("flushedBytes");
+		}
+
+		public long getBytesRead() {
+			return get("readBytes");
+		}
+
+		public long getBytesWritten() {
+			return get("writtenBytes");
+		}
+
+		public long getCompactableOplogs() {
+			return get("compactableOplogs");
+		}
+
+		public long getCompactions() {
+			return get("compacts");
+		}
+
+		public long getCompactionsInProgress() {
+			return get("compactsInProgress");
+		}
+
+		public double getCompactionTime(TimeUnit timeUnit) {
+			return toTime(get("compactTime"), timeUnit);
+		}
+
+		public long getFlushes() {
+			return get("flushes");
+		}
+
+		public double getFlushTime(TimeUnit timeUnit) {
+			return toTime(get("flushTime"), timeUnit);
+		}
+
+		public long getInactiveOplogs() {
+			return get("inactiveOplogs");
+		}
+
+		public long getOpenOplogs() {
+			return get("openOplogs");
+		}
+
+		public long getQueueSize() {
+			return get("queueSize");
+		}
+
+		public long getReads() {
+			return get("reads");
+		}
+
+		public double getReadTime(TimeUnit timeUnit) {
+			return toTime(get("readTime"), timeUnit);
+		}
+
+		public long getWrites() {
+			return get("writes");
+		}
+
+		public double getWriteTime(TimeUnit timeUnit) {
+			return toTime(get("writeTime"), timeUnit);
+		}
+	}
+}
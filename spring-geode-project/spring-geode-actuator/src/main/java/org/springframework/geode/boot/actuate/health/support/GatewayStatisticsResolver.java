@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.wan.GatewayReceiver;
+import org.apache.geode.cache.wan.GatewaySender;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link GatewayStatisticsResolver} class resolves the {@link Statistics} Apache Geode keeps for each
+ * {@link GatewaySender} and {@link GatewayReceiver}, such as the size of the {@link GatewaySender} queue,
+ * the number of batches and events distributed to the remote site, and the number of batches received
+ * and processed from remote sites.
+ *
+ * The {@link Statistics} are resolved through the public Apache Geode {@link Statistics} API using the
+ * {@value #GATEWAY_SENDER_STATISTICS_TYPE_NAME} and {@value #GATEWAY_RECEIVER_STATISTICS_TYPE_NAME}
+ * {@link StatisticsType StatisticsTypes}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsType
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.wan.GatewayReceiver
+ * @see org.apache.geode.cache.wan.GatewaySender
+ * @see org.springframework.geode.boot.actuate.health.support.AbstractStatisticsAdapter
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GatewayStatisticsResolver {
+
+	public static final String GATEWAY_RECEIVER_STATISTICS_TYPE_NAME = "GatewayReceiverStatistics";
+	public static final String GATEWAY_SENDER_STATISTICS_TYPE_NAME = "GatewaySenderStatistics";
+
+	protected static final String GATEWAY_SENDER_STATISTICS_TEXT_ID_PREFIX = "gatewaySenderStats-";
+
+	/**
+	 * Resolves the {@link GatewayReceiverStatistics} of all {@link GatewayReceiver GatewayReceivers}
+	 * in the given {@link GemFireCache}.
+	 *
+	 * @param gemfireCache {@link GemFireCache} from which to resolve the {@link GatewayReceiverStatistics}.
+	 * @return a {@link Map} of {@link GatewayReceiverStatistics} keyed by {@link Statistics#getTextId() text ID};
+	 * never {@literal null}.
+	 */
+	public static @NonNull Map<String, GatewayReceiverStatistics> resolveGatewayReceivers(
+			@Nullable GemFireCache gemfireCache) {
+
+		return AbstractStatisticsAdapter.findStatistics(gemfireCache, GATEWAY_RECEIVER_STATISTICS_TYPE_NAME)
+			.map(GatewayReceiverStatistics::new)
+			.collect(Collectors.toMap(GatewayReceiverStatistics::getTextId, it -> it, (first, second) -> second,
+				TreeMap::new));
+	}
+
+	/**
+	 * Resolves the {@link GatewaySenderStatistics} of all {@link GatewaySender GatewaySenders}
+	 * in the given {@link GemFireCache}.
+	 *
+	 * @param gemfireCache {@link GemFireCache} from which to resolve the {@link GatewaySenderStatistics}.
+	 * @return a {@link Map} of {@link GatewaySenderStatistics} keyed by {@link GatewaySender#getId() ID};
+	 * never {@literal null}.
+	 */
+	public static @NonNull Map<String, GatewaySenderStatistics> resolveGatewaySenders(
+			@Nullable GemFireCache gemfireCache) {
+
+		return AbstractStatisticsAdapter.findStatistics(gemfireCache, GATEWAY_SENDER_STATISTICS_TYPE_NAME)
+			.map(GatewaySenderStatistics::new)
+			.collect(Collectors.toMap(GatewaySenderStatistics::getGatewaySenderId, it -> it, (first, second) -> second,
+				TreeMap::new));
+	}
+
+	/**
+	 * Typed view of the Apache Geode {@link Statistics} kept for a single {@link GatewayReceiver}.
+	 */
+	public static class GatewayReceiverStatistics extends AbstractStatisticsAdapter {
+
+		/**
+		 * Constructs a new instance of {@link GatewayReceiverStatistics} initialized with the Apache Geode
+		 * {@link Statistics} of a {@link GatewayReceiver}.
+		 *
+		 * @param statistics {@link Statistics} of a {@link GatewayReceiver}; must not be {@literal null}.
+		 * @throws IllegalArgumentException if {@link Statistics} is {@literal null}.
+		 */
+		public GatewayReceiverStatistics(@NonNull Statistics statistics) {
+			super(statistics);
+		}
+
+		public long getBatchesProcessed() {
+			return get("processBatchRequests");
+		}
+
+		public double getBatchProcessingTime(TimeUnit timeUnit) {
+			return toTime(get("processBatchTime"), timeUnit);
+		}
+
+		public long getDuplicateBatchesReceived() {
+			return get("duplicateBatchesReceived");
+		}
+
+		public long getEventsReceived() {
+			return get("eventsReceived");
+		}
+
+		public long getExceptionsOccurred() {
+			return get("exceptionsOccurred");
+		}
+
+		public long getOutOfOrderBatchesReceived() {
+			return get("outoforderBatchesReceived");
+		}
+	}
+
+	/**
+	 * Typed view of the Apache Geode {@link Statistics} kept for a single {@link GatewaySender}.
+	 */
+	public static class GatewaySenderStatistics extends AbstractStatisticsAdapter {
+
+		/**
+		 * Constructs a new instance of {@link GatewaySenderStatistics} initialized with the Apache Geode
+		 * {@link Statistics} of a {@link GatewaySender}.
+		 *
+		 * @param statistics {@link Statistics} of a {@link GatewaySender}; must not be {@literal null}.
+		 * @throws IllegalArgumentException if {@link Statistics} is {@literal null}.
+		 */
+		public GatewaySenderStatistics(@NonNull Statistics statistics) {
+			super(statistics);
+		}
+
+		public String getGatewaySenderId() {
+
+			String textId = getTextId();
+
+			return textId != null && textId.startsWith(GATEWAY_SENDER_STATISTICS_TEXT_ID_PREFIX)
+				? textId.substring(GATEWAY_SENDER_STATISTICS_TEXT_ID_PREFIX.length())
+				: textId;
+		}
+
+		public long getBatchesDistributed() {
+			return get("batchesDistributed");
+		}
+
+		public long getBatchesRedistributed() {
+			return get("batchesRedistributed");
+		}
+
+		public double getBatchDistributionTime(TimeUnit timeUnit) {
+			return toTime(get("batchDistributionTime"), timeUnit);
+		}
+
+		public long getEventQueueSize() {
+			return get("eventQueueSize");
+		}
+
+		public long getEventsDistributed() {
+			return get("eventsDistributed");
+		}
+
+		public long getEventsExceedingAlertThreshold() {
+			return get("eventsExceedingAlertThreshold");
+		}
+
+		/**
+		 * Returns the average number of events per batch distributed to the remote site.
+		 *
+		 * @return the average number of events per batch, or {@literal 0} if no batch has been distributed.
+		 */
+		public double getEventsPerBatch() {
+
+			long batchesDistributed = getBatchesDistributed();
+
+			return batchesDistributed > 0L ? (double) getEventsDistributed() / batchesDistributed : 0.0d;
+		}
+
+		public long getEventsQueued() {
+			return get("eventsQueued");
+		}
+
+		public long getEventsReceived() {
+			return get("eventsReceived");
+		}
+
+		public long getSecondaryEventQueueSize() {
+			return get("secondaryEventQueueSize");
+		}
+	}
+}
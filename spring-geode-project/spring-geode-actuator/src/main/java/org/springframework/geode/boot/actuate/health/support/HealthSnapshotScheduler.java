@@ -0,0 +1,342 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link HealthSnapshotScheduler} class is a Spring {@link SmartLifecycle} component using a single,
+ * daemon {@link Thread} to periodically schedule the {@link SnapshotHealthIndicator#refresh() refresh} of all
+ * registered {@link SnapshotHealthIndicator SnapshotHealthIndicators}.
+ *
+ * Each {@link SnapshotHealthIndicator} is refreshed independently after the configured {@link Duration interval}
+ * plus a random delay bounded by the configured {@link Duration jitter}, which spreads the work of many
+ * indicators, and many cluster members, over time instead of refreshing everything at once.
+ *
+ * Refreshes run on separate daemon {@link Thread Threads} and are interrupted once they exceed the configured
+ * {@link Duration refresh timeout}. An indicator is not refreshed again until its previous refresh has returned,
+ * so a hanging indicator never occupies more than one {@link Thread}. Its snapshot then ages past the
+ * {@link #getMaxStaleness() maximum staleness} and is reported as {@literal UNKNOWN}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ScheduledExecutorService
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.geode.boot.actuate.health.support.SnapshotHealthIndicator
+ * @since 2.0.0
+ */
+public class HealthSnapshotScheduler implements SmartLifecycle {
+
+	public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+	public static final Duration DEFAULT_JITTER = Duration.ofSeconds(1);
+	public static final Duration DEFAULT_REFRESH_TIMEOUT = Duration.ofSeconds(5);
+
+	public static final int DEFAULT_MAX_STALENESS_INTERVALS = 3;
+
+	protected static final String REFRESH_THREAD_NAME = "geode-health-snapshot-refresh";
+	protected static final String THREAD_NAME = "geode-health-snapshot";
+
+	private final int maxStalenessIntervals;
+
+	private final Duration interval;
+	private final Duration jitter;
+	private final Duration refreshTimeout;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile ExecutorService refreshExecutor;
+
+	private volatile ScheduledExecutorService executor;
+
+	private final Set<SnapshotHealthIndicator> healthIndicators = new CopyOnWriteArraySet<>();
+
+	/**
+	 * Constructs a new instance of {@link HealthSnapshotScheduler} using the {@link #DEFAULT_INTERVAL}
+	 * and {@link #DEFAULT_JITTER}.
+	 */
+	public HealthSnapshotScheduler() {
+		this(DEFAULT_INTERVAL, DEFAULT_JITTER);
+	}
+
+	/**
+	 * Constructs a new instance of {@link HealthSnapshotScheduler} initialized with the given
+	 * refresh {@link Duration interval} and {@link Duration jitter}, using the {@link #DEFAULT_REFRESH_TIMEOUT}
+	 * and {@link #DEFAULT_MAX_STALENESS_INTERVALS}.
+	 *
+	 * @param interval {@link Duration} between refreshes of a single indicator; must be positive.
+	 * @param jitter maximum random {@link Duration} added to each {@link Duration interval}; must not be negative.
+	 * @throws IllegalArgumentException if {@link Duration interval} is not positive
+	 * or {@link Duration jitter} is negative.
+	 * @see #HealthSnapshotScheduler(Duration, Duration, Duration, int)
+	 */
+	public HealthSnapshotScheduler(@NonNull Duration interval, @NonNull Duration jitter) {
+		this(interval, jitter, DEFAULT_REFRESH_TIMEOUT, DEFAULT_MAX_STALENESS_INTERVALS);
+	}
+
+	/**
+	 * Constructs a new instance of {@link HealthSnapshotScheduler} initialized with the given
+	 * refresh {@link Duration interval}, {@link Duration jitter}, {@link Duration refresh timeout}
+	 * and maximum staleness expressed as a number of {@link Duration intervals}.
+	 *
+	 * @param interval {@link Duration} between refreshes of a single indicator; must be positive.
+	 * @param jitter maximum random {@link Duration} added to each {@link Duration interval}; must not be negative.
+	 * @param refreshTimeout maximum {@link Duration} of a single refresh; must be positive.
+	 * @param maxStalenessIntervals number of {@link Duration intervals} after which a snapshot is reported
+	 * as {@literal UNKNOWN}; {@literal 0} disables the staleness check; must not be negative.
+	 * @throws IllegalArgumentException if {@link Duration interval} or {@link Duration refreshTimeout}
+	 * is not positive, or {@link Duration jitter} or {@literal maxStalenessIntervals} is negative.
+	 */
+	public HealthSnapshotScheduler(@NonNull Duration interval, @NonNull Duration jitter,
+			@NonNull Duration refreshTimeout, int maxStalenessIntervals) {
+
+		Assert.isTrue(interval != null && !interval.isNegative() && !interval.isZero(),
+			() -> String.format("Interval [%s] must be greater than 0", interval));
+
+		Assert.isTrue(jitter != null && !jitter.isNegative(),
+			() -> String.format("Jitter [%s] must be greater than or equal to 0", jitter));
+
+		Assert.isTrue(refreshTimeout != null && !refreshTimeout.isNegative() && !refreshTimeout.isZero(),
+			() -> String.format("Refresh timeout [%s] must be greater than 0", refreshTimeout));
+
+		Assert.isTrue(maxStalenessIntervals >= 0,
+			() -> String.format("Max staleness intervals [%d] must be greater than or equal to 0",
+				maxStalenessIntervals));
+
+		this.interval = interval;
+		this.jitter = jitter;
+		this.refreshTimeout = refreshTimeout;
+		this.maxStalenessIntervals = maxStalenessIntervals;
+	}
+
+	/**
+	 * Returns the {@link Duration} between refreshes of a single {@link SnapshotHealthIndicator}.
+	 *
+	 * @return the {@link Duration} between refreshes of a single {@link SnapshotHealthIndicator}.
+	 */
+	public @NonNull Duration getInterval() {
+		return this.interval;
+	}
+
+	/**
+	 * Returns the maximum random {@link Duration} added to each refresh {@link #getInterval() interval}.
+	 *
+	 * @return the maximum random {@link Duration} added to each refresh {@link #getInterval() interval}.
+	 */
+	public @NonNull Duration getJitter() {
+		return this.jitter;
+	}
+
+	/**
+	 * Returns the maximum age of a snapshot before it is reported as {@literal UNKNOWN}, which is
+	 * the {@link #getInterval() interval} multiplied by the configured number of max staleness intervals.
+	 *
+	 * @return the maximum age of a snapshot; {@link Duration#ZERO} if the staleness check is disabled.
+	 */
+	public @NonNull Duration getMaxStaleness() {
+		return getInterval().multipliedBy(this.maxStalenessIntervals);
+	}
+
+	/**
+	 * Returns the maximum {@link Duration} of a single {@link SnapshotHealthIndicator#refresh() refresh}.
+	 *
+	 * @return the maximum {@link Duration} of a single {@link SnapshotHealthIndicator#refresh() refresh}.
+	 */
+	public @NonNull Duration getRefreshTimeout() {
+		return this.refreshTimeout;
+	}
+
+	/**
+	 * Returns the {@link Set} of registered {@link SnapshotHealthIndicator SnapshotHealthIndicators}.
+	 *
+	 * @return the {@link Set} of registered {@link SnapshotHealthIndicator SnapshotHealthIndicators}.
+	 */
+	protected Set<SnapshotHealthIndicator> getHealthIndicators() {
+		return this.healthIndicators;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Wraps the given {@link HealthIndicator} in a {@link SnapshotHealthIndicator} using
+	 * the {@link #getMaxStaleness() maximum staleness} of this scheduler and registers it
+	 * to be refreshed periodically.
+	 *
+	 * @param name {@link String} identifying the {@link HealthIndicator}; must not be {@literal null}.
+	 * @param healthIndicator {@link HealthIndicator} to snapshot; must not be {@literal null}.
+	 * @return the registered {@link SnapshotHealthIndicator}.
+	 * @throws IllegalArgumentException if the {@link String name} or {@link HealthIndicator} is {@literal null}.
+	 * @see #register(SnapshotHealthIndicator)
+	 */
+	public @NonNull SnapshotHealthIndicator register(@NonNull String name, @NonNull HealthIndicator healthIndicator) {
+		return register(new SnapshotHealthIndicator(name, healthIndicator, Clock.systemUTC(), getMaxStaleness()));
+	}
+
+	/**
+	 * Registers the given {@link SnapshotHealthIndicator} to be refreshed periodically.
+	 *
+	 * If this scheduler is already {@link #isRunning() running}, the refresh is scheduled immediately.
+	 *
+	 * @param healthIndicator {@link SnapshotHealthIndicator} to register; must not be {@literal null}.
+	 * @return the given {@link SnapshotHealthIndicator}.
+	 * @throws IllegalArgumentException if {@link SnapshotHealthIndicator} is {@literal null}.
+	 */
+	public synchronized @NonNull SnapshotHealthIndicator register(@NonNull SnapshotHealthIndicator healthIndicator) {
+
+		Assert.notNull(healthIndicator, "SnapshotHealthIndicator must not be null");
+
+		if (this.healthIndicators.add(healthIndicator)) {
+
+			ScheduledExecutorService executor = this.executor;
+
+			if (executor != null) {
+				schedule(executor, healthIndicator, nextJitterMillis());
+			}
+		}
+
+		return healthIndicator;
+	}
+
+	@Override
+	public synchronized void start() {
+
+		if (this.executor == null) {
+
+			ScheduledExecutorService executor =
+				Executors.newSingleThreadScheduledExecutor(newDaemonThreadFactory(THREAD_NAME));
+
+			this.refreshExecutor = Executors.newCachedThreadPool(newDaemonThreadFactory(REFRESH_THREAD_NAME));
+			this.executor = executor;
+
+			// The first refresh of each indicator only waits for the jitter so snapshots are available early.
+			getHealthIndicators().forEach(healthIndicator -> schedule(executor, healthIndicator, nextJitterMillis()));
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+
+		ScheduledExecutorService executor = this.executor;
+		ExecutorService refreshExecutor = this.refreshExecutor;
+
+		this.executor = null;
+		this.refreshExecutor = null;
+
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdownNow();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.executor != null;
+	}
+
+	private ThreadFactory newDaemonThreadFactory(String threadName) {
+
+		return runnable -> {
+
+			Thread thread = new Thread(runnable, threadName);
+
+			thread.setDaemon(true);
+
+			return thread;
+		};
+	}
+
+	private long nextDelayMillis() {
+		return getInterval().toMillis() + nextJitterMillis();
+	}
+
+	private long nextJitterMillis() {
+
+		long jitterMillis = getJitter().toMillis();
+
+		return jitterMillis > 0L ? ThreadLocalRandom.current().nextLong(jitterMillis + 1L) : 0L;
+	}
+
+	private void schedule(ScheduledExecutorService executor, SnapshotHealthIndicator healthIndicator,
+			long delayMillis) {
+
+		try {
+			executor.schedule(() -> refresh(executor, healthIndicator), delayMillis, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ignore) {
+			// The scheduler was stopped.
+		}
+	}
+
+	private void refresh(ScheduledExecutorService executor, SnapshotHealthIndicator healthIndicator) {
+
+		ExecutorService refreshExecutor = this.refreshExecutor;
+
+		if (refreshExecutor != null) {
+			try {
+
+				// The next refresh is only scheduled once this refresh returns, even when it timed out.
+				Future<?> refresh = refreshExecutor.submit(() -> {
+					try {
+						healthIndicator.refresh();
+					}
+					catch (Throwable cause) {
+						getLogger().warn("Failed to refresh health snapshot for [{}]", healthIndicator.getName(),
+							cause);
+					}
+					finally {
+						schedule(executor, healthIndicator, nextDelayMillis());
+					}
+				});
+
+				executor.schedule(() -> timeout(healthIndicator, refresh), getRefreshTimeout().toMillis(),
+					TimeUnit.MILLISECONDS);
+			}
+			catch (RejectedExecutionException ignore) {
+				// The scheduler was stopped.
+			}
+		}
+	}
+
+	private void timeout(SnapshotHealthIndicator healthIndicator, Future<?> refresh) {
+
+		if (refresh.cancel(true)) {
+			getLogger().warn("Refreshing health snapshot for [{}] timed out after [{}]", healthIndicator.getName(),
+				getRefreshTimeout());
+		}
+	}
+}
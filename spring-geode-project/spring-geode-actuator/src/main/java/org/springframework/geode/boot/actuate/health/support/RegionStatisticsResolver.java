@@ -15,8 +15,8 @@
  */
 package org.springframework.geode.boot.actuate.health.support;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Optional;
 import java.util.Set;
 
 import org.apache.geode.cache.CacheStatistics;
@@ -56,16 +56,30 @@ public class RegionStatisticsResolver {
 			: null;
 	}
 
-	protected static class PartitionRegionCacheStatistics implements CacheStatistics {
+	/**
+	 * {@link CacheStatistics} implementation for a {@link PartitionedRegion} aggregating the {@link CacheStatistics}
+	 * of all local {@link BucketRegion BucketRegions}.
+	 *
+	 * Hit and miss counts are true totals across buckets, and the hit ratio is computed from those totals.
+	 * Additionally, the number of entries per bucket is summarized (min, max and 99th percentile) to help
+	 * identify hot buckets.
+	 */
+	public static class PartitionRegionCacheStatistics implements CacheStatistics {
 
 		private final PartitionedRegion partitionRegion;
 
 		private float hitRatio = 0.0f;
 
+		private int bucketCount = 0;
+
+		private long entryCount = 0L;
 		private long hitCount = 0L;
 		private long lastAccessedTime = 0L;
 		private long lastModifiedTime = 0L;
+		private long maxBucketEntryCount = 0L;
+		private long minBucketEntryCount = 0L;
 		private long missCount = 0L;
+		private long p99BucketEntryCount = 0L;
 
 		protected PartitionRegionCacheStatistics(Region<?, ?> region) {
 
@@ -78,51 +92,125 @@ public class RegionStatisticsResolver {
 
 		protected PartitionedRegion computeStatistics(PartitionedRegion region) {
 
-			float totalHitRatio = 0.0f;
+			PartitionedRegionDataStore dataStore = region.getDataStore();
 
-			int totalCount = 0;
+			Set<BucketRegion> bucketRegions = dataStore != null
+				? dataStore.getAllLocalBucketRegions()
+				: Collections.emptySet();
 
-			long totalHitCount = 0L;
+			long entryCount = 0L;
+			long hitCount = 0L;
+			long missCount = 0L;
 			long maxLastAccessedTime = 0L;
 			long maxLastModifiedTime = 0L;
-			long totalMissCount = 0L;
 
-			Set<BucketRegion> bucketRegions = Optional.of(region)
-				.map(PartitionedRegion::getDataStore)
-				.map(PartitionedRegionDataStore::getAllLocalBucketRegions)
-				.orElseGet(Collections::emptySet);
+			long[] bucketEntryCounts = new long[bucketRegions.size()];
+
+			int bucketCount = 0;
 
 			for (BucketRegion bucket : bucketRegions) {
+				if (bucket != null) {
+
+					CacheStatistics bucketStatistics = bucket.getStatistics();
 
-				CacheStatistics bucketStatistics = bucket.getStatistics();
+					if (bucketStatistics != null) {
+						hitCount += bucketStatistics.getHitCount();
+						missCount += bucketStatistics.getMissCount();
+						maxLastAccessedTime = Math.max(maxLastAccessedTime, bucketStatistics.getLastAccessedTime());
+						maxLastModifiedTime = Math.max(maxLastModifiedTime, bucketStatistics.getLastModifiedTime());
+					}
 
-				if (bucketStatistics != null) {
+					long bucketEntryCount = bucket.size();
 
-					totalCount++;
+					if (bucketCount == bucketEntryCounts.length) {
+						bucketEntryCounts = Arrays.copyOf(bucketEntryCounts, bucketCount + 1);
+					}
 
-					totalHitCount += bucketStatistics.getHitCount();
-					totalHitRatio += bucketStatistics.getHitRatio();
-					maxLastAccessedTime = Math.max(maxLastAccessedTime, bucketStatistics.getLastAccessedTime());
-					maxLastModifiedTime = Math.max(maxLastModifiedTime, bucketStatistics.getLastModifiedTime());
-					totalMissCount += bucketStatistics.getMissCount();
+					bucketEntryCounts[bucketCount++] = bucketEntryCount;
+					entryCount += bucketEntryCount;
 				}
 			}
 
-			if (totalCount > 0) {
-				this.hitCount = totalHitCount / totalCount;
-				this.hitRatio = totalHitRatio / totalCount;
+			// The entry counts per bucket are sorted to compute the skew.
+			bucketEntryCounts = Arrays.copyOf(bucketEntryCounts, bucketCount);
+			Arrays.sort(bucketEntryCounts);
+
+			if (bucketCount > 0) {
+
+				long lookupCount = hitCount + missCount;
+
+				this.bucketCount = bucketCount;
+				this.entryCount = entryCount;
+				this.hitCount = hitCount;
+				this.hitRatio = lookupCount > 0L ? (float) hitCount / lookupCount : 0.0f;
 				this.lastAccessedTime = maxLastAccessedTime;
 				this.lastModifiedTime = maxLastModifiedTime;
-				this.missCount = totalMissCount / totalCount;
+				this.maxBucketEntryCount = bucketEntryCounts[bucketCount - 1];
+				this.minBucketEntryCount = bucketEntryCounts[0];
+				this.missCount = missCount;
+				this.p99BucketEntryCount = percentile(bucketEntryCounts, 0.99d);
 			}
 
 			return region;
 		}
 
+		// Nearest-rank percentile of the given, sorted values.
+		private static long percentile(long[] sortedValues, double percentile) {
+
+			int rank = (int) Math.ceil(percentile * sortedValues.length);
+
+			return sortedValues[Math.max(0, Math.min(sortedValues.length, rank) - 1)];
+		}
+
 		protected PartitionedRegion getPartitionRegion() {
 			return this.partitionRegion;
 		}
 
+		/**
+		 * Returns the number of local {@link BucketRegion BucketRegions} hosted by this member.
+		 *
+		 * @return the number of local {@link BucketRegion BucketRegions}.
+		 */
+		public int getBucketCount() {
+			return this.bucketCount;
+		}
+
+		/**
+		 * Returns the total number of entries across all local {@link BucketRegion BucketRegions}.
+		 *
+		 * @return the total number of entries across all local {@link BucketRegion BucketRegions}.
+		 */
+		public long getEntryCount() {
+			return this.entryCount;
+		}
+
+		/**
+		 * Returns the number of entries in the largest local {@link BucketRegion}.
+		 *
+		 * @return the number of entries in the largest local {@link BucketRegion}.
+		 */
+		public long getMaxBucketEntryCount() {
+			return this.maxBucketEntryCount;
+		}
+
+		/**
+		 * Returns the number of entries in the smallest local {@link BucketRegion}.
+		 *
+		 * @return the number of entries in the smallest local {@link BucketRegion}.
+		 */
+		public long getMinBucketEntryCount() {
+			return this.minBucketEntryCount;
+		}
+
+		/**
+		 * Returns the 99th percentile of the number of entries per local {@link BucketRegion}.
+		 *
+		 * @return the 99th percentile of the number of entries per local {@link BucketRegion}.
+		 */
+		public long getP99BucketEntryCount() {
+			return this.p99BucketEntryCount;
+		}
+
 		@Override
 		public long getHitCount() throws StatisticsDisabledException {
 			return this.hitCount;
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.cache.wan.GatewaySender;
+
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver.GatewaySenderStatistics;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ReplicationLagEstimator} class estimates how far a {@link GatewaySender} lags behind in replicating
+ * events to the remote site from its {@link GatewaySenderStatistics}.
+ *
+ * Apache Geode does not record the age of the events waiting in the {@link GatewaySender} queue. Instead, the lag
+ * is estimated as the time it takes to dispatch the queued events at the rate events were dispatched over
+ * a fixed window of time, plus the time since events were last dispatched while the queue is not empty.
+ * The number of events dispatched is sampled at most {@value #WINDOW_SAMPLES} times per window, so the estimate
+ * does not depend on how often, or by how many callers, the replication lag is estimated.
+ *
+ * The {@link #shared(GatewaySenderStatistics) shared} {@link ReplicationLagEstimator} of a {@link GatewaySender}
+ * is used to report the replication lag both as a {@literal Meter} and in the health details.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.wan.GatewaySender
+ * @see org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver.GatewaySenderStatistics
+ * @since 2.0.0
+ */
+public class ReplicationLagEstimator {
+
+	public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1L);
+
+	protected static final int WINDOW_SAMPLES = 10;
+
+	private static final Map<Statistics, ReplicationLagEstimator> SHARED_ESTIMATORS = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the {@link ReplicationLagEstimator} shared by all components estimating the replication lag
+	 * of the {@link GatewaySender} with the given {@link GatewaySenderStatistics}.
+	 *
+	 * {@link ReplicationLagEstimator ReplicationLagEstimators} are shared per Apache Geode {@link Statistics}
+	 * instance, so a new {@link ReplicationLagEstimator} is used when the {@link GatewaySender} is recreated.
+	 *
+	 * @param statistics {@link GatewaySenderStatistics} of the {@link GatewaySender}; must not be {@literal null}.
+	 * @return the shared {@link ReplicationLagEstimator} of the {@link GatewaySender}.
+	 * @throws IllegalArgumentException if {@link GatewaySenderStatistics} is {@literal null}.
+	 */
+	public static @NonNull ReplicationLagEstimator shared(@NonNull GatewaySenderStatistics statistics) {
+
+		Assert.notNull(statistics, "GatewaySenderStatistics must not be null");
+
+		ReplicationLagEstimator estimator = SHARED_ESTIMATORS.get(statistics.getStatistics());
+
+		if (estimator == null) {
+
+			// Release the estimators of removed GatewaySenders.
+			SHARED_ESTIMATORS.keySet().removeIf(Statistics::isClosed);
+
+			estimator = SHARED_ESTIMATORS.computeIfAbsent(statistics.getStatistics(),
+				key -> new ReplicationLagEstimator(statistics));
+		}
+
+		return estimator;
+	}
+
+	private final Deque<long[]> samples = new ArrayDeque<>();
+
+	private final GatewaySenderStatistics statistics;
+
+	private final LongSupplier nanoClock;
+
+	private long lastDispatchTime;
+	private long lastEventsDistributed = -1L;
+
+	private final long resolution;
+	private final long window;
+
+	/**
+	 * Constructs a new instance of {@link ReplicationLagEstimator} initialized with the {@link GatewaySenderStatistics}
+	 * of the {@link GatewaySender} for which to estimate the replication lag.
+	 *
+	 * @param statistics {@link GatewaySenderStatistics} of the {@link GatewaySender}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GatewaySenderStatistics} is {@literal null}.
+	 * @see #DEFAULT_WINDOW
+	 */
+	public ReplicationLagEstimator(@NonNull GatewaySenderStatistics statistics) {
+		this(statistics, DEFAULT_WINDOW);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReplicationLagEstimator} initialized with the {@link GatewaySenderStatistics}
+	 * of the {@link GatewaySender} for which to estimate the replication lag and the window over which
+	 * the dispatch rate is measured.
+	 *
+	 * @param statistics {@link GatewaySenderStatistics} of the {@link GatewaySender}; must not be {@literal null}.
+	 * @param window {@link Duration} over which the dispatch rate is measured; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link GatewaySenderStatistics} is {@literal null},
+	 * or the {@link Duration window} is {@literal null} or not positive.
+	 */
+	public ReplicationLagEstimator(@NonNull GatewaySenderStatistics statistics, @NonNull Duration window) {
+		this(statistics, window, System::nanoTime);
+	}
+
+	ReplicationLagEstimator(@NonNull GatewaySenderStatistics statistics, @NonNull Duration window,
+			@NonNull LongSupplier nanoClock) {
+
+		Assert.notNull(statistics, "GatewaySenderStatistics must not be null");
+		Assert.isTrue(window != null && !window.isNegative() && !window.isZero(),
+			() -> String.format("Window [%s] must be greater than 0", window));
+		Assert.notNull(nanoClock, "Clock must not be null");
+
+		this.statistics = statistics;
+		this.nanoClock = nanoClock;
+		this.window = window.toNanos();
+		this.resolution = Math.max(this.window / WINDOW_SAMPLES, 1L);
+	}
+
+	public @NonNull GatewaySenderStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Estimates the current replication lag of the {@link GatewaySender}.
+	 *
+	 * @param timeUnit {@link TimeUnit} in which to return the replication lag.
+	 * @return the estimated replication lag; {@literal 0} when the {@link GatewaySender} queue is empty.
+	 */
+	public synchronized double getReplicationLag(@NonNull TimeUnit timeUnit) {
+
+		long now = this.nanoClock.getAsLong();
+		long eventQueueSize = getStatistics().getEventQueueSize();
+		long eventsDistributed = getStatistics().getEventsDistributed();
+
+		// The statistics were reset; discard the samples taken before.
+		if (eventsDistributed < this.lastEventsDistributed) {
+			this.samples.clear();
+		}
+
+		if (eventsDistributed != this.lastEventsDistributed || eventQueueSize <= 0L) {
+			this.lastDispatchTime = now;
+			this.lastEventsDistributed = eventsDistributed;
+		}
+
+		long[] baseline = sample(now, eventsDistributed);
+
+		if (eventQueueSize <= 0L) {
+			return 0.0d;
+		}
+
+		double lag = now - this.lastDispatchTime;
+
+		if (eventsDistributed > baseline[1] && now > baseline[0]) {
+			lag += eventQueueSize / ((double) (eventsDistributed - baseline[1]) / (now - baseline[0]));
+		}
+
+		return lag / TimeUnit.NANOSECONDS.convert(1L, timeUnit);
+	}
+
+	/**
+	 * Records the given sample and returns the baseline sample to measure the dispatch rate from, that is,
+	 * the most recent sample at least the window old, or the oldest sample if none is that old yet.
+	 */
+	private long[] sample(long now, long eventsDistributed) {
+
+		long windowStart = now - this.window;
+
+		// Retain only the most recent sample at least the window old along with all newer samples.
+		while (this.samples.size() > 1 && secondSampleTime() <= windowStart) {
+			this.samples.removeFirst();
+		}
+
+		long[] current = { now, eventsDistributed };
+		long[] last = this.samples.peekLast();
+
+		if (last == null || now - last[0] >= this.resolution) {
+			this.samples.addLast(current);
+		}
+
+		return this.samples.peekFirst();
+	}
+
+	private long secondSampleTime() {
+
+		Iterator<long[]> iterator = this.samples.iterator();
+
+		iterator.next();
+
+		return iterator.next()[0];
+	}
+
+	synchronized int getSampleCount() {
+		return this.samples.size();
+	}
+}
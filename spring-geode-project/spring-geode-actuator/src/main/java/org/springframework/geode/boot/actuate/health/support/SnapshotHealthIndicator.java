@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link SnapshotHealthIndicator} class is a {@link HealthIndicator} decorator serving {@link Health}
+ * from an immutable snapshot of the delegate {@link HealthIndicator} rather than computing {@link Health}
+ * on every request.
+ *
+ * The snapshot is replaced each time {@link #refresh()} is called, typically by the {@link HealthSnapshotScheduler}.
+ * The time the snapshot was taken and its age in milliseconds are reported as {@link Health} details so that
+ * consumers can judge the staleness of the information. Only the very first request, if it arrives before
+ * the first scheduled refresh, computes {@link Health} synchronously.
+ *
+ * When a {@link Duration maximum staleness} is configured, a snapshot older than that is reported as
+ * {@link Status#UNKNOWN} since the last known {@link Health} can no longer be trusted, for instance, when refreshes
+ * are hanging or are no longer being scheduled.
+ *
+ * @author John Blum
+ * @see java.time.Clock
+ * @see org.springframework.boot.actuate.health.Health
+ * @see org.springframework.boot.actuate.health.HealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.HealthSnapshotScheduler
+ * @since 2.0.0
+ */
+public class SnapshotHealthIndicator implements HealthIndicator {
+
+	protected static final String SNAPSHOT_AGE_DETAIL = "geode.health.snapshot.age";
+	protected static final String SNAPSHOT_STALE_DETAIL = "geode.health.snapshot.stale";
+	protected static final String SNAPSHOT_TIMESTAMP_DETAIL = "geode.health.snapshot.timestamp";
+
+	private final Clock clock;
+
+	private final Duration maxStaleness;
+
+	private final HealthIndicator delegate;
+
+	private final String name;
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * Constructs a new instance of {@link SnapshotHealthIndicator} initialized with the given {@link String name}
+	 * and delegate {@link HealthIndicator}.
+	 *
+	 * @param name {@link String} identifying the delegate {@link HealthIndicator}; must not be {@literal null}.
+	 * @param delegate {@link HealthIndicator} computing {@link Health}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link String name} or {@link HealthIndicator} is {@literal null}.
+	 * @see #SnapshotHealthIndicator(String, HealthIndicator, Clock)
+	 */
+	public SnapshotHealthIndicator(@NonNull String name, @NonNull HealthIndicator delegate) {
+		this(name, delegate, Clock.systemUTC());
+	}
+
+	/**
+	 * Constructs a new instance of {@link SnapshotHealthIndicator} initialized with the given {@link String name},
+	 * delegate {@link HealthIndicator} and {@link Clock}.
+	 *
+	 * @param name {@link String} identifying the delegate {@link HealthIndicator}; must not be {@literal null}.
+	 * @param delegate {@link HealthIndicator} computing {@link Health}; must not be {@literal null}.
+	 * @param clock {@link Clock} used to timestamp snapshots; must not be {@literal null}.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 * @see #SnapshotHealthIndicator(String, HealthIndicator, Clock, Duration)
+	 */
+	public SnapshotHealthIndicator(@NonNull String name, @NonNull HealthIndicator delegate, @NonNull Clock clock) {
+		this(name, delegate, clock, Duration.ZERO);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SnapshotHealthIndicator} initialized with the given {@link String name},
+	 * delegate {@link HealthIndicator}, {@link Clock} and {@link Duration maximum staleness}.
+	 *
+	 * @param name {@link String} identifying the delegate {@link HealthIndicator}; must not be {@literal null}.
+	 * @param delegate {@link HealthIndicator} computing {@link Health}; must not be {@literal null}.
+	 * @param clock {@link Clock} used to timestamp snapshots; must not be {@literal null}.
+	 * @param maxStaleness maximum age of a snapshot before {@link Health} is reported as {@link Status#UNKNOWN};
+	 * {@link Duration#ZERO} disables the staleness check; must not be {@literal null} or negative.
+	 * @throws IllegalArgumentException if any argument is {@literal null} or {@link Duration maxStaleness}
+	 * is negative.
+	 */
+	public SnapshotHealthIndicator(@NonNull String name, @NonNull HealthIndicator delegate, @NonNull Clock clock,
+			@NonNull Duration maxStaleness) {
+
+		Assert.hasText(name, "Name must not be null or empty");
+		Assert.notNull(delegate, "HealthIndicator must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+		Assert.isTrue(maxStaleness != null && !maxStaleness.isNegative(),
+			() -> String.format("Max staleness [%s] must be greater than or equal to 0", maxStaleness));
+
+		this.name = name;
+		this.delegate = delegate;
+		this.clock = clock;
+		this.maxStaleness = maxStaleness;
+	}
+
+	/**
+	 * Returns the delegate {@link HealthIndicator} computing {@link Health}.
+	 *
+	 * @return the delegate {@link HealthIndicator}.
+	 */
+	public @NonNull HealthIndicator getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Returns the maximum age of a snapshot before {@link Health} is reported as {@link Status#UNKNOWN}.
+	 *
+	 * @return the maximum age of a snapshot; {@link Duration#ZERO} if the staleness check is disabled.
+	 */
+	public @NonNull Duration getMaxStaleness() {
+		return this.maxStaleness;
+	}
+
+	/**
+	 * Returns the {@link String name} identifying the delegate {@link HealthIndicator}.
+	 *
+	 * @return the {@link String name} identifying the delegate {@link HealthIndicator}.
+	 */
+	public @NonNull String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Determines whether a snapshot has been taken.
+	 *
+	 * @return a boolean value indicating whether a snapshot has been taken.
+	 */
+	public boolean isInitialized() {
+		return this.snapshot != null;
+	}
+
+	/**
+	 * Computes {@link Health} using the delegate {@link HealthIndicator} and replaces the current snapshot.
+	 *
+	 * Any {@link Exception} thrown by the delegate is captured as {@link Health#down(Throwable) DOWN}.
+	 *
+	 * @return the new snapshot {@link Health}.
+	 */
+	public Health refresh() {
+		return takeSnapshot().health;
+	}
+
+	private Snapshot takeSnapshot() {
+
+		Health health;
+
+		try {
+			health = getDelegate().health();
+		}
+		catch (Exception cause) {
+			health = Health.down(cause).build();
+		}
+
+		Snapshot snapshot = new Snapshot(health, this.clock.millis());
+
+		this.snapshot = snapshot;
+
+		return snapshot;
+	}
+
+	@Override
+	public Health health() {
+
+		Snapshot snapshot = this.snapshot;
+
+		if (snapshot == null) {
+			snapshot = takeSnapshot();
+		}
+
+		long age = Math.max(0L, this.clock.millis() - snapshot.timestamp);
+
+		Health.Builder health = Health.status(snapshot.health.getStatus())
+			.withDetails(snapshot.health.getDetails())
+			.withDetail(SNAPSHOT_TIMESTAMP_DETAIL, snapshot.timestamp)
+			.withDetail(SNAPSHOT_AGE_DETAIL, age);
+
+		if (isStale(age)) {
+			health.status(Status.UNKNOWN).withDetail(SNAPSHOT_STALE_DETAIL, true);
+		}
+
+		return health.build();
+	}
+
+	private boolean isStale(long age) {
+
+		Duration maxStaleness = getMaxStaleness();
+
+		return !maxStaleness.isZero() && age > maxStaleness.toMillis();
+	}
+
+	private static final class Snapshot {
+
+		private final Health health;
+
+		private final long timestamp;
+
+		private Snapshot(Health health, long timestamp) {
+			this.health = health;
+			this.timestamp = timestamp;
+		}
+	}
+}
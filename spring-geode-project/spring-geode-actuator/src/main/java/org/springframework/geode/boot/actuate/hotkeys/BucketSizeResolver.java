@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotkeys;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link BucketSizeResolver} class is a utility class for resolving the largest {@link BucketRegion buckets},
+ * by number of entries, hosted by this member for a {@link PartitionedRegion}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.internal.cache.BucketRegion
+ * @see org.apache.geode.internal.cache.PartitionedRegion
+ * @since 2.0.0
+ */
+public abstract class BucketSizeResolver {
+
+	/**
+	 * Resolves the given number of largest local {@link BucketRegion buckets} of the given {@link Region}.
+	 *
+	 * Only the given number of {@link BucketSize BucketSizes} are retained while iterating the buckets.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @param limit maximum number of {@link BucketSize BucketSizes} to return.
+	 * @return a {@link List} of {@link BucketSize BucketSizes} ordered from the largest to the smallest bucket,
+	 * or an empty {@link List} if the {@link Region} is not a {@link PartitionedRegion} hosting data on this member.
+	 */
+	public static @NonNull List<BucketSize> resolveLargest(@Nullable Region<?, ?> region, int limit) {
+
+		Set<BucketRegion> bucketRegions = region instanceof PartitionedRegion partitionedRegion
+			? localBucketRegions(partitionedRegion)
+			: Collections.emptySet();
+
+		if (limit < 1 || bucketRegions.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		PriorityQueue<BucketSize> largestBuckets =
+			new PriorityQueue<>(limit + 1, Comparator.comparingLong(BucketSize::getEntries));
+
+		bucketRegions.stream()
+			.filter(Objects::nonNull)
+			.map(bucket -> new BucketSize(bucket.getId(), bucket.size()))
+			.forEach(bucketSize -> {
+
+				largestBuckets.offer(bucketSize);
+
+				if (largestBuckets.size() > limit) {
+					largestBuckets.poll();
+				}
+			});
+
+		List<BucketSize> result = new ArrayList<>(largestBuckets);
+
+		result.sort(Comparator.comparingLong(BucketSize::getEntries).reversed());
+
+		return result;
+	}
+
+	private static Set<BucketRegion> localBucketRegions(PartitionedRegion region) {
+
+		PartitionedRegionDataStore dataStore = region.getDataStore();
+
+		return dataStore != null ? dataStore.getAllLocalBucketRegions() : Collections.emptySet();
+	}
+
+	/**
+	 * The {@link BucketSize} class is an immutable value capturing the {@literal id} of a bucket
+	 * along with its number of entries.
+	 */
+	public static final class BucketSize {
+
+		private final int id;
+
+		private final long entries;
+
+		BucketSize(int id, long entries) {
+			this.id = id;
+			this.entries = entries;
+		}
+
+		public int getId() {
+			return this.id;
+		}
+
+		public long getEntries() {
+			return this.entries;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$d=%2$d", getId(), getEntries());
+		}
+	}
+}
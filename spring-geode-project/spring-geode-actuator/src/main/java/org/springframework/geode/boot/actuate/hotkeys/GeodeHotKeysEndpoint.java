@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotkeys;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.LocalDataSet;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.geode.boot.actuate.hotkeys.BucketSizeResolver.BucketSize;
+import org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch.HeavyHitter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring Boot Actuator {@link Endpoint} reporting the hottest {@link Object keys} and largest buckets
+ * of the {@link GemFireCache} {@link Region Regions} on this member.
+ *
+ * The hottest {@link Object keys} are reported for {@link Region Regions} having a {@link HotKeysCacheListener},
+ * by decayed, estimated number of creates and updates along with the recent rate per second. The largest buckets,
+ * by number of entries, are reported for {@literal PARTITION} {@link Region Regions} hosting data on this member.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @see org.springframework.geode.boot.actuate.hotkeys.BucketSizeResolver
+ * @see org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListener
+ * @since 2.0.0
+ */
+@Endpoint(id = GeodeHotKeysEndpoint.ENDPOINT_ID)
+public class GeodeHotKeysEndpoint {
+
+	public static final String ENDPOINT_ID = "geodehotkeys";
+
+	public static final int DEFAULT_BUCKET_LIMIT = 10;
+
+	private final GemFireCache gemfireCache;
+
+	private final int bucketLimit;
+
+	/**
+	 * Constructs a new instance of {@link GeodeHotKeysEndpoint} initialized with the {@link GemFireCache}
+	 * and reporting at most {@link #DEFAULT_BUCKET_LIMIT} buckets per {@link Region}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 */
+	public GeodeHotKeysEndpoint(@NonNull GemFireCache gemfireCache) {
+		this(gemfireCache, DEFAULT_BUCKET_LIMIT);
+	}
+
+	/**
+	 * Constructs a new instance of {@link GeodeHotKeysEndpoint} initialized with the {@link GemFireCache}
+	 * and the maximum number of buckets to report per {@link Region}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}; must not be {@literal null}.
+	 * @param bucketLimit maximum number of buckets to report per {@link Region}.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 */
+	public GeodeHotKeysEndpoint(@NonNull GemFireCache gemfireCache, int bucketLimit) {
+
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+
+		this.gemfireCache = gemfireCache;
+		this.bucketLimit = bucketLimit;
+	}
+
+	protected GemFireCache getGemFireCache() {
+		return this.gemfireCache;
+	}
+
+	protected int getBucketLimit() {
+		return this.bucketLimit;
+	}
+
+	/**
+	 * Reports the hottest {@link Object keys} and largest buckets of all {@link Region Regions}.
+	 *
+	 * @return a {@link Map} of {@link RegionHotKeysDescriptor} keyed by {@link Region#getFullPath() Region path}.
+	 */
+	@ReadOperation
+	public Map<String, RegionHotKeysDescriptor> hotKeys() {
+
+		Map<String, RegionHotKeysDescriptor> regions = new TreeMap<>();
+
+		getGemFireCache().rootRegions().stream()
+			.filter(Objects::nonNull)
+			.filter(region -> !(region instanceof LocalDataSet))
+			.forEach(region -> {
+
+				RegionHotKeysDescriptor descriptor = describe(region);
+
+				if (!descriptor.isEmpty()) {
+					regions.put(region.getFullPath(), descriptor);
+				}
+			});
+
+		return regions;
+	}
+
+	/**
+	 * Reports the hottest {@link Object keys} and largest buckets of the given {@link Region}.
+	 *
+	 * @param region {@link String} containing the name or path of the {@link Region}.
+	 * @return the {@link RegionHotKeysDescriptor} or {@literal null} if the {@link Region} does not exist.
+	 */
+	@ReadOperation
+	public @Nullable RegionHotKeysDescriptor regionHotKeys(@Selector String region) {
+
+		Region<?, ?> resolvedRegion = getGemFireCache().getRegion(region);
+
+		return resolvedRegion != null ? describe(resolvedRegion) : null;
+	}
+
+	/**
+	 * Resets the hottest {@link Object keys} of all {@link Region Regions}.
+	 */
+	@DeleteOperation
+	public void reset() {
+
+		getGemFireCache().rootRegions().stream()
+			.map(HotKeysCacheListenerRegistrar::findHotKeysCacheListener)
+			.forEach(cacheListener -> cacheListener.ifPresent(HotKeysCacheListener::reset));
+	}
+
+	private RegionHotKeysDescriptor describe(Region<?, ?> region) {
+
+		List<KeyDescriptor> keys = HotKeysCacheListenerRegistrar.findHotKeysCacheListener(region)
+			.map(cacheListener -> cacheListener.getSketch().getHeavyHitters().stream()
+				.map(heavyHitter -> KeyDescriptor.from(heavyHitter, cacheListener))
+				.collect(Collectors.toList()))
+			.orElseGet(Collections::emptyList);
+
+		List<BucketSize> buckets = BucketSizeResolver.resolveLargest(region, getBucketLimit());
+
+		return new RegionHotKeysDescriptor(keys, buckets);
+	}
+
+	/**
+	 * Description of the hottest {@link Object keys} and largest buckets of a {@link Region}.
+	 */
+	public static final class RegionHotKeysDescriptor {
+
+		private final List<KeyDescriptor> keys;
+
+		private final List<BucketSize> buckets;
+
+		RegionHotKeysDescriptor(List<KeyDescriptor> keys, List<BucketSize> buckets) {
+			this.keys = keys;
+			this.buckets = buckets;
+		}
+
+		public List<BucketSize> getBuckets() {
+			return this.buckets;
+		}
+
+		public List<KeyDescriptor> getKeys() {
+			return this.keys;
+		}
+
+		boolean isEmpty() {
+			return this.keys.isEmpty() && this.buckets.isEmpty();
+		}
+	}
+
+	/**
+	 * Description of a hot {@link Object key}.
+	 */
+	public static final class KeyDescriptor {
+
+		static KeyDescriptor from(HeavyHitter heavyHitter, HotKeysCacheListener<?, ?> cacheListener) {
+
+			return new KeyDescriptor(String.valueOf(heavyHitter.getKey()), heavyHitter.getCount(),
+				cacheListener.ratePerSecond(heavyHitter.getCount()));
+		}
+
+		private final String key;
+
+		private final long count;
+
+		private final double rate;
+
+		KeyDescriptor(String key, long count, double rate) {
+			this.key = key;
+			this.count = count;
+			this.rate = rate;
+		}
+
+		public long getCount() {
+			return this.count;
+		}
+
+		public String getKey() {
+			return this.key;
+		}
+
+		public double getRate() {
+			return this.rate;
+		}
+	}
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotkeys;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link HeavyHittersSketch} class is a bounded, concurrent data structure tracking the most frequently
+ * recorded keys (the {@literal heavy hitters}) in a stream of keys.
+ *
+ * Frequencies are estimated with a {@literal Count-Min} sketch of fixed {@literal depth} and {@literal width},
+ * which never under-estimates a frequency and is updated lock-free. Additionally, at most {@literal capacity}
+ * candidate keys with the highest estimates are retained. Therefore, the memory used by this sketch is constant
+ * regardless of how many distinct keys are recorded.
+ *
+ * Recording a key never blocks. When a key that is not a candidate out-ranks the least frequent candidate,
+ * the candidate is replaced only if no other {@link Thread} is currently replacing a candidate.
+ *
+ * All counters, candidate estimates and the total are halved once per {@literal decay interval} so that counts
+ * reflect recent traffic rather than the lifetime of this sketch. A key recorded {@literal n} decay intervals ago
+ * weighs {@literal 2^-n}, and a key that stops being written quickly loses its rank. Decay is applied lazily, when
+ * this sketch is next recorded to or read, so no background {@link Thread} is required. The length of time
+ * the decayed counts represent is returned by {@link #getWindow()}.
+ *
+ * @author John Blum
+ * @see java.time.Clock
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ * @since 2.0.0
+ */
+public class HeavyHittersSketch {
+
+	public static final int DEFAULT_CAPACITY = 10;
+	public static final int DEFAULT_DEPTH = 4;
+	public static final int DEFAULT_WIDTH = 2048;
+
+	public static final Duration DEFAULT_DECAY_INTERVAL = Duration.ofMinutes(1);
+
+	// Halving a long more than 63 times always yields 0.
+	private static final int MAX_DECAYS = Long.SIZE - 1;
+
+	private final AtomicLongArray counters;
+
+	private final Clock clock;
+
+	private final int capacity;
+	private final int depth;
+	private final int width;
+
+	private final LongAdder total = new LongAdder();
+
+	private final Map<Object, Long> candidates;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final long decayIntervalMillis;
+
+	private volatile int decays = 0;
+
+	private volatile long evictionThreshold = 0L;
+	private volatile long lastDecayTime;
+
+	/**
+	 * Constructs a new instance of {@link HeavyHittersSketch} using the {@link #DEFAULT_CAPACITY},
+	 * {@link #DEFAULT_DEPTH}, {@link #DEFAULT_WIDTH} and {@link #DEFAULT_DECAY_INTERVAL}.
+	 */
+	public HeavyHittersSketch() {
+		this(DEFAULT_CAPACITY, DEFAULT_DEPTH, DEFAULT_WIDTH);
+	}
+
+	/**
+	 * Constructs a new instance of {@link HeavyHittersSketch} initialized with the given number of heavy hitters
+	 * to track, along with the {@literal depth} and {@literal width} of the {@literal Count-Min} sketch.
+	 *
+	 * @param capacity maximum number of heavy hitter keys to track; must be greater than 0.
+	 * @param depth number of hash functions (rows) of the sketch; must be greater than 0.
+	 * @param width number of counters per row of the sketch; must be greater than 0.
+	 * @throws IllegalArgumentException if any argument is less than 1.
+	 * @see #HeavyHittersSketch(int, int, int, Duration, Clock)
+	 */
+	public HeavyHittersSketch(int capacity, int depth, int width) {
+		this(capacity, depth, width, DEFAULT_DECAY_INTERVAL, Clock.systemUTC());
+	}
+
+	/**
+	 * Constructs a new instance of {@link HeavyHittersSketch} initialized with the given number of heavy hitters
+	 * to track, the {@literal depth} and {@literal width} of the {@literal Count-Min} sketch, and the
+	 * {@link Duration interval} after which all counts are halved.
+	 *
+	 * @param capacity maximum number of heavy hitter keys to track; must be greater than 0.
+	 * @param depth number of hash functions (rows) of the sketch; must be greater than 0.
+	 * @param width number of counters per row of the sketch; must be greater than 0.
+	 * @param decayInterval {@link Duration} after which all counts are halved; {@link Duration#ZERO} disables decay
+	 * and counts are kept for the lifetime of the sketch; must not be {@literal null} or negative.
+	 * @param clock {@link Clock} used to decay counts; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@literal capacity}, {@literal depth} or {@literal width} is less than 1,
+	 * the {@link Duration decayInterval} is {@literal null} or negative, or the {@link Clock} is {@literal null}.
+	 */
+	public HeavyHittersSketch(int capacity, int depth, int width, @NonNull Duration decayInterval,
+			@NonNull Clock clock) {
+
+		Assert.isTrue(capacity > 0, () -> String.format("Capacity [%d] must be greater than 0", capacity));
+		Assert.isTrue(depth > 0, () -> String.format("Depth [%d] must be greater than 0", depth));
+		Assert.isTrue(width > 0, () -> String.format("Width [%d] must be greater than 0", width));
+		Assert.isTrue(decayInterval != null && !decayInterval.isNegative(),
+			() -> String.format("Decay interval [%s] must be greater than or equal to 0", decayInterval));
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.capacity = capacity;
+		this.depth = depth;
+		this.width = width;
+		this.decayIntervalMillis = decayInterval.toMillis();
+		this.clock = clock;
+		this.counters = new AtomicLongArray(Math.multiplyExact(depth, width));
+		this.candidates = new ConcurrentHashMap<>(capacity * 2);
+		this.lastDecayTime = clock.millis();
+	}
+
+	/**
+	 * Returns the maximum number of heavy hitter keys tracked by this sketch.
+	 *
+	 * @return the maximum number of heavy hitter keys tracked by this sketch.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which all counts are halved.
+	 *
+	 * @return the {@link Duration} after which all counts are halved; {@link Duration#ZERO} if decay is disabled.
+	 */
+	public @NonNull Duration getDecayInterval() {
+		return Duration.ofMillis(this.decayIntervalMillis);
+	}
+
+	/**
+	 * Returns the total, decayed number of keys recorded by this sketch.
+	 *
+	 * @return the total, decayed number of keys recorded by this sketch.
+	 * @see #getWindow()
+	 */
+	public long getTotal() {
+		decayIfNecessary();
+		return this.total.sum();
+	}
+
+	/**
+	 * Returns the length of time represented by the decayed counts, which is the time since the last decay plus
+	 * the {@link #getDecayInterval() decay interval} weighted by the halvings that have occurred, or the time since
+	 * this sketch was created or last {@link #reset()} if decay is disabled.
+	 *
+	 * Dividing a count by this window yields the recent rate of a key written at a steady rate.
+	 *
+	 * @return the length of time represented by the decayed counts.
+	 */
+	public @NonNull Duration getWindow() {
+
+		decayIfNecessary();
+
+		long sinceLastDecay = Math.max(0L, this.clock.millis() - this.lastDecayTime);
+
+		double decayedWindow = this.decayIntervalMillis * (1.0d - Math.pow(2.0d, -this.decays));
+
+		return Duration.ofMillis(sinceLastDecay + Math.round(decayedWindow));
+	}
+
+	/**
+	 * Records an occurrence of the given {@link Object key}.
+	 *
+	 * @param key {@link Object key} to record; must not be {@literal null}.
+	 * @return the estimated number of occurrences of the given {@link Object key}.
+	 * @throws IllegalArgumentException if {@link Object key} is {@literal null}.
+	 */
+	public long record(@NonNull Object key) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		decayIfNecessary();
+
+		this.total.increment();
+
+		int hash = mix(key.hashCode());
+		int step = mix(hash ^ 0x5BD1E995) | 1;
+
+		long estimate = Long.MAX_VALUE;
+
+		for (int row = 0; row < this.depth; row++) {
+			estimate = Math.min(estimate, this.counters.incrementAndGet(index(row, hash, step)));
+		}
+
+		if (this.candidates.containsKey(key) || this.candidates.size() < this.capacity) {
+			this.candidates.put(key, estimate);
+			evictWhenOverCapacity();
+		}
+		else if (estimate > this.evictionThreshold) {
+			evictWhenOutranked(key, estimate);
+		}
+
+		return estimate;
+	}
+
+	/**
+	 * Returns the estimated, decayed number of occurrences of the given {@link Object key}.
+	 *
+	 * @param key {@link Object key} to evaluate; must not be {@literal null}.
+	 * @return the estimated number of occurrences of the given {@link Object key}.
+	 * @throws IllegalArgumentException if {@link Object key} is {@literal null}.
+	 */
+	public long estimate(@NonNull Object key) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		decayIfNecessary();
+
+		int hash = mix(key.hashCode());
+		int step = mix(hash ^ 0x5BD1E995) | 1;
+
+		long estimate = Long.MAX_VALUE;
+
+		for (int row = 0; row < this.depth; row++) {
+			estimate = Math.min(estimate, this.counters.get(index(row, hash, step)));
+		}
+
+		return estimate;
+	}
+
+	/**
+	 * Returns the tracked heavy hitters ordered from the most to the least frequent key.
+	 *
+	 * @return a {@link List} of {@link HeavyHitter HeavyHitters} ordered by descending frequency.
+	 * @see HeavyHitter
+	 */
+	public @NonNull List<HeavyHitter> getHeavyHitters() {
+
+		decayIfNecessary();
+
+		return this.candidates.keySet().stream()
+			.map(key -> new HeavyHitter(key, estimate(key)))
+			.sorted(Comparator.comparingLong(HeavyHitter::getCount).reversed())
+			.limit(this.capacity)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Resets this sketch, forgetting all recorded keys.
+	 */
+	public void reset() {
+
+		this.evictionLock.lock();
+
+		try {
+
+			for (int index = 0, length = this.counters.length(); index < length; index++) {
+				this.counters.set(index, 0L);
+			}
+
+			this.candidates.clear();
+			this.decays = 0;
+			this.evictionThreshold = 0L;
+			this.lastDecayTime = this.clock.millis();
+			this.total.reset();
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Halves all counters, candidate estimates and the total once for every {@link #getDecayInterval() decay interval}
+	 * elapsed since the last decay.
+	 *
+	 * The decay is skipped, and retried on the next call, if another {@link Thread} is currently replacing
+	 * a candidate, so that recording a key never blocks.
+	 */
+	protected void decayIfNecessary() {
+
+		long decayIntervalMillis = this.decayIntervalMillis;
+
+		if (decayIntervalMillis > 0L && this.clock.millis() - this.lastDecayTime >= decayIntervalMillis
+				&& this.evictionLock.tryLock()) {
+
+			try {
+
+				long intervals = (this.clock.millis() - this.lastDecayTime) / decayIntervalMillis;
+
+				if (intervals > 0L) {
+
+					int shift = (int) Math.min(intervals, MAX_DECAYS);
+
+					for (int index = 0, length = this.counters.length(); index < length; index++) {
+						this.counters.getAndUpdate(index, count -> count >>> shift);
+					}
+
+					this.candidates.replaceAll((key, estimate) -> estimate >>> shift);
+					this.candidates.values().removeIf(estimate -> estimate == 0L);
+					this.evictionThreshold >>>= shift;
+
+					long total = this.total.sum();
+
+					this.total.add((total >>> shift) - total);
+
+					this.decays = (int) Math.min(this.decays + intervals, MAX_DECAYS);
+					this.lastDecayTime += intervals * decayIntervalMillis;
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	private void evictWhenOverCapacity() {
+
+		if (this.candidates.size() > this.capacity && this.evictionLock.tryLock()) {
+			try {
+				while (this.candidates.size() > this.capacity) {
+					this.candidates.remove(leastFrequentCandidate().getKey());
+				}
+
+				this.evictionThreshold = leastFrequentCandidate().getValue();
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	private void evictWhenOutranked(Object key, long estimate) {
+
+		if (this.evictionLock.tryLock()) {
+			try {
+
+				Map.Entry<Object, Long> leastFrequentCandidate = leastFrequentCandidate();
+
+				if (leastFrequentCandidate == null || estimate > leastFrequentCandidate.getValue()) {
+
+					if (leastFrequentCandidate != null) {
+						this.candidates.remove(leastFrequentCandidate.getKey());
+					}
+
+					this.candidates.put(key, estimate);
+
+					leastFrequentCandidate = leastFrequentCandidate();
+				}
+
+				this.evictionThreshold = leastFrequentCandidate != null ? leastFrequentCandidate.getValue() : 0L;
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	private Map.Entry<Object, Long> leastFrequentCandidate() {
+
+		return this.candidates.entrySet().stream()
+			.min(Map.Entry.comparingByValue())
+			.orElse(null);
+	}
+
+	private int index(int row, int hash, int step) {
+		return row * this.width + Math.floorMod(hash + row * step, this.width);
+	}
+
+	// Finalizer of the MurmurHash3 32-bit hash function.
+	private static int mix(int hash) {
+
+		hash ^= hash >>> 16;
+		hash *= 0x85EBCA6B;
+		hash ^= hash >>> 13;
+		hash *= 0xC2B2AE35;
+		hash ^= hash >>> 16;
+
+		return hash;
+	}
+
+	/**
+	 * The {@link HeavyHitter} class is an immutable value capturing a frequently recorded {@link Object key}
+	 * along with its estimated {@literal count}.
+	 */
+	public static final class HeavyHitter {
+
+		private final Object key;
+
+		private final long count;
+
+		HeavyHitter(Object key, long count) {
+			this.key = key;
+			this.count = count;
+		}
+
+		public Object getKey() {
+			return this.key;
+		}
+
+		public long getCount() {
+			return this.count;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s=%2$d", getKey(), getCount());
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotkeys;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+
+import org.springframework.geode.cache.AbstractCommonEventProcessingCacheListener;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link HotKeysCacheListener} class is an Apache Geode {@link CacheListener} recording the {@link Object keys}
+ * of all entries created or updated in a {@link Region} in a bounded {@link HeavyHittersSketch}.
+ *
+ * The {@link HeavyHittersSketch} is reset when the {@link Region} is cleared. Since the sketch periodically decays
+ * its counts, rates are computed over the {@link HeavyHittersSketch#getWindow() window} the decayed counts represent
+ * and therefore reflect recent traffic.
+ *
+ * @author John Blum
+ * @see java.time.Clock
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch
+ * @see org.springframework.geode.cache.AbstractCommonEventProcessingCacheListener
+ * @since 2.0.0
+ */
+public class HotKeysCacheListener<K, V> extends AbstractCommonEventProcessingCacheListener<K, V> {
+
+	private final Clock clock;
+
+	private final HeavyHittersSketch sketch;
+
+	private volatile Instant since;
+
+	/**
+	 * Constructs a new instance of {@link HotKeysCacheListener} initialized with the given {@link HeavyHittersSketch}.
+	 *
+	 * @param sketch {@link HeavyHittersSketch} used to record {@link Object keys}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link HeavyHittersSketch} is {@literal null}.
+	 * @see #HotKeysCacheListener(HeavyHittersSketch, Clock)
+	 */
+	public HotKeysCacheListener(@NonNull HeavyHittersSketch sketch) {
+		this(sketch, Clock.systemUTC());
+	}
+
+	/**
+	 * Constructs a new instance of {@link HotKeysCacheListener} initialized with the given {@link HeavyHittersSketch}
+	 * and {@link Clock}.
+	 *
+	 * @param sketch {@link HeavyHittersSketch} used to record {@link Object keys}; must not be {@literal null}.
+	 * @param clock {@link Clock} used to compute rates; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link HeavyHittersSketch} or {@link Clock} is {@literal null}.
+	 */
+	public HotKeysCacheListener(@NonNull HeavyHittersSketch sketch, @NonNull Clock clock) {
+
+		Assert.notNull(sketch, "HeavyHittersSketch must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.sketch = sketch;
+		this.clock = clock;
+		this.since = clock.instant();
+	}
+
+	/**
+	 * Returns the {@link HeavyHittersSketch} recording the {@link Object keys}.
+	 *
+	 * @return the {@link HeavyHittersSketch} recording the {@link Object keys}.
+	 */
+	public @NonNull HeavyHittersSketch getSketch() {
+		return this.sketch;
+	}
+
+	/**
+	 * Returns the {@link Instant} since which {@link Object keys} have been recorded.
+	 *
+	 * @return the {@link Instant} since which {@link Object keys} have been recorded.
+	 */
+	public @NonNull Instant getSince() {
+		return this.since;
+	}
+
+	/**
+	 * Returns the {@link Duration} since {@link Object keys} started being recorded.
+	 *
+	 * @return the {@link Duration} since {@link Object keys} started being recorded.
+	 */
+	public @NonNull Duration getElapsedTime() {
+		return Duration.between(getSince(), this.clock.instant());
+	}
+
+	/**
+	 * Computes the recent rate per second of the given, decayed {@literal count} over
+	 * the {@link HeavyHittersSketch#getWindow() window} represented by the {@link HeavyHittersSketch} counts.
+	 *
+	 * @param count decayed number of occurrences reported by the {@link HeavyHittersSketch}.
+	 * @return the recent rate per second.
+	 * @see HeavyHittersSketch#getWindow()
+	 */
+	public double ratePerSecond(long count) {
+
+		long windowMillis = getSketch().getWindow().toMillis();
+
+		return windowMillis > 0L ? count * 1000.0d / windowMillis : 0.0d;
+	}
+
+	/**
+	 * Resets the {@link HeavyHittersSketch} and restarts the recording period.
+	 */
+	public void reset() {
+		getSketch().reset();
+		this.since = this.clock.instant();
+	}
+
+	@Override
+	protected void processEntryEvent(@NonNull EntryEvent<K, V> event, @NonNull EntryEventType eventType) {
+
+		if (EntryEventType.CREATE.equals(eventType) || EntryEventType.UPDATE.equals(eventType)) {
+
+			K key = event.getKey();
+
+			if (key != null) {
+				getSketch().record(key);
+			}
+		}
+	}
+
+	@Override
+	protected void processRegionEvent(@NonNull RegionEvent<K, V> event, @NonNull RegionEventType eventType) {
+
+		if (RegionEventType.CLEAR.equals(eventType)) {
+			reset();
+		}
+	}
+}
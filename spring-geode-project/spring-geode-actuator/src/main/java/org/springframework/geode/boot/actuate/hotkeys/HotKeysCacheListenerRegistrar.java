@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotkeys;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.internal.cache.LocalDataSet;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link HotKeysCacheListenerRegistrar} class registers a {@link HotKeysCacheListener} on {@link Region Regions}
+ * of the {@link GemFireCache} once all Spring singleton beans, including {@link Region} beans, have been created.
+ *
+ * Each {@link Region} gets its own {@link HotKeysCacheListener} and {@link HeavyHittersSketch}. {@link Region Regions}
+ * already having a {@link HotKeysCacheListener} are left as is, so {@link #register()} can safely be called again
+ * to track {@link Region Regions} created later.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.beans.factory.SmartInitializingSingleton
+ * @see org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch
+ * @see org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListener
+ * @since 2.0.0
+ */
+public class HotKeysCacheListenerRegistrar implements SmartInitializingSingleton {
+
+	/**
+	 * Finds the {@link HotKeysCacheListener} registered on the given {@link Region}.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return an {@link Optional} {@link HotKeysCacheListener} registered on the given {@link Region}.
+	 */
+	public static Optional<HotKeysCacheListener<?, ?>> findHotKeysCacheListener(@Nullable Region<?, ?> region) {
+
+		CacheListener<?, ?>[] cacheListeners = Optional.ofNullable(region)
+			.map(Region::getAttributes)
+			.map(RegionAttributes::getCacheListeners)
+			.orElse(null);
+
+		return cacheListeners != null
+			? Arrays.stream(cacheListeners)
+				.filter(HotKeysCacheListener.class::isInstance)
+				.<HotKeysCacheListener<?, ?>>map(HotKeysCacheListener.class::cast)
+				.findFirst()
+			: Optional.empty();
+	}
+
+	private final GemFireCache gemfireCache;
+
+	private final Set<String> regionNames;
+
+	private final Supplier<HeavyHittersSketch> sketchSupplier;
+
+	/**
+	 * Constructs a new instance of {@link HotKeysCacheListenerRegistrar} initialized with the {@link GemFireCache},
+	 * the names of the {@link Region Regions} to track and a {@link Supplier} of {@link HeavyHittersSketch sketches}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}; must not be {@literal null}.
+	 * @param regionNames {@link Set} of {@link Region} names or paths to track; all {@link Region Regions}
+	 * are tracked when {@literal null} or empty.
+	 * @param sketchSupplier {@link Supplier} of a new {@link HeavyHittersSketch} per {@link Region};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemFireCache} or {@link Supplier} is {@literal null}.
+	 */
+	public HotKeysCacheListenerRegistrar(@NonNull GemFireCache gemfireCache, @Nullable Set<String> regionNames,
+			@NonNull Supplier<HeavyHittersSketch> sketchSupplier) {
+
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+		Assert.notNull(sketchSupplier, "Supplier of HeavyHittersSketch must not be null");
+
+		this.gemfireCache = gemfireCache;
+		this.regionNames = regionNames != null ? Collections.unmodifiableSet(regionNames) : Collections.emptySet();
+		this.sketchSupplier = sketchSupplier;
+	}
+
+	protected GemFireCache getGemFireCache() {
+		return this.gemfireCache;
+	}
+
+	protected Set<String> getRegionNames() {
+		return this.regionNames;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		register();
+	}
+
+	/**
+	 * Registers a {@link HotKeysCacheListener} on all tracked {@link Region Regions} that do not have one yet.
+	 */
+	public void register() {
+
+		getGemFireCache().rootRegions().stream()
+			.filter(Objects::nonNull)
+			.filter(region -> !(region instanceof LocalDataSet))
+			.filter(this::isTracked)
+			.filter(region -> findHotKeysCacheListener(region).isEmpty())
+			.forEach(this::register);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void register(Region<?, ?> region) {
+		region.getAttributesMutator().addCacheListener(new HotKeysCacheListener(this.sketchSupplier.get()));
+	}
+
+	private boolean isTracked(Region<?, ?> region) {
+
+		Set<String> regionNames = getRegionNames();
+
+		return regionNames.isEmpty()
+			|| regionNames.contains(region.getName())
+			|| regionNames.contains(region.getFullPath());
+	}
+}
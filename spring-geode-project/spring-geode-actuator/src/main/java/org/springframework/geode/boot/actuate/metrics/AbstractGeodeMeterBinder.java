@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link AbstractGeodeMeterBinder} class is an abstract base class encapsulating functionality common to all
+ * Apache Geode Micrometer {@link MeterBinder MeterBinders}.
+ *
+ * Spring Boot may bind {@link MeterBinder MeterBinders} to a {@link MeterRegistry} before all Apache Geode objects
+ * (e.g. {@literal Regions} or {@literal Indexes}) have been created. Therefore, each {@link MeterRegistry}
+ * this {@link MeterBinder} is bound to is remembered and bound again once the Spring {@link ContextRefreshedEvent
+ * context is refreshed}. Micrometer returns the existing {@literal Meter} when a {@literal Meter} with the same
+ * name and tags is registered more than once, so binding again only registers new {@literal Meters}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.context.event.ContextRefreshedEvent
+ * @since 2.0.0
+ */
+public abstract class AbstractGeodeMeterBinder implements ApplicationListener<ContextRefreshedEvent>, MeterBinder {
+
+	protected static final String METER_NAME_PREFIX = "geode";
+
+	private final GemFireCache gemfireCache;
+
+	private final Set<MeterRegistry> meterRegistries = new CopyOnWriteArraySet<>();
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link AbstractGeodeMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public AbstractGeodeMeterBinder() {
+		this.gemfireCache = null;
+	}
+
+	/**
+	 * Constructs an instance of the {@link AbstractGeodeMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public AbstractGeodeMeterBinder(@NonNull GemFireCache gemfireCache) {
+
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+
+		this.gemfireCache = gemfireCache;
+	}
+
+	/**
+	 * Returns a reference to the {@link GemFireCache} instance.
+	 *
+	 * @return a reference to the {@link GemFireCache} instance.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	protected Optional<GemFireCache> getGemFireCache() {
+		return Optional.ofNullable(this.gemfireCache);
+	}
+
+	/**
+	 * Returns the {@link Set} of {@link MeterRegistry MeterRegistries} this {@link MeterBinder} has been bound to.
+	 *
+	 * @return the {@link Set} of {@link MeterRegistry MeterRegistries} this {@link MeterBinder} has been bound to.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	protected Set<MeterRegistry> getMeterRegistries() {
+		return this.meterRegistries;
+	}
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null");
+
+		this.meterRegistries.add(registry);
+
+		doBindTo(registry);
+	}
+
+	/**
+	 * Binds any Apache Geode objects created after this {@link MeterBinder} was first bound
+	 * to the {@link MeterRegistry MeterRegistries}.
+	 *
+	 * @param event {@link ContextRefreshedEvent} signaling all Spring beans have been initialized.
+	 * @see org.springframework.context.event.ContextRefreshedEvent
+	 * @see #doBindTo(MeterRegistry)
+	 */
+	@Override
+	public void onApplicationEvent(@NonNull ContextRefreshedEvent event) {
+		getMeterRegistries().forEach(this::doBindTo);
+	}
+
+	/**
+	 * Registers {@literal Meters} for the Apache Geode objects currently known to this {@link MeterBinder}
+	 * with the given {@link MeterRegistry}.
+	 *
+	 * @param registry {@link MeterRegistry} with which to register {@literal Meters}; never {@literal null}.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	protected abstract void doBindTo(@NonNull MeterRegistry registry);
+
+	/**
+	 * Builds a {@link String Meter name} prefixed with {@literal geode}.
+	 *
+	 * @param suffix {@link String} containing the remainder of the {@link String Meter name}.
+	 * @return the {@link String Meter name}.
+	 */
+	protected String meterName(String suffix) {
+		return String.format("%1$s.%2$s", METER_NAME_PREFIX, suffix);
+	}
+
+	/**
+	 * Converts the given {@link String value} into a non-{@literal null} {@literal Tag} value.
+	 *
+	 * @param value {@link String} to convert.
+	 * @return the given {@link String value} if it has text, otherwise {@literal none}.
+	 */
+	protected String tagValue(@Nullable String value) {
+		return StringUtils.hasText(value) ? value : "none";
+	}
+}
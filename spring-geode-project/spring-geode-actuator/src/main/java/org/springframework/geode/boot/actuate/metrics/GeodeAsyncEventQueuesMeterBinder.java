@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeAsyncEventQueuesMeterBinder} class is a Micrometer {@link MeterBinder} registering {@literal Meters}
+ * for the peer {@link Cache} {@link AsyncEventQueue AsyncEventQueues}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeAsyncEventQueuesMeterBinder extends AbstractGeodeMeterBinder {
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeAsyncEventQueuesMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeAsyncEventQueuesMeterBinder() { }
+
+	/**
+	 * Constructs an instance of the {@link GeodeAsyncEventQueuesMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeAsyncEventQueuesMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		Set<AsyncEventQueue> asyncEventQueues = getGemFireCache()
+			.filter(CacheUtils::isPeer)
+			.map(Cache.class::cast)
+			.map(Cache::getAsyncEventQueues)
+			.orElseGet(Collections::emptySet);
+
+		asyncEventQueues.stream()
+			.filter(Objects::nonNull)
+			.forEach(asyncEventQueue -> {
+
+				Tags tags = Tags.of("queue", asyncEventQueue.getId(),
+					"parallel", String.valueOf(asyncEventQueue.isParallel()));
+
+				Gauge.builder(meterName("async-event-queue.size"), asyncEventQueue, AsyncEventQueue::size)
+					.description("Number of events waiting in the AsyncEventQueue to be processed")
+					.tags(tags)
+					.register(registry);
+
+				Gauge.builder(meterName("async-event-queue.primary"), asyncEventQueue,
+						it -> it.isPrimary() ? 1.0d : 0.0d)
+					.description("Whether this member hosts the primary AsyncEventQueue (1) or not (0)")
+					.tags(tags)
+					.register(registry);
+			});
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerMetrics;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeCacheServersMeterBinder} class is a Micrometer {@link MeterBinder} registering {@literal Meters}
+ * for the peer {@link Cache} {@link CacheServer CacheServers}.
+ *
+ * {@link ServerMetrics} and {@link ServerLoad} are only available when the {@link CacheServer CacheServer's}
+ * {@literal ServerLoadProbe} has been wrapped by the {@link ActuatorServerLoadProbeWrapper}, which is the case
+ * when the Spring Boot Actuator for Apache Geode health indicators are auto-configured. Until the first load poll,
+ * the {@literal Gauges} report {@literal NaN}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.server.CacheServer
+ * @see org.apache.geode.cache.server.ServerLoad
+ * @see org.apache.geode.cache.server.ServerMetrics
+ * @see org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeCacheServersMeterBinder extends AbstractGeodeMeterBinder {
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeCacheServersMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeCacheServersMeterBinder() { }
+
+	/**
+	 * Constructs an instance of the {@link GeodeCacheServersMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeCacheServersMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		List<CacheServer> cacheServers = getGemFireCache()
+			.filter(CacheUtils::isPeer)
+			.map(Cache.class::cast)
+			.map(Cache::getCacheServers)
+			.orElseGet(Collections::emptyList);
+
+		cacheServers.stream()
+			.filter(Objects::nonNull)
+			.forEach(cacheServer -> bindCacheServer(cacheServer, registry));
+	}
+
+	private void bindCacheServer(CacheServer cacheServer, MeterRegistry registry) {
+
+		Tags tags = Tags.of("port", String.valueOf(cacheServer.getPort()));
+
+		Gauge.builder(meterName("cache.server.clients"), cacheServer, serverMetric(ServerMetrics::getClientCount))
+			.description("Number of clients connected to the CacheServer")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("cache.server.connections"), cacheServer,
+				serverMetric(ServerMetrics::getConnectionCount))
+			.description("Number of client connections open to the CacheServer")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("cache.server.connections.max"), cacheServer, CacheServer::getMaxConnections)
+			.description("Maximum number of client connections allowed by the CacheServer")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("cache.server.subscription.connections"), cacheServer,
+				serverMetric(ServerMetrics::getSubscriptionConnectionCount))
+			.description("Number of client subscription connections open to the CacheServer")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("cache.server.load.connection"), cacheServer,
+				serverLoad(ServerLoad::getConnectionLoad))
+			.description("Connection load reported by the CacheServer to the Locators")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("cache.server.load.subscription"), cacheServer,
+				serverLoad(ServerLoad::getSubscriptionConnectionLoad))
+			.description("Subscription connection load reported by the CacheServer to the Locators")
+			.tags(tags)
+			.register(registry);
+	}
+
+	private Optional<ActuatorServerLoadProbeWrapper> resolveLoadProbe(CacheServer cacheServer) {
+
+		return Optional.ofNullable(cacheServer.getLoadProbe())
+			.filter(ActuatorServerLoadProbeWrapper.class::isInstance)
+			.map(ActuatorServerLoadProbeWrapper.class::cast);
+	}
+
+	private ToDoubleFunction<CacheServer> serverLoad(ToDoubleFunction<ServerLoad> serverLoadFunction) {
+
+		return cacheServer -> resolveLoadProbe(cacheServer)
+			.flatMap(ActuatorServerLoadProbeWrapper::getCurrentServerLoad)
+			.map(serverLoadFunction::applyAsDouble)
+			.orElse(Double.NaN);
+	}
+
+	private ToDoubleFunction<CacheServer> serverMetric(ToDoubleFunction<ServerMetrics> serverMetricsFunction) {
+
+		return cacheServer -> resolveLoadProbe(cacheServer)
+			.flatMap(ActuatorServerLoadProbeWrapper::getCurrentServerMetrics)
+			.map(serverMetricsFunction::applyAsDouble)
+			.orElse(Double.NaN);
+	}
+}
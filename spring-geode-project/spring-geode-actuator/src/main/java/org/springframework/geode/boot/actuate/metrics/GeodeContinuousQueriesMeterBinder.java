@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker;
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTrackerRegistrar;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeContinuousQueriesMeterBinder} class is a Micrometer {@link MeterBinder} registering
+ * {@literal Meters} for the {@link CqQuery Continuous Queries} tracked by a {@link ContinuousQueryEventTracker}.
+ *
+ * For each {@link CqQuery}, the number of events received, the time the application listener takes to handle
+ * an event, the number of events waiting to be handled and the lag between an event being received and
+ * being handled are bound.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.FunctionCounter
+ * @see io.micrometer.core.instrument.FunctionTimer
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.TimeGauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.query.CqQuery
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeContinuousQueriesMeterBinder extends AbstractGeodeMeterBinder {
+
+	private final ContinuousQueryListenerContainer continuousQueryListenerContainer;
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeContinuousQueriesMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeContinuousQueriesMeterBinder() {
+		this.continuousQueryListenerContainer = null;
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeContinuousQueriesMeterBinder} initialized with a reference to
+	 * the {@link ContinuousQueryListenerContainer}.
+	 *
+	 * @param continuousQueryListenerContainer reference to the SDG {@link ContinuousQueryListenerContainer}.
+	 * @throws IllegalArgumentException if {@link ContinuousQueryListenerContainer} is {@literal null}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+	 */
+	public GeodeContinuousQueriesMeterBinder(ContinuousQueryListenerContainer continuousQueryListenerContainer) {
+
+		Assert.notNull(continuousQueryListenerContainer, "ContinuousQueryListenerContainer must not be null");
+
+		this.continuousQueryListenerContainer = continuousQueryListenerContainer;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link ContinuousQueryListenerContainer}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link ContinuousQueryListenerContainer}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+	 * @see java.util.Optional
+	 */
+	protected Optional<ContinuousQueryListenerContainer> getContinuousQueryListenerContainer() {
+		return Optional.ofNullable(this.continuousQueryListenerContainer);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		getContinuousQueryListenerContainer()
+			.map(ContinuousQueryListenerContainer::getQueryService)
+			.map(QueryService::getCqs)
+			.map(Arrays::stream)
+			.ifPresent(continuousQueries -> continuousQueries
+				.filter(Objects::nonNull)
+				.forEach(continuousQuery -> ContinuousQueryEventTrackerRegistrar.findEventTracker(continuousQuery)
+					.ifPresent(tracker -> bindContinuousQuery(tracker, registry))));
+	}
+
+	private void bindContinuousQuery(ContinuousQueryEventTracker tracker, MeterRegistry registry) {
+
+		Tags tags = Tags.of("cq", tracker.getName());
+
+		FunctionCounter.builder(meterName("cq.events"), tracker, ContinuousQueryEventTracker::getEventCount)
+			.description("Number of events received by the Continuous Query")
+			.tags(tags)
+			.register(registry);
+
+		FunctionTimer.builder(meterName("cq.events.lag"), tracker, ContinuousQueryEventTracker::getLagCount,
+				it -> it.getLagTotal(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+			.description("Number and total time of events waiting between being received and being handled")
+			.tags(tags)
+			.register(registry);
+
+		TimeGauge.builder(meterName("cq.events.lag.current"), tracker, TimeUnit.NANOSECONDS,
+				it -> it.getCurrentLag(TimeUnit.NANOSECONDS))
+			.description("Age of the oldest event of the Continuous Query not yet being handled")
+			.tags(tags)
+			.register(registry);
+
+		FunctionTimer.builder(meterName("cq.listener.processing"), tracker,
+				ContinuousQueryEventTracker::getProcessedCount,
+				it -> it.getProcessingTotal(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+			.description("Number and total time of events handled by the Continuous Query listener")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("cq.listener.queue"), tracker, ContinuousQueryEventTracker::getPendingCount)
+			.description("Number of events of the Continuous Query waiting to be handled")
+			.tags(tags)
+			.register(registry);
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsResolver;
+import org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsResolver.DiskStoreStatistics;
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeDiskStoresMeterBinder} class is a Micrometer {@link MeterBinder} registering {@literal Meters}
+ * for the {@link GemFireCache} {@link DiskStore DiskStores}.
+ *
+ * For each {@link DiskStore}, tagged by {@literal disk.store} name, the number, total time and bytes of writes,
+ * reads and flushes, the size of the asynchronous write queue, the number of oplogs, compaction progress
+ * and disk usage are bound. Apache Geode only records times when {@literal enable-time-statistics}
+ * is {@literal true}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.FunctionCounter
+ * @see io.micrometer.core.instrument.FunctionTimer
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.DiskStore
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsResolver
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeDiskStoresMeterBinder extends AbstractGeodeMeterBinder {
+
+	// Micrometer only weakly references the objects it measures.
+	private final Map<String, DiskStoreStatistics> diskStoreStatistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeDiskStoresMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeDiskStoresMeterBinder() { }
+
+	/**
+	 * Constructs an instance of the {@link GeodeDiskStoresMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeDiskStoresMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		getGemFireCache().ifPresent(gemfireCache -> DiskStoreStatisticsResolver.resolveAll(gemfireCache)
+			.forEach((diskStoreName, statistics) -> bindDiskStore(gemfireCache.findDiskStore(diskStoreName),
+				this.diskStoreStatistics.merge(diskStoreName, statistics,
+					(current, resolved) -> current.isClosed() ? resolved : current), registry)));
+	}
+
+	private void bindDiskStore(DiskStore diskStore, DiskStoreStatistics statistics, MeterRegistry registry) {
+
+		Tags tags = Tags.of("disk.store", statistics.getName());
+
+		bindOperation("writes", "Number and total time of writes to disk",
+			DiskStoreStatistics::getWrites, DiskStoreStatistics::getWriteTime, statistics, tags, registry);
+
+		bindOperation("reads", "Number and total time of reads from disk",
+			DiskStoreStatistics::getReads, DiskStoreStatistics::getReadTime, statistics, tags, registry);
+
+		bindOperation("flushes", "Number and total time of asynchronous write queue flushes to disk",
+			DiskStoreStatistics::getFlushes, DiskStoreStatistics::getFlushTime, statistics, tags, registry);
+
+		bindOperation("compactions", "Number and total time of oplog compactions",
+			DiskStoreStatistics::getCompactions, DiskStoreStatistics::getCompactionTime, statistics, tags, registry);
+
+		bindBytes("write.bytes", "Number of bytes written to disk",
+			DiskStoreStatistics::getBytesWritten, statistics, tags, registry);
+
+		bindBytes("read.bytes", "Number of bytes read from disk",
+			DiskStoreStatistics::getBytesRead, statistics, tags, registry);
+
+		bindBytes("flush.bytes", "Number of bytes flushed from the asynchronous write queue to disk",
+			DiskStoreStatistics::getBytesFlushed, statistics, tags, registry);
+
+		Gauge.builder(meterName("disk-store.queue.size"), statistics, statistic(DiskStoreStatistics::getQueueSize))
+			.description("Number of entries waiting in the asynchronous write queue to be written to disk")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("disk-store.compactions.active"), statistics,
+				statistic(DiskStoreStatistics::getCompactionsInProgress))
+			.description("Number of oplog compactions in progress")
+			.tags(tags)
+			.register(registry);
+
+		bindOplogs("open", DiskStoreStatistics::getOpenOplogs, statistics, tags, registry);
+		bindOplogs("compactable", DiskStoreStatistics::getCompactableOplogs, statistics, tags, registry);
+		bindOplogs("inactive", DiskStoreStatistics::getInactiveOplogs, statistics, tags, registry);
+
+		if (diskStore != null) {
+			Gauge.builder(meterName("disk-store.usage"), diskStore, DiskStoreStatisticsResolver::resolveDiskUsagePercentage)
+				.description("Percentage of disk space used on the most used file system of the DiskStore")
+				.baseUnit(BaseUnits.PERCENT)
+				.tags(tags)
+				.register(registry);
+		}
+	}
+
+	private void bindBytes(String name, String description, ToLongFunction<DiskStoreStatistics> bytesFunction,
+			DiskStoreStatistics statistics, Tags tags, MeterRegistry registry) {
+
+		FunctionCounter.builder(meterName("disk-store." + name), statistics, statistic(bytesFunction))
+			.description(description)
+			.baseUnit(BaseUnits.BYTES)
+			.tags(tags)
+			.register(registry);
+	}
+
+	private void bindOperation(String name, String description, ToLongFunction<DiskStoreStatistics> countFunction,
+			TimeFunction timeFunction, DiskStoreStatistics statistics, Tags tags, MeterRegistry registry) {
+
+		FunctionTimer.builder(meterName("disk-store." + name), statistics, countFunction,
+				it -> timeFunction.getTime(it, TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+			.description(description)
+			.tags(tags)
+			.register(registry);
+	}
+
+	private void bindOplogs(String state, ToLongFunction<DiskStoreStatistics> oplogsFunction,
+			DiskStoreStatistics statistics, Tags tags, MeterRegistry registry) {
+
+		Gauge.builder(meterName("disk-store.oplogs"), statistics, statistic(oplogsFunction))
+			.description("Number of oplogs of the DiskStore by state")
+			.tags(tags.and("state", state))
+			.register(registry);
+	}
+
+	private ToDoubleFunction<DiskStoreStatistics> statistic(ToLongFunction<DiskStoreStatistics> statisticFunction) {
+		return statistics -> statistics.isClosed() ? Double.NaN : statisticFunction.applyAsLong(statistics);
+	}
+
+	@FunctionalInterface
+	private interface TimeFunction {
+		double getTime(DiskStoreStatistics statistics, TimeUnit timeUnit);
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Optional;
+
+import org.springframework.geode.function.support.FunctionResultCache;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeFunctionResultCacheMeterBinder} class is a Micrometer {@link MeterBinder} registering
+ * {@literal Meters} for the {@link FunctionResultCache.Statistics} of the {@link FunctionResultCache} caching
+ * the results of {@link org.apache.geode.cache.execute.Function} executions.
+ *
+ * The number of hits, misses, evictions and invalidations along with the current number of cached results
+ * and the hit ratio are bound.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.FunctionCounter
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @see org.springframework.geode.function.support.FunctionResultCache
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeFunctionResultCacheMeterBinder extends AbstractGeodeMeterBinder {
+
+	private final FunctionResultCache functionResultCache;
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeFunctionResultCacheMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeFunctionResultCacheMeterBinder() {
+		this.functionResultCache = null;
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeFunctionResultCacheMeterBinder} initialized with a reference to
+	 * the {@link FunctionResultCache}.
+	 *
+	 * @param functionResultCache reference to the {@link FunctionResultCache} used to collect metrics.
+	 * @throws IllegalArgumentException if {@link FunctionResultCache} is {@literal null}.
+	 * @see org.springframework.geode.function.support.FunctionResultCache
+	 */
+	public GeodeFunctionResultCacheMeterBinder(FunctionResultCache functionResultCache) {
+
+		Assert.notNull(functionResultCache, "FunctionResultCache must not be null");
+
+		this.functionResultCache = functionResultCache;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link FunctionResultCache}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link FunctionResultCache}.
+	 * @see org.springframework.geode.function.support.FunctionResultCache
+	 * @see java.util.Optional
+	 */
+	protected Optional<FunctionResultCache> getFunctionResultCache() {
+		return Optional.ofNullable(this.functionResultCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+		getFunctionResultCache().ifPresent(functionResultCache -> bindFunctionResultCache(functionResultCache, registry));
+	}
+
+	private void bindFunctionResultCache(FunctionResultCache functionResultCache, MeterRegistry registry) {
+
+		FunctionCounter.builder(meterName("function.cache.hits"), functionResultCache,
+				it -> it.getStatistics().getHitCount())
+			.description("Number of Function executions served from the cache")
+			.register(registry);
+
+		FunctionCounter.builder(meterName("function.cache.misses"), functionResultCache,
+				it -> it.getStatistics().getMissCount())
+			.description("Number of cacheable Function executions not served from the cache")
+			.register(registry);
+
+		FunctionCounter.builder(meterName("function.cache.evictions"), functionResultCache,
+				it -> it.getStatistics().getEvictionCount())
+			.description("Number of cached Function results evicted due to size or expiration")
+			.register(registry);
+
+		FunctionCounter.builder(meterName("function.cache.invalidations"), functionResultCache,
+				it -> it.getStatistics().getInvalidationCount())
+			.description("Number of cached Function results invalidated by changes to Region data")
+			.register(registry);
+
+		Gauge.builder(meterName("function.cache.size"), functionResultCache, FunctionResultCache::size)
+			.description("Number of cached Function results")
+			.register(registry);
+
+		Gauge.builder(meterName("function.cache.hit.ratio"), functionResultCache,
+				it -> it.getStatistics().getHitRatio())
+			.description("Ratio of cacheable Function executions served from the cache")
+			.register(registry);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.wan.GatewayReceiver;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver.GatewayReceiverStatistics;
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeGatewayReceiversMeterBinder} class is a Micrometer {@link MeterBinder} registering
+ * {@literal Meters} for the peer {@link Cache} {@link GatewayReceiver GatewayReceivers}.
+ *
+ * For each {@link GatewayReceiver}, tagged by the {@literal gateway.receiver} statistics ID, the number of events
+ * received, the number and total time of batches processed, and the number of duplicate and out of order batches
+ * received from remote sites are bound. Apache Geode only records batch processing times when
+ * {@literal enable-time-statistics} is {@literal true}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.FunctionCounter
+ * @see io.micrometer.core.instrument.FunctionTimer
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.wan.GatewayReceiver
+ * @see org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeGatewayReceiversMeterBinder extends AbstractGeodeMeterBinder {
+
+	// Micrometer only weakly references the objects it measures.
+	private final Map<String, GatewayReceiverStatistics> gatewayReceiverStatistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeGatewayReceiversMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeGatewayReceiversMeterBinder() { }
+
+	/**
+	 * Constructs an instance of the {@link GeodeGatewayReceiversMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeGatewayReceiversMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		getGemFireCache().filter(CacheUtils::isPeer)
+			.map(GatewayStatisticsResolver::resolveGatewayReceivers)
+			.ifPresent(gatewayReceiverStatistics -> gatewayReceiverStatistics.forEach((id, statistics) ->
+				bindGatewayReceiver(this.gatewayReceiverStatistics.merge(id, statistics,
+					(current, resolved) -> current.isClosed() ? resolved : current), registry)));
+	}
+
+	private void bindGatewayReceiver(GatewayReceiverStatistics statistics, MeterRegistry registry) {
+
+		Tags tags = Tags.of("gateway.receiver", statistics.getTextId());
+
+		FunctionCounter.builder(meterName("gateway-receiver.events.received"), statistics,
+				GatewayReceiverStatistics::getEventsReceived)
+			.description("Number of events received from remote sites")
+			.tags(tags)
+			.register(registry);
+
+		FunctionTimer.builder(meterName("gateway-receiver.batches"), statistics,
+				GatewayReceiverStatistics::getBatchesProcessed,
+				it -> it.getBatchProcessingTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+			.description("Number and total time of batches received from remote sites and processed")
+			.tags(tags)
+			.register(registry);
+
+		FunctionCounter.builder(meterName("gateway-receiver.batches.duplicate"), statistics,
+				GatewayReceiverStatistics::getDuplicateBatchesReceived)
+			.description("Number of batches received from remote sites more than once")
+			.tags(tags)
+			.register(registry);
+
+		FunctionCounter.builder(meterName("gateway-receiver.batches.out-of-order"), statistics,
+				GatewayReceiverStatistics::getOutOfOrderBatchesReceived)
+			.description("Number of batches received from remote sites out of order")
+			.tags(tags)
+			.register(registry);
+
+		FunctionCounter.builder(meterName("gateway-receiver.exceptions"), statistics,
+				GatewayReceiverStatistics::getExceptionsOccurred)
+			.description("Number of exceptions that occurred processing batches received from remote sites")
+			.tags(tags)
+			.register(registry);
+	}
+}
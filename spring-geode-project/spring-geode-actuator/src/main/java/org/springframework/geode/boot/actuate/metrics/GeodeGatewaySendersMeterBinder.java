@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.wan.GatewaySender;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver.GatewaySenderStatistics;
+import org.springframework.geode.boot.actuate.health.support.ReplicationLagEstimator;
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeGatewaySendersMeterBinder} class is a Micrometer {@link MeterBinder} registering {@literal Meters}
+ * for the peer {@link Cache} {@link GatewaySender GatewaySenders}.
+ *
+ * For each {@link GatewaySender}, tagged by {@literal gateway.sender} ID and the {@literal remote.ds} ID of
+ * the remote distributed system, the size of the primary and secondary queues, the number and total time of
+ * batches dispatched, the number of events distributed and per batch, and the estimated replication lag are bound.
+ * Apache Geode only records batch dispatch times when {@literal enable-time-statistics} is {@literal true}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.FunctionCounter
+ * @see io.micrometer.core.instrument.FunctionTimer
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.TimeGauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.wan.GatewaySender
+ * @see org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver
+ * @see org.springframework.geode.boot.actuate.health.support.ReplicationLagEstimator
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeGatewaySendersMeterBinder extends AbstractGeodeMeterBinder {
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeGatewaySendersMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeGatewaySendersMeterBinder() { }
+
+	/**
+	 * Constructs an instance of the {@link GeodeGatewaySendersMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeGatewaySendersMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		Set<GatewaySender> gatewaySenders = getGemFireCache()
+			.filter(CacheUtils::isPeer)
+			.map(Cache.class::cast)
+			.map(Cache::getGatewaySenders)
+			.orElseGet(Collections::emptySet);
+
+		Map<String, GatewaySenderStatistics> gatewaySenderStatistics = getGemFireCache()
+			.map(GatewayStatisticsResolver::resolveGatewaySenders)
+			.orElseGet(Collections::emptyMap);
+
+		gatewaySenders.stream()
+			.filter(Objects::nonNull)
+			.filter(gatewaySender -> gatewaySenderStatistics.containsKey(gatewaySender.getId()))
+			.forEach(gatewaySender -> bindGatewaySender(gatewaySender,
+				ReplicationLagEstimator.shared(gatewaySenderStatistics.get(gatewaySender.getId())), registry));
+	}
+
+	private void bindGatewaySender(GatewaySender gatewaySender, ReplicationLagEstimator replicationLagEstimator,
+			MeterRegistry registry) {
+
+		GatewaySenderStatistics statistics = replicationLagEstimator.getStatistics();
+
+		Tags tags = Tags.of("gateway.sender", gatewaySender.getId(),
+			"remote.ds", String.valueOf(gatewaySender.getRemoteDSId()));
+
+		Gauge.builder(meterName("gateway-sender.queue.size"), statistics,
+				statistic(GatewaySenderStatistics::getEventQueueSize))
+			.description("Number of events waiting in the GatewaySender queue to be dispatched to the remote site")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("gateway-sender.queue.secondary.size"), statistics,
+				statistic(GatewaySenderStatistics::getSecondaryEventQueueSize))
+			.description("Number of events waiting in the secondary GatewaySender queue")
+			.tags(tags)
+			.register(registry);
+
+		FunctionTimer.builder(meterName("gateway-sender.batch.dispatch"), statistics,
+				GatewaySenderStatistics::getBatchesDistributed,
+				it -> it.getBatchDistributionTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+			.description("Number and total time of batches dispatched to the remote site")
+			.tags(tags)
+			.register(registry);
+
+		FunctionCounter.builder(meterName("gateway-sender.batches.redistributed"), statistics,
+				GatewaySenderStatistics::getBatchesRedistributed)
+			.description("Number of batches dispatched to the remote site again after a failure")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("gateway-sender.batch.events"), statistics,
+				statistic(GatewaySenderStatistics::getEventsPerBatch))
+			.description("Average number of events per batch dispatched to the remote site")
+			.tags(tags)
+			.register(registry);
+
+		FunctionCounter.builder(meterName("gateway-sender.events.distributed"), statistics,
+				GatewaySenderStatistics::getEventsDistributed)
+			.description("Number of events dispatched to the remote site")
+			.tags(tags)
+			.register(registry);
+
+		FunctionCounter.builder(meterName("gateway-sender.events.exceeding.alert.threshold"), statistics,
+				GatewaySenderStatistics::getEventsExceedingAlertThreshold)
+			.description("Number of events that waited in the GatewaySender queue longer than the alert threshold")
+			.tags(tags)
+			.register(registry);
+
+		TimeGauge.builder(meterName("gateway-sender.replication.lag"), replicationLagEstimator,
+				TimeUnit.NANOSECONDS, it -> it.getStatistics().isClosed() ? Double.NaN
+					: it.getReplicationLag(TimeUnit.NANOSECONDS))
+			.description("Estimated time for an event queued now to be dispatched to the remote site")
+			.tags(tags)
+			.register(registry);
+	}
+
+	private ToDoubleFunction<GatewaySenderStatistics> statistic(
+			ToDoubleFunction<GatewaySenderStatistics> statisticFunction) {
+
+		return statistics -> statistics.isClosed() ? Double.NaN : statisticFunction.applyAsDouble(statistics);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.internal.cache.LocalDataSet;
+
+import org.springframework.geode.boot.actuate.hotkeys.BucketSizeResolver;
+import org.springframework.geode.boot.actuate.hotkeys.BucketSizeResolver.BucketSize;
+import org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch;
+import org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch.HeavyHitter;
+import org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListener;
+import org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListenerRegistrar;
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer {@link MeterBinder} exposing the skew of the {@link GemFireCache} {@link Region Regions}.
+ *
+ * For each {@link Region} with a {@link HotKeysCacheListener}, the decayed, estimated number of writes to the hottest
+ * {@link Object key} and its share of all writes to the {@link Region} are bound. For each {@literal PARTITION}
+ * {@link Region}, the number of entries in the largest bucket hosted by this member is bound. Individual
+ * {@link Object keys} are never used as {@literal Tags}, so the number of {@literal Meters} stays bounded.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.hotkeys.BucketSizeResolver
+ * @see org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListener
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeHotKeysMeterBinder extends AbstractGeodeMeterBinder {
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeHotKeysMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeHotKeysMeterBinder() { }
+
+	/**
+	 * Constructs an instance of the {@link GeodeHotKeysMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeHotKeysMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		Set<Region<?, ?>> rootRegions = getGemFireCache()
+			.map(GemFireCache::rootRegions)
+			.orElseGet(Collections::emptySet);
+
+		rootRegions.stream()
+			.filter(Objects::nonNull)
+			.filter(region -> !(region instanceof LocalDataSet))
+			.forEach(region -> bindRegion(region, registry));
+	}
+
+	private void bindRegion(Region<?, ?> region, MeterRegistry registry) {
+
+		Tags tags = Tags.of("region", region.getFullPath());
+
+		HotKeysCacheListenerRegistrar.findHotKeysCacheListener(region).ifPresent(cacheListener -> {
+
+			HeavyHittersSketch sketch = cacheListener.getSketch();
+
+			Gauge.builder(meterName("region.hotkey.writes"), sketch, this::hottestKeyCount)
+				.description("Estimated number of writes to the hottest key of the Region")
+				.tags(tags)
+				.register(registry);
+
+			Gauge.builder(meterName("region.hotkey.share"), sketch, this::hottestKeyShare)
+				.description("Share of all writes to the Region going to the hottest key")
+				.tags(tags)
+				.register(registry);
+		});
+
+		if (PartitionRegionHelper.isPartitionedRegion(region)) {
+			Gauge.builder(meterName("region.bucket.entries.max"), region, this::largestBucketEntries)
+				.description("Number of entries in the largest bucket of the Region hosted on this member")
+				.tags(tags)
+				.register(registry);
+		}
+	}
+
+	private double hottestKeyCount(HeavyHittersSketch sketch) {
+
+		List<HeavyHitter> heavyHitters = sketch.getHeavyHitters();
+
+		return heavyHitters.isEmpty() ? 0.0d : heavyHitters.get(0).getCount();
+	}
+
+	private double hottestKeyShare(HeavyHittersSketch sketch) {
+
+		long total = sketch.getTotal();
+
+		return total > 0L ? Math.min(1.0d, hottestKeyCount(sketch) / total) : 0.0d;
+	}
+
+	private double largestBucketEntries(Region<?, ?> region) {
+
+		List<BucketSize> largestBuckets = BucketSizeResolver.resolveLargest(region, 1);
+
+		return largestBuckets.isEmpty() ? 0.0d : largestBuckets.get(0).getEntries();
+	}
+}
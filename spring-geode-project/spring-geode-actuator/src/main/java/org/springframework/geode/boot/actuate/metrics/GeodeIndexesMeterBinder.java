@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexStatistics;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeIndexesMeterBinder} class is a Micrometer {@link MeterBinder} registering {@literal Meters}
+ * for the {@link Index Indexes} declared as beans in the Spring {@link ApplicationContext}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.FunctionCounter
+ * @see io.micrometer.core.instrument.FunctionTimer
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.query.Index
+ * @see org.apache.geode.cache.query.IndexStatistics
+ * @see org.springframework.context.ApplicationContext
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeIndexesMeterBinder extends AbstractGeodeMeterBinder {
+
+	private final ApplicationContext applicationContext;
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeIndexesMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeIndexesMeterBinder() {
+		this.applicationContext = null;
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeIndexesMeterBinder} initialized with a reference to
+	 * the {@link ApplicationContext} instance.
+	 *
+	 * @param applicationContext reference to the Spring {@link ApplicationContext}.
+	 * @throws IllegalArgumentException if {@link ApplicationContext} is {@literal null}.
+	 * @see org.springframework.context.ApplicationContext
+	 */
+	public GeodeIndexesMeterBinder(ApplicationContext applicationContext) {
+
+		Assert.notNull(applicationContext, "ApplicationContext is required");
+
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the Spring {@link ApplicationContext}.
+	 *
+	 * @return an {@link Optional} reference to the Spring {@link ApplicationContext}.
+	 * @see org.springframework.context.ApplicationContext
+	 * @see java.util.Optional
+	 */
+	protected Optional<ApplicationContext> getApplicationContext() {
+		return Optional.ofNullable(this.applicationContext);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		Map<String, Index> indexes = getApplicationContext()
+			.map(it -> it.getBeansOfType(Index.class))
+			.orElseGet(Collections::emptyMap);
+
+		indexes.values().stream()
+			.filter(Objects::nonNull)
+			.forEach(index -> bindIndex(index, registry));
+	}
+
+	private void bindIndex(Index index, MeterRegistry registry) {
+
+		Tags tags = Tags.of("index", index.getName(), "region", tagValue(toRegionPath(index.getRegion())));
+
+		FunctionCounter.builder(meterName("index.uses"), index, statistic(IndexStatistics::getTotalUses))
+			.description("Number of times the Index has been used by queries")
+			.tags(tags)
+			.register(registry);
+
+		FunctionTimer.builder(meterName("index.updates"), index,
+				it -> Optional.ofNullable(it.getStatistics()).map(IndexStatistics::getNumUpdates).orElse(0L),
+				statistic(IndexStatistics::getTotalUpdateTime), TimeUnit.NANOSECONDS)
+			.description("Number and total time of Index updates")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("index.keys"), index, statistic(IndexStatistics::getNumberOfKeys))
+			.description("Number of keys in the Index")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("index.values"), index, statistic(IndexStatistics::getNumberOfValues))
+			.description("Number of values in the Index")
+			.tags(tags)
+			.register(registry);
+	}
+
+	private ToDoubleFunction<Index> statistic(ToDoubleFunction<IndexStatistics> statisticFunction) {
+
+		return index -> Optional.ofNullable(index.getStatistics())
+			.map(statisticFunction::applyAsDouble)
+			.orElse(Double.NaN);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private String toRegionPath(Region region) {
+		return region != null ? region.getFullPath() : null;
+	}
+}
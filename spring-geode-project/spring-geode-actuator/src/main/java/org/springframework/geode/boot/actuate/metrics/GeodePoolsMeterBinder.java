@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.client.internal.PoolImpl;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodePoolsMeterBinder} class is a Micrometer {@link MeterBinder} registering {@literal Meters}
+ * for the {@link ClientCache} {@link Pool Pools}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.apache.geode.cache.client.PoolManager
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodePoolsMeterBinder extends AbstractGeodeMeterBinder {
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodePoolsMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodePoolsMeterBinder() { }
+
+	/**
+	 * Constructs an instance of the {@link GeodePoolsMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodePoolsMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		if (getGemFireCache().filter(CacheUtils::isClient).isPresent()) {
+
+			boolean durable = getGemFireCache()
+				.map(ClientCache.class::cast)
+				.filter(CacheUtils::isDurable)
+				.isPresent();
+
+			nullSafeMap(findAllPools()).values().stream()
+				.filter(Objects::nonNull)
+				.forEach(pool -> bindPool(pool, durable, registry));
+		}
+	}
+
+	private void bindPool(Pool pool, boolean durable, MeterRegistry registry) {
+
+		Tags tags = Tags.of("pool", pool.getName());
+
+		if (pool instanceof PoolImpl) {
+			Gauge.builder(meterName("pool.connections"), (PoolImpl) pool, PoolImpl::getConnectionCount)
+				.description("Number of connections currently open in the Pool")
+				.tags(tags)
+				.register(registry);
+		}
+
+		Gauge.builder(meterName("pool.connections.max"), pool, Pool::getMaxConnections)
+			.description("Maximum number of connections the Pool may open")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(meterName("pool.locators.online"), pool, it -> nullSafeList(it.getOnlineLocators()).size())
+			.description("Number of Locators the Pool is able to reach")
+			.tags(tags)
+			.register(registry);
+
+		if (durable) {
+			Gauge.builder(meterName("pool.pending.events"), pool, Pool::getPendingEventCount)
+				.description("Number of events queued on the servers for the durable client")
+				.tags(tags)
+				.register(registry);
+		}
+	}
+
+	Map<String, Pool> findAllPools() {
+		return PoolManager.getAll();
+	}
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.LocalDataSet;
+import org.apache.geode.internal.cache.RegionListener;
+
+import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeRegionsMeterBinder} class is a Micrometer {@link MeterBinder} registering {@literal Meters}
+ * for the {@link GemFireCache} {@link Region Regions}.
+ *
+ * Every {@link Region}, including subregions, is tagged with its {@literal region} full path and {@literal data.policy}.
+ * The number of local entries is recorded for {@link Region Regions} storing data and the hit count, miss count
+ * and hit ratio are recorded for {@link Region Regions} with statistics enabled.
+ *
+ * The {@link CacheStatistics} of a {@link Region} are resolved at most once per scrape and shared by the hit count,
+ * miss count and hit ratio {@literal Meters}, since resolving the statistics of a {@literal PARTITION} {@link Region}
+ * visits every local bucket.
+ *
+ * The {@literal Meters} of a {@link Region} are removed from the {@link MeterRegistry MeterRegistries} when
+ * the {@link Region} is destroyed, using a {@link RegionListener} when the cache supports it. {@link Region Regions}
+ * destroyed without notice are pruned the next time this {@link MeterBinder} binds.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.FunctionCounter
+ * @see io.micrometer.core.instrument.Gauge
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.internal.cache.RegionListener
+ * @see org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GeodeRegionsMeterBinder extends AbstractGeodeMeterBinder {
+
+	protected static final Duration REGION_STATISTICS_TIME_TO_LIVE = Duration.ofSeconds(1);
+
+	private final AtomicBoolean regionListenerRegistered = new AtomicBoolean(false);
+
+	private final Map<String, RegionMeters> regionMeters = new ConcurrentHashMap<>();
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeRegionsMeterBinder},
+	 * which will not bind any {@literal Meters}.
+	 */
+	public GeodeRegionsMeterBinder() { }
+
+	/**
+	 * Constructs an instance of the {@link GeodeRegionsMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeRegionsMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(@NonNull MeterRegistry registry) {
+
+		registerRegionListener();
+		pruneDestroyedRegions();
+
+		Set<Region<?, ?>> rootRegions = getGemFireCache()
+			.map(GemFireCache::rootRegions)
+			.orElseGet(Collections::emptySet);
+
+		rootRegions.stream()
+			.filter(Objects::nonNull)
+			.flatMap(this::withSubregions)
+			.filter(this::isNotLocalDataSet)
+			.filter(region -> !region.isDestroyed())
+			.forEach(region -> bindRegion(region, registry));
+	}
+
+	private void registerRegionListener() {
+
+		getGemFireCache()
+			.filter(InternalCache.class::isInstance)
+			.map(InternalCache.class::cast)
+			.filter(cache -> this.regionListenerRegistered.compareAndSet(false, true))
+			.ifPresent(cache -> cache.addRegionListener(new MeterRemovingRegionListener()));
+	}
+
+	private void pruneDestroyedRegions() {
+
+		this.regionMeters.values().stream()
+			.filter(RegionMeters::isRegionDestroyed)
+			.map(RegionMeters::getRegionFullPath)
+			.forEach(this::unbindRegion);
+	}
+
+	/**
+	 * Removes the {@literal Meters} of the {@link Region} with the given {@link String full path}, along with
+	 * the {@literal Meters} of its subregions, from all {@link MeterRegistry MeterRegistries} this
+	 * {@link MeterBinder} has been bound to.
+	 *
+	 * @param regionFullPath {@link String} containing the full path of the destroyed {@link Region}.
+	 */
+	void unbindRegion(@NonNull String regionFullPath) {
+
+		String subregionPathPrefix = regionFullPath + Region.SEPARATOR;
+
+		this.regionMeters.keySet().stream()
+			.filter(fullPath -> fullPath.equals(regionFullPath) || fullPath.startsWith(subregionPathPrefix))
+			.map(this.regionMeters::remove)
+			.filter(Objects::nonNull)
+			.forEach(regionMeters -> regionMeters.removeFrom(getMeterRegistries()));
+	}
+
+	private Stream<Region<?, ?>> withSubregions(Region<?, ?> region) {
+
+		Set<Region<?, ?>> subregions = region.subregions(true);
+
+		return subregions != null
+			? Stream.concat(Stream.of(region), subregions.stream().filter(Objects::nonNull))
+			: Stream.of(region);
+	}
+
+	private void bindRegion(Region<?, ?> region, MeterRegistry registry) {
+
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+		DataPolicy dataPolicy = regionAttributes != null ? regionAttributes.getDataPolicy() : null;
+
+		Tags tags = Tags.of("region", region.getFullPath(), "data.policy", tagValue(String.valueOf(dataPolicy)));
+
+		boolean statisticsEnabled = regionAttributes != null && regionAttributes.getStatisticsEnabled();
+
+		// Held by this binder since Micrometer only holds weak references to the Meter state objects.
+		RegionMeters regionMeters = this.regionMeters.computeIfAbsent(region.getFullPath(),
+			fullPath -> new RegionMeters(region, statisticsEnabled));
+
+		if (dataPolicy != null && dataPolicy.withStorage()) {
+			regionMeters.add(Gauge.builder(meterName("region.entries"), region, this::localEntryCount)
+				.description("Number of entries stored in the Region on this member")
+				.tags(tags)
+				.register(registry));
+		}
+
+		CachedRegionStatistics statistics = regionMeters.getStatistics();
+
+		if (statistics != null) {
+
+			regionMeters.add(FunctionCounter.builder(meterName("region.hits"), statistics,
+					statistic(CacheStatistics::getHitCount))
+				.description("Number of cache hits for the Region")
+				.tags(tags)
+				.register(registry));
+
+			regionMeters.add(FunctionCounter.builder(meterName("region.misses"), statistics,
+					statistic(CacheStatistics::getMissCount))
+				.description("Number of cache misses for the Region")
+				.tags(tags)
+				.register(registry));
+
+			regionMeters.add(Gauge.builder(meterName("region.hit.ratio"), statistics,
+					statistic(CacheStatistics::getHitRatio))
+				.description("Ratio of cache hits to total Region lookups")
+				.tags(tags)
+				.register(registry));
+		}
+	}
+
+	private boolean isNotLocalDataSet(Region<?, ?> region) {
+		return !(region instanceof LocalDataSet);
+	}
+
+	private double localEntryCount(Region<?, ?> region) {
+
+		return PartitionRegionHelper.isPartitionedRegion(region)
+			? PartitionRegionHelper.getLocalData(region).size()
+			: region.size();
+	}
+
+	private ToDoubleFunction<CachedRegionStatistics> statistic(ToDoubleFunction<CacheStatistics> statisticFunction) {
+
+		return cachedStatistics -> {
+
+			CacheStatistics statistics = cachedStatistics.get();
+
+			return statistics != null ? statisticFunction.applyAsDouble(statistics) : Double.NaN;
+		};
+	}
+
+	/**
+	 * Tracks the {@literal Meters} registered for a {@link Region} so they can be removed
+	 * once the {@link Region} is destroyed.
+	 */
+	static class RegionMeters {
+
+		private final CachedRegionStatistics statistics;
+
+		private final Region<?, ?> region;
+
+		private final Set<Meter> meters = ConcurrentHashMap.newKeySet();
+
+		RegionMeters(@NonNull Region<?, ?> region, boolean statisticsEnabled) {
+			this.region = region;
+			this.statistics = statisticsEnabled ? new CachedRegionStatistics(region, REGION_STATISTICS_TIME_TO_LIVE)
+				: null;
+		}
+
+		@Nullable CachedRegionStatistics getStatistics() {
+			return this.statistics;
+		}
+
+		String getRegionFullPath() {
+			return this.region.getFullPath();
+		}
+
+		boolean isRegionDestroyed() {
+			return this.region.isDestroyed();
+		}
+
+		void add(@NonNull Meter meter) {
+			this.meters.add(meter);
+		}
+
+		void removeFrom(@NonNull Set<MeterRegistry> registries) {
+			registries.forEach(registry -> this.meters.forEach(registry::remove));
+		}
+	}
+
+	/**
+	 * {@link RegionListener} removing the {@literal Meters} of a {@link Region} before the {@link Region}
+	 * is destroyed.
+	 */
+	class MeterRemovingRegionListener implements RegionListener {
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public void beforeDestroyed(Region region) {
+
+			if (region != null) {
+				unbindRegion(region.getFullPath());
+			}
+		}
+	}
+
+	/**
+	 * Caches the {@link CacheStatistics} resolved for a {@link Region} for a short period of time so that
+	 * all {@literal Meters} read during a single scrape share the same {@link CacheStatistics}.
+	 */
+	static class CachedRegionStatistics {
+
+		private final long timeToLiveNanos;
+
+		private final Region<?, ?> region;
+
+		private volatile CacheStatistics statistics;
+
+		private volatile long resolvedTime;
+
+		CachedRegionStatistics(@NonNull Region<?, ?> region, @NonNull Duration timeToLive) {
+			this.region = region;
+			this.timeToLiveNanos = timeToLive.toNanos();
+		}
+
+		@Nullable CacheStatistics get() {
+
+			long now = System.nanoTime();
+
+			CacheStatistics statistics = this.statistics;
+
+			if (statistics == null || now - this.resolvedTime > this.timeToLiveNanos) {
+				statistics = RegionStatisticsResolver.resolve(this.region);
+				this.resolvedTime = now;
+				this.statistics = statistics;
+			}
+
+			return statistics;
+		}
+	}
+}
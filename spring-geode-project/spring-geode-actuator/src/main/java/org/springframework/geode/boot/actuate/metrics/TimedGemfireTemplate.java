@@ -0,0 +1,216 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link TimedGemfireTemplate} class is a {@link GemfireTemplate} recording the latency of {@link Region}
+ * data access operations with Micrometer {@link Timer Timers}, tagged by {@link Region} and operation.
+ *
+ * All {@link Timer Timers} are registered when the {@link TimedGemfireTemplate} is constructed and publish
+ * client-side percentiles, which Micrometer computes with HdrHistogram. Recording the latency of an operation
+ * only reads {@link System#nanoTime()} twice and neither allocates objects nor uses reflection.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see io.micrometer.core.instrument.Timer
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 2.0.0
+ */
+public class TimedGemfireTemplate extends GemfireTemplate {
+
+	public static final String METER_NAME = "geode.region.operations";
+
+	protected static final double[] PERCENTILES = { 0.5d, 0.95d, 0.99d };
+
+	private final Timer getAllTimer;
+	private final Timer getTimer;
+	private final Timer putAllTimer;
+	private final Timer putIfAbsentTimer;
+	private final Timer putTimer;
+	private final Timer queryTimer;
+	private final Timer removeTimer;
+
+	/**
+	 * Constructs a new instance of {@link TimedGemfireTemplate} initialized with the given {@link Region}
+	 * and {@link MeterRegistry}.
+	 *
+	 * @param region {@link Region} on which data access operations are performed; must not be {@literal null}.
+	 * @param registry {@link MeterRegistry} used to register the {@link Timer Timers}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Region} or {@link MeterRegistry} is {@literal null}.
+	 */
+	public TimedGemfireTemplate(@NonNull Region<?, ?> region, @NonNull MeterRegistry registry) {
+
+		super(region);
+
+		Assert.notNull(registry, "MeterRegistry must not be null");
+
+		String regionPath = region.getFullPath();
+
+		this.getAllTimer = newTimer(registry, regionPath, "getAll");
+		this.getTimer = newTimer(registry, regionPath, "get");
+		this.putAllTimer = newTimer(registry, regionPath, "putAll");
+		this.putIfAbsentTimer = newTimer(registry, regionPath, "putIfAbsent");
+		this.putTimer = newTimer(registry, regionPath, "put");
+		this.queryTimer = newTimer(registry, regionPath, "query");
+		this.removeTimer = newTimer(registry, regionPath, "remove");
+	}
+
+	private static Timer newTimer(MeterRegistry registry, String regionPath, String operation) {
+
+		return Timer.builder(METER_NAME)
+			.description("Latency of Region data access operations")
+			.tag("region", regionPath)
+			.tag("operation", operation)
+			.publishPercentiles(PERCENTILES)
+			.register(registry);
+	}
+
+	private static void record(Timer timer, long startTime) {
+		timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public <K, V> V get(K key) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return super.get(key);
+		}
+		finally {
+			record(this.getTimer, startTime);
+		}
+	}
+
+	@Override
+	public <K, V> Map<K, V> getAll(Collection<?> keys) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return super.getAll(keys);
+		}
+		finally {
+			record(this.getAllTimer, startTime);
+		}
+	}
+
+	@Override
+	public <K, V> V put(K key, V value) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return super.put(key, value);
+		}
+		finally {
+			record(this.putTimer, startTime);
+		}
+	}
+
+	@Override
+	public <K, V> void putAll(Map<? extends K, ? extends V> map) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			super.putAll(map);
+		}
+		finally {
+			record(this.putAllTimer, startTime);
+		}
+	}
+
+	@Override
+	public <K, V> V putIfAbsent(K key, V value) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return super.putIfAbsent(key, value);
+		}
+		finally {
+			record(this.putIfAbsentTimer, startTime);
+		}
+	}
+
+	@Override
+	public <K, V> V remove(K key) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return super.remove(key);
+		}
+		finally {
+			record(this.removeTimer, startTime);
+		}
+	}
+
+	@Override
+	public <E> SelectResults<E> query(String query) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return super.query(query);
+		}
+		finally {
+			record(this.queryTimer, startTime);
+		}
+	}
+
+	@Override
+	public <E> SelectResults<E> find(String query, Object... arguments) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return super.find(query, arguments);
+		}
+		finally {
+			record(this.queryTimer, startTime);
+		}
+	}
+
+	@Override
+	public <T> T findUnique(String query, Object... arguments) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return super.findUnique(query, arguments);
+		}
+		finally {
+			record(this.queryTimer, startTime);
+		}
+	}
+}
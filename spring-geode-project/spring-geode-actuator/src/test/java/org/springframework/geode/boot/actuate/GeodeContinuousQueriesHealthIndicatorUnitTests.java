@@ -22,8 +22,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Map;
 
+import org.apache.geode.cache.query.CqAttributes;
+import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
 import org.apache.geode.cache.query.CqServiceStatistics;
 import org.apache.geode.cache.query.CqState;
@@ -39,6 +42,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker;
+import org.springframework.geode.boot.actuate.cq.EventTrackingCqListener;
 
 /**
  * Unit tests for {@link GeodeContinuousQueriesHealthIndicator}.
@@ -60,6 +65,8 @@ import org.springframework.data.gemfire.listener.ContinuousQueryListenerContaine
 @RunWith(MockitoJUnitRunner.class)
 public class GeodeContinuousQueriesHealthIndicatorUnitTests {
 
+	private ContinuousQueryListenerContainer container;
+
 	private GeodeContinuousQueriesHealthIndicator continuousQueriesHealthIndicator;
 
 	@Mock
@@ -68,11 +75,10 @@ public class GeodeContinuousQueriesHealthIndicatorUnitTests {
 	@Before
 	public void setup() {
 
-		ContinuousQueryListenerContainer container = new ContinuousQueryListenerContainer();
-
-		container.setQueryService(this.mockQueryService);
+		this.container = new ContinuousQueryListenerContainer();
+		this.container.setQueryService(this.mockQueryService);
 
-		this.continuousQueriesHealthIndicator = new GeodeContinuousQueriesHealthIndicator(container);
+		this.continuousQueriesHealthIndicator = new GeodeContinuousQueriesHealthIndicator(this.container);
 	}
 
 	@Test
@@ -172,4 +178,75 @@ public class GeodeContinuousQueriesHealthIndicatorUnitTests {
 		assertThat(health.getDetails()).isEmpty();
 		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
 	}
+
+	private CqQuery mockTrackedContinuousQuery(String name, ContinuousQueryEventTracker tracker) {
+
+		CqQuery mockContinuousQuery = mock(CqQuery.class, name);
+
+		CqAttributes mockContinuousQueryAttributes = mock(CqAttributes.class);
+
+		CqListener[] cqListeners = { new EventTrackingCqListener(mock(CqListener.class), tracker) };
+
+		when(mockContinuousQuery.getName()).thenReturn(name);
+		when(mockContinuousQuery.getCqAttributes()).thenReturn(mockContinuousQueryAttributes);
+		when(mockContinuousQueryAttributes.getCqListeners()).thenReturn(cqListeners);
+
+		return mockContinuousQuery;
+	}
+
+	@Test
+	public void healthCheckIsDownWhenLagExceedsThreshold() throws Exception {
+
+		ContinuousQueryEventTracker laggingTracker = new ContinuousQueryEventTracker("Lagging");
+
+		laggingTracker.eventReceived();
+		laggingTracker.eventReceived();
+
+		Thread.sleep(5L);
+
+		CqQuery[] mockContinuousQueries = {
+			mockTrackedContinuousQuery("Lagging", laggingTracker),
+			mockTrackedContinuousQuery("Idle", new ContinuousQueryEventTracker("Idle"))
+		};
+
+		when(this.mockQueryService.getCqs()).thenReturn(mockContinuousQueries);
+
+		GeodeContinuousQueriesHealthIndicator healthIndicator =
+			new GeodeContinuousQueriesHealthIndicator(this.container, Duration.ofMillis(1L));
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("geode.continuous-query.Lagging.listener.queue-size", 2);
+		assertThat(health.getDetails()).containsEntry("geode.continuous-query.Idle.listener.lag", 0L);
+		assertThat(health.getDetails()).containsEntry("geode.continuous-query.Idle.listener.queue-size", 0);
+		assertThat((Long) health.getDetails().get("geode.continuous-query.Lagging.listener.lag"))
+			.isGreaterThanOrEqualTo(5L);
+	}
+
+	@Test
+	public void healthCheckReportsLagWithoutThreshold() throws Exception {
+
+		ContinuousQueryEventTracker laggingTracker = new ContinuousQueryEventTracker("Lagging");
+
+		laggingTracker.eventReceived();
+
+		CqQuery[] mockContinuousQueries = { mockTrackedContinuousQuery("Lagging", laggingTracker) };
+
+		when(this.mockQueryService.getCqs()).thenReturn(mockContinuousQueries);
+
+		Health.Builder builder = new Health.Builder();
+
+		this.continuousQueriesHealthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry("geode.continuous-query.Lagging.listener.queue-size", 1);
+		assertThat(health.getDetails()).containsKey("geode.continuous-query.Lagging.listener.lag");
+	}
 }
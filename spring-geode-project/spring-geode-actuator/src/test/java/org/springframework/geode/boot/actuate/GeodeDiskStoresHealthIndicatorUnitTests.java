@@ -17,6 +17,7 @@
 package org.springframework.geode.boot.actuate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -24,10 +25,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
 import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.distributed.DistributedSystem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -38,6 +48,7 @@ import org.springframework.boot.actuate.health.Status;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.gemfire.tests.mock.DiskStoreMockObjects;
 import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsResolver;
 
 /**
  * Unit tests for {@link GeodeDiskStoresHealthIndicator}.
@@ -135,6 +146,132 @@ public class GeodeDiskStoresHealthIndicatorUnitTests {
 		verify(this.mockApplicationContext, times(1)).getBeansOfType(eq(DiskStore.class));
 	}
 
+	private DiskStore mockDiskStore(String name, float criticalPercentage, File... diskDirectories) {
+
+		DiskStore mockDiskStore = mock(DiskStore.class, name);
+
+		when(mockDiskStore.getName()).thenReturn(name);
+		when(mockDiskStore.getDiskDirs()).thenReturn(diskDirectories);
+		when(mockDiskStore.getDiskStoreUUID()).thenReturn(UUID.randomUUID());
+		when(mockDiskStore.getDiskUsageCriticalPercentage()).thenReturn(criticalPercentage);
+
+		return mockDiskStore;
+	}
+
+	@Test
+	public void healthCheckIsDownWhenDiskUsageReachesCriticalPercentage() {
+
+		File mockDirectory = mock(File.class);
+
+		when(mockDirectory.getTotalSpace()).thenReturn(1000L);
+		when(mockDirectory.getUsableSpace()).thenReturn(50L);
+
+		when(this.mockApplicationContext.getBeansOfType(DiskStore.class))
+			.thenReturn(Collections.singletonMap("TestDiskStore", mockDiskStore("TestDiskStore", 90.0f, mockDirectory)));
+
+		Health.Builder builder = new Health.Builder();
+
+		this.diskStoresHealthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.TestDiskStore.disk-usage-percentage", 95.0d);
+	}
+
+	@Test
+	public void healthCheckIsOutOfServiceWhileLatencyOverWindowExceedsThreshold() {
+
+		Map<String, Long> statisticValues = new HashMap<>();
+
+		statisticValues.put("writes", 10L);
+		statisticValues.put("writeTime", TimeUnit.MILLISECONDS.toNanos(500L));
+
+		GemFireCache mockCache = mock(GemFireCache.class);
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+		Statistics mockStatistics = mock(Statistics.class);
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		when(mockCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+		when(mockDistributedSystem.findType(eq(DiskStoreStatisticsResolver.DISK_STORE_STATISTICS_TYPE_NAME)))
+			.thenReturn(mockStatisticsType);
+		when(mockDistributedSystem.findStatisticsByType(eq(mockStatisticsType)))
+			.thenReturn(new Statistics[] { mockStatistics });
+		when(mockStatistics.getTextId()).thenReturn("TestDiskStore");
+		when(mockStatistics.get(anyString()))
+			.thenAnswer(invocation -> statisticValues.getOrDefault(invocation.<String>getArgument(0), 0L));
+
+		when(this.mockApplicationContext.getBeansOfType(GemFireCache.class))
+			.thenReturn(Collections.singletonMap("gemfireCache", mockCache));
+		when(this.mockApplicationContext.getBeansOfType(DiskStore.class))
+			.thenReturn(Collections.singletonMap("TestDiskStore", mockDiskStore("TestDiskStore", 99.0f)));
+
+		Clock mockClock = mock(Clock.class);
+
+		when(mockClock.millis()).thenReturn(0L, 61000L, 62000L);
+
+		GeodeDiskStoresHealthIndicator healthIndicator = new GeodeDiskStoresHealthIndicator(this.mockApplicationContext,
+			Duration.ofMillis(20L), Duration.ofMinutes(1L), mockClock);
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.TestDiskStore.write-latency", 50.0d);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.TestDiskStore.flush-latency", 0.0d);
+
+		statisticValues.put("writes", 20L);
+		statisticValues.put("writeTime", TimeUnit.MILLISECONDS.toNanos(510L));
+
+		builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.TestDiskStore.write-latency", 1.0d);
+
+		// The previous health check does not move the start of the window; the sample at 0 is still the baseline.
+		statisticValues.put("writes", 30L);
+		statisticValues.put("writeTime", TimeUnit.MILLISECONDS.toNanos(600L));
+
+		builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.TestDiskStore.write-latency", 5.0d);
+	}
+
+	@Test
+	public void latencySamplesRetainMostRecentSampleOlderThanWindow() {
+
+		GeodeDiskStoresHealthIndicator.LatencySamples samples =
+			new GeodeDiskStoresHealthIndicator.LatencySamples(Duration.ofSeconds(10L));
+
+		assertThat(samples.sample(new long[] { 0L, 1L })).containsExactly(0L, 0L);
+		assertThat(samples.sample(new long[] { 500L, 2L })).containsExactly(0L, 1L);
+		assertThat(samples.size()).isEqualTo(1);
+
+		for (long time = 1000L; time <= 15000L; time += 1000L) {
+			samples.sample(new long[] { time, time });
+		}
+
+		assertThat(samples.sample(new long[] { 15500L, 15500L })).containsExactly(5000L, 5000L);
+		assertThat(samples.size()).isEqualTo(11);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNonPositiveLatencyWindowThrowsIllegalArgumentException() {
+		new GeodeDiskStoresHealthIndicator(this.mockApplicationContext, null, Duration.ZERO);
+	}
+
 	@Test
 	public void healthCheckFailsWhenApplicationContextIsNotPresent() throws Exception {
 
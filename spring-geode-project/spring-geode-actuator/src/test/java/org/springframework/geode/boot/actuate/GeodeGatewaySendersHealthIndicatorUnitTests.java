@@ -17,21 +17,29 @@
 package org.springframework.geode.boot.actuate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.wan.GatewaySender;
+import org.apache.geode.distributed.DistributedSystem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -40,6 +48,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 import org.springframework.data.gemfire.tests.mock.GatewayMockObjects;
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver;
 
 /**
  * Unit tests for {@link GeodeGatewaySendersHealthIndicator}.
@@ -144,6 +153,93 @@ public class GeodeGatewaySendersHealthIndicatorUnitTests {
 		verify(this.mockCache, times(1)).getGatewaySenders();
 	}
 
+	private Map<String, Long> mockGatewaySenderStatistics(GatewaySender gatewaySender) {
+
+		Map<String, Long> statisticValues = new HashMap<>();
+
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+		Statistics mockStatistics = mock(Statistics.class);
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		when(this.mockCache.getGatewaySenders()).thenReturn(Collections.singleton(gatewaySender));
+		when(this.mockCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+		when(mockDistributedSystem.findType(eq(GatewayStatisticsResolver.GATEWAY_SENDER_STATISTICS_TYPE_NAME)))
+			.thenReturn(mockStatisticsType);
+		when(mockDistributedSystem.findStatisticsByType(eq(mockStatisticsType)))
+			.thenReturn(new Statistics[] { mockStatistics });
+		when(mockStatistics.getTextId()).thenReturn("gatewaySenderStats-" + gatewaySender.getId());
+		when(mockStatistics.get(anyString()))
+			.thenAnswer(invocation -> statisticValues.getOrDefault(invocation.<String>getArgument(0), 0L));
+
+		return statisticValues;
+	}
+
+	@Test
+	public void healthCheckCapturesStatisticsDetails() {
+
+		GatewaySender mockGatewaySender = GatewayMockObjects.mockGatewaySender("MockGatewaySender",
+			100, true, 250, 30000, "TestDiskStore",
+			true, 8, 16384, 24,
+			GatewaySender.OrderPolicy.THREAD, true, true, 2,
+			true, 32768, 15000);
+
+		Map<String, Long> statisticValues = mockGatewaySenderStatistics(mockGatewaySender);
+
+		statisticValues.put("batchesDistributed", 4L);
+		statisticValues.put("batchDistributionTime", Duration.ofMillis(100L).toNanos());
+		statisticValues.put("eventsDistributed", 1000L);
+		statisticValues.put("secondaryEventQueueSize", 8L);
+
+		GeodeGatewaySendersHealthIndicator healthIndicator =
+			new GeodeGatewaySendersHealthIndicator(this.mockCache, Duration.ofMinutes(1L), 100);
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+
+		Map<String, Object> healthDetails = health.getDetails();
+
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.MockGatewaySender.queue-size", 0L);
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.MockGatewaySender.secondary-queue-size", 8L);
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.MockGatewaySender.events-distributed", 1000L);
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.MockGatewaySender.batches-distributed", 4L);
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.MockGatewaySender.average-batch-dispatch-time", 25.0d);
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.MockGatewaySender.events-per-batch", 250.0d);
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.MockGatewaySender.replication-lag", 0L);
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.remote-distributed-system.2.queue-size", 0L);
+		assertThat(healthDetails).containsEntry("geode.gateway-sender.remote-distributed-system.2.replication-lag", 0L);
+	}
+
+	@Test
+	public void healthCheckIsDownWhenQueueSizeExceedsThreshold() {
+
+		GatewaySender mockGatewaySender = GatewayMockObjects.mockGatewaySender("MockGatewaySender",
+			100, true, 250, 30000, "TestDiskStore",
+			true, 8, 16384, 24,
+			GatewaySender.OrderPolicy.THREAD, true, true, 2,
+			true, 32768, 15000);
+
+		mockGatewaySenderStatistics(mockGatewaySender).put("eventQueueSize", 101L);
+
+		GeodeGatewaySendersHealthIndicator healthIndicator =
+			new GeodeGatewaySendersHealthIndicator(this.mockCache, null, 100);
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("geode.gateway-sender.MockGatewaySender.queue-size", 101L);
+		assertThat(health.getDetails())
+			.containsEntry("geode.gateway-sender.remote-distributed-system.2.queue-size", 101L);
+	}
+
 	private void testHealthCheckFailsWithInvalidGemFireCache(GemFireCache gemfireCache) throws Exception {
 
 		GeodeGatewaySendersHealthIndicator healthIndicator = gemfireCache != null
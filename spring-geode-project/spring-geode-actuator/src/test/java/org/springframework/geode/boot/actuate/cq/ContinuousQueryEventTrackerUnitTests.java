@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.cq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker.PendingEvent;
+
+/**
+ * Unit Tests for {@link ContinuousQueryEventTracker}, {@link EventTrackingCqListener}
+ * and {@link EventTrackingExecutor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.query.CqListener
+ * @see org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker
+ * @see org.springframework.geode.boot.actuate.cq.EventTrackingCqListener
+ * @see org.springframework.geode.boot.actuate.cq.EventTrackingExecutor
+ * @since 2.0.0
+ */
+public class ContinuousQueryEventTrackerUnitTests {
+
+	private final AtomicLong nanoTime = new AtomicLong(1_000L);
+
+	private final ContinuousQueryEventTracker tracker = new ContinuousQueryEventTracker("TestCq", this.nanoTime::get);
+
+	@Test
+	public void tracksLagAndProcessingTime() {
+
+		PendingEvent one = this.tracker.eventReceived();
+
+		this.nanoTime.addAndGet(100L);
+
+		PendingEvent two = this.tracker.eventReceived();
+
+		this.nanoTime.addAndGet(50L);
+
+		assertThat(this.tracker.getEventCount()).isEqualTo(2L);
+		assertThat(this.tracker.getPendingCount()).isEqualTo(2);
+		assertThat(this.tracker.getCurrentLag(TimeUnit.NANOSECONDS)).isEqualTo(150.0d);
+
+		long dispatchTime = this.tracker.eventDispatched(one);
+
+		assertThat(this.tracker.getPendingCount()).isEqualTo(1);
+		assertThat(this.tracker.getCurrentLag(TimeUnit.NANOSECONDS)).isEqualTo(50.0d);
+
+		this.nanoTime.addAndGet(20L);
+		this.tracker.eventProcessed(dispatchTime);
+		this.tracker.eventDiscarded(two);
+
+		assertThat(this.tracker.getPendingCount()).isZero();
+		assertThat(this.tracker.getCurrentLag(TimeUnit.NANOSECONDS)).isZero();
+		assertThat(this.tracker.getLagCount()).isEqualTo(1L);
+		assertThat(this.tracker.getLagTotal(TimeUnit.NANOSECONDS)).isEqualTo(150.0d);
+		assertThat(this.tracker.getProcessedCount()).isEqualTo(1L);
+		assertThat(this.tracker.getProcessingTotal(TimeUnit.NANOSECONDS)).isEqualTo(20.0d);
+	}
+
+	@Test
+	public void cqListenerHandingEventsOffToEventTrackingExecutorIsTracked() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor executor = new EventTrackingExecutor(tasks::add);
+
+		CqListener cqListener = new EventTrackingCqListener(new CqListener() {
+
+			@Override
+			public void onEvent(CqEvent event) {
+				executor.execute(() -> nanoTime.addAndGet(30L));
+			}
+
+			@Override
+			public void onError(CqEvent event) { }
+
+		}, this.tracker);
+
+		cqListener.onEvent(mock(CqEvent.class));
+
+		assertThat(tasks).hasSize(1);
+		assertThat(this.tracker.getPendingCount()).isEqualTo(1);
+		assertThat(this.tracker.getProcessedCount()).isZero();
+
+		this.nanoTime.addAndGet(200L);
+
+		tasks.get(0).run();
+
+		assertThat(this.tracker.getPendingCount()).isZero();
+		assertThat(this.tracker.getLagTotal(TimeUnit.NANOSECONDS)).isEqualTo(200.0d);
+		assertThat(this.tracker.getProcessedCount()).isEqualTo(1L);
+		assertThat(this.tracker.getProcessingTotal(TimeUnit.NANOSECONDS)).isEqualTo(30.0d);
+	}
+
+	@Test
+	public void cqListenerHandlingEventsItselfIsTracked() {
+
+		CqListener mockCqListener = mock(CqListener.class);
+
+		doAnswer(invocation -> this.nanoTime.addAndGet(40L)).when(mockCqListener).onError(any());
+
+		new EventTrackingCqListener(mockCqListener, this.tracker).onError(mock(CqEvent.class));
+
+		assertThat(this.tracker.getEventCount()).isEqualTo(1L);
+		assertThat(this.tracker.getPendingCount()).isZero();
+		assertThat(this.tracker.getLagTotal(TimeUnit.NANOSECONDS)).isZero();
+		assertThat(this.tracker.getProcessingTotal(TimeUnit.NANOSECONDS)).isEqualTo(40.0d);
+		assertThat(ContinuousQueryEventTracker.currentEvent()).isNull();
+
+		verify(mockCqListener).onError(any());
+	}
+
+	@Test
+	public void rejectedEventIsDiscarded() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doThrow(new RejectedExecutionException("TEST")).when(mockExecutor).execute(any());
+
+		PendingEvent pendingEvent = this.tracker.eventReceived();
+
+		ContinuousQueryEventTracker.bindCurrentEvent(pendingEvent);
+
+		try {
+			assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> new EventTrackingExecutor(mockExecutor).execute(() -> { }));
+		}
+		finally {
+			ContinuousQueryEventTracker.unbindCurrentEvent();
+		}
+
+		assertThat(pendingEvent.isClaimed()).isTrue();
+		assertThat(this.tracker.getPendingCount()).isZero();
+		assertThat(this.tracker.getLagCount()).isZero();
+	}
+
+	@Test
+	public void executorPassesUntrackedTasksThrough() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		Runnable task = () -> { };
+
+		new EventTrackingExecutor(mockExecutor).execute(task);
+
+		verify(mockExecutor).execute(task);
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Unit Tests for {@link HealthSnapshotScheduler}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.geode.boot.actuate.health.support.HealthSnapshotScheduler
+ * @see org.springframework.geode.boot.actuate.health.support.SnapshotHealthIndicator
+ * @since 2.0.0
+ */
+public class HealthSnapshotSchedulerUnitTests {
+
+	private HealthSnapshotScheduler scheduler;
+
+	@After
+	public void tearDown() {
+
+		if (this.scheduler != null) {
+			this.scheduler.stop();
+		}
+	}
+
+	private HealthIndicator mockHealthIndicator() {
+
+		HealthIndicator mockHealthIndicator = mock(HealthIndicator.class);
+
+		when(mockHealthIndicator.health()).thenReturn(Health.up().build());
+
+		return mockHealthIndicator;
+	}
+
+	@Test
+	public void constructDefaultHealthSnapshotScheduler() {
+
+		this.scheduler = new HealthSnapshotScheduler();
+
+		assertThat(this.scheduler.getInterval()).isEqualTo(HealthSnapshotScheduler.DEFAULT_INTERVAL);
+		assertThat(this.scheduler.getJitter()).isEqualTo(HealthSnapshotScheduler.DEFAULT_JITTER);
+		assertThat(this.scheduler.getRefreshTimeout()).isEqualTo(HealthSnapshotScheduler.DEFAULT_REFRESH_TIMEOUT);
+		assertThat(this.scheduler.getMaxStaleness()).isEqualTo(HealthSnapshotScheduler.DEFAULT_INTERVAL
+			.multipliedBy(HealthSnapshotScheduler.DEFAULT_MAX_STALENESS_INTERVALS));
+		assertThat(this.scheduler.getHealthIndicators()).isEmpty();
+		assertThat(this.scheduler.isRunning()).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroIntervalThrowsIllegalArgumentException() {
+
+		try {
+			new HealthSnapshotScheduler(Duration.ZERO, Duration.ZERO);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Interval [PT0S] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNegativeJitterThrowsIllegalArgumentException() {
+
+		try {
+			new HealthSnapshotScheduler(Duration.ofSeconds(1), Duration.ofSeconds(-1));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Jitter [PT-1S] must be greater than or equal to 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroRefreshTimeoutThrowsIllegalArgumentException() {
+
+		try {
+			new HealthSnapshotScheduler(Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO, 3);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Refresh timeout [PT0S] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNegativeMaxStalenessIntervalsThrowsIllegalArgumentException() {
+
+		try {
+			new HealthSnapshotScheduler(Duration.ofSeconds(1), Duration.ZERO, Duration.ofSeconds(1), -1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Max staleness intervals [-1] must be greater than or equal to 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void registerHealthIndicatorUsesMaxStaleness() {
+
+		this.scheduler = new HealthSnapshotScheduler(Duration.ofSeconds(10), Duration.ZERO, Duration.ofSeconds(5), 4);
+
+		SnapshotHealthIndicator healthIndicator = this.scheduler.register("test", mockHealthIndicator());
+
+		assertThat(healthIndicator.getName()).isEqualTo("test");
+		assertThat(healthIndicator.getMaxStaleness()).isEqualTo(Duration.ofSeconds(40));
+		assertThat(this.scheduler.getHealthIndicators()).containsExactly(healthIndicator);
+	}
+
+	@Test
+	public void registerReturnsHealthIndicator() {
+
+		this.scheduler = new HealthSnapshotScheduler();
+
+		SnapshotHealthIndicator healthIndicator = new SnapshotHealthIndicator("test", mockHealthIndicator());
+
+		assertThat(this.scheduler.register(healthIndicator)).isSameAs(healthIndicator);
+		assertThat(this.scheduler.register(healthIndicator)).isSameAs(healthIndicator);
+		assertThat(this.scheduler.getHealthIndicators()).containsExactly(healthIndicator);
+	}
+
+	@Test
+	public void startAndStop() {
+
+		this.scheduler = new HealthSnapshotScheduler();
+
+		this.scheduler.start();
+
+		assertThat(this.scheduler.isRunning()).isTrue();
+
+		this.scheduler.stop();
+
+		assertThat(this.scheduler.isRunning()).isFalse();
+	}
+
+	@Test
+	public void refreshesRegisteredHealthIndicatorsPeriodically() {
+
+		HealthIndicator mockHealthIndicatorOne = mockHealthIndicator();
+		HealthIndicator mockHealthIndicatorTwo = mockHealthIndicator();
+
+		this.scheduler = new HealthSnapshotScheduler(Duration.ofMillis(10), Duration.ofMillis(5));
+		this.scheduler.register(new SnapshotHealthIndicator("one", mockHealthIndicatorOne));
+		this.scheduler.start();
+		this.scheduler.register(new SnapshotHealthIndicator("two", mockHealthIndicatorTwo));
+
+		verify(mockHealthIndicatorOne, timeout(5000L).atLeast(3)).health();
+		verify(mockHealthIndicatorTwo, timeout(5000L).atLeast(3)).health();
+	}
+
+	@Test
+	public void refreshContinuesAfterHealthIndicatorFailure() {
+
+		HealthIndicator mockHealthIndicator = mock(HealthIndicator.class);
+
+		when(mockHealthIndicator.health()).thenThrow(new RuntimeException("TEST"));
+
+		SnapshotHealthIndicator healthIndicator = new SnapshotHealthIndicator("failing", mockHealthIndicator);
+
+		this.scheduler = new HealthSnapshotScheduler(Duration.ofMillis(10), Duration.ZERO);
+		this.scheduler.register(healthIndicator);
+		this.scheduler.start();
+
+		verify(mockHealthIndicator, timeout(5000L).atLeast(2)).health();
+
+		assertThat(healthIndicator.isInitialized()).isTrue();
+	}
+
+	@Test
+	public void refreshIsInterruptedAfterTimeoutAndRescheduled() {
+
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		HealthIndicator mockHealthIndicator = mock(HealthIndicator.class);
+
+		when(mockHealthIndicator.health()).thenAnswer(invocation -> {
+			try {
+				Thread.sleep(60000L);
+			}
+			catch (InterruptedException cause) {
+				interrupted.countDown();
+				throw cause;
+			}
+			return Health.up().build();
+		});
+
+		this.scheduler = new HealthSnapshotScheduler(Duration.ofMillis(10), Duration.ZERO, Duration.ofMillis(50), 3);
+		this.scheduler.register(new SnapshotHealthIndicator("hanging", mockHealthIndicator));
+		this.scheduler.start();
+
+		verify(mockHealthIndicator, timeout(5000L).atLeast(2)).health();
+
+		assertThat(interrupted.getCount()).isZero();
+	}
+}
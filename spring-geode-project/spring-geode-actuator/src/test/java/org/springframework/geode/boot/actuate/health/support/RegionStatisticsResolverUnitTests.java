@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver.PartitionRegionCacheStatistics;
+
+/**
+ * Unit Tests for {@link RegionStatisticsResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.internal.cache.BucketRegion
+ * @see org.apache.geode.internal.cache.PartitionedRegion
+ * @see org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver
+ * @since 2.0.0
+ */
+public class RegionStatisticsResolverUnitTests {
+
+	private BucketRegion mockBucketRegion(int size, CacheStatistics cacheStatistics) {
+
+		BucketRegion mockBucketRegion = mock(BucketRegion.class);
+
+		when(mockBucketRegion.size()).thenReturn(size);
+		when(mockBucketRegion.getStatistics()).thenReturn(cacheStatistics);
+
+		return mockBucketRegion;
+	}
+
+	private CacheStatistics mockCacheStatistics(long hitCount, long missCount, long lastAccessedTime,
+			long lastModifiedTime) {
+
+		CacheStatistics mockCacheStatistics = mock(CacheStatistics.class);
+
+		when(mockCacheStatistics.getHitCount()).thenReturn(hitCount);
+		when(mockCacheStatistics.getMissCount()).thenReturn(missCount);
+		when(mockCacheStatistics.getLastAccessedTime()).thenReturn(lastAccessedTime);
+		when(mockCacheStatistics.getLastModifiedTime()).thenReturn(lastModifiedTime);
+
+		return mockCacheStatistics;
+	}
+
+	private PartitionedRegion mockPartitionedRegion(Set<BucketRegion> bucketRegions) {
+
+		PartitionedRegion mockPartitionedRegion = mock(PartitionedRegion.class);
+
+		PartitionedRegionDataStore mockDataStore = mock(PartitionedRegionDataStore.class);
+
+		when(mockPartitionedRegion.getDataStore()).thenReturn(mockDataStore);
+		when(mockDataStore.getAllLocalBucketRegions()).thenReturn(bucketRegions);
+
+		return mockPartitionedRegion;
+	}
+
+	@Test
+	public void resolveNullRegionReturnsNull() {
+		assertThat(RegionStatisticsResolver.resolve(null)).isNull();
+	}
+
+	@Test
+	public void partitionRegionCacheStatisticsSumsBucketStatistics() {
+
+		Set<BucketRegion> bucketRegions = new HashSet<>();
+
+		bucketRegions.add(mockBucketRegion(10, mockCacheStatistics(100L, 20L, 1000L, 500L)));
+		bucketRegions.add(mockBucketRegion(30, mockCacheStatistics(200L, 30L, 3000L, 200L)));
+		bucketRegions.add(mockBucketRegion(20, mockCacheStatistics(300L, 50L, 2000L, 900L)));
+
+		PartitionRegionCacheStatistics statistics =
+			new PartitionRegionCacheStatistics(mockPartitionedRegion(bucketRegions));
+
+		assertThat(statistics.getBucketCount()).isEqualTo(3);
+		assertThat(statistics.getEntryCount()).isEqualTo(60L);
+		assertThat(statistics.getHitCount()).isEqualTo(600L);
+		assertThat(statistics.getMissCount()).isEqualTo(100L);
+		assertThat(statistics.getHitRatio()).isEqualTo(600.0f / 700.0f);
+		assertThat(statistics.getLastAccessedTime()).isEqualTo(3000L);
+		assertThat(statistics.getLastModifiedTime()).isEqualTo(900L);
+		assertThat(statistics.getMinBucketEntryCount()).isEqualTo(10L);
+		assertThat(statistics.getMaxBucketEntryCount()).isEqualTo(30L);
+		assertThat(statistics.getP99BucketEntryCount()).isEqualTo(30L);
+	}
+
+	@Test
+	public void partitionRegionCacheStatisticsComputesBucketEntryCountPercentile() {
+
+		Set<BucketRegion> bucketRegions = new HashSet<>();
+
+		// 200 buckets with 1 to 200 entries; the nearest-rank 99th percentile is the 198th value.
+		IntStream.rangeClosed(1, 200).forEach(size -> bucketRegions.add(mockBucketRegion(size, null)));
+
+		PartitionRegionCacheStatistics statistics =
+			new PartitionRegionCacheStatistics(mockPartitionedRegion(bucketRegions));
+
+		assertThat(statistics.getBucketCount()).isEqualTo(200);
+		assertThat(statistics.getEntryCount()).isEqualTo(20100L);
+		assertThat(statistics.getMinBucketEntryCount()).isEqualTo(1L);
+		assertThat(statistics.getMaxBucketEntryCount()).isEqualTo(200L);
+		assertThat(statistics.getP99BucketEntryCount()).isEqualTo(198L);
+		assertThat(statistics.getHitCount()).isZero();
+		assertThat(statistics.getMissCount()).isZero();
+		assertThat(statistics.getHitRatio()).isZero();
+	}
+
+	@Test
+	public void partitionRegionCacheStatisticsForAccessorIsEmpty() {
+
+		PartitionedRegion mockPartitionedRegion = mock(PartitionedRegion.class);
+
+		PartitionRegionCacheStatistics statistics = new PartitionRegionCacheStatistics(mockPartitionedRegion);
+
+		assertThat(statistics.getPartitionRegion()).isSameAs(mockPartitionedRegion);
+		assertThat(statistics.getBucketCount()).isZero();
+		assertThat(statistics.getEntryCount()).isZero();
+		assertThat(statistics.getHitCount()).isZero();
+		assertThat(statistics.getP99BucketEntryCount()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void partitionRegionCacheStatisticsWithNonPartitionedRegionThrowsIllegalArgumentException() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+
+		try {
+			new PartitionRegionCacheStatistics(mockRegion);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Region [/Example] must be of type");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
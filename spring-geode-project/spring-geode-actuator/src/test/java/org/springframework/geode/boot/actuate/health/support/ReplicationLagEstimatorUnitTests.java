@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import org.apache.geode.Statistics;
+
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver.GatewaySenderStatistics;
+
+/**
+ * Unit Tests for {@link ReplicationLagEstimator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.geode.boot.actuate.health.support.ReplicationLagEstimator
+ * @since 2.0.0
+ */
+public class ReplicationLagEstimatorUnitTests {
+
+	private final AtomicLong nanoTime = new AtomicLong(1_000L);
+
+	private final GatewaySenderStatistics mockStatistics = mock(GatewaySenderStatistics.class);
+
+	private final ReplicationLagEstimator estimator =
+		new ReplicationLagEstimator(this.mockStatistics, Duration.ofNanos(10_000L), this.nanoTime::get);
+
+	private void sample(long eventQueueSize, long eventsDistributed) {
+		when(this.mockStatistics.getEventQueueSize()).thenReturn(eventQueueSize);
+		when(this.mockStatistics.getEventsDistributed()).thenReturn(eventsDistributed);
+	}
+
+	@Test
+	public void estimatesLagFromQueueSizeAndDispatchRate() {
+
+		sample(0L, 0L);
+
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isZero();
+
+		this.nanoTime.addAndGet(1_000L);
+		sample(200L, 500L);
+
+		// 500 events dispatched in 1000 ns; 200 queued events take another 400 ns
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isEqualTo(400.0d);
+	}
+
+	@Test
+	public void lagGrowsWhileDispatchingIsStalled() {
+
+		sample(0L, 0L);
+
+		this.estimator.getReplicationLag(TimeUnit.NANOSECONDS);
+
+		this.nanoTime.addAndGet(1_000L);
+		sample(100L, 100L);
+
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isEqualTo(1_000.0d);
+
+		this.nanoTime.addAndGet(5_000L);
+		sample(150L, 100L);
+
+		// 100 events dispatched in 6000 ns; 150 queued events take another 9000 ns
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isEqualTo(14_000.0d);
+
+		sample(0L, 100L);
+
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isZero();
+	}
+
+	@Test
+	public void lagOfStalledGatewaySenderWithoutDispatchHistoryIsTimeSinceFirstEstimate() {
+
+		sample(10L, 0L);
+
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isZero();
+
+		this.nanoTime.addAndGet(2_000L);
+
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isEqualTo(2_000.0d);
+	}
+
+	@Test
+	public void dispatchRateIsMeasuredOverWindowRegardlessOfEstimateFrequency() {
+
+		sample(0L, 0L);
+
+		this.estimator.getReplicationLag(TimeUnit.NANOSECONDS);
+
+		this.nanoTime.addAndGet(1_000L);
+		sample(100L, 100L);
+
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isEqualTo(1_000.0d);
+
+		// Estimates by other callers in between do not move the baseline
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isEqualTo(1_000.0d);
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isEqualTo(1_000.0d);
+	}
+
+	@Test
+	public void dispatchRateIsMeasuredOverMostRecentWindow() {
+
+		sample(0L, 0L);
+
+		for (int count = 1; count <= 30; count++) {
+			this.nanoTime.addAndGet(1_000L);
+			sample(100L, count <= 20 ? count * 100L : 2_000L + (count - 20) * 10L);
+			this.estimator.getReplicationLag(TimeUnit.NANOSECONDS);
+		}
+
+		// 10 events per 1000 ns over the last 10_000 ns window; 100 queued events take 10_000 ns
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isEqualTo(10_000.0d);
+		assertThat(this.estimator.getSampleCount()).isLessThanOrEqualTo(11);
+	}
+
+	@Test
+	public void samplesAreDiscardedWhenStatisticsAreReset() {
+
+		sample(0L, 0L);
+
+		this.estimator.getReplicationLag(TimeUnit.NANOSECONDS);
+
+		this.nanoTime.addAndGet(1_000L);
+		sample(100L, 1_000L);
+		this.estimator.getReplicationLag(TimeUnit.NANOSECONDS);
+
+		this.nanoTime.addAndGet(1_000L);
+		sample(100L, 10L);
+
+		assertThat(this.estimator.getReplicationLag(TimeUnit.NANOSECONDS)).isZero();
+		assertThat(this.estimator.getSampleCount()).isOne();
+	}
+
+	@Test
+	public void sharedEstimatorIsSharedPerStatistics() {
+
+		Statistics mockStatistics = mock(Statistics.class);
+
+		ReplicationLagEstimator estimator = ReplicationLagEstimator.shared(new GatewaySenderStatistics(mockStatistics));
+
+		assertThat(ReplicationLagEstimator.shared(new GatewaySenderStatistics(mockStatistics))).isSameAs(estimator);
+		assertThat(ReplicationLagEstimator.shared(new GatewaySenderStatistics(mock(Statistics.class))))
+			.isNotSameAs(estimator);
+	}
+
+	@Test
+	public void sharedEstimatorIsReleasedWhenStatisticsAreClosed() {
+
+		Statistics mockStatistics = mock(Statistics.class);
+
+		ReplicationLagEstimator estimator = ReplicationLagEstimator.shared(new GatewaySenderStatistics(mockStatistics));
+
+		doReturn(true).when(mockStatistics).isClosed();
+
+		ReplicationLagEstimator.shared(new GatewaySenderStatistics(mock(Statistics.class)));
+
+		doReturn(false).when(mockStatistics).isClosed();
+
+		assertThat(ReplicationLagEstimator.shared(new GatewaySenderStatistics(mockStatistics))).isNotSameAs(estimator);
+	}
+}
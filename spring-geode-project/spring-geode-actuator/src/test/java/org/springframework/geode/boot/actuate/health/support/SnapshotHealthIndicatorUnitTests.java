@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Unit Tests for {@link SnapshotHealthIndicator}.
+ *
+ * @author John Blum
+ * @see java.time.Clock
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.Mockito
+ * @see org.springframework.boot.actuate.health.HealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.SnapshotHealthIndicator
+ * @since 2.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SnapshotHealthIndicatorUnitTests {
+
+	@Mock
+	private Clock mockClock;
+
+	@Mock
+	private HealthIndicator mockHealthIndicator;
+
+	private SnapshotHealthIndicator healthIndicator;
+
+	@Before
+	public void setup() {
+		this.healthIndicator = new SnapshotHealthIndicator("geodeRegionsHealthIndicator",
+			this.mockHealthIndicator, this.mockClock);
+	}
+
+	@Test
+	public void healthTakesSnapshotSynchronouslyWhenUninitialized() {
+
+		when(this.mockClock.millis()).thenReturn(1000L);
+		when(this.mockHealthIndicator.health()).thenReturn(Health.up().withDetail("geode.regions.count", 2).build());
+
+		assertThat(this.healthIndicator.isInitialized()).isFalse();
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health).isNotNull();
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry("geode.regions.count", 2);
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_TIMESTAMP_DETAIL, 1000L);
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_AGE_DETAIL, 0L);
+		assertThat(this.healthIndicator.isInitialized()).isTrue();
+
+		verify(this.mockHealthIndicator, times(1)).health();
+	}
+
+	@Test
+	public void healthIsServedFromSnapshotWithAge() {
+
+		when(this.mockClock.millis()).thenReturn(1000L, 3500L, 7250L);
+		when(this.mockHealthIndicator.health()).thenReturn(Health.up().build());
+
+		this.healthIndicator.refresh();
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_TIMESTAMP_DETAIL, 1000L);
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_AGE_DETAIL, 2500L);
+
+		health = this.healthIndicator.health();
+
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_AGE_DETAIL, 6250L);
+
+		verify(this.mockHealthIndicator, times(1)).health();
+	}
+
+	@Test
+	public void staleSnapshotIsReportedAsUnknown() {
+
+		SnapshotHealthIndicator healthIndicator = new SnapshotHealthIndicator("geodeRegionsHealthIndicator",
+			this.mockHealthIndicator, this.mockClock, Duration.ofSeconds(30));
+
+		when(this.mockClock.millis()).thenReturn(1000L, 31000L, 31001L);
+		when(this.mockHealthIndicator.health()).thenReturn(Health.up().withDetail("geode.regions.count", 2).build());
+
+		healthIndicator.refresh();
+
+		Health health = healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).doesNotContainKey(SnapshotHealthIndicator.SNAPSHOT_STALE_DETAIL);
+
+		health = healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+		assertThat(health.getDetails()).containsEntry("geode.regions.count", 2);
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_AGE_DETAIL, 30001L);
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_STALE_DETAIL, true);
+	}
+
+	@Test
+	public void staleSnapshotIsNotCheckedByDefault() {
+
+		when(this.mockClock.millis()).thenReturn(1000L, Long.MAX_VALUE);
+		when(this.mockHealthIndicator.health()).thenReturn(Health.up().build());
+
+		this.healthIndicator.refresh();
+
+		assertThat(this.healthIndicator.getMaxStaleness()).isEqualTo(Duration.ZERO);
+		assertThat(this.healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	public void refreshReplacesSnapshot() {
+
+		when(this.mockClock.millis()).thenReturn(1000L, 2000L, 2000L);
+		when(this.mockHealthIndicator.health()).thenReturn(Health.up().build(), Health.outOfService().build());
+
+		assertThat(this.healthIndicator.refresh().getStatus()).isEqualTo(Status.UP);
+		assertThat(this.healthIndicator.refresh().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_TIMESTAMP_DETAIL, 2000L);
+		assertThat(health.getDetails()).containsEntry(SnapshotHealthIndicator.SNAPSHOT_AGE_DETAIL, 0L);
+
+		verify(this.mockHealthIndicator, times(2)).health();
+	}
+
+	@Test
+	public void refreshCapturesDelegateExceptionAsDown() {
+
+		when(this.mockClock.millis()).thenReturn(1000L);
+		when(this.mockHealthIndicator.health()).thenThrow(new IllegalStateException("TEST"));
+
+		Health health = this.healthIndicator.refresh();
+
+		assertThat(health).isNotNull();
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("error", "java.lang.IllegalStateException: TEST");
+		assertThat(this.healthIndicator.isInitialized()).isTrue();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullHealthIndicatorThrowsIllegalArgumentException() {
+
+		try {
+			new SnapshotHealthIndicator("test", null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("HealthIndicator must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNoNameThrowsIllegalArgumentException() {
+
+		try {
+			new SnapshotHealthIndicator("  ", this.mockHealthIndicator);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Name must not be null or empty");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
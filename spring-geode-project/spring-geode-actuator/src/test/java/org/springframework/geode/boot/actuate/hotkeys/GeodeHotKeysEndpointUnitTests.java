@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotkeys;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.geode.boot.actuate.hotkeys.BucketSizeResolver.BucketSize;
+import org.springframework.geode.boot.actuate.hotkeys.GeodeHotKeysEndpoint.KeyDescriptor;
+import org.springframework.geode.boot.actuate.hotkeys.GeodeHotKeysEndpoint.RegionHotKeysDescriptor;
+
+/**
+ * Unit Tests for {@link GeodeHotKeysEndpoint}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.geode.boot.actuate.hotkeys.GeodeHotKeysEndpoint
+ * @since 2.0.0
+ */
+public class GeodeHotKeysEndpointUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(Class<?> regionType, String name, CacheListener<?, ?>... cacheListeners) {
+
+		Region<Object, Object> mockRegion = (Region<Object, Object>) mock(regionType, name);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getName()).thenReturn(name);
+		when(mockRegion.getFullPath()).thenReturn(Region.SEPARATOR + name);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getCacheListeners()).thenReturn((CacheListener<Object, Object>[]) cacheListeners);
+
+		return mockRegion;
+	}
+
+	private BucketRegion mockBucketRegion(int id, int size) {
+
+		BucketRegion mockBucketRegion = mock(BucketRegion.class);
+
+		when(mockBucketRegion.getId()).thenReturn(id);
+		when(mockBucketRegion.size()).thenReturn(size);
+
+		return mockBucketRegion;
+	}
+
+	@Test
+	public void hotKeysReportsKeysAndLargestBuckets() {
+
+		HotKeysCacheListener<Object, Object> cacheListener = new HotKeysCacheListener<>(new HeavyHittersSketch());
+
+		cacheListener.getSketch().record("hot");
+		cacheListener.getSketch().record("hot");
+		cacheListener.getSketch().record("cold");
+
+		Region<Object, Object> mockCustomers = mockRegion(Region.class, "Customers", cacheListener);
+		Region<Object, Object> mockUntracked = mockRegion(Region.class, "Untracked");
+		PartitionedRegion mockOrders = (PartitionedRegion) mockRegion(PartitionedRegion.class, "Orders");
+
+		PartitionedRegionDataStore mockDataStore = mock(PartitionedRegionDataStore.class);
+
+		Set<BucketRegion> bucketRegions = new HashSet<>();
+
+		bucketRegions.add(mockBucketRegion(1, 10));
+		bucketRegions.add(mockBucketRegion(2, 500));
+		bucketRegions.add(mockBucketRegion(3, 20));
+
+		when(mockOrders.getDataStore()).thenReturn(mockDataStore);
+		when(mockDataStore.getAllLocalBucketRegions()).thenReturn(bucketRegions);
+
+		GemFireCache mockGemFireCache = mock(GemFireCache.class);
+
+		when(mockGemFireCache.rootRegions())
+			.thenReturn(CollectionUtils.asSet(mockCustomers, mockUntracked, mockOrders));
+
+		Map<String, RegionHotKeysDescriptor> hotKeys = new GeodeHotKeysEndpoint(mockGemFireCache, 2).hotKeys();
+
+		assertThat(hotKeys).containsOnlyKeys("/Customers", "/Orders");
+
+		RegionHotKeysDescriptor customers = hotKeys.get("/Customers");
+
+		assertThat(customers.getBuckets()).isEmpty();
+		assertThat(customers.getKeys().stream().map(KeyDescriptor::getKey).collect(Collectors.toList()))
+			.containsExactly("hot", "cold");
+		assertThat(customers.getKeys().get(0).getCount()).isEqualTo(2L);
+
+		RegionHotKeysDescriptor orders = hotKeys.get("/Orders");
+
+		assertThat(orders.getKeys()).isEmpty();
+		assertThat(orders.getBuckets().stream().map(BucketSize::getId).collect(Collectors.toList()))
+			.containsExactly(2, 3);
+		assertThat(orders.getBuckets().get(0).getEntries()).isEqualTo(500L);
+	}
+
+	@Test
+	public void regionHotKeysForNonExistingRegionReturnsNull() {
+
+		GemFireCache mockGemFireCache = mock(GemFireCache.class);
+
+		assertThat(new GeodeHotKeysEndpoint(mockGemFireCache).regionHotKeys("NonExisting")).isNull();
+	}
+
+	@Test
+	public void resetResetsAllSketches() {
+
+		HotKeysCacheListener<Object, Object> cacheListener = new HotKeysCacheListener<>(new HeavyHittersSketch());
+
+		cacheListener.getSketch().record("key");
+
+		Region<Object, Object> mockRegion = mockRegion(Region.class, "Example", cacheListener);
+
+		GemFireCache mockGemFireCache = mock(GemFireCache.class);
+
+		when(mockGemFireCache.rootRegions()).thenReturn(CollectionUtils.asSet(mockRegion));
+
+		new GeodeHotKeysEndpoint(mockGemFireCache).reset();
+
+		assertThat(cacheListener.getSketch().getTotal()).isZero();
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotkeys;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch.HeavyHitter;
+
+/**
+ * Unit Tests for {@link HeavyHittersSketch}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.hotkeys.HeavyHittersSketch
+ * @since 2.0.0
+ */
+public class HeavyHittersSketchUnitTests {
+
+	private List<Object> keysOf(List<HeavyHitter> heavyHitters) {
+		return heavyHitters.stream().map(HeavyHitter::getKey).collect(Collectors.toList());
+	}
+
+	private Clock mockClock(AtomicLong time) {
+
+		Clock mockClock = mock(Clock.class);
+
+		when(mockClock.millis()).thenAnswer(invocation -> time.get());
+
+		return mockClock;
+	}
+
+	@Test
+	public void constructDefaultHeavyHittersSketch() {
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch();
+
+		assertThat(sketch.getCapacity()).isEqualTo(HeavyHittersSketch.DEFAULT_CAPACITY);
+		assertThat(sketch.getHeavyHitters()).isEmpty();
+		assertThat(sketch.getTotal()).isZero();
+	}
+
+	@Test
+	public void recordEstimatesFrequency() {
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch(4, 4, 1024);
+
+		IntStream.range(0, 5).forEach(count -> sketch.record("one"));
+		IntStream.range(0, 3).forEach(count -> sketch.record("two"));
+
+		assertThat(sketch.estimate("one")).isGreaterThanOrEqualTo(5L);
+		assertThat(sketch.estimate("two")).isGreaterThanOrEqualTo(3L);
+		assertThat(sketch.estimate("three")).isGreaterThanOrEqualTo(0L);
+		assertThat(sketch.getTotal()).isEqualTo(8L);
+		assertThat(keysOf(sketch.getHeavyHitters())).containsExactly("one", "two");
+	}
+
+	@Test
+	public void heavyHittersAreBoundedByCapacity() {
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch(3, 4, 4096);
+
+		// 10,000 distinct cold keys, each recorded once.
+		IntStream.range(0, 10_000).forEach(key -> sketch.record("cold-" + key));
+
+		// 3 hot keys.
+		IntStream.range(0, 500).forEach(count -> {
+			sketch.record("hot-1");
+			sketch.record("hot-2");
+			sketch.record("hot-3");
+		});
+
+		IntStream.range(0, 250).forEach(count -> sketch.record("hot-1"));
+
+		List<HeavyHitter> heavyHitters = sketch.getHeavyHitters();
+
+		assertThat(heavyHitters).hasSize(3);
+		assertThat(heavyHitters.get(0).getKey()).isEqualTo("hot-1");
+		assertThat(heavyHitters.get(0).getCount()).isGreaterThanOrEqualTo(750L);
+		assertThat(keysOf(heavyHitters)).containsExactlyInAnyOrder("hot-1", "hot-2", "hot-3");
+		assertThat(sketch.getTotal()).isEqualTo(12_750L);
+	}
+
+	@Test
+	public void concurrentRecordingKeepsTotals() throws Exception {
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch(5, 4, 2048);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			IntStream.range(0, 4).forEach(thread -> executor.submit(() ->
+				IntStream.range(0, 10_000).forEach(count -> sketch.record(count % 10 == 0 ? "hot" : "key-" + count))));
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(sketch.getTotal()).isEqualTo(40_000L);
+		assertThat(sketch.getHeavyHitters()).hasSizeLessThanOrEqualTo(5);
+		assertThat(sketch.getHeavyHitters().get(0).getKey()).isEqualTo("hot");
+		assertThat(sketch.estimate("hot")).isGreaterThanOrEqualTo(4_000L);
+	}
+
+	@Test
+	public void countsAreHalvedEveryDecayInterval() {
+
+		AtomicLong time = new AtomicLong(0L);
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch(4, 4, 1024, Duration.ofSeconds(1), mockClock(time));
+
+		IntStream.range(0, 8).forEach(count -> sketch.record("hot"));
+		IntStream.range(0, 2).forEach(count -> sketch.record("cold"));
+
+		time.set(1000L);
+
+		assertThat(sketch.estimate("hot")).isEqualTo(4L);
+		assertThat(sketch.estimate("cold")).isEqualTo(1L);
+		assertThat(sketch.getTotal()).isEqualTo(5L);
+
+		time.set(3000L);
+
+		assertThat(sketch.estimate("hot")).isEqualTo(1L);
+		assertThat(sketch.estimate("cold")).isZero();
+		assertThat(sketch.getTotal()).isEqualTo(1L);
+		assertThat(keysOf(sketch.getHeavyHitters())).containsExactly("hot");
+	}
+
+	@Test
+	public void recentKeysOutrankKeysThatAreNoLongerRecorded() {
+
+		AtomicLong time = new AtomicLong(0L);
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch(1, 4, 1024, Duration.ofSeconds(1), mockClock(time));
+
+		IntStream.range(0, 100).forEach(count -> sketch.record("formerlyHot"));
+
+		time.set(10000L);
+
+		IntStream.range(0, 10).forEach(count -> sketch.record("nowHot"));
+
+		assertThat(keysOf(sketch.getHeavyHitters())).containsExactly("nowHot");
+	}
+
+	@Test
+	public void windowReflectsDecayedIntervals() {
+
+		AtomicLong time = new AtomicLong(0L);
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch(4, 4, 1024, Duration.ofSeconds(1), mockClock(time));
+
+		assertThat(sketch.getWindow()).isEqualTo(Duration.ZERO);
+
+		time.set(500L);
+
+		assertThat(sketch.getWindow()).isEqualTo(Duration.ofMillis(500L));
+
+		time.set(1500L);
+
+		assertThat(sketch.getWindow()).isEqualTo(Duration.ofMillis(1000L));
+
+		time.set(100000L);
+
+		assertThat(sketch.getWindow()).isEqualTo(Duration.ofMillis(1000L));
+	}
+
+	@Test
+	public void countsAreKeptWhenDecayIsDisabled() {
+
+		AtomicLong time = new AtomicLong(0L);
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch(4, 4, 1024, Duration.ZERO, mockClock(time));
+
+		IntStream.range(0, 8).forEach(count -> sketch.record("hot"));
+
+		time.set(60000L);
+
+		assertThat(sketch.getDecayInterval()).isEqualTo(Duration.ZERO);
+		assertThat(sketch.estimate("hot")).isEqualTo(8L);
+		assertThat(sketch.getTotal()).isEqualTo(8L);
+		assertThat(sketch.getWindow()).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	public void resetForgetsRecordedKeys() {
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch();
+
+		sketch.record("one");
+		sketch.record("two");
+		sketch.reset();
+
+		assertThat(sketch.estimate("one")).isZero();
+		assertThat(sketch.getHeavyHitters()).isEmpty();
+		assertThat(sketch.getTotal()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidCapacityThrowsIllegalArgumentException() {
+
+		try {
+			new HeavyHittersSketch(0, 4, 1024);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Capacity [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void recordNullKeyThrowsIllegalArgumentException() {
+
+		try {
+			new HeavyHittersSketch().record(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Key must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
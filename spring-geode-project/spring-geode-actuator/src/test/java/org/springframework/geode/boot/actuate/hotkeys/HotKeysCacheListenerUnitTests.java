@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotkeys;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+
+import org.springframework.data.gemfire.util.CollectionUtils;
+
+/**
+ * Unit Tests for {@link HotKeysCacheListener} and {@link HotKeysCacheListenerRegistrar}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListener
+ * @see org.springframework.geode.boot.actuate.hotkeys.HotKeysCacheListenerRegistrar
+ * @since 2.0.0
+ */
+public class HotKeysCacheListenerUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private EntryEvent<Object, Object> mockEntryEvent(Object key) {
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn(key);
+
+		return mockEntryEvent;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(String name, CacheListener<?, ?>... cacheListeners) {
+
+		Region<Object, Object> mockRegion = mock(Region.class, name);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getName()).thenReturn(name);
+		when(mockRegion.getFullPath()).thenReturn(Region.SEPARATOR + name);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getCacheListeners()).thenReturn((CacheListener<Object, Object>[]) cacheListeners);
+		when(mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+
+		return mockRegion;
+	}
+
+	@Test
+	public void recordsKeysOfCreatesAndUpdatesOnly() {
+
+		HotKeysCacheListener<Object, Object> cacheListener = new HotKeysCacheListener<>(new HeavyHittersSketch());
+
+		cacheListener.afterCreate(mockEntryEvent("one"));
+		cacheListener.afterUpdate(mockEntryEvent("one"));
+		cacheListener.afterUpdate(mockEntryEvent("two"));
+		cacheListener.afterDestroy(mockEntryEvent("one"));
+		cacheListener.afterInvalidate(mockEntryEvent("three"));
+
+		assertThat(cacheListener.getSketch().getTotal()).isEqualTo(3L);
+		assertThat(cacheListener.getSketch().estimate("one")).isEqualTo(2L);
+		assertThat(cacheListener.getSketch().getHeavyHitters()).hasSize(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionClearResetsSketch() {
+
+		HotKeysCacheListener<Object, Object> cacheListener = new HotKeysCacheListener<>(new HeavyHittersSketch());
+
+		cacheListener.afterCreate(mockEntryEvent("one"));
+		cacheListener.afterRegionClear(mock(RegionEvent.class));
+
+		assertThat(cacheListener.getSketch().getTotal()).isZero();
+		assertThat(cacheListener.getSketch().getHeavyHitters()).isEmpty();
+	}
+
+	@Test
+	public void ratePerSecondUsesSketchWindow() {
+
+		Clock mockClock = mock(Clock.class);
+
+		when(mockClock.millis()).thenReturn(1000L, 3000L, 3000L, 1000L);
+
+		HeavyHittersSketch sketch = new HeavyHittersSketch(HeavyHittersSketch.DEFAULT_CAPACITY,
+			HeavyHittersSketch.DEFAULT_DEPTH, HeavyHittersSketch.DEFAULT_WIDTH, Duration.ofMinutes(1), mockClock);
+
+		HotKeysCacheListener<Object, Object> cacheListener = new HotKeysCacheListener<>(sketch);
+
+		assertThat(cacheListener.ratePerSecond(10L)).isEqualTo(5.0d);
+		assertThat(cacheListener.ratePerSecond(10L)).isEqualTo(0.0d);
+	}
+
+	@Test
+	public void registrarRegistersCacheListenerOnTrackedRegionsWithoutOne() {
+
+		GemFireCache mockGemFireCache = mock(GemFireCache.class);
+
+		Region<Object, Object> mockRegionOne = mockRegion("One");
+		Region<Object, Object> mockRegionTwo = mockRegion("Two");
+		Region<Object, Object> mockRegionThree =
+			mockRegion("Three", new HotKeysCacheListener<>(new HeavyHittersSketch()));
+
+		when(mockGemFireCache.rootRegions())
+			.thenReturn(CollectionUtils.asSet(mockRegionOne, mockRegionTwo, mockRegionThree));
+
+		HotKeysCacheListenerRegistrar registrar = new HotKeysCacheListenerRegistrar(mockGemFireCache,
+			CollectionUtils.asSet("/One", "Three"), HeavyHittersSketch::new);
+
+		registrar.afterSingletonsInstantiated();
+
+		verify(mockRegionOne.getAttributesMutator()).addCacheListener(any(HotKeysCacheListener.class));
+		verify(mockRegionTwo.getAttributesMutator(), never()).addCacheListener(any());
+		verify(mockRegionThree.getAttributesMutator(), never()).addCacheListener(any());
+	}
+
+	@Test
+	public void findHotKeysCacheListener() {
+
+		HotKeysCacheListener<Object, Object> cacheListener = new HotKeysCacheListener<>(new HeavyHittersSketch());
+
+		assertThat(HotKeysCacheListenerRegistrar.findHotKeysCacheListener(null)).isEmpty();
+		assertThat(HotKeysCacheListenerRegistrar.findHotKeysCacheListener(mockRegion("Empty"))).isEmpty();
+		assertThat(HotKeysCacheListenerRegistrar.findHotKeysCacheListener(mockRegion("Example",
+			mock(CacheListener.class), cacheListener))).containsSame(cacheListener);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.client.ClientCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeAsyncEventQueuesMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeAsyncEventQueuesMeterBinder
+ * @since 2.0.0
+ */
+public class GeodeAsyncEventQueuesMeterBinderUnitTests {
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+		this.registry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	public void bindToRegistersAsyncEventQueueMeters() {
+
+		Cache mockCache = mock(Cache.class);
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		when(mockAsyncEventQueue.getId()).thenReturn("TestQueue");
+		when(mockAsyncEventQueue.isParallel()).thenReturn(true);
+		when(mockAsyncEventQueue.isPrimary()).thenReturn(true);
+		when(mockAsyncEventQueue.size()).thenReturn(512);
+		when(mockCache.getAsyncEventQueues()).thenReturn(asSet(mockAsyncEventQueue));
+
+		new GeodeAsyncEventQueuesMeterBinder(mockCache).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.async-event-queue.size").tag("queue", "TestQueue")
+			.tag("parallel", "true").gauge().value()).isEqualTo(512.0d);
+		assertThat(this.registry.get("geode.async-event-queue.primary").tag("queue", "TestQueue")
+			.gauge().value()).isEqualTo(1.0d);
+
+		when(mockAsyncEventQueue.size()).thenReturn(0);
+
+		assertThat(this.registry.get("geode.async-event-queue.size").tag("queue", "TestQueue")
+			.gauge().value()).isZero();
+	}
+
+	@Test
+	public void bindToWithClientCacheRegistersNoMeters() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		new GeodeAsyncEventQueuesMeterBinder(mockClientCache).bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+
+		verifyNoInteractions(mockClientCache);
+	}
+}
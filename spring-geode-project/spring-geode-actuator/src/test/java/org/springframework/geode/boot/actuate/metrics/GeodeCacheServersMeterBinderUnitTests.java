@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerLoadProbe;
+import org.apache.geode.cache.server.ServerMetrics;
+
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeCacheServersMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.server.CacheServer
+ * @see org.apache.geode.cache.server.ServerMetrics
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeCacheServersMeterBinder
+ * @since 2.0.0
+ */
+public class GeodeCacheServersMeterBinderUnitTests {
+
+	private Cache mockCache;
+
+	private CacheServer mockCacheServer;
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+
+		this.mockCache = mock(Cache.class);
+		this.mockCacheServer = mock(CacheServer.class);
+		this.registry = new SimpleMeterRegistry();
+
+		when(this.mockCacheServer.getPort()).thenReturn(40404);
+		when(this.mockCacheServer.getMaxConnections()).thenReturn(800);
+		when(this.mockCache.getCacheServers()).thenReturn(Collections.singletonList(this.mockCacheServer));
+	}
+
+	@Test
+	public void bindToRegistersCacheServerMetersFromCurrentServerMetrics() {
+
+		ServerLoadProbe mockServerLoadProbe = mock(ServerLoadProbe.class);
+
+		ServerMetrics mockServerMetrics = mock(ServerMetrics.class);
+
+		when(mockServerMetrics.getClientCount()).thenReturn(12);
+		when(mockServerMetrics.getConnectionCount()).thenReturn(48);
+		when(mockServerMetrics.getSubscriptionConnectionCount()).thenReturn(6);
+		when(mockServerLoadProbe.getLoad(any(ServerMetrics.class)))
+			.thenReturn(new ServerLoad(0.06f, 0.00125f, 0.5f, 1.0f));
+
+		ActuatorServerLoadProbeWrapper loadProbe = new ActuatorServerLoadProbeWrapper(mockServerLoadProbe);
+
+		loadProbe.getLoad(mockServerMetrics);
+
+		when(this.mockCacheServer.getLoadProbe()).thenReturn(loadProbe);
+
+		new GeodeCacheServersMeterBinder(this.mockCache).bindTo(this.registry);
+
+		assertThat(gaugeValue("geode.cache.server.clients")).isEqualTo(12.0d);
+		assertThat(gaugeValue("geode.cache.server.connections")).isEqualTo(48.0d);
+		assertThat(gaugeValue("geode.cache.server.connections.max")).isEqualTo(800.0d);
+		assertThat(gaugeValue("geode.cache.server.subscription.connections")).isEqualTo(6.0d);
+		assertThat(gaugeValue("geode.cache.server.load.connection")).isEqualTo((double) 0.06f);
+		assertThat(gaugeValue("geode.cache.server.load.subscription")).isEqualTo(0.5d);
+	}
+
+	@Test
+	public void bindToWithUnwrappedLoadProbeReportsNaNForServerMetrics() {
+
+		when(this.mockCacheServer.getLoadProbe()).thenReturn(mock(ServerLoadProbe.class));
+
+		new GeodeCacheServersMeterBinder(this.mockCache).bindTo(this.registry);
+
+		assertThat(gaugeValue("geode.cache.server.clients")).isNaN();
+		assertThat(gaugeValue("geode.cache.server.connections.max")).isEqualTo(800.0d);
+		assertThat(gaugeValue("geode.cache.server.load.connection")).isNaN();
+	}
+
+	private double gaugeValue(String name) {
+		return this.registry.get(name).tag("port", "40404").gauge().value();
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.query.CqAttributes;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.cq.ContinuousQueryEventTracker;
+import org.springframework.geode.boot.actuate.cq.EventTrackingCqListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeContinuousQueriesMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.query.CqQuery
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeContinuousQueriesMeterBinder
+ * @since 2.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GeodeContinuousQueriesMeterBinderUnitTests {
+
+	@Mock
+	private QueryService mockQueryService;
+
+	private ContinuousQueryListenerContainer container;
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+
+		this.container = new ContinuousQueryListenerContainer();
+		this.container.setQueryService(this.mockQueryService);
+		this.registry = new SimpleMeterRegistry();
+	}
+
+	private CqQuery mockContinuousQuery(String name, CqListener... cqListeners) {
+
+		CqQuery mockContinuousQuery = mock(CqQuery.class, name);
+
+		CqAttributes mockContinuousQueryAttributes = mock(CqAttributes.class);
+
+		when(mockContinuousQuery.getCqAttributes()).thenReturn(mockContinuousQueryAttributes);
+		when(mockContinuousQueryAttributes.getCqListeners()).thenReturn(cqListeners);
+
+		return mockContinuousQuery;
+	}
+
+	@Test
+	public void bindToRegistersMetersForTrackedContinuousQueriesOnly() {
+
+		ContinuousQueryEventTracker tracker = new ContinuousQueryEventTracker("TrackedCq");
+
+		tracker.eventReceived();
+		tracker.eventDispatched(tracker.eventReceived());
+
+		CqQuery[] mockContinuousQueries = {
+			mockContinuousQuery("TrackedCq", new EventTrackingCqListener(mock(CqListener.class), tracker)),
+			mockContinuousQuery("UntrackedCq", mock(CqListener.class))
+		};
+
+		when(this.mockQueryService.getCqs()).thenReturn(mockContinuousQueries);
+
+		new GeodeContinuousQueriesMeterBinder(this.container).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.cq.events").tag("cq", "TrackedCq").functionCounter().count())
+			.isEqualTo(2.0d);
+		assertThat(this.registry.get("geode.cq.events.lag").tag("cq", "TrackedCq").functionTimer().count())
+			.isEqualTo(1.0d);
+		assertThat(this.registry.get("geode.cq.listener.queue").tag("cq", "TrackedCq").gauge().value())
+			.isEqualTo(1.0d);
+		assertThat(this.registry.get("geode.cq.listener.processing").tag("cq", "TrackedCq").functionTimer().count())
+			.isZero();
+		assertThat(this.registry.get("geode.cq.events.lag.current").tag("cq", "TrackedCq").timeGauge())
+			.isNotNull();
+		assertThat(this.registry.find("geode.cq.events").tag("cq", "UntrackedCq").meters()).isEmpty();
+	}
+
+	@Test
+	public void bindToWithoutContinuousQueryListenerContainerRegistersNoMeters() {
+
+		new GeodeContinuousQueriesMeterBinder().bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsResolver;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeDiskStoresMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.cache.DiskStore
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeDiskStoresMeterBinder
+ * @since 2.0.0
+ */
+public class GeodeDiskStoresMeterBinderUnitTests {
+
+	private final Map<String, Long> statisticValues = new HashMap<>();
+
+	private GemFireCache mockCache;
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+
+		this.mockCache = mock(GemFireCache.class);
+		this.registry = new SimpleMeterRegistry();
+
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+		Statistics mockStatistics = mock(Statistics.class);
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		when(this.mockCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+		when(mockDistributedSystem.findType(eq(DiskStoreStatisticsResolver.DISK_STORE_STATISTICS_TYPE_NAME)))
+			.thenReturn(mockStatisticsType);
+		when(mockDistributedSystem.findStatisticsByType(eq(mockStatisticsType)))
+			.thenReturn(new Statistics[] { mockStatistics });
+		when(mockStatistics.getTextId()).thenReturn("TestDiskStore");
+		when(mockStatistics.get(anyString()))
+			.thenAnswer(invocation -> this.statisticValues.getOrDefault(invocation.<String>getArgument(0), 0L));
+	}
+
+	@Test
+	public void bindToRegistersDiskStoreMeters() {
+
+		File mockDirectory = mock(File.class);
+
+		DiskStore mockDiskStore = mock(DiskStore.class);
+
+		when(mockDirectory.getTotalSpace()).thenReturn(1000L);
+		when(mockDirectory.getUsableSpace()).thenReturn(250L);
+		when(mockDiskStore.getDiskDirs()).thenReturn(new File[] { mockDirectory });
+		when(this.mockCache.findDiskStore(eq("TestDiskStore"))).thenReturn(mockDiskStore);
+
+		this.statisticValues.put("writes", 4L);
+		this.statisticValues.put("writeTime", TimeUnit.MILLISECONDS.toNanos(20L));
+		this.statisticValues.put("writtenBytes", 4096L);
+		this.statisticValues.put("queueSize", 16L);
+		this.statisticValues.put("openOplogs", 1L);
+		this.statisticValues.put("compactableOplogs", 2L);
+
+		new GeodeDiskStoresMeterBinder(this.mockCache).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.disk-store.writes").tag("disk.store", "TestDiskStore")
+			.functionTimer().count()).isEqualTo(4.0d);
+		assertThat(this.registry.get("geode.disk-store.writes").tag("disk.store", "TestDiskStore")
+			.functionTimer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20.0d);
+		assertThat(this.registry.get("geode.disk-store.write.bytes").tag("disk.store", "TestDiskStore")
+			.functionCounter().count()).isEqualTo(4096.0d);
+		assertThat(this.registry.get("geode.disk-store.queue.size").tag("disk.store", "TestDiskStore")
+			.gauge().value()).isEqualTo(16.0d);
+		assertThat(this.registry.get("geode.disk-store.oplogs").tag("state", "compactable")
+			.gauge().value()).isEqualTo(2.0d);
+		assertThat(this.registry.get("geode.disk-store.compactions.active").gauge().value()).isZero();
+		assertThat(this.registry.get("geode.disk-store.usage").gauge().value()).isEqualTo(75.0d);
+
+		this.statisticValues.put("queueSize", 0L);
+
+		assertThat(this.registry.get("geode.disk-store.queue.size").gauge().value()).isZero();
+	}
+
+	@Test
+	public void bindToWithoutDiskStoreStatisticsRegistersNoMeters() {
+
+		when(this.mockCache.getDistributedSystem()).thenReturn(null);
+
+		new GeodeDiskStoresMeterBinder(this.mockCache).bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.geode.function.support.FunctionResultCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeFunctionResultCacheMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeFunctionResultCacheMeterBinder
+ * @see org.springframework.geode.function.support.FunctionResultCache
+ * @since 2.0.0
+ */
+public class GeodeFunctionResultCacheMeterBinderUnitTests {
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+		this.registry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	public void bindToRegistersFunctionResultCacheMeters() throws Exception {
+
+		FunctionResultCache functionResultCache = new FunctionResultCache();
+
+		FunctionResultCache.Key keyOne = FunctionResultCache.newKey("/Example", "count", null, null);
+		FunctionResultCache.Key keyTwo = FunctionResultCache.newKey("/Example", "sum", null, null);
+
+		functionResultCache.getOrExecute(keyOne, () -> 1);
+		functionResultCache.getOrExecute(keyOne, () -> 2);
+		functionResultCache.getOrExecute(keyOne, () -> 3);
+		functionResultCache.getOrExecute(keyTwo, () -> 4);
+
+		new GeodeFunctionResultCacheMeterBinder(functionResultCache).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.function.cache.hits").functionCounter().count()).isEqualTo(2.0d);
+		assertThat(this.registry.get("geode.function.cache.misses").functionCounter().count()).isEqualTo(2.0d);
+		assertThat(this.registry.get("geode.function.cache.size").gauge().value()).isEqualTo(2.0d);
+		assertThat(this.registry.get("geode.function.cache.hit.ratio").gauge().value()).isEqualTo(0.5d);
+
+		functionResultCache.invalidate("/Example");
+
+		assertThat(this.registry.get("geode.function.cache.invalidations").functionCounter().count())
+			.isEqualTo(2.0d);
+		assertThat(this.registry.get("geode.function.cache.evictions").functionCounter().count()).isZero();
+		assertThat(this.registry.get("geode.function.cache.size").gauge().value()).isZero();
+	}
+
+	@Test
+	public void bindToWithoutFunctionResultCacheRegistersNoMeters() {
+
+		new GeodeFunctionResultCacheMeterBinder().bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeGatewayReceiversMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.Statistics
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeGatewayReceiversMeterBinder
+ * @since 2.0.0
+ */
+public class GeodeGatewayReceiversMeterBinderUnitTests {
+
+	private final Map<String, Long> statisticValues = new HashMap<>();
+
+	private Cache mockCache;
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+
+		this.mockCache = mock(Cache.class);
+		this.registry = new SimpleMeterRegistry();
+
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+		Statistics mockStatistics = mock(Statistics.class);
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		when(this.mockCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+		when(mockDistributedSystem.findType(eq(GatewayStatisticsResolver.GATEWAY_RECEIVER_STATISTICS_TYPE_NAME)))
+			.thenReturn(mockStatisticsType);
+		when(mockDistributedSystem.findStatisticsByType(eq(mockStatisticsType)))
+			.thenReturn(new Statistics[] { mockStatistics });
+		when(mockStatistics.getTextId()).thenReturn("TestGatewayReceiver");
+		when(mockStatistics.get(anyString()))
+			.thenAnswer(invocation -> this.statisticValues.getOrDefault(invocation.<String>getArgument(0), 0L));
+	}
+
+	@Test
+	public void bindToRegistersGatewayReceiverMeters() {
+
+		this.statisticValues.put("eventsReceived", 500L);
+		this.statisticValues.put("processBatchRequests", 20L);
+		this.statisticValues.put("processBatchTime", TimeUnit.MILLISECONDS.toNanos(40L));
+		this.statisticValues.put("duplicateBatchesReceived", 2L);
+
+		new GeodeGatewayReceiversMeterBinder(this.mockCache).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.gateway-receiver.events.received")
+			.tag("gateway.receiver", "TestGatewayReceiver").functionCounter().count()).isEqualTo(500.0d);
+		assertThat(this.registry.get("geode.gateway-receiver.batches").functionTimer().count()).isEqualTo(20.0d);
+		assertThat(this.registry.get("geode.gateway-receiver.batches").functionTimer()
+			.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40.0d);
+		assertThat(this.registry.get("geode.gateway-receiver.batches.duplicate").functionCounter().count())
+			.isEqualTo(2.0d);
+		assertThat(this.registry.get("geode.gateway-receiver.batches.out-of-order").functionCounter().count())
+			.isZero();
+	}
+
+	@Test
+	public void bindToWithoutGatewayReceiverStatisticsRegistersNoMeters() {
+
+		when(this.mockCache.getDistributedSystem()).thenReturn(null);
+
+		new GeodeGatewayReceiversMeterBinder(this.mockCache).bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.wan.GatewaySender;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.springframework.geode.boot.actuate.health.support.GatewayStatisticsResolver;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeGatewaySendersMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.cache.wan.GatewaySender
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeGatewaySendersMeterBinder
+ * @since 2.0.0
+ */
+public class GeodeGatewaySendersMeterBinderUnitTests {
+
+	private final Map<String, Long> statisticValues = new HashMap<>();
+
+	private Cache mockCache;
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+
+		this.mockCache = mock(Cache.class);
+		this.registry = new SimpleMeterRegistry();
+
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+		GatewaySender mockGatewaySender = mock(GatewaySender.class);
+		Statistics mockStatistics = mock(Statistics.class);
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		when(this.mockCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+		when(this.mockCache.getGatewaySenders()).thenReturn(Collections.singleton(mockGatewaySender));
+		when(mockGatewaySender.getId()).thenReturn("TestGatewaySender");
+		when(mockGatewaySender.getRemoteDSId()).thenReturn(2);
+		when(mockDistributedSystem.findType(eq(GatewayStatisticsResolver.GATEWAY_SENDER_STATISTICS_TYPE_NAME)))
+			.thenReturn(mockStatisticsType);
+		when(mockDistributedSystem.findStatisticsByType(eq(mockStatisticsType)))
+			.thenReturn(new Statistics[] { mockStatistics });
+		when(mockStatistics.getTextId()).thenReturn("gatewaySenderStats-TestGatewaySender");
+		when(mockStatistics.get(anyString()))
+			.thenAnswer(invocation -> this.statisticValues.getOrDefault(invocation.<String>getArgument(0), 0L));
+	}
+
+	@Test
+	public void bindToRegistersGatewaySenderMeters() {
+
+		this.statisticValues.put("eventQueueSize", 64L);
+		this.statisticValues.put("secondaryEventQueueSize", 32L);
+		this.statisticValues.put("batchesDistributed", 10L);
+		this.statisticValues.put("batchDistributionTime", TimeUnit.MILLISECONDS.toNanos(50L));
+		this.statisticValues.put("eventsDistributed", 250L);
+		this.statisticValues.put("batchesRedistributed", 1L);
+
+		new GeodeGatewaySendersMeterBinder(this.mockCache).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.gateway-sender.queue.size").tag("gateway.sender", "TestGatewaySender")
+			.tag("remote.ds", "2").gauge().value()).isEqualTo(64.0d);
+		assertThat(this.registry.get("geode.gateway-sender.queue.secondary.size").gauge().value()).isEqualTo(32.0d);
+		assertThat(this.registry.get("geode.gateway-sender.batch.dispatch").functionTimer().count())
+			.isEqualTo(10.0d);
+		assertThat(this.registry.get("geode.gateway-sender.batch.dispatch").functionTimer()
+			.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(50.0d);
+		assertThat(this.registry.get("geode.gateway-sender.batch.events").gauge().value()).isEqualTo(25.0d);
+		assertThat(this.registry.get("geode.gateway-sender.events.distributed").functionCounter().count())
+			.isEqualTo(250.0d);
+		assertThat(this.registry.get("geode.gateway-sender.batches.redistributed").functionCounter().count())
+			.isEqualTo(1.0d);
+		assertThat(this.registry.get("geode.gateway-sender.replication.lag").timeGauge()).isNotNull();
+
+		this.statisticValues.put("eventQueueSize", 0L);
+
+		assertThat(this.registry.get("geode.gateway-sender.queue.size").gauge().value()).isZero();
+		assertThat(this.registry.get("geode.gateway-sender.replication.lag").timeGauge().value(TimeUnit.MILLISECONDS))
+			.isZero();
+	}
+
+	@Test
+	public void bindToWithClientCacheRegistersNoMeters() {
+
+		new GeodeGatewaySendersMeterBinder(mock(ClientCache.class)).bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+}
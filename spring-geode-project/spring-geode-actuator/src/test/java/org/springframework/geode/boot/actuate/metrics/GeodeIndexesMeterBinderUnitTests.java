@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexStatistics;
+
+import org.springframework.context.ApplicationContext;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeIndexesMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.query.Index
+ * @see org.apache.geode.cache.query.IndexStatistics
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeIndexesMeterBinder
+ * @since 2.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GeodeIndexesMeterBinderUnitTests {
+
+	@Mock
+	private ApplicationContext mockApplicationContext;
+
+	private MeterRegistry registry;
+
+	@Before
+	public void setup() {
+		this.registry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	public void bindToRegistersIndexMeters() {
+
+		Index mockIndex = mock(Index.class);
+
+		IndexStatistics mockIndexStatistics = mock(IndexStatistics.class);
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Customers");
+		when(mockIndex.getName()).thenReturn("CustomerNameIdx");
+		when(mockIndex.getRegion()).thenReturn((Region) mockRegion);
+		when(mockIndex.getStatistics()).thenReturn(mockIndexStatistics);
+		when(mockIndexStatistics.getNumberOfKeys()).thenReturn(100L);
+		when(mockIndexStatistics.getNumberOfValues()).thenReturn(250L);
+		when(mockIndexStatistics.getNumUpdates()).thenReturn(16L);
+		when(mockIndexStatistics.getTotalUpdateTime()).thenReturn(TimeUnit.MILLISECONDS.toNanos(32L));
+		when(mockIndexStatistics.getTotalUses()).thenReturn(1024L);
+		when(this.mockApplicationContext.getBeansOfType(Index.class))
+			.thenReturn(Collections.singletonMap("CustomerNameIdx", mockIndex));
+
+		new GeodeIndexesMeterBinder(this.mockApplicationContext).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.index.keys").tag("index", "CustomerNameIdx")
+			.tag("region", "/Customers").gauge().value()).isEqualTo(100.0d);
+		assertThat(this.registry.get("geode.index.values").tag("index", "CustomerNameIdx").gauge().value())
+			.isEqualTo(250.0d);
+		assertThat(this.registry.get("geode.index.uses").tag("index", "CustomerNameIdx").functionCounter().count())
+			.isEqualTo(1024.0d);
+
+		FunctionTimer updates = this.registry.get("geode.index.updates").tag("index", "CustomerNameIdx")
+			.functionTimer();
+
+		assertThat(updates.count()).isEqualTo(16.0d);
+		assertThat(updates.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(32.0d);
+	}
+
+	@Test
+	public void indexWithoutStatisticsReportsNaN() {
+
+		Index mockIndex = mock(Index.class);
+
+		when(mockIndex.getName()).thenReturn("MockIdx");
+		when(this.mockApplicationContext.getBeansOfType(Index.class))
+			.thenReturn(Collections.singletonMap("MockIdx", mockIndex));
+
+		new GeodeIndexesMeterBinder(this.mockApplicationContext).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.index.keys").tag("index", "MockIdx").tag("region", "none")
+			.gauge().value()).isNaN();
+		assertThat(this.registry.get("geode.index.updates").tag("index", "MockIdx").functionTimer().count())
+			.isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullApplicationContextThrowsIllegalArgumentException() {
+
+		try {
+			new GeodeIndexesMeterBinder(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("ApplicationContext is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodePoolsMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.apache.geode.cache.client.Pool
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodePoolsMeterBinder
+ * @since 2.0.0
+ */
+public class GeodePoolsMeterBinderUnitTests {
+
+	private MeterRegistry registry;
+
+	private Pool mockPool;
+
+	@Before
+	public void setup() {
+
+		this.registry = new SimpleMeterRegistry();
+		this.mockPool = mock(Pool.class);
+
+		when(this.mockPool.getName()).thenReturn("MockPool");
+		when(this.mockPool.getMaxConnections()).thenReturn(100);
+		when(this.mockPool.getOnlineLocators()).thenReturn(Arrays.asList(
+			new InetSocketAddress("localhost", 10334), new InetSocketAddress("localhost", 11235)));
+	}
+
+	private ClientCache mockClientCache(boolean durable) {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+
+		Properties gemfireProperties = new Properties();
+
+		if (durable) {
+			gemfireProperties.setProperty(CacheUtils.DURABLE_CLIENT_ID_PROPERTY_NAME, "test-durable-client");
+		}
+
+		when(mockDistributedSystem.isConnected()).thenReturn(true);
+		when(mockDistributedSystem.getProperties()).thenReturn(gemfireProperties);
+		when(mockClientCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+
+		return mockClientCache;
+	}
+
+	private GeodePoolsMeterBinder newPoolsMeterBinder(ClientCache clientCache) {
+
+		GeodePoolsMeterBinder poolsMeterBinder = spy(new GeodePoolsMeterBinder(clientCache));
+
+		doReturn(Collections.singletonMap("MockPool", this.mockPool)).when(poolsMeterBinder).findAllPools();
+
+		return poolsMeterBinder;
+	}
+
+	@Test
+	public void bindToRegistersPoolMeters() {
+
+		newPoolsMeterBinder(mockClientCache(false)).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.pool.connections.max").tag("pool", "MockPool").gauge().value())
+			.isEqualTo(100.0d);
+		assertThat(this.registry.get("geode.pool.locators.online").tag("pool", "MockPool").gauge().value())
+			.isEqualTo(2.0d);
+		assertThat(this.registry.find("geode.pool.pending.events").gauge()).isNull();
+	}
+
+	@Test
+	public void bindToWithDurableClientRegistersPendingEventsMeter() {
+
+		when(this.mockPool.getPendingEventCount()).thenReturn(64);
+
+		newPoolsMeterBinder(mockClientCache(true)).bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.pool.pending.events").tag("pool", "MockPool").gauge().value())
+			.isEqualTo(64.0d);
+	}
+
+	@Test
+	public void bindToWithPeerCacheRegistersNoMeters() {
+
+		new GeodePoolsMeterBinder(mock(Cache.class)).bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+}
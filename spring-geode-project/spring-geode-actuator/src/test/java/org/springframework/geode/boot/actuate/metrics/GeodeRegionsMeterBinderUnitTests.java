@@ -0,0 +1,277 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.RegionListener;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeRegionsMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.cache.Region
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeRegionsMeterBinder
+ * @since 2.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GeodeRegionsMeterBinderUnitTests {
+
+	@Mock
+	private GemFireCache mockGemFireCache;
+
+	private MeterRegistry registry;
+
+	private GeodeRegionsMeterBinder regionsMeterBinder;
+
+	@Before
+	public void setup() {
+		this.registry = new SimpleMeterRegistry();
+		this.regionsMeterBinder = new GeodeRegionsMeterBinder(this.mockGemFireCache);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region<?, ?> mockRegion(String name, DataPolicy dataPolicy, boolean statisticsEnabled) {
+
+		Region<Object, Object> mockRegion = mock(Region.class, name);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getFullPath()).thenReturn(Region.SEPARATOR + name);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(dataPolicy);
+		when(mockRegionAttributes.getStatisticsEnabled()).thenReturn(statisticsEnabled);
+
+		return mockRegion;
+	}
+
+	@Test
+	public void bindToRegistersRegionMeters() {
+
+		Region<?, ?> mockRegion = mockRegion("Customers", DataPolicy.REPLICATE, true);
+
+		CacheStatistics mockCacheStatistics = mock(CacheStatistics.class);
+
+		when(mockCacheStatistics.getHitCount()).thenReturn(202408L);
+		when(mockCacheStatistics.getHitRatio()).thenReturn(0.75f);
+		when(mockCacheStatistics.getMissCount()).thenReturn(67469L);
+		when(mockRegion.getStatistics()).thenReturn(mockCacheStatistics);
+		when(mockRegion.size()).thenReturn(42);
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsMeterBinder.bindTo(this.registry);
+
+		Gauge entries = this.registry.get("geode.region.entries")
+			.tag("region", "/Customers")
+			.tag("data.policy", "REPLICATE")
+			.gauge();
+
+		assertThat(entries.value()).isEqualTo(42.0d);
+		assertThat(this.registry.get("geode.region.hits").tag("region", "/Customers").functionCounter().count())
+			.isEqualTo(202408.0d);
+		assertThat(this.registry.get("geode.region.misses").tag("region", "/Customers").functionCounter().count())
+			.isEqualTo(67469.0d);
+		assertThat(this.registry.get("geode.region.hit.ratio").tag("region", "/Customers").gauge().value())
+			.isEqualTo(0.75d);
+	}
+
+	@Test
+	public void regionMetersShareResolvedStatistics() {
+
+		Region<?, ?> mockRegion = mockRegion("Accounts", DataPolicy.REPLICATE, true);
+
+		CacheStatistics mockCacheStatistics = mock(CacheStatistics.class);
+
+		when(mockRegion.getStatistics()).thenReturn(mockCacheStatistics);
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsMeterBinder.bindTo(this.registry);
+
+		this.registry.get("geode.region.hits").tag("region", "/Accounts").functionCounter().count();
+		this.registry.get("geode.region.misses").tag("region", "/Accounts").functionCounter().count();
+		this.registry.get("geode.region.hit.ratio").tag("region", "/Accounts").gauge().value();
+
+		verify(mockRegion, times(1)).getStatistics();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bindToRegistersSubregionMeters() {
+
+		Region<?, ?> mockRootRegion = mockRegion("Customers", DataPolicy.EMPTY, false);
+		Region<?, ?> mockSubregion = mockRegion("Customers/Addresses", DataPolicy.REPLICATE, false);
+
+		when(mockSubregion.size()).thenReturn(16);
+		when(((Region<Object, Object>) mockRootRegion).subregions(eq(true))).thenReturn(asSet(mockSubregion));
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRootRegion));
+
+		this.regionsMeterBinder.bindTo(this.registry);
+
+		assertThat(this.registry.get("geode.region.entries").tag("region", "/Customers/Addresses").gauge().value())
+			.isEqualTo(16.0d);
+	}
+
+	@Test
+	public void bindToRegistersOnlyApplicableMetersForProxyRegionWithStatisticsDisabled() {
+
+		Region<?, ?> mockRegion = mockRegion("Orders", DataPolicy.EMPTY, false);
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsMeterBinder.bindTo(this.registry);
+
+		assertThat(this.registry.find("geode.region.entries").gauge()).isNull();
+		assertThat(this.registry.find("geode.region.hits").functionCounter()).isNull();
+		assertThat(this.registry.find("geode.region.misses").functionCounter()).isNull();
+		assertThat(this.registry.find("geode.region.hit.ratio").gauge()).isNull();
+	}
+
+	@Test
+	public void contextRefreshBindsRegionsCreatedAfterBindTo() {
+
+		Set<Region<?, ?>> rootRegions = new HashSet<>();
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(rootRegions);
+
+		this.regionsMeterBinder.bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+
+		Region<?, ?> mockRegion = mockRegion("Products", DataPolicy.NORMAL, false);
+
+		when(mockRegion.size()).thenReturn(8);
+
+		rootRegions.add(mockRegion);
+
+		this.regionsMeterBinder.onApplicationEvent(mock(ContextRefreshedEvent.class));
+		this.regionsMeterBinder.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		assertThat(this.registry.getMeters()).hasSize(1);
+		assertThat(this.registry.get("geode.region.entries").tag("region", "/Products").gauge().value())
+			.isEqualTo(8.0d);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionListenerRemovesMetersOfDestroyedRegionAndSubregions() {
+
+		InternalCache mockInternalCache = mock(InternalCache.class);
+
+		Region<?, ?> mockRootRegion = mockRegion("Customers", DataPolicy.REPLICATE, true);
+		Region<?, ?> mockSubregion = mockRegion("Customers/Addresses", DataPolicy.REPLICATE, false);
+		Region<?, ?> mockOtherRegion = mockRegion("Orders", DataPolicy.REPLICATE, false);
+
+		when(((Region<Object, Object>) mockRootRegion).subregions(eq(true))).thenReturn(asSet(mockSubregion));
+		when(mockInternalCache.rootRegions()).thenReturn(asSet(mockRootRegion, mockOtherRegion));
+
+		GeodeRegionsMeterBinder regionsMeterBinder = new GeodeRegionsMeterBinder(mockInternalCache);
+
+		regionsMeterBinder.bindTo(this.registry);
+		regionsMeterBinder.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		assertThat(this.registry.getMeters()).hasSize(6);
+
+		ArgumentCaptor<RegionListener> regionListener = ArgumentCaptor.forClass(RegionListener.class);
+
+		verify(mockInternalCache, times(1)).addRegionListener(regionListener.capture());
+
+		regionListener.getValue().beforeDestroyed(mockRootRegion);
+
+		assertThat(this.registry.getMeters()).hasSize(1);
+		assertThat(this.registry.find("geode.region.entries").tag("region", "/Customers").gauge()).isNull();
+		assertThat(this.registry.find("geode.region.hits").tag("region", "/Customers").functionCounter()).isNull();
+		assertThat(this.registry.find("geode.region.entries").tag("region", "/Customers/Addresses").gauge()).isNull();
+		assertThat(this.registry.find("geode.region.entries").tag("region", "/Orders").gauge()).isNotNull();
+	}
+
+	@Test
+	public void bindPrunesMetersOfRegionsDestroyedSinceLastBind() {
+
+		Region<?, ?> mockRegion = mockRegion("Products", DataPolicy.NORMAL, true);
+
+		Set<Region<?, ?>> rootRegions = new HashSet<>(asSet(mockRegion));
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(rootRegions);
+
+		this.regionsMeterBinder.bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).hasSize(4);
+
+		rootRegions.clear();
+
+		when(mockRegion.isDestroyed()).thenReturn(true);
+
+		this.regionsMeterBinder.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+
+	@Test
+	public void uninitializedBinderRegistersNoMeters() {
+
+		new GeodeRegionsMeterBinder().bindTo(this.registry);
+
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullGemFireCacheThrowsIllegalArgumentException() {
+
+		try {
+			new GeodeRegionsMeterBinder(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemFireCache must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link TimedGemfireTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.TimedGemfireTemplate
+ * @since 2.0.0
+ */
+public class TimedGemfireTemplateUnitTests {
+
+	private MeterRegistry registry;
+
+	private Region<Object, Object> mockRegion;
+
+	private TimedGemfireTemplate template;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.registry = new SimpleMeterRegistry();
+		this.mockRegion = mock(Region.class);
+
+		when(this.mockRegion.getFullPath()).thenReturn("/Customers");
+
+		this.template = new TimedGemfireTemplate(this.mockRegion, this.registry);
+	}
+
+	private Timer timer(String operation) {
+
+		return this.registry.get(TimedGemfireTemplate.METER_NAME)
+			.tag("region", "/Customers")
+			.tag("operation", operation)
+			.timer();
+	}
+
+	@Test
+	public void registersTimersForAllOperations() {
+
+		assertThat(this.registry.find(TimedGemfireTemplate.METER_NAME).timers()).hasSize(7);
+		assertThat(timer("get").count()).isZero();
+		assertThat(timer("query").count()).isZero();
+	}
+
+	@Test
+	public void getIsTimed() {
+
+		when(this.mockRegion.get("key")).thenReturn("value");
+
+		assertThat(this.template.<Object, Object>get("key")).isEqualTo("value");
+		assertThat(timer("get").count()).isEqualTo(1L);
+		assertThat(timer("put").count()).isZero();
+
+		verify(this.mockRegion).get("key");
+	}
+
+	@Test
+	public void putAndPutAllAreTimed() {
+
+		this.template.put("key", "value");
+		this.template.putAll(Collections.singletonMap("key", "value"));
+		this.template.putAll(Collections.singletonMap("key", "value"));
+
+		assertThat(timer("put").count()).isEqualTo(1L);
+		assertThat(timer("putAll").count()).isEqualTo(2L);
+
+		verify(this.mockRegion).put("key", "value");
+	}
+
+	@Test
+	public void failedOperationIsTimed() {
+
+		when(this.mockRegion.remove("key")).thenThrow(new IllegalStateException("TEST"));
+
+		assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> this.template.remove("key"));
+		assertThat(timer("remove").count()).isEqualTo(1L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullMeterRegistryThrowsIllegalArgumentException() {
+
+		try {
+			new TimedGemfireTemplate(this.mockRegion, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("MeterRegistry must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
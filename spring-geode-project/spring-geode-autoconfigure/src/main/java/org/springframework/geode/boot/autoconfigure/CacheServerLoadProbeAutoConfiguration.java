@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.cache.server.ServerLoadProbe;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.config.annotation.CacheServerConfigurer;
+import org.springframework.data.gemfire.server.CacheServerFactoryBean;
+import org.springframework.geode.boot.autoconfigure.configuration.GemFireProperties;
+import org.springframework.geode.boot.autoconfigure.configuration.support.CacheServerProperties.LoadProbeProperties;
+import org.springframework.geode.cache.BlendedServerLoadProbe;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} class used to configure each Apache Geode
+ * {@link CacheServer} with a {@link BlendedServerLoadProbe} when {@literal spring.data.gemfire.cache.server.load-probe.enabled}
+ * is set to {@literal true}.
+ *
+ * The weights of the {@link BlendedServerLoadProbe} are configured with the
+ * {@literal spring.data.gemfire.cache.server.load-probe.*} properties.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.server.CacheServer
+ * @see org.apache.geode.cache.server.ServerLoadProbe
+ * @see org.springframework.boot.SpringBootConfiguration
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.data.gemfire.config.annotation.CacheServerConfigurer
+ * @see org.springframework.data.gemfire.server.CacheServerFactoryBean
+ * @see org.springframework.geode.boot.autoconfigure.configuration.GemFireProperties
+ * @see org.springframework.geode.cache.BlendedServerLoadProbe
+ * @since 2.0.0
+ */
+@SpringBootConfiguration
+@ConditionalOnBean(GemFireCache.class)
+@ConditionalOnClass({ CacheServerFactoryBean.class, GemFireCache.class })
+@ConditionalOnProperty(name = CacheServerLoadProbeAutoConfiguration.LOAD_PROBE_ENABLED_PROPERTY, havingValue = "true")
+@EnableConfigurationProperties(GemFireProperties.class)
+@SuppressWarnings("unused")
+public class CacheServerLoadProbeAutoConfiguration {
+
+	public static final String LOAD_PROBE_ENABLED_PROPERTY = "spring.data.gemfire.cache.server.load-probe.enabled";
+
+	@Bean
+	CacheServerConfigurer blendedServerLoadProbeCacheServerConfigurer(GemFireProperties gemfireProperties) {
+
+		LoadProbeProperties loadProbeProperties = gemfireProperties.getCache().getServer().getLoadProbe();
+
+		return (beanName, cacheServerFactoryBean) ->
+			cacheServerFactoryBean.setServerLoadProbe(newServerLoadProbe(loadProbeProperties));
+	}
+
+	static ServerLoadProbe newServerLoadProbe(LoadProbeProperties loadProbeProperties) {
+
+		return new BlendedServerLoadProbe(loadProbeProperties.getConnectionWeight(),
+			loadProbeProperties.getCpuWeight(), loadProbeProperties.getHeapWeight(),
+			loadProbeProperties.getQueueWeight(), loadProbeProperties.getQueueSizeThreshold());
+	}
+}
@@ -19,7 +19,11 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
 
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -181,4 +185,22 @@ public class DataImportExportAutoConfiguration {
 			}
 		}
 	}
+
+	/**
+	 * Spring {@link RuntimeHintsRegistrar} registering the reflection required by Spring AOP to introspect
+	 * the {@link PdxInstanceWrapperRegionAspect}, including its {@literal private} {@literal pointcut} methods,
+	 * and to match the {@literal pointcuts} against {@link Region} data access operations in a native image.
+	 *
+	 * @see org.springframework.aot.hint.RuntimeHintsRegistrar
+	 */
+	static class RegionAdviceRuntimeHints implements RuntimeHintsRegistrar {
+
+		@Override
+		public void registerHints(@NonNull RuntimeHints hints, @Nullable ClassLoader classLoader) {
+
+			hints.reflection()
+				.registerType(PdxInstanceWrapperRegionAspect.class, MemberCategory.INVOKE_DECLARED_METHODS)
+				.registerType(Region.class, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+		}
+	}
 }
@@ -15,10 +15,8 @@
  */
 package org.springframework.geode.boot.autoconfigure;
 
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Properties;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.geode.cache.GemFireCache;
 
@@ -30,13 +28,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.core.env.EnumerablePropertySource;
-import org.springframework.core.env.MutablePropertySources;
 import org.springframework.data.gemfire.CacheFactoryBean;
 import org.springframework.data.gemfire.GemFireProperties;
 import org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer;
 import org.springframework.data.gemfire.config.annotation.PeerCacheConfigurer;
-import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.geode.core.env.EnvironmentSnapshotMapAdapter;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -57,12 +53,11 @@ import org.slf4j.LoggerFactory;
  * @see org.springframework.core.Ordered
  * @see org.springframework.core.annotation.Order
  * @see org.springframework.core.env.ConfigurableEnvironment
- * @see org.springframework.core.env.EnumerablePropertySource
- * @see org.springframework.core.env.MutablePropertySources
  * @see org.springframework.data.gemfire.CacheFactoryBean
  * @see org.springframework.data.gemfire.GemFireProperties
  * @see org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer
  * @see org.springframework.data.gemfire.config.annotation.PeerCacheConfigurer
+ * @see org.springframework.geode.core.env.EnvironmentSnapshotMapAdapter
  * @see <a href="https://geode.apache.org/docs/guide/112/reference/topics/gemfire_properties.html">Geode Properties</a>
  * @since 1.3.0
  */
@@ -96,50 +91,34 @@ public class EnvironmentSourcedGemFirePropertiesAutoConfiguration {
 		Assert.notNull(environment, "Environment must not be null");
 		Assert.notNull(cache, "CacheFactoryBean must not be null");
 
-		MutablePropertySources propertySources = environment.getPropertySources();
+		Map<String, String> gemfirePropertiesSnapshot =
+			EnvironmentSnapshotMapAdapter.from(environment, GEMFIRE_PROPERTY_PREFIX);
 
-		if (propertySources != null) {
+		Properties gemfireProperties = cache.getProperties();
 
-			Set<String> gemfirePropertyNames = propertySources.stream()
-				.filter(EnumerablePropertySource.class::isInstance)
-				.map(EnumerablePropertySource.class::cast)
-				.map(EnumerablePropertySource::getPropertyNames)
-				.map(propertyNamesArray -> ArrayUtils.nullSafeArray(propertyNamesArray, String.class))
-				.flatMap(Arrays::stream)
-				.filter(this::isGemFireDotPrefixedProperty)
-				.filter(this::isValidGemFireProperty)
-				.collect(Collectors.toSet());
+		gemfirePropertiesSnapshot.entrySet().stream()
+			.filter(entry -> isValidGemFireProperty(entry.getKey()))
+			.filter(entry -> isNotSet(gemfireProperties, entry.getKey()))
+			.forEach(entry -> {
 
-			Properties gemfireProperties = cache.getProperties();
+				String propertyName = normalizeGemFirePropertyName(entry.getKey());
+				String propertyValue = entry.getValue();
 
-			gemfirePropertyNames.stream()
-				.filter(gemfirePropertyName -> isNotSet(gemfireProperties, gemfirePropertyName))
-				.filter(this::isValidGemFireProperty)
-				.forEach(gemfirePropertyName -> {
+				if (StringUtils.hasText(propertyValue)) {
+					gemfireProperties.setProperty(propertyName, propertyValue);
+				}
+				else {
+					getLogger().warn("Apache Geode Property [{}] was not set", propertyName);
+				}
+			});
 
-					String propertyName = normalizeGemFirePropertyName(gemfirePropertyName);
-					String propertyValue = environment.getProperty(gemfirePropertyName);
-
-					if (StringUtils.hasText(propertyValue)) {
-						gemfireProperties.setProperty(propertyName, propertyValue);
-					}
-					else {
-						getLogger().warn("Apache Geode Property [{}] was not set", propertyName);
-					}
-				});
-
-			cache.setProperties(gemfireProperties);
-		}
+		cache.setProperties(gemfireProperties);
 	}
 
 	protected Logger getLogger() {
 		return this.logger;
 	}
 
-	private boolean isGemFireDotPrefixedProperty(@NonNull String propertyName) {
-		return StringUtils.hasText(propertyName) && propertyName.startsWith(GEMFIRE_PROPERTY_PREFIX);
-	}
-
 	private boolean isNotSet(Properties gemfireProperties, String propertyName) {
 		return !gemfireProperties.containsKey(normalizeGemFirePropertyName(propertyName));
 	}
@@ -22,23 +22,36 @@ import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.gemfire.function.config.EnableGemfireFunctions;
 import org.springframework.data.gemfire.function.execution.GemfireFunctionOperations;
+import org.springframework.geode.function.config.FunctionExecutionProxyBeanPostProcessor;
 import org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar;
+import org.springframework.geode.function.support.FunctionResultCache;
 
 /**
  * Spring Boot {@link EnableAutoConfiguration auto-configuration} enabling Apache Geode's Function Execution
  * functionality in a {@link GemFireCache} application.
  *
+ * When {@value #FUNCTION_RESULT_CACHE_ENABLED_PROPERTY} is {@literal true}, a {@link FunctionResultCache} bean,
+ * caching the results of {@link org.springframework.geode.function.annotation.CacheableFunctionExecution} methods,
+ * is declared unless a bean named {@value FunctionExecutionProxyBeanPostProcessor#FUNCTION_RESULT_CACHE_BEAN_NAME}
+ * is already present. Otherwise, a {@link FunctionResultCache} is only created when a
+ * {@link org.springframework.geode.function.annotation.CacheableFunctionExecution} method is first proxied.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.GemFireCache
  * @see org.springframework.boot.SpringBootConfiguration
  * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
  * @see org.springframework.context.annotation.Import
  * @see org.springframework.data.gemfire.function.config.EnableGemfireFunctions
  * @see org.springframework.data.gemfire.function.config.EnableGemfireFunctionExecutions
  * @see org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar
+ * @see org.springframework.geode.function.support.FunctionResultCache
  * @see org.springframework.data.gemfire.function.execution.GemfireFunctionOperations
  * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
  * @since 1.0.0
@@ -52,4 +65,13 @@ import org.springframework.geode.function.config.GemFireFunctionExecutionAutoCon
 @SuppressWarnings("unused")
 public class FunctionExecutionAutoConfiguration {
 
+	public static final String FUNCTION_RESULT_CACHE_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.function.result-cache.enabled";
+
+	@Bean(FunctionExecutionProxyBeanPostProcessor.FUNCTION_RESULT_CACHE_BEAN_NAME)
+	@ConditionalOnMissingBean(name = FunctionExecutionProxyBeanPostProcessor.FUNCTION_RESULT_CACHE_BEAN_NAME)
+	@ConditionalOnProperty(name = FUNCTION_RESULT_CACHE_ENABLED_PROPERTY, havingValue = "true")
+	FunctionResultCache gemfireFunctionResultCache() {
+		return new FunctionResultCache();
+	}
 }
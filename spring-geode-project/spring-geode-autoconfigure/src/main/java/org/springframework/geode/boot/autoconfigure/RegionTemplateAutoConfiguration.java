@@ -17,8 +17,10 @@ package org.springframework.geode.boot.autoconfigure;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -30,15 +32,18 @@ import org.apache.geode.cache.Region;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyValue;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -49,6 +54,8 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.type.StandardMethodMetadata;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.data.gemfire.GemfireTemplate;
@@ -58,6 +65,7 @@ import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.geode.config.annotation.support.TypelessAnnotationConfigSupport;
+import org.springframework.geode.core.util.SpringBootExtensions;
 import org.springframework.geode.core.util.SpringExtensions;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -68,6 +76,10 @@ import org.springframework.util.StringUtils;
  * for each Apache Geode cache {@link Region} declared/defined in the Spring {@link ConfigurableApplicationContext}
  * in order to perform {@link Region} data access operations.
  *
+ * The {@link GemfireTemplate} bean registration is recorded as a {@link org.springframework.core.metrics.StartupStep}
+ * and, when lazy initialization is enabled, the auto-configured {@link GemfireTemplate} beans are only created
+ * on first use.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.GemFireCache
  * @see org.apache.geode.cache.Region
@@ -86,6 +98,8 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.context.ConfigurableApplicationContext
  * @see org.springframework.context.annotation.Bean
  * @see org.springframework.context.event.EventListener
+ * @see org.springframework.core.env.Environment
+ * @see org.springframework.core.metrics.ApplicationStartup
  * @see org.springframework.data.gemfire.GemfireTemplate
  * @see org.springframework.data.gemfire.ResolvableRegionFactoryBean
  * @see org.springframework.geode.config.annotation.support.TypelessAnnotationConfigSupport
@@ -100,72 +114,171 @@ public class RegionTemplateAutoConfiguration extends TypelessAnnotationConfigSup
 
 	private static final Object NON_BEAN = new Object();
 
+	private static final String REGION_TEMPLATES_STARTUP_STEP_NAME = "region.templates.register";
 	private static final String TEMPLATE = "Template";
 
 	private final Set<String> autoConfiguredRegionTemplateBeanNames = Collections.synchronizedSet(new HashSet<>());
 	private final Set<String> regionNamesWithTemplates = Collections.synchronizedSet(new HashSet<>());
 
 	@Bean
-	BeanFactoryPostProcessor regionTemplateBeanFactoryPostProcessor() {
+	BeanFactoryPostProcessor regionTemplateBeanFactoryPostProcessor(Environment environment) {
+
+		boolean lazy = SpringBootExtensions.isLazyInitializationEnabled(environment);
 
 		return beanFactory -> {
 
 			if (beanFactory instanceof BeanDefinitionRegistry registry) {
 
-				List<String> beanDefinitionNames =
-					Arrays.asList(ArrayUtils.nullSafeArray(registry.getBeanDefinitionNames(), String.class));
+				ApplicationStartup applicationStartup = SpringBootExtensions.resolveApplicationStartup(beanFactory);
 
-				Set<String> userRegionTemplateNames = new HashSet<>();
+				SpringBootExtensions.doInStartupStep(applicationStartup, REGION_TEMPLATES_STARTUP_STEP_NAME, step -> {
 
-				for (String beanName : beanDefinitionNames) {
+					BeanDefinitionIndex index = indexBeanDefinitions(beanFactory, registry);
 
-					String regionTemplateBeanName = toRegionTemplateBeanName(beanName);
+					index.getRegionBeanNames().forEach(regionBeanName ->
+						register(newGemfireTemplateBeanDefinition(regionBeanName, lazy),
+							toRegionTemplateBeanName(regionBeanName), registry));
 
-					if (!beanDefinitionNames.contains(regionTemplateBeanName)) {
+					index.getGemfireTemplateDependentBeanNames().forEach(beanName ->
+						SpringExtensions.addDependsOn(registry.getBeanDefinition(beanName),
+							GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME));
 
-						BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+					setAutoConfiguredRegionTemplateDependencies(registry, index.getUserRegionTemplateBeanNames());
 
-						Class<?> resolvedBeanType = resolveBeanClass(beanDefinition, registry).orElse(null);
+					step.tag("beanDefinitions", String.valueOf(index.size()))
+						.tag("regionTemplates", String.valueOf(this.autoConfiguredRegionTemplateBeanNames.size()))
+						.tag("lazy", String.valueOf(lazy));
 
-						if (isRegionBeanDefinition(resolvedBeanType)) {
-							register(newGemfireTemplateBeanDefinition(beanName), regionTemplateBeanName, registry);
-						}
-						else if (isGemfireTemplateBeanDefinition(resolvedBeanType)) {
-							userRegionTemplateNames.add(beanName);
-						}
-						else if (isBeanWithGemfireTemplateDependency(beanFactory, beanDefinition)) {
-							SpringExtensions.addDependsOn(beanDefinition, GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
-						}
+					return index;
+				});
+			}
+		};
+	}
+
+	/**
+	 * Indexes all {@link BeanDefinition BeanDefinitions} in the {@link BeanDefinitionRegistry} in a single pass,
+	 * resolving the {@link Class type} of each bean only once.
+	 *
+	 * {@link RuntimeBeanReference References} to other beans are resolved against the index rather than by
+	 * type matching the referenced bean in the {@link BeanFactory}, which is only consulted for beans
+	 * whose type cannot be determined from the index (e.g. manually registered singletons or
+	 * {@link FactoryBean FactoryBeans}).
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} used to type match beans whose type
+	 * cannot be determined from the index.
+	 * @param registry {@link BeanDefinitionRegistry} containing the {@link BeanDefinition BeanDefinitions} to index.
+	 * @return the {@link BeanDefinitionIndex}.
+	 */
+	BeanDefinitionIndex indexBeanDefinitions(@NonNull ConfigurableListableBeanFactory beanFactory,
+			@NonNull BeanDefinitionRegistry registry) {
+
+		String[] beanDefinitionNames = ArrayUtils.nullSafeArray(registry.getBeanDefinitionNames(), String.class);
+
+		BeanDefinitionIndex index = new BeanDefinitionIndex(beanDefinitionNames);
+
+		Map<String, Set<String>> beanReferences = new HashMap<>();
+
+		for (String beanName : beanDefinitionNames) {
+
+			BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+
+			Class<?> resolvedBeanType = resolveBeanType(beanDefinition, registry);
+
+			boolean regionTemplateBeanExists = index.contains(toRegionTemplateBeanName(beanName));
+
+			if (isRegionBeanDefinition(resolvedBeanType)) {
+				if (!regionTemplateBeanExists) {
+					index.getRegionBeanNames().add(beanName);
+				}
+			}
+			else if (isGemfireTemplateBeanDefinition(resolvedBeanType)) {
+				index.getGemfireTemplateBeanNames().add(beanName);
+				if (!regionTemplateBeanExists) {
+					index.getUserRegionTemplateBeanNames().add(beanName);
+				}
+			}
+			else if (!regionTemplateBeanExists) {
+				if (hasGemfireTemplateValueOrParameter(beanDefinition)) {
+					index.getGemfireTemplateDependentBeanNames().add(beanName);
+				}
+				else {
+					Set<String> referencedBeanNames = collectReferencedBeanNames(beanDefinition);
+
+					if (!referencedBeanNames.isEmpty()) {
+						beanReferences.put(beanName, referencedBeanNames);
 					}
 				}
+			}
+
+			index.setBeanType(beanName, resolvedBeanType);
+		}
 
-				setAutoConfiguredRegionTemplateDependencies(registry, userRegionTemplateNames);
+		index.getRegionBeanNames().stream()
+			.map(this::toRegionTemplateBeanName)
+			.forEach(index.getGemfireTemplateBeanNames()::add);
+
+		beanReferences.forEach((beanName, referencedBeanNames) -> {
+			if (referencedBeanNames.stream().anyMatch(referencedBeanName ->
+					isGemfireTemplateBean(beanFactory, index, referencedBeanName))) {
+
+				index.getGemfireTemplateDependentBeanNames().add(beanName);
 			}
-		};
+		});
+
+		return index;
 	}
 
-	private boolean isBeanWithGemfireTemplateDependency(@NonNull BeanFactory beanFactory,
-			@NonNull BeanDefinition beanDefinition) {
+	/**
+	 * Resolves the {@link Class type} of the bean defined by the given {@link BeanDefinition}.
+	 *
+	 * The {@link RootBeanDefinition#getTargetType() target type} of a {@link RootBeanDefinition}, which is set on
+	 * the {@link BeanDefinition BeanDefinitions} generated by Spring AOT, is preferred over introspecting
+	 * the bean class or {@link Bean} factory method, which requires reflection in a native image.
+	 *
+	 * @param beanDefinition {@link BeanDefinition} of the bean.
+	 * @param registry {@link BeanDefinitionRegistry} containing the {@link BeanDefinition}.
+	 * @return the resolved {@link Class type} of the bean or {@literal null} if the type cannot be resolved.
+	 */
+	@Nullable Class<?> resolveBeanType(@NonNull BeanDefinition beanDefinition,
+			@NonNull BeanDefinitionRegistry registry) {
+
+		Class<?> targetType = beanDefinition instanceof RootBeanDefinition rootBeanDefinition
+			? rootBeanDefinition.getTargetType()
+			: null;
+
+		return targetType != null ? targetType : resolveBeanClass(beanDefinition, registry).orElse(null);
+	}
+
+	private boolean isGemfireTemplateBean(@NonNull BeanFactory beanFactory, @NonNull BeanDefinitionIndex index,
+			@NonNull String beanName) {
+
+		return index.getGemfireTemplateBeanNames().contains(beanName)
+			|| (!index.isTypeResolved(beanName) && beanFactory.containsBean(beanName)
+				&& beanFactory.isTypeMatch(beanName, GemfireOperations.class));
+	}
 
-		Predicate<Object> isGemfireTemplate = value -> value instanceof RuntimeBeanReference
-			? beanFactory.isTypeMatch(((RuntimeBeanReference) value).getBeanName(), GemfireOperations.class)
-			: value instanceof GemfireOperations;
+	private boolean hasGemfireTemplateValueOrParameter(@NonNull BeanDefinition beanDefinition) {
 
-		boolean match = beanDefinition.getConstructorArgumentValues().getGenericArgumentValues().stream()
-			.map(ConstructorArgumentValues.ValueHolder::getValue)
-			.anyMatch(isGemfireTemplate);
+		Predicate<Object> isGemfireTemplate = GemfireOperations.class::isInstance;
 
-		match |= match || beanDefinition.getPropertyValues().getPropertyValueList().stream()
-			.map(PropertyValue::getValue)
-			.anyMatch(isGemfireTemplate);
+		boolean match = beanDefinition.hasConstructorArgumentValues()
+			&& beanDefinition.getConstructorArgumentValues().getGenericArgumentValues().stream()
+				.map(ConstructorArgumentValues.ValueHolder::getValue)
+				.anyMatch(isGemfireTemplate);
 
-		match |= match || Optional.of(beanDefinition)
+		match = match || (beanDefinition.hasPropertyValues()
+			&& beanDefinition.getPropertyValues().getPropertyValueList().stream()
+				.map(PropertyValue::getValue)
+				.anyMatch(isGemfireTemplate));
+
+		match = match || Optional.of(beanDefinition)
 			.filter(AnnotatedBeanDefinition.class::isInstance)
 			.map(AnnotatedBeanDefinition.class::cast)
 			.map(AnnotatedBeanDefinition::getFactoryMethodMetadata)
 			.filter(StandardMethodMetadata.class::isInstance)
 			.map(StandardMethodMetadata.class::cast)
 			.map(StandardMethodMetadata::getIntrospectedMethod)
+			.filter(method -> method.getParameterCount() > 0)
 			.map(method -> Arrays.stream(ArrayUtils.nullSafeArray(method.getParameterTypes(), Class.class))
 				.filter(Objects::nonNull)
 				.anyMatch(GemfireOperations.class::isAssignableFrom)
@@ -174,6 +287,31 @@ public class RegionTemplateAutoConfiguration extends TypelessAnnotationConfigSup
 		return match;
 	}
 
+	private Set<String> collectReferencedBeanNames(@NonNull BeanDefinition beanDefinition) {
+
+		Set<String> referencedBeanNames = new HashSet<>();
+
+		if (beanDefinition.hasConstructorArgumentValues()) {
+			beanDefinition.getConstructorArgumentValues().getGenericArgumentValues().stream()
+				.map(ConstructorArgumentValues.ValueHolder::getValue)
+				.filter(RuntimeBeanReference.class::isInstance)
+				.map(RuntimeBeanReference.class::cast)
+				.map(RuntimeBeanReference::getBeanName)
+				.forEach(referencedBeanNames::add);
+		}
+
+		if (beanDefinition.hasPropertyValues()) {
+			beanDefinition.getPropertyValues().getPropertyValueList().stream()
+				.map(PropertyValue::getValue)
+				.filter(RuntimeBeanReference.class::isInstance)
+				.map(RuntimeBeanReference.class::cast)
+				.map(RuntimeBeanReference::getBeanName)
+				.forEach(referencedBeanNames::add);
+		}
+
+		return referencedBeanNames;
+	}
+
 	private boolean isGemfireTemplateBeanDefinition(@Nullable Class<?> beanType) {
 		return beanType != null && GemfireOperations.class.isAssignableFrom(beanType);
 	}
@@ -182,12 +320,13 @@ public class RegionTemplateAutoConfiguration extends TypelessAnnotationConfigSup
 		return beanType != null && ResolvableRegionFactoryBean.class.isAssignableFrom(beanType);
 	}
 
-	private BeanDefinition newGemfireTemplateBeanDefinition(String regionBeanName) {
+	private BeanDefinition newGemfireTemplateBeanDefinition(String regionBeanName, boolean lazy) {
 
 		BeanDefinitionBuilder builder =
 			BeanDefinitionBuilder.genericBeanDefinition(GemfireTemplate.class);
 
 		builder.addConstructorArgReference(regionBeanName);
+		builder.setLazyInit(lazy);
 
 		return builder.getBeanDefinition();
 	}
@@ -320,4 +459,59 @@ public class RegionTemplateAutoConfiguration extends TypelessAnnotationConfigSup
 	private String toRegionTemplateBeanName(@NonNull String regionName) {
 		return StringUtils.uncapitalize(regionName) + TEMPLATE;
 	}
+
+	/**
+	 * Set-based index of the {@link BeanDefinition BeanDefinitions} relevant to {@link GemfireTemplate}
+	 * auto-configuration.
+	 */
+	static class BeanDefinitionIndex {
+
+		private final Map<String, Class<?>> beanTypes;
+
+		private final Set<String> beanNames;
+		private final Set<String> gemfireTemplateBeanNames = new HashSet<>();
+		private final Set<String> gemfireTemplateDependentBeanNames = new LinkedHashSet<>();
+		private final Set<String> regionBeanNames = new LinkedHashSet<>();
+		private final Set<String> userRegionTemplateBeanNames = new HashSet<>();
+
+		BeanDefinitionIndex(@NonNull String[] beanNames) {
+			this.beanNames = new HashSet<>(Arrays.asList(beanNames));
+			this.beanTypes = new HashMap<>(beanNames.length);
+		}
+
+		boolean contains(@Nullable String beanName) {
+			return this.beanNames.contains(beanName);
+		}
+
+		@NonNull Set<String> getGemfireTemplateBeanNames() {
+			return this.gemfireTemplateBeanNames;
+		}
+
+		@NonNull Set<String> getGemfireTemplateDependentBeanNames() {
+			return this.gemfireTemplateDependentBeanNames;
+		}
+
+		@NonNull Set<String> getRegionBeanNames() {
+			return this.regionBeanNames;
+		}
+
+		@NonNull Set<String> getUserRegionTemplateBeanNames() {
+			return this.userRegionTemplateBeanNames;
+		}
+
+		boolean isTypeResolved(@Nullable String beanName) {
+
+			Class<?> beanType = this.beanTypes.get(beanName);
+
+			return beanType != null && !FactoryBean.class.isAssignableFrom(beanType);
+		}
+
+		void setBeanType(@NonNull String beanName, @Nullable Class<?> beanType) {
+			this.beanTypes.put(beanName, beanType);
+		}
+
+		int size() {
+			return this.beanNames.size();
+		}
+	}
 }
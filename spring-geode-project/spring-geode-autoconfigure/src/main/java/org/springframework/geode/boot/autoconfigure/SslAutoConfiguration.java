@@ -27,6 +27,8 @@ import java.util.Properties;
 
 import org.apache.geode.cache.GemFireCache;
 
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -45,9 +47,13 @@ import org.springframework.core.env.PropertiesPropertySource;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.data.gemfire.CacheFactoryBean;
 import org.springframework.data.gemfire.config.annotation.EnableSsl;
+import org.springframework.geode.core.util.SpringBootExtensions;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.ResourceUtils;
@@ -81,6 +87,7 @@ import org.slf4j.LoggerFactory;
  * @see org.springframework.core.env.PropertySource
  * @see org.springframework.core.io.ClassPathResource
  * @see org.springframework.core.io.Resource
+ * @see org.springframework.core.metrics.ApplicationStartup
  * @see org.springframework.core.type.AnnotatedTypeMetadata
  * @see org.springframework.data.gemfire.CacheFactoryBean
  * @see org.springframework.data.gemfire.config.annotation.EnableSsl
@@ -106,6 +113,8 @@ public class SslAutoConfiguration {
 	private static final String SECURITY_SSL_KEYSTORE_PROPERTY = SECURITY_SSL_PROPERTY_PREFIX + ".keystore";
 	private static final String SECURITY_SSL_TRUSTSTORE_PROPERTY = SECURITY_SSL_PROPERTY_PREFIX + ".truststore";
 	private static final String SECURITY_SSL_USE_DEFAULT_CONTEXT = SECURITY_SSL_PROPERTY_PREFIX + ".use-default-context";
+	private static final String SSL_ENVIRONMENT_STARTUP_STEP_NAME = "ssl.environment.post-process";
+	private static final String SSL_KEYSTORE_STARTUP_STEP_NAME = "ssl.keystore.locate";
 	private static final String TRUSTED_KEYSTORE_FILENAME = "trusted.keystore";
 	private static final String TRUSTED_KEYSTORE_FILENAME_PROPERTY = "spring.boot.data.gemfire.security.ssl.keystore.name";
 	private static final String USER_HOME_DIRECTORY = System.getProperty("user.home");
@@ -261,12 +270,22 @@ public class SslAutoConfiguration {
 		@Override
 		public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
 
-			Optional.of(environment)
-				.filter(this::isEnabled)
-				.filter(SslAutoConfiguration::isSslNotConfigured)
-				.map(SslAutoConfiguration::resolveTrustedKeyStore)
-				.filter(StringUtils::hasText)
-				.ifPresent(trustedKeyStore -> configureSsl(environment, trustedKeyStore));
+			ApplicationStartup applicationStartup = SpringBootExtensions.resolveApplicationStartup(application);
+
+			SpringBootExtensions.doInStartupStep(applicationStartup, SSL_ENVIRONMENT_STARTUP_STEP_NAME, step -> {
+
+				Optional<String> resolvedTrustedKeyStore = Optional.of(environment)
+					.filter(this::isEnabled)
+					.filter(SslAutoConfiguration::isSslNotConfigured)
+					.map(SslAutoConfiguration::resolveTrustedKeyStore)
+					.filter(StringUtils::hasText);
+
+				resolvedTrustedKeyStore.ifPresent(trustedKeyStore -> configureSsl(environment, trustedKeyStore));
+
+				step.tag("trustedKeyStoreResolved", String.valueOf(resolvedTrustedKeyStore.isPresent()));
+
+				return resolvedTrustedKeyStore;
+			});
 		}
 
 		private PropertySource<?> newPropertySource(String name, Properties properties) {
@@ -330,11 +349,35 @@ public class SslAutoConfiguration {
 		@Override
 		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
 
-			Environment environment = context.getEnvironment();
+			ApplicationStartup applicationStartup =
+				SpringBootExtensions.resolveApplicationStartup(context.getBeanFactory());
+
+			return SpringBootExtensions.doInStartupStep(applicationStartup, SSL_KEYSTORE_STARTUP_STEP_NAME, step -> {
+
+				Environment environment = context.getEnvironment();
 
-			return locateKeyStoreInClassPath(environment).isPresent()
-				|| locateKeyStoreInFileSystem(environment).isPresent()
-				|| locateKeyStoreInUserHome(environment).isPresent();
+				boolean present = locateKeyStoreInClassPath(environment).isPresent()
+					|| locateKeyStoreInFileSystem(environment).isPresent()
+					|| locateKeyStoreInUserHome(environment).isPresent();
+
+				step.tag("trustedKeyStorePresent", String.valueOf(present));
+
+				return present;
+			});
+		}
+	}
+
+	/**
+	 * Spring {@link RuntimeHintsRegistrar} registering the default {@literal trusted.keystore} {@link Resource},
+	 * resolved from the {@literal classpath}, with a native image.
+	 *
+	 * @see org.springframework.aot.hint.RuntimeHintsRegistrar
+	 */
+	static class SslRuntimeHints implements RuntimeHintsRegistrar {
+
+		@Override
+		public void registerHints(@NonNull RuntimeHints hints, @Nullable ClassLoader classLoader) {
+			hints.resources().registerPattern(TRUSTED_KEYSTORE_FILENAME);
 		}
 	}
 }
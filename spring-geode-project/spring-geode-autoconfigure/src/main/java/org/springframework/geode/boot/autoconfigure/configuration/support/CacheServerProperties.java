@@ -21,7 +21,9 @@ import org.apache.geode.cache.server.CacheServer;
 import org.apache.geode.cache.server.ClientSubscriptionConfig;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.data.gemfire.server.SubscriptionEvictionPolicy;
+import org.springframework.geode.cache.BlendedServerLoadProbe;
 
 /**
  * Spring Boot {@link ConfigurationProperties} used to configure an Apache Geode {@link CacheServer}.
@@ -33,6 +35,7 @@ import org.springframework.data.gemfire.server.SubscriptionEvictionPolicy;
  * @see java.util.Properties
  * @see org.apache.geode.cache.server.CacheServer
  * @see org.springframework.boot.context.properties.ConfigurationProperties
+ * @see org.springframework.geode.cache.BlendedServerLoadProbe
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -60,6 +63,9 @@ public class CacheServerProperties {
 
 	private SubscriptionEvictionPolicy subscriptionEvictionPolicy = SubscriptionEvictionPolicy.NONE;
 
+	@NestedConfigurationProperty
+	private final LoadProbeProperties loadProbe = new LoadProbeProperties();
+
 	public boolean isAutoStartup() {
 		return this.autoStartup;
 	}
@@ -84,6 +90,10 @@ public class CacheServerProperties {
 		this.hostnameForClients = hostnameForClients;
 	}
 
+	public LoadProbeProperties getLoadProbe() {
+		return this.loadProbe;
+	}
+
 	public long getLoadPollInterval() {
 		return this.loadPollInterval;
 	}
@@ -179,4 +189,64 @@ public class CacheServerProperties {
 	public void setTcpNoDelay(boolean tcpNoDelay) {
 		this.tcpNoDelay = tcpNoDelay;
 	}
+
+	public static class LoadProbeProperties {
+
+		private boolean enabled = false;
+
+		private float connectionWeight = BlendedServerLoadProbe.DEFAULT_CONNECTION_WEIGHT;
+		private float cpuWeight = BlendedServerLoadProbe.DEFAULT_CPU_WEIGHT;
+		private float heapWeight = BlendedServerLoadProbe.DEFAULT_HEAP_WEIGHT;
+		private float queueWeight = BlendedServerLoadProbe.DEFAULT_QUEUE_WEIGHT;
+
+		private int queueSizeThreshold = BlendedServerLoadProbe.DEFAULT_QUEUE_SIZE_THRESHOLD;
+
+		public float getConnectionWeight() {
+			return this.connectionWeight;
+		}
+
+		public void setConnectionWeight(float connectionWeight) {
+			this.connectionWeight = connectionWeight;
+		}
+
+		public float getCpuWeight() {
+			return this.cpuWeight;
+		}
+
+		public void setCpuWeight(float cpuWeight) {
+			this.cpuWeight = cpuWeight;
+		}
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public float getHeapWeight() {
+			return this.heapWeight;
+		}
+
+		public void setHeapWeight(float heapWeight) {
+			this.heapWeight = heapWeight;
+		}
+
+		public int getQueueSizeThreshold() {
+			return this.queueSizeThreshold;
+		}
+
+		public void setQueueSizeThreshold(int queueSizeThreshold) {
+			this.queueSizeThreshold = queueSizeThreshold;
+		}
+
+		public float getQueueWeight() {
+			return this.queueWeight;
+		}
+
+		public void setQueueWeight(float queueWeight) {
+			this.queueWeight = queueWeight;
+		}
+	}
 }
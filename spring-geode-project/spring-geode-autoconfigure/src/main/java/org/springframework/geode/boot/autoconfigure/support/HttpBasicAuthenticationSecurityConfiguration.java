@@ -23,6 +23,9 @@ import java.net.PasswordAuthentication;
 import java.util.Optional;
 import java.util.function.Function;
 
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
@@ -186,4 +189,25 @@ public class HttpBasicAuthenticationSecurityConfiguration {
 			return execution.execute(request, body);
 		}
 	}
+
+	/**
+	 * Spring {@link RuntimeHintsRegistrar} registering the reflection required by the
+	 * {@link HttpBasicAuthenticationSecurityConfiguration#schemaObjectInitializerPostProcessor(Environment)} to
+	 * invoke the non-public methods used to access the {@link RestTemplate} in a native image.
+	 *
+	 * @see org.springframework.aot.hint.RuntimeHintsRegistrar
+	 */
+	static class HttpBasicAuthenticationSecurityRuntimeHints implements RuntimeHintsRegistrar {
+
+		@Override
+		public void registerHints(@NonNull RuntimeHints hints, @Nullable ClassLoader classLoader) {
+
+			hints.reflection()
+				.registerType(ClusterConfigurationConfiguration.ClusterSchemaObjectInitializer.class,
+					MemberCategory.INVOKE_DECLARED_METHODS)
+				.registerType(ClusterConfigurationConfiguration.SchemaObjectContext.class,
+					MemberCategory.INVOKE_DECLARED_METHODS)
+				.registerType(RestHttpGemfireAdminTemplate.class, MemberCategory.INVOKE_DECLARED_METHODS);
+		}
+	}
 }
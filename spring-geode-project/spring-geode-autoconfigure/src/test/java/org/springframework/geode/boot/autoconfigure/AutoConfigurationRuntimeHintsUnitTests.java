@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.data.gemfire.config.admin.remote.RestHttpGemfireAdminTemplate;
+import org.springframework.data.gemfire.config.annotation.ClusterConfigurationConfiguration;
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect;
+
+/**
+ * Unit Tests for the {@link RuntimeHintsRegistrar RuntimeHintsRegistrars} declared in
+ * {@literal META-INF/spring/aot.factories}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.aot.hint.RuntimeHints
+ * @see org.springframework.aot.hint.RuntimeHintsRegistrar
+ * @see org.springframework.aot.hint.predicate.RuntimeHintsPredicates
+ * @since 2.0.0
+ */
+public class AutoConfigurationRuntimeHintsUnitTests {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@Before
+	public void registerHints() {
+
+		ClassLoader classLoader = getClass().getClassLoader();
+
+		SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories", classLoader)
+			.load(RuntimeHintsRegistrar.class)
+			.forEach(registrar -> registrar.registerHints(this.hints, classLoader));
+	}
+
+	@Test
+	public void registersCacheDataImportResources() {
+		assertThat(RuntimeHintsPredicates.resource().forResource("data-example.json")).accepts(this.hints);
+	}
+
+	@Test
+	public void registersPdxInstanceWrapperRegionAspect() {
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(PdxInstanceWrapperRegionAspect.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS)).accepts(this.hints);
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(Region.class)
+			.withMemberCategory(MemberCategory.INTROSPECT_PUBLIC_METHODS)).accepts(this.hints);
+	}
+
+	@Test
+	public void registersHttpBasicAuthenticationReflectiveInvocationTargets() {
+
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(ClusterConfigurationConfiguration.ClusterSchemaObjectInitializer.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS)).accepts(this.hints);
+
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(ClusterConfigurationConfiguration.SchemaObjectContext.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS)).accepts(this.hints);
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(RestHttpGemfireAdminTemplate.class)
+			.withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS)).accepts(this.hints);
+	}
+
+	@Test
+	public void registersTrustedKeyStore() {
+		assertThat(RuntimeHintsPredicates.resource().forResource("trusted.keystore")).accepts(this.hints);
+	}
+}
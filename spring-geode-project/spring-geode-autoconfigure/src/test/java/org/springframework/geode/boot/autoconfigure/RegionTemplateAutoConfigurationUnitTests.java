@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link RegionTemplateAutoConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.beans.factory.support.DefaultListableBeanFactory
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.geode.boot.autoconfigure.RegionTemplateAutoConfiguration
+ * @since 2.0.0
+ */
+public class RegionTemplateAutoConfigurationUnitTests {
+
+	private DefaultListableBeanFactory beanFactory;
+
+	private RegionTemplateAutoConfiguration configuration;
+
+	@Before
+	public void setup() {
+
+		this.beanFactory = new DefaultListableBeanFactory();
+		this.configuration = new RegionTemplateAutoConfiguration();
+
+		register("example", BeanDefinitionBuilder.genericBeanDefinition(ClientRegionFactoryBean.class));
+		register("existing", BeanDefinitionBuilder.genericBeanDefinition(ClientRegionFactoryBean.class));
+		register("existingTemplate", BeanDefinitionBuilder.genericBeanDefinition(GemfireTemplate.class)
+			.addConstructorArgReference("existing"));
+		register("customTemplate", BeanDefinitionBuilder.genericBeanDefinition(GemfireTemplate.class)
+			.addConstructorArgReference("example"));
+		register("exampleDao", BeanDefinitionBuilder.genericBeanDefinition(Object.class)
+			.addConstructorArgReference("exampleTemplate"));
+		register("customService", BeanDefinitionBuilder.genericBeanDefinition(Object.class)
+			.addPropertyValue("template", new RuntimeBeanReference("customTemplate")));
+		register("otherService", BeanDefinitionBuilder.genericBeanDefinition(Object.class)
+			.addConstructorArgReference("customService"));
+	}
+
+	private void register(String beanName, BeanDefinitionBuilder builder) {
+		this.beanFactory.registerBeanDefinition(beanName, builder.getBeanDefinition());
+	}
+
+	@Test
+	public void indexBeanDefinitionsIsCorrect() {
+
+		RegionTemplateAutoConfiguration.BeanDefinitionIndex index =
+			this.configuration.indexBeanDefinitions(this.beanFactory, this.beanFactory);
+
+		assertThat(index.size()).isEqualTo(7);
+		assertThat(index.getRegionBeanNames()).containsExactly("example");
+		assertThat(index.getUserRegionTemplateBeanNames()).containsExactlyInAnyOrder("existingTemplate", "customTemplate");
+		assertThat(index.getGemfireTemplateBeanNames())
+			.containsExactlyInAnyOrder("existingTemplate", "customTemplate", "exampleTemplate");
+		assertThat(index.getGemfireTemplateDependentBeanNames())
+			.containsExactlyInAnyOrder("exampleDao", "customService");
+	}
+
+	@Test
+	public void indexBeanDefinitionsResolvesTargetTypeOfAotGeneratedBeanDefinitions() {
+
+		RootBeanDefinition beanDefinition = new RootBeanDefinition();
+
+		beanDefinition.setTargetType(ClientRegionFactoryBean.class);
+		beanDefinition.setInstanceSupplier(() -> new ClientRegionFactoryBean<Object, Object>());
+
+		this.beanFactory.registerBeanDefinition("generated", beanDefinition);
+
+		RegionTemplateAutoConfiguration.BeanDefinitionIndex index =
+			this.configuration.indexBeanDefinitions(this.beanFactory, this.beanFactory);
+
+		assertThat(this.configuration.resolveBeanType(beanDefinition, this.beanFactory))
+			.isEqualTo(ClientRegionFactoryBean.class);
+		assertThat(index.getRegionBeanNames()).containsExactly("example", "generated");
+		assertThat(index.getGemfireTemplateBeanNames()).contains("generatedTemplate");
+	}
+
+	@Test
+	public void beanFactoryPostProcessorRegistersRegionTemplatesAndDependencies() {
+
+		this.configuration.regionTemplateBeanFactoryPostProcessor(new MockEnvironment())
+			.postProcessBeanFactory(this.beanFactory);
+
+		assertThat(this.beanFactory.containsBeanDefinition("exampleTemplate")).isTrue();
+		assertThat(this.beanFactory.containsBeanDefinition("existingTemplateTemplate")).isFalse();
+		assertThat(this.beanFactory.getBeanDefinition("exampleTemplate").isLazyInit()).isFalse();
+		assertThat(this.beanFactory.getBeanDefinition("exampleTemplate").getDependsOn())
+			.contains("existingTemplate", "customTemplate");
+		assertThat(this.beanFactory.getBeanDefinition("exampleDao").getDependsOn())
+			.containsExactly(GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+		assertThat(this.beanFactory.getBeanDefinition("otherService").getDependsOn()).isNullOrEmpty();
+	}
+
+	@Test
+	public void beanFactoryPostProcessorRegistersLazyRegionTemplates() {
+
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty("spring.boot.data.gemfire.lazy-initialization.enabled", "true");
+
+		this.configuration.regionTemplateBeanFactoryPostProcessor(environment)
+			.postProcessBeanFactory(this.beanFactory);
+
+		BeanDefinition exampleTemplate = this.beanFactory.getBeanDefinition("exampleTemplate");
+
+		assertThat(exampleTemplate.isLazyInit()).isTrue();
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.geode.benchmarks.support.CacheDataImporterExporterFixture;
+import org.springframework.geode.benchmarks.support.PayloadSize;
+import org.springframework.geode.benchmarks.support.PeerCacheFixture;
+import org.springframework.geode.data.json.JsonCacheDataImporterExporter;
+
+/**
+ * JMH benchmarks measuring the throughput of importing {@literal JSON} into, and exporting {@literal JSON} from,
+ * a {@link Region} with the {@link JsonCacheDataImporterExporter}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.data.json.JsonCacheDataImporterExporter
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CacheDataImportExportBenchmark {
+
+	private static final String REGION_NAME = "CacheDataImportExportBenchmark";
+
+	@Param({ "SMALL", "MEDIUM", "LARGE" })
+	public PayloadSize payloadSize;
+
+	@Param({ "1000", "10000" })
+	public int objectCount;
+
+	@Param({ "false", "true" })
+	public boolean schemaInferenceEnabled;
+
+	private final AtomicLong exportedBytes = new AtomicLong(0L);
+
+	private JsonCacheDataImporterExporter importerExporter;
+
+	private PeerCacheFixture peerCache;
+
+	private Region<Object, Object> region;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		byte[] json = this.payloadSize.toJsonArray(this.objectCount).getBytes(StandardCharsets.UTF_8);
+
+		this.peerCache = PeerCacheFixture.start();
+		this.region = this.peerCache.getOrCreateRegion(REGION_NAME);
+
+		this.importerExporter = CacheDataImporterExporterFixture
+			.newJsonCacheDataImporterExporter(json, this.schemaInferenceEnabled, this.exportedBytes);
+
+		this.importerExporter.doImportInto(this.region);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.peerCache.close();
+	}
+
+	@Benchmark
+	public Region<?, ?> exportFrom() {
+		return this.importerExporter.doExportFrom(this.region);
+	}
+
+	@Benchmark
+	public Region<?, ?> importInto() {
+		return this.importerExporter.doImportInto(this.region);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.geode.benchmarks.support.PayloadSize;
+import org.springframework.geode.benchmarks.support.PeerCacheFixture;
+import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
+import org.springframework.geode.data.json.converter.JsonToPdxConverter;
+import org.springframework.geode.data.json.converter.support.JSONFormatterJsonToPdxConverter;
+import org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter;
+import org.springframework.geode.data.json.converter.support.SchemaInferringJsonToPdxConverter;
+
+/**
+ * JMH benchmarks for converting {@literal JSON} to PDX.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.geode.data.json.converter.support.JSONFormatterJsonToPdxConverter
+ * @see org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter
+ * @see org.springframework.geode.data.json.converter.support.SchemaInferringJsonToPdxConverter
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonToPdxBenchmark {
+
+	private static final int ARRAY_SIZE = 100;
+
+	@Param({ "SMALL", "MEDIUM", "LARGE" })
+	public PayloadSize payloadSize;
+
+	private JsonToPdxConverter jsonFormatterConverter;
+
+	private JsonToPdxArrayConverter jacksonConverter;
+
+	private JsonToPdxArrayConverter schemaInferringConverter;
+
+	private PeerCacheFixture peerCache;
+
+	private String jsonArray;
+
+	private String jsonObject;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		this.peerCache = PeerCacheFixture.start();
+		this.jsonFormatterConverter = new JSONFormatterJsonToPdxConverter();
+		this.jacksonConverter = new JacksonJsonToPdxConverter();
+		this.schemaInferringConverter = new SchemaInferringJsonToPdxConverter();
+		this.jsonObject = this.payloadSize.toJsonObject(1L);
+		this.jsonArray = this.payloadSize.toJsonArray(ARRAY_SIZE);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.peerCache.close();
+	}
+
+	@Benchmark
+	public PdxInstance jsonFormatterJsonObjectToPdx() {
+		return this.jsonFormatterConverter.convert(this.jsonObject);
+	}
+
+	@Benchmark
+	public PdxInstance[] jacksonJsonArrayToPdx() {
+		return this.jacksonConverter.convert(this.jsonArray);
+	}
+
+	@Benchmark
+	public PdxInstance[] schemaInferringJsonArrayToPdx() {
+		return this.schemaInferringConverter.convert(this.jsonArray);
+	}
+}
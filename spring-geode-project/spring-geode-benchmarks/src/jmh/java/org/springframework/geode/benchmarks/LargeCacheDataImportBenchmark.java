@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.geode.benchmarks.support.CacheDataImporterExporterFixture;
+import org.springframework.geode.benchmarks.support.PayloadSize;
+import org.springframework.geode.benchmarks.support.PeerCacheFixture;
+import org.springframework.geode.data.json.JsonCacheDataImporterExporter;
+
+/**
+ * JMH benchmark measuring the time to import 1 million {@link PayloadSize#SMALL small} {@literal JSON} objects
+ * into a {@link Region}, which includes resolving the identifier (key) of each imported PDX object.
+ *
+ * Each invocation imports the entire {@literal JSON} document, so the benchmark is run in
+ * {@link Mode#SingleShotTime single shot} mode with a larger heap.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.data.json.JsonCacheDataImporterExporter
+ * @see org.springframework.geode.pdx.PdxInstanceWrapper#getIdentifier()
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class LargeCacheDataImportBenchmark {
+
+	private static final int OBJECT_COUNT = 1_000_000;
+
+	private static final String REGION_NAME = "LargeCacheDataImportBenchmark";
+
+	@Param({ "false", "true" })
+	public boolean schemaInferenceEnabled;
+
+	private JsonCacheDataImporterExporter importerExporter;
+
+	private PeerCacheFixture peerCache;
+
+	private Region<Object, Object> region;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		byte[] json = PayloadSize.SMALL.toJsonArray(OBJECT_COUNT).getBytes(StandardCharsets.UTF_8);
+
+		this.peerCache = PeerCacheFixture.start();
+		this.region = this.peerCache.getOrCreateRegion(REGION_NAME);
+
+		this.importerExporter = CacheDataImporterExporterFixture
+			.newJsonCacheDataImporterExporter(json, this.schemaInferenceEnabled, new AtomicLong(0L));
+	}
+
+	@Setup(Level.Iteration)
+	public void clearRegion() {
+		this.region.clear();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.peerCache.close();
+	}
+
+	@Benchmark
+	public Region<?, ?> importInto() {
+		return this.importerExporter.doImportInto(this.region);
+	}
+}
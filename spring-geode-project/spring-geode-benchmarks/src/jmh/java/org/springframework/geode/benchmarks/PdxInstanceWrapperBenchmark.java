@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.geode.benchmarks.support.PayloadSize;
+import org.springframework.geode.benchmarks.support.PeerCacheFixture;
+import org.springframework.geode.pdx.ObjectPdxInstanceAdapter;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
+
+/**
+ * JMH benchmarks for the {@link PdxInstanceWrapper} and {@link ObjectPdxInstanceAdapter} wrappers.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.geode.pdx.ObjectPdxInstanceAdapter
+ * @see org.springframework.geode.pdx.PdxInstanceWrapper
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PdxInstanceWrapperBenchmark {
+
+	@Param({ "SMALL", "MEDIUM", "LARGE" })
+	public PayloadSize payloadSize;
+
+	private ObjectPdxInstanceAdapter objectPdxInstanceAdapter;
+
+	private PdxInstance identityPdxInstance;
+
+	private PdxInstance pdxInstance;
+
+	private PeerCacheFixture peerCache;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		this.peerCache = PeerCacheFixture.start();
+		this.pdxInstance = JSONFormatter.fromJSON(this.payloadSize.toJsonObject(1L));
+		this.objectPdxInstanceAdapter = ObjectPdxInstanceAdapter.from(new Customer(1L, "Jon Doe"));
+
+		this.identityPdxInstance = this.peerCache.getCache().createPdxInstanceFactory(PayloadSize.TYPE_NAME)
+			.writeLong("customerId", 1L)
+			.markIdentityField("customerId")
+			.writeString("name", "Jon Doe")
+			.create();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.peerCache.close();
+	}
+
+	@Benchmark
+	public PdxInstanceWrapper wrap() {
+		return PdxInstanceWrapper.from(this.pdxInstance);
+	}
+
+	@Benchmark
+	public Object getIdentifierFromIdField() {
+		return PdxInstanceWrapper.from(this.pdxInstance).getIdentifier();
+	}
+
+	@Benchmark
+	public Object getIdentifierFromIdentityField() {
+		return PdxInstanceWrapper.from(this.identityPdxInstance).getIdentifier();
+	}
+
+	@Benchmark
+	public Object getField() {
+		return PdxInstanceWrapper.from(this.pdxInstance).getField("name");
+	}
+
+	@Benchmark
+	public Object objectPdxInstanceAdapterGetField() {
+		return this.objectPdxInstanceAdapter.getField("name");
+	}
+
+	@SuppressWarnings("unused")
+	public static class Customer {
+
+		private final Long id;
+
+		private final String name;
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.geode.benchmarks.support.PayloadSize;
+import org.springframework.geode.benchmarks.support.PeerCacheFixture;
+import org.springframework.geode.data.json.converter.AbstractObjectArrayToJsonConverter;
+import org.springframework.geode.data.json.converter.ObjectArrayToJsonConverter;
+import org.springframework.geode.data.json.converter.ObjectToJsonConverter;
+import org.springframework.geode.data.json.converter.support.JSONFormatterPdxToJsonConverter;
+import org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter;
+
+/**
+ * JMH benchmarks for converting PDX to {@literal JSON}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.springframework.geode.data.json.converter.AbstractObjectArrayToJsonConverter
+ * @see org.springframework.geode.data.json.converter.support.JSONFormatterPdxToJsonConverter
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PdxToJsonBenchmark {
+
+	private static final int ARRAY_SIZE = 100;
+
+	@Param({ "SMALL", "MEDIUM", "LARGE" })
+	public PayloadSize payloadSize;
+
+	private List<PdxInstance> pdxInstances;
+
+	private ObjectArrayToJsonConverter objectArrayToJsonConverter;
+
+	private ObjectToJsonConverter objectToJsonConverter;
+
+	private PdxInstance pdxInstance;
+
+	private PeerCacheFixture peerCache;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		this.peerCache = PeerCacheFixture.start();
+		this.objectToJsonConverter = new JSONFormatterPdxToJsonConverter();
+		this.objectArrayToJsonConverter = new AbstractObjectArrayToJsonConverter() { };
+		this.pdxInstance = JSONFormatter.fromJSON(this.payloadSize.toJsonObject(1L));
+		this.pdxInstances = Arrays.asList(new JacksonJsonToPdxConverter()
+			.convert(this.payloadSize.toJsonArray(ARRAY_SIZE)));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.peerCache.close();
+	}
+
+	@Benchmark
+	public String jsonFormatterToJson() {
+		return JSONFormatter.toJSON(this.pdxInstance);
+	}
+
+	@Benchmark
+	public String pdxToJson() {
+		return this.objectToJsonConverter.convert(this.pdxInstance);
+	}
+
+	@Benchmark
+	public String pdxArrayToJson() {
+		return this.objectArrayToJsonConverter.convert(this.pdxInstances);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.JSONFormatter;
+
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.geode.benchmarks.support.PayloadSize;
+import org.springframework.geode.benchmarks.support.PeerCacheFixture;
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect;
+
+/**
+ * JMH benchmarks measuring the overhead of the {@link PdxInstanceWrapperRegionAspect} advising
+ * {@link Region} data access operations compared to the same operations on an unadvised {@link Region}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.aop.aspectj.annotation.AspectJProxyFactory
+ * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegionAdviceBenchmark {
+
+	private static final int ENTRY_COUNT = 100;
+
+	private static final String REGION_NAME = "RegionAdviceBenchmark";
+
+	@Param({ "SMALL", "MEDIUM", "LARGE" })
+	public PayloadSize payloadSize;
+
+	private List<Long> keys;
+
+	private PeerCacheFixture peerCache;
+
+	private Region<Long, Object> advisedRegion;
+
+	private Region<Long, Object> region;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		this.peerCache = PeerCacheFixture.start();
+		this.region = this.peerCache.getOrCreateRegion(REGION_NAME);
+		this.keys = LongStream.range(0, ENTRY_COUNT).boxed().collect(Collectors.toList());
+		this.keys.forEach(key -> this.region.put(key, JSONFormatter.fromJSON(this.payloadSize.toJsonObject(key))));
+
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(this.region);
+
+		proxyFactory.addAspect(new PdxInstanceWrapperRegionAspect());
+
+		this.advisedRegion = proxyFactory.getProxy();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.peerCache.close();
+	}
+
+	@Benchmark
+	public Object get() {
+		return this.region.get(1L);
+	}
+
+	@Benchmark
+	public Object getAdvised() {
+		return this.advisedRegion.get(1L);
+	}
+
+	@Benchmark
+	public Map<Long, Object> getAll() {
+		return this.region.getAll(this.keys);
+	}
+
+	@Benchmark
+	public Map<Long, Object> getAllAdvised() {
+		return this.advisedRegion.getAll(this.keys);
+	}
+
+	@Benchmark
+	public Collection<Object> values() {
+		return new ArrayList<>(this.region.values());
+	}
+
+	@Benchmark
+	public Collection<Object> valuesAdvised() {
+		return this.advisedRegion.values();
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks.support;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.geode.data.json.JsonCacheDataImporterExporter;
+import org.springframework.lang.NonNull;
+
+/**
+ * Benchmark fixture configuring a {@link JsonCacheDataImporterExporter} to import {@literal JSON} from,
+ * and export {@literal JSON} to, memory rather than the file system.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.data.json.JsonCacheDataImporterExporter
+ * @since 2.0.0
+ */
+public abstract class CacheDataImporterExporterFixture {
+
+	private static final String SCHEMA_INFERENCE_ENABLED_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.import.json.schema-inference.enabled";
+
+	/**
+	 * Creates and initializes a new {@link JsonCacheDataImporterExporter} importing the given {@literal JSON}
+	 * into any {@link org.apache.geode.cache.Region} and recording the number of {@literal bytes} exported.
+	 *
+	 * @param json array of {@link Byte#TYPE bytes} containing the {@literal JSON} to import.
+	 * @param schemaInferenceEnabled boolean value indicating whether PDX schema inference is enabled on import.
+	 * @param exportedBytes {@link AtomicLong} recording the number of {@literal bytes} exported.
+	 * @return a new, initialized {@link JsonCacheDataImporterExporter}.
+	 * @see org.springframework.geode.data.json.JsonCacheDataImporterExporter
+	 */
+	public static @NonNull JsonCacheDataImporterExporter newJsonCacheDataImporterExporter(@NonNull byte[] json,
+			boolean schemaInferenceEnabled, @NonNull AtomicLong exportedBytes) {
+
+		ByteArrayResource resource = new ByteArrayResource(json);
+
+		StandardEnvironment environment = new StandardEnvironment();
+
+		Map<String, Object> properties =
+			Collections.singletonMap(SCHEMA_INFERENCE_ENABLED_PROPERTY_NAME, schemaInferenceEnabled);
+
+		environment.getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+
+		JsonCacheDataImporterExporter importerExporter = new JsonCacheDataImporterExporter();
+
+		importerExporter.setEnvironment(environment);
+		importerExporter.setImportResourceResolver(region -> Optional.of(resource));
+		importerExporter.setExportResourceResolver(region -> Optional.of(resource));
+		importerExporter.setResourceReader(target -> json);
+		importerExporter.setResourceWriter((target, data) -> exportedBytes.addAndGet(data.length));
+		importerExporter.afterPropertiesSet();
+
+		return importerExporter;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks.support;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Enumeration of {@literal JSON} object payload sizes used as a benchmark parameter.
+ *
+ * Each {@literal JSON} object is typed with {@literal @type} metadata and contains an {@literal id}
+ * and {@literal name} along with a number of additional, scalar fields of mixed types. {@link #MEDIUM}
+ * and {@link #LARGE} payloads also contain a nested {@literal address} object.
+ *
+ * @author John Blum
+ * @since 2.0.0
+ */
+public enum PayloadSize {
+
+	SMALL(4, false),
+	MEDIUM(24, true),
+	LARGE(96, true);
+
+	public static final String TYPE_NAME = "example.app.crm.model.Customer";
+
+	private final boolean nested;
+
+	private final int fieldCount;
+
+	PayloadSize(int fieldCount, boolean nested) {
+		this.fieldCount = fieldCount;
+		this.nested = nested;
+	}
+
+	/**
+	 * Returns the number of additional, scalar fields in each {@literal JSON} object.
+	 *
+	 * @return the number of additional, scalar fields in each {@literal JSON} object.
+	 */
+	public int getFieldCount() {
+		return this.fieldCount;
+	}
+
+	/**
+	 * Determines whether each {@literal JSON} object contains a nested {@literal JSON} object.
+	 *
+	 * @return a boolean value indicating whether each {@literal JSON} object contains
+	 * a nested {@literal JSON} object.
+	 */
+	public boolean isNested() {
+		return this.nested;
+	}
+
+	/**
+	 * Generates a single {@literal JSON} object with the given {@literal id}.
+	 *
+	 * @param id {@link Long} used as the identifier of the {@literal JSON} object.
+	 * @return {@link String JSON} for a single object of this size.
+	 */
+	public @NonNull String toJsonObject(long id) {
+
+		StringBuilder json = new StringBuilder(64 + getFieldCount() * 24)
+			.append("{\"@type\":\"").append(TYPE_NAME).append("\"")
+			.append(",\"id\":").append(id)
+			.append(",\"name\":\"Customer ").append(id).append("\"");
+
+		for (int index = 0; index < getFieldCount(); index++) {
+
+			json.append(",\"field").append(index).append("\":");
+
+			switch (index % 4) {
+				case 0:
+					json.append("\"value ").append(id).append('-').append(index).append("\"");
+					break;
+				case 1:
+					json.append(id + index);
+					break;
+				case 2:
+					json.append(id + index).append(".5");
+					break;
+				default:
+					json.append((id + index) % 2 == 0);
+			}
+		}
+
+		if (isNested()) {
+			json.append(",\"address\":{\"street\":\"").append(id).append(" Main St.\"")
+				.append(",\"city\":\"Portland\",\"state\":\"OR\",\"zip\":\"97205\"}");
+		}
+
+		return json.append('}').toString();
+	}
+
+	/**
+	 * Generates a {@literal JSON} array containing the given number of {@literal JSON} objects.
+	 *
+	 * @param count number of {@literal JSON} objects in the {@literal JSON} array.
+	 * @return {@link String JSON} for an array of objects of this size.
+	 * @see #toJsonObject(long)
+	 */
+	public @NonNull String toJsonArray(int count) {
+
+		return IntStream.range(0, count)
+			.mapToObj(this::toJsonObject)
+			.collect(Collectors.joining(",", "[", "]"));
+	}
+}
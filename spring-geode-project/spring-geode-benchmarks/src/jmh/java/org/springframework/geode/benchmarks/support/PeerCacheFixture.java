@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks.support;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Benchmark fixture managing an embedded, standalone Apache Geode peer {@link Cache}.
+ *
+ * The peer {@link Cache} does not join a cluster (no Locators and no multicast), does not start a JMX Manager
+ * and reads PDX serialized bytes as {@link org.apache.geode.pdx.PdxInstance PdxInstances}, which is the way
+ * data imported from and exported to JSON is stored in a {@link Region}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.CacheFactory
+ * @see org.apache.geode.cache.Region
+ * @since 2.0.0
+ */
+public class PeerCacheFixture implements AutoCloseable {
+
+	private static final String CACHE_NAME = "SpringBootDataGeodeBenchmarks";
+
+	/**
+	 * Factory method used to start a new {@link PeerCacheFixture}.
+	 *
+	 * @return a new, started {@link PeerCacheFixture}.
+	 */
+	public static @NonNull PeerCacheFixture start() {
+		return new PeerCacheFixture();
+	}
+
+	private final Cache cache;
+
+	/**
+	 * Constructs a new {@link PeerCacheFixture} creating the embedded, standalone peer {@link Cache}.
+	 */
+	protected PeerCacheFixture() {
+
+		this.cache = new CacheFactory()
+			.set("name", CACHE_NAME)
+			.set("enable-cluster-configuration", "false")
+			.set("http-service-port", "0")
+			.set("jmx-manager", "false")
+			.set("locators", "")
+			.set("log-level", System.getProperty("gemfire.log-level", "error"))
+			.set("mcast-port", "0")
+			.set("use-cluster-configuration", "false")
+			.setPdxReadSerialized(true)
+			.create();
+	}
+
+	/**
+	 * Returns a reference to the embedded, standalone peer {@link Cache}.
+	 *
+	 * @return a reference to the embedded, standalone peer {@link Cache}.
+	 * @see org.apache.geode.cache.Cache
+	 */
+	public @NonNull Cache getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * Gets the {@link RegionShortcut#LOCAL} {@link Region} with the given {@link String name},
+	 * creating the {@link Region} if it does not already exist.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @param name {@link String} containing the name of the {@link Region}; must not be {@literal null} or empty.
+	 * @return the {@link Region} with the given {@link String name}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	public @NonNull <K, V> Region<K, V> getOrCreateRegion(@NonNull String name) {
+
+		Assert.hasText(name, "Region name is required");
+
+		return Optional.<Region<K, V>>ofNullable(getCache().getRegion(name))
+			.orElseGet(() -> getCache().<K, V>createRegionFactory(RegionShortcut.LOCAL).create(name));
+	}
+
+	/**
+	 * Closes the embedded, standalone peer {@link Cache}.
+	 */
+	@Override
+	public void close() {
+
+		if (!this.cache.isClosed()) {
+			this.cache.close();
+		}
+	}
+}
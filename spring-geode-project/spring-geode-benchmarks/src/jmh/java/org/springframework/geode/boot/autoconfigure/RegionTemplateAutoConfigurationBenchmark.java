@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+
+/**
+ * JMH benchmark measuring the startup cost of the {@link RegionTemplateAutoConfiguration}
+ * {@link BeanFactoryPostProcessor} scanning a synthetic Spring context containing thousands of beans.
+ *
+ * The synthetic context contains {@literal Region} beans, user-defined {@link GemfireTemplate} beans,
+ * application beans injected with a {@link GemfireTemplate} and application beans without any
+ * {@link GemfireTemplate} dependencies.
+ *
+ * This benchmark is declared in the {@link RegionTemplateAutoConfiguration} package in order to access
+ * the package-private {@link BeanFactoryPostProcessor} bean definition method.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.beans.factory.support.DefaultListableBeanFactory
+ * @see org.springframework.geode.boot.autoconfigure.RegionTemplateAutoConfiguration
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RegionTemplateAutoConfigurationBenchmark {
+
+	private static final int REGION_BEAN_RATIO = 20;
+	private static final int TEMPLATE_DEPENDENT_BEAN_RATIO = 10;
+
+	private static final String COLLABORATOR_BEAN_NAME = "collaborator";
+
+	@Param({ "1000", "6000" })
+	public int beanCount;
+
+	private BeanFactoryPostProcessor regionTemplateBeanFactoryPostProcessor;
+
+	private DefaultListableBeanFactory beanFactory;
+
+	// A new BeanFactory and RegionTemplateAutoConfiguration are required per invocation since the
+	// BeanFactoryPostProcessor registers GemfireTemplate beans in, and modifies, the BeanFactory.
+	@Setup(Level.Invocation)
+	public void setup() {
+
+		this.beanFactory = newSyntheticBeanFactory(this.beanCount);
+
+		this.regionTemplateBeanFactoryPostProcessor = new RegionTemplateAutoConfiguration()
+			.regionTemplateBeanFactoryPostProcessor(new StandardEnvironment());
+	}
+
+	private DefaultListableBeanFactory newSyntheticBeanFactory(int beanCount) {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition(COLLABORATOR_BEAN_NAME,
+			BeanDefinitionBuilder.genericBeanDefinition(Object.class).getBeanDefinition());
+
+		for (int index = 0; index < beanCount; index++) {
+
+			String regionBeanName = "Region" + (index / REGION_BEAN_RATIO);
+
+			if (index % REGION_BEAN_RATIO == 0) {
+				beanFactory.registerBeanDefinition(regionBeanName,
+					BeanDefinitionBuilder.genericBeanDefinition(ClientRegionFactoryBean.class).getBeanDefinition());
+			}
+			else if (index % REGION_BEAN_RATIO == 1) {
+				beanFactory.registerBeanDefinition("custom" + regionBeanName + "Template",
+					BeanDefinitionBuilder.genericBeanDefinition(GemfireTemplate.class)
+						.addConstructorArgReference(regionBeanName)
+						.getBeanDefinition());
+			}
+			else if (index % TEMPLATE_DEPENDENT_BEAN_RATIO == 0) {
+				beanFactory.registerBeanDefinition("dao" + index,
+					BeanDefinitionBuilder.genericBeanDefinition(Object.class)
+						.addConstructorArgReference("region" + (index / REGION_BEAN_RATIO) + "Template")
+						.getBeanDefinition());
+			}
+			else {
+				beanFactory.registerBeanDefinition("service" + index,
+					BeanDefinitionBuilder.genericBeanDefinition(Object.class)
+						.addPropertyValue("collaborator", new RuntimeBeanReference(COLLABORATOR_BEAN_NAME))
+						.getBeanDefinition());
+			}
+		}
+
+		return beanFactory;
+	}
+
+	@Benchmark
+	public DefaultListableBeanFactory postProcessBeanFactory() {
+
+		this.regionTemplateBeanFactoryPostProcessor.postProcessBeanFactory(this.beanFactory);
+
+		return this.beanFactory;
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerLoadProbe;
+import org.apache.geode.cache.server.ServerLoadProbeAdapter;
+import org.apache.geode.cache.server.ServerMetrics;
+import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier;
+import org.apache.geode.internal.cache.tier.sockets.CacheClientProxy;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link BlendedServerLoadProbe} class is an Apache Geode {@link ServerLoadProbe} blending the connection load
+ * of a {@link CacheServer} with the pressure on the server process, so that locators balance clients away from
+ * servers that are actually overloaded rather than only those with the most connections.
+ *
+ * The load reported to the locators is the weighted average of the following signals, each in the range [0, 1]:
+ *
+ * <ul>
+ *     <li>Connection load: the number of client connections relative to the maximum number of connections.</li>
+ *     <li>CPU load: the recent CPU usage of the server process.</li>
+ *     <li>Heap load: the heap usage of the tenured heap after the last garbage collection.</li>
+ *     <li>Queue load: the size of the largest client subscription queue relative to a threshold.</li>
+ * </ul>
+ *
+ * Load for client subscription connections is computed in the same way as Apache Geode's default
+ * {@link ServerLoadProbe}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.server.CacheServer
+ * @see org.apache.geode.cache.server.ServerLoad
+ * @see org.apache.geode.cache.server.ServerLoadProbe
+ * @see org.apache.geode.cache.server.ServerMetrics
+ * @since 2.0.0
+ */
+public class BlendedServerLoadProbe extends ServerLoadProbeAdapter {
+
+	public static final float DEFAULT_CONNECTION_WEIGHT = 1.0f;
+	public static final float DEFAULT_CPU_WEIGHT = 1.0f;
+	public static final float DEFAULT_HEAP_WEIGHT = 1.0f;
+	public static final float DEFAULT_QUEUE_WEIGHT = 0.5f;
+
+	public static final int DEFAULT_QUEUE_SIZE_THRESHOLD = 10_000;
+
+	private final float connectionWeight;
+	private final float cpuWeight;
+	private final float heapWeight;
+	private final float queueWeight;
+	private final float totalWeight;
+
+	private final int queueSizeThreshold;
+
+	/**
+	 * Constructs a new instance of {@link BlendedServerLoadProbe} using the default weights
+	 * and {@link #DEFAULT_QUEUE_SIZE_THRESHOLD}.
+	 */
+	public BlendedServerLoadProbe() {
+		this(DEFAULT_CONNECTION_WEIGHT, DEFAULT_CPU_WEIGHT, DEFAULT_HEAP_WEIGHT, DEFAULT_QUEUE_WEIGHT,
+			DEFAULT_QUEUE_SIZE_THRESHOLD);
+	}
+
+	/**
+	 * Constructs a new instance of {@link BlendedServerLoadProbe} initialized with the given weights
+	 * and queue size threshold.
+	 *
+	 * @param connectionWeight weight of the connection load; must not be negative.
+	 * @param cpuWeight weight of the CPU load; must not be negative.
+	 * @param heapWeight weight of the heap load; must not be negative.
+	 * @param queueWeight weight of the client subscription queue load; must not be negative.
+	 * @param queueSizeThreshold client subscription queue size at which the queue load is 1; must be positive.
+	 * @throws IllegalArgumentException if any weight is negative, all weights are 0,
+	 * or the queue size threshold is not positive.
+	 */
+	public BlendedServerLoadProbe(float connectionWeight, float cpuWeight, float heapWeight, float queueWeight,
+			int queueSizeThreshold) {
+
+		assertWeight("Connection", connectionWeight);
+		assertWeight("CPU", cpuWeight);
+		assertWeight("Heap", heapWeight);
+		assertWeight("Queue", queueWeight);
+
+		float totalWeight = connectionWeight + cpuWeight + heapWeight + queueWeight;
+
+		Assert.isTrue(totalWeight > 0.0f, "At least one weight must be greater than 0");
+		Assert.isTrue(queueSizeThreshold > 0,
+			() -> String.format("Queue size threshold [%d] must be greater than 0", queueSizeThreshold));
+
+		this.connectionWeight = connectionWeight;
+		this.cpuWeight = cpuWeight;
+		this.heapWeight = heapWeight;
+		this.queueWeight = queueWeight;
+		this.totalWeight = totalWeight;
+		this.queueSizeThreshold = queueSizeThreshold;
+	}
+
+	private static void assertWeight(String name, float weight) {
+		Assert.isTrue(weight >= 0.0f && Float.isFinite(weight),
+			() -> String.format("%1$s weight [%2$s] must be greater than or equal to 0", name, weight));
+	}
+
+	public float getConnectionWeight() {
+		return this.connectionWeight;
+	}
+
+	public float getCpuWeight() {
+		return this.cpuWeight;
+	}
+
+	public float getHeapWeight() {
+		return this.heapWeight;
+	}
+
+	public float getQueueWeight() {
+		return this.queueWeight;
+	}
+
+	public int getQueueSizeThreshold() {
+		return this.queueSizeThreshold;
+	}
+
+	@Override
+	public ServerLoad getLoad(ServerMetrics metrics) {
+
+		int maxConnections = Math.max(1, metrics.getMaxConnections());
+
+		float connectionLoad = clamp((float) metrics.getConnectionCount() / maxConnections);
+
+		float blendedLoad = this.connectionWeight * connectionLoad;
+
+		blendedLoad += this.cpuWeight > 0.0f ? this.cpuWeight * clamp(resolveCpuLoad()) : 0.0f;
+		blendedLoad += this.heapWeight > 0.0f ? this.heapWeight * clamp(resolveHeapLoad()) : 0.0f;
+		blendedLoad += this.queueWeight > 0.0f ? this.queueWeight * clamp(resolveQueueLoad()) : 0.0f;
+		blendedLoad /= this.totalWeight;
+
+		// The load locators add to this server for each new connection until the next load poll.
+		float connectionShare = this.connectionWeight / this.totalWeight;
+
+		float loadPerConnection = connectionShare > 0.0f
+			? connectionShare / maxConnections
+			: 1.0f / maxConnections;
+
+		return new ServerLoad(blendedLoad, loadPerConnection, metrics.getSubscriptionConnectionCount(), 1.0f);
+	}
+
+	/**
+	 * Resolves the recent CPU usage of this process.
+	 *
+	 * @return the recent CPU usage of this process in the range [0, 1], or 0 if not available.
+	 */
+	protected float resolveCpuLoad() {
+
+		OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+
+		if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean sunOperatingSystem) {
+
+			double processCpuLoad = sunOperatingSystem.getProcessCpuLoad();
+
+			return processCpuLoad >= 0.0d ? (float) processCpuLoad : 0.0f;
+		}
+
+		double systemLoadAverage = operatingSystem.getSystemLoadAverage();
+
+		return systemLoadAverage >= 0.0d
+			? (float) (systemLoadAverage / Math.max(1, operatingSystem.getAvailableProcessors()))
+			: 0.0f;
+	}
+
+	/**
+	 * Resolves the heap usage after the last garbage collection of the largest (i.e. tenured) heap memory pool.
+	 *
+	 * @return the heap usage after the last garbage collection in the range [0, 1], or 0 if not available.
+	 */
+	protected float resolveHeapLoad() {
+
+		MemoryUsage tenuredUsage = null;
+
+		for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (MemoryType.HEAP.equals(memoryPool.getType()) && memoryPool.isValid()) {
+
+				MemoryUsage usage = memoryPool.getCollectionUsage();
+
+				if (usage != null && usage.getMax() > 0L
+						&& (tenuredUsage == null || usage.getMax() > tenuredUsage.getMax())) {
+
+					tenuredUsage = usage;
+				}
+			}
+		}
+
+		return tenuredUsage != null ? (float) tenuredUsage.getUsed() / tenuredUsage.getMax() : 0.0f;
+	}
+
+	/**
+	 * Resolves the size of the largest client subscription queue relative to the {@link #getQueueSizeThreshold()}.
+	 *
+	 * @return the client subscription queue load, or 0 if this server has no client subscription queues.
+	 */
+	protected float resolveQueueLoad() {
+
+		CacheClientNotifier cacheClientNotifier = CacheClientNotifier.getInstance();
+
+		Collection<CacheClientProxy> clientProxies =
+			cacheClientNotifier != null ? cacheClientNotifier.getClientProxies() : null;
+
+		int maxQueueSize = clientProxies != null
+			? clientProxies.stream()
+				.filter(Objects::nonNull)
+				.mapToInt(CacheClientProxy::getQueueSize)
+				.max()
+				.orElse(0)
+			: 0;
+
+		return (float) maxQueueSize / getQueueSizeThreshold();
+	}
+
+	private static float clamp(float value) {
+		return Float.isNaN(value) ? 0.0f : Math.max(0.0f, Math.min(1.0f, value));
+	}
+}
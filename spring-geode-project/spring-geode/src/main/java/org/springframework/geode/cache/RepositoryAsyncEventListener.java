@@ -30,6 +30,7 @@ import org.apache.geode.cache.asyncqueue.AsyncEventListener;
 
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.core.jfr.RepositoryAsyncEventBatchEvent;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -189,12 +190,20 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 	@Override
 	public final boolean processEvents(List<AsyncEvent> events) {
 
+		RepositoryAsyncEventBatchEvent batchEvent = new RepositoryAsyncEventBatchEvent();
+
+		boolean processed = false;
+
+		batchEvent.begin();
+
 		try {
-			return doProcessEvents(events);
+			processed = doProcessEvents(events);
+			return processed;
 		}
 		finally {
 			this.firedCount.incrementAndGet();
 			this.hasFired.set(true);
+			batchEvent.complete(getRepository(), events, processed);
 		}
 	}
 
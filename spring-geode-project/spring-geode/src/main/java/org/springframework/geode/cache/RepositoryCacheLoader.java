@@ -24,6 +24,7 @@ import org.apache.geode.cache.LoaderHelper;
 
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport;
+import org.springframework.geode.core.jfr.RepositoryCacheLoadEvent;
 
 /**
  * A {@link CacheLoader} implementation backed by a Spring Data {@link CrudRepository} used to load an entity
@@ -47,13 +48,23 @@ public class RepositoryCacheLoader<T, ID> extends RepositoryCacheLoaderWriterSup
   @Override
   public T load(LoaderHelper<ID, T> helper) throws CacheLoaderException {
 
+    RepositoryCacheLoadEvent loadEvent = new RepositoryCacheLoadEvent();
+
+    T value = null;
+
+    loadEvent.begin();
+
     try {
-      return getRepository().findById(helper.getKey()).orElse(null);
+      value = getRepository().findById(helper.getKey()).orElse(null);
+      return value;
     }
     catch (Exception cause) {
       throw newCacheRuntimeException(() -> String.format(CACHE_LOAD_EXCEPTION_MESSAGE,
           helper.getKey(), getRepository().getClass().getName()), cause);
     }
+    finally {
+      loadEvent.complete(helper, getRepository(), value != null);
+    }
   }
 
   @Override
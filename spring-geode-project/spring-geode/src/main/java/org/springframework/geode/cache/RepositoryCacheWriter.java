@@ -17,6 +17,7 @@ package org.springframework.geode.cache;
 
 import java.util.function.Supplier;
 
+import org.apache.geode.cache.CacheEvent;
 import org.apache.geode.cache.CacheRuntimeException;
 import org.apache.geode.cache.CacheWriter;
 import org.apache.geode.cache.CacheWriterException;
@@ -25,6 +26,7 @@ import org.apache.geode.cache.RegionEvent;
 
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport;
+import org.springframework.geode.core.jfr.RepositoryCacheWriteEvent;
 import org.springframework.geode.core.util.function.FunctionUtils;
 
 /**
@@ -46,26 +48,30 @@ public class RepositoryCacheWriter<T, ID> extends RepositoryCacheLoaderWriterSup
 
   @Override
   public void beforeCreate(EntryEvent<ID, T> event) throws CacheWriterException {
-    doRepositoryOp(event.getNewValue(), getRepository()::save);
+    doRecordedRepositoryOp("create", event, () ->
+        doRepositoryOp(event.getNewValue(), getRepository()::save));
   }
 
   @Override
   public void beforeUpdate(EntryEvent<ID, T> event) throws CacheWriterException {
-    doRepositoryOp(event.getNewValue(), getRepository()::save);
+    doRecordedRepositoryOp("update", event, () ->
+        doRepositoryOp(event.getNewValue(), getRepository()::save));
   }
 
   @Override
   public void beforeDestroy(EntryEvent<ID, T> event) throws CacheWriterException {
 
     //doRepositoryOp(event.getOldValue(), FunctionUtils.toNullReturningFunction(getRepository()::delete));
-    doRepositoryOp(event.getKey(), FunctionUtils.toNullReturningFunction(getRepository()::deleteById));
+    doRecordedRepositoryOp("destroy", event, () ->
+        doRepositoryOp(event.getKey(), FunctionUtils.toNullReturningFunction(getRepository()::deleteById)));
   }
 
   @Override
   public void beforeRegionClear(RegionEvent<ID, T> event) throws CacheWriterException {
 
     if (isNukeAndPaveEnabled()) {
-      doRepositoryOp(null, FunctionUtils.toNullReturningFunction(it -> getRepository().deleteAll()));
+      doRecordedRepositoryOp("clear", event, () ->
+          doRepositoryOp(null, FunctionUtils.toNullReturningFunction(it -> getRepository().deleteAll())));
     }
   }
 
@@ -75,6 +81,20 @@ public class RepositoryCacheWriter<T, ID> extends RepositoryCacheLoaderWriterSup
     //  (i.e. destroy database object(s), e.g. DROP TABLE)
   }
 
+  private void doRecordedRepositoryOp(String operation, CacheEvent<ID, T> event, Runnable repositoryOperation) {
+
+    RepositoryCacheWriteEvent writeEvent = new RepositoryCacheWriteEvent();
+
+    writeEvent.begin();
+
+    try {
+      repositoryOperation.run();
+    }
+    finally {
+      writeEvent.complete(operation, event, getRepository());
+    }
+  }
+
   @Override
   protected CacheRuntimeException newCacheRuntimeException(Supplier<String> messageSupplier, Throwable cause) {
     return new CacheWriterException(messageSupplier.get(), cause);
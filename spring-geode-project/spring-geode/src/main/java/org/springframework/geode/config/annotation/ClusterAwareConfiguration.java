@@ -30,6 +30,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -61,6 +68,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertySource;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
@@ -69,9 +77,12 @@ import org.springframework.data.gemfire.support.ConnectionEndpointList;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.geode.cache.SimpleCacheResolver;
+import org.springframework.geode.core.jfr.ClusterConnectionProbeEvent;
 import org.springframework.geode.core.util.ObjectUtils;
+import org.springframework.geode.core.util.SpringBootExtensions;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.StringUtils;
 
 import org.slf4j.Logger;
@@ -123,9 +134,13 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport i
 	static final int DEFAULT_CACHE_SERVER_PORT = CacheServer.DEFAULT_PORT;
 	static final int DEFAULT_LOCATOR_PORT = 10334;
 	static final int DEFAULT_TIMEOUT_IN_MILLISECONDS = 500;
+	static final int DEFAULT_PROBE_TIMEOUT_IN_MILLISECONDS = DEFAULT_TIMEOUT_IN_MILLISECONDS * 2;
+	static final int MAX_CONNECTION_PROBE_THREADS = 16;
 
 	static final ClientRegionShortcut LOCAL_CLIENT_REGION_SHORTCUT = ClientRegionShortcut.LOCAL;
 
+	static final String CLUSTER_CONDITION_STARTUP_STEP_NAME = "cluster.condition.match";
+	static final String CONNECTION_PROBE_THREAD_NAME_PREFIX = "ClusterAwareConditionProbe-";
 	static final String LOCALHOST = "localhost";
 	static final String MATCHING_PROPERTY_PATTERN = "spring\\.data\\.gemfire\\.pool\\..*locators|servers";
 	static final String STRICT_MATCH_ATTRIBUTE_NAME = "strictMatch";
@@ -251,7 +266,7 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport i
 		public synchronized boolean matches(@NonNull ConditionContext conditionContext,
 				@NonNull AnnotatedTypeMetadata typeMetadata) {
 
-			boolean matches = isMatch(conditionContext) || doCachedMatch(conditionContext);
+			boolean matches = isMatch(conditionContext) || (!isAotProcessing() && doCachedMatch(conditionContext));
 			boolean strictMatch = isStrictMatch(conditionContext, typeMetadata);
 
 			failOnStrictMatchAndNoMatches(strictMatch, matches);
@@ -263,6 +278,18 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport i
 			return isAvailable() || configuredMatchFunction.apply(conditionContext);
 		}
 
+		/**
+		 * Determines whether the application is being processed ahead-of-time (AOT), in which case the cluster
+		 * is not probed at build time and the outcome of this {@link Condition} is determined solely by
+		 * the {@literal spring.boot.data.gemfire.cluster.condition.match} property.
+		 *
+		 * @return a boolean value indicating whether the application is being processed ahead-of-time.
+		 * @see org.springframework.geode.core.util.SpringBootExtensions#isAotProcessing()
+		 */
+		protected boolean isAotProcessing() {
+			return SpringBootExtensions.isAotProcessing();
+		}
+
 		protected boolean isStrictMatch(@NonNull ConditionContext conditionContext,
 				@NonNull AnnotatedTypeMetadata typeMetadata) {
 
@@ -368,16 +395,28 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport i
 		 */
 		protected boolean doMatch(@NonNull ConditionContext conditionContext) {
 
-			Environment environment = conditionContext.getEnvironment();
+			ApplicationStartup applicationStartup =
+				SpringBootExtensions.resolveApplicationStartup(conditionContext.getBeanFactory());
+
+			return SpringBootExtensions.doInStartupStep(applicationStartup, CLUSTER_CONDITION_STARTUP_STEP_NAME,
+				step -> {
+
+					Environment environment = conditionContext.getEnvironment();
+
+					ConnectionEndpointList connectionEndpoints = getConnectionEndpoints(environment);
 
-			ConnectionEndpointList connectionEndpoints = getConnectionEndpoints(environment);
+					int connectionCount = countConnections(connectionEndpoints);
 
-			int connectionCount = countConnections(connectionEndpoints);
+					configureTopology(environment, connectionEndpoints, connectionCount);
+					logRuntimeEnvironment(getLogger(), connectionCount);
 
-			configureTopology(environment, connectionEndpoints, connectionCount);
-			logRuntimeEnvironment(getLogger(), connectionCount);
+					boolean match = isMatch(connectionEndpoints, connectionCount);
 
-			return isMatch(connectionEndpoints, connectionCount);
+					step.tag("connectionCount", String.valueOf(connectionCount))
+						.tag("match", String.valueOf(match));
+
+					return match;
+				});
 		}
 
 		boolean isMatch(@NonNull ConnectionEndpointList connectionEndpoints, int connectionCount) {
@@ -494,35 +533,146 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport i
 				.collect(Collectors.toSet());
 		}
 
+		/**
+		 * Counts the number of {@link ConnectionEndpoint ConnectionEndpoints} that can be connected to,
+		 * short-circuiting as soon as one {@link ConnectionEndpoint} answers.
+		 *
+		 * @param connectionEndpoints {@link ConnectionEndpointList} to probe; must not be {@literal null}.
+		 * @return the number of successful connections; at most {@literal 1}.
+		 * @see #countConnections(ConnectionEndpointList, boolean)
+		 */
 		protected int countConnections(@NonNull ConnectionEndpointList connectionEndpoints) {
+			return countConnections(connectionEndpoints, true);
+		}
+
+		/**
+		 * Counts the number of {@link ConnectionEndpoint ConnectionEndpoints} that can be connected to by probing
+		 * all {@link ConnectionEndpoint ConnectionEndpoints} concurrently. Therefore, the probe takes at most
+		 * the connect timeout regardless of the number of unreachable {@link ConnectionEndpoint ConnectionEndpoints}.
+		 *
+		 * @param connectionEndpoints {@link ConnectionEndpointList} to probe; must not be {@literal null}.
+		 * @param shortCircuit boolean value indicating whether to stop probing as soon as
+		 * one {@link ConnectionEndpoint} answers.
+		 * @return the number of successful connections.
+		 * @see #connect(ConnectionEndpoint)
+		 */
+		protected int countConnections(@NonNull ConnectionEndpointList connectionEndpoints, boolean shortCircuit) {
+
+			List<ConnectionEndpoint> connectionEndpointsToProbe = new ArrayList<>();
+
+			connectionEndpoints.forEach(connectionEndpointsToProbe::add);
+
+			int connectionEndpointCount = connectionEndpointsToProbe.size();
+
+			if (connectionEndpointCount < 2) {
+				return connectionEndpointCount == 1 && probe(connectionEndpointsToProbe.get(0)) ? 1 : 0;
+			}
+
+			ExecutorService executorService = newConnectionProbeExecutorService(connectionEndpointCount);
 
 			int count = 0;
 
-			for (ConnectionEndpoint connectionEndpoint : connectionEndpoints) {
+			try {
 
-				try (Socket socket = connect(connectionEndpoint)){
+				CompletionService<Boolean> probes = new ExecutorCompletionService<>(executorService);
 
-					count += isConnected(socket) ? 1 : 0;
+				connectionEndpointsToProbe.forEach(connectionEndpoint -> probes.submit(() -> probe(connectionEndpoint)));
 
-					if (getLogger().isInfoEnabled()) {
-						getLogger().info("Successfully connected to {}", connectionEndpoint);
-					}
-				}
-				catch (IOException | SocketCreationException cause) {
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEFAULT_PROBE_TIMEOUT_IN_MILLISECONDS);
 
-					if (getLogger().isInfoEnabled()) {
-						getLogger().info("Failed to connect to {}", connectionEndpoint);
+				for (int index = 0; index < connectionEndpointCount; index++) {
+
+					Future<Boolean> probe = probes.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+					if (probe == null) {
+						break;
 					}
 
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("Connection failed because:", cause);
+					if (isSuccessful(probe)) {
+						count++;
+						if (shortCircuit) {
+							break;
+						}
 					}
 				}
 			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				executorService.shutdownNow();
+			}
 
 			return count;
 		}
 
+		/**
+		 * Constructs a new {@link ExecutorService} of daemon {@link Thread Threads} used to probe
+		 * the {@link ConnectionEndpoint ConnectionEndpoints} concurrently.
+		 *
+		 * @param connectionEndpointCount number of {@link ConnectionEndpoint ConnectionEndpoints} to probe.
+		 * @return a new {@link ExecutorService}.
+		 */
+		protected @NonNull ExecutorService newConnectionProbeExecutorService(int connectionEndpointCount) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(CONNECTION_PROBE_THREAD_NAME_PREFIX);
+
+			threadFactory.setDaemon(true);
+
+			return Executors.newFixedThreadPool(Math.min(connectionEndpointCount, MAX_CONNECTION_PROBE_THREADS),
+				threadFactory);
+		}
+
+		private boolean isSuccessful(@NonNull Future<Boolean> probe) throws InterruptedException {
+
+			try {
+				return Boolean.TRUE.equals(probe.get());
+			}
+			catch (ExecutionException cause) {
+
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("Connection probe failed because:", cause.getCause());
+				}
+
+				return false;
+			}
+		}
+
+		boolean probe(@NonNull ConnectionEndpoint connectionEndpoint) {
+
+			ClusterConnectionProbeEvent probeEvent = new ClusterConnectionProbeEvent();
+
+			boolean connected = false;
+
+			probeEvent.begin();
+
+			try (Socket socket = connect(connectionEndpoint)) {
+
+				connected = isConnected(socket);
+
+				if (getLogger().isInfoEnabled()) {
+					getLogger().info("Successfully connected to {}", connectionEndpoint);
+				}
+
+				return connected;
+			}
+			catch (IOException | SocketCreationException cause) {
+
+				if (getLogger().isInfoEnabled()) {
+					getLogger().info("Failed to connect to {}", connectionEndpoint);
+				}
+
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("Connection failed because:", cause);
+				}
+
+				return false;
+			}
+			finally {
+				probeEvent.complete(connectionEndpoint.getHost(), connectionEndpoint.getPort(), connected);
+			}
+		}
+
 		protected boolean isConnected(@NonNull Socket socket) {
 			return socket != null && socket.isConnected();
 		}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.env;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newUnsupportedOperationException;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Immutable {@link Map} implementation adapting an {@link Environment} as a point-in-time snapshot
+ * of its properties.
+ *
+ * Unlike the {@link EnvironmentMapAdapter}, which delegates to the {@link Environment} on every access,
+ * all property names having the configured {@link String prefix} are enumerated and their values resolved
+ * exactly once, when the snapshot is taken, and are then served from a {@link HashMap}. Changes to
+ * the {@link Environment} are not reflected until the snapshot is explicitly {@link #refresh() refreshed}.
+ *
+ * @author John Blum
+ * @see java.util.AbstractMap
+ * @see java.util.HashMap
+ * @see java.util.Map
+ * @see org.springframework.core.env.ConfigurableEnvironment
+ * @see org.springframework.core.env.EnumerablePropertySource
+ * @see org.springframework.core.env.Environment
+ * @see org.springframework.geode.core.env.EnvironmentMapAdapter
+ * @since 2.0.0
+ */
+public class EnvironmentSnapshotMapAdapter extends AbstractMap<String, String> {
+
+	protected static final String NO_PREFIX = "";
+
+	/**
+	 * Factory method used to construct a new instance of {@link EnvironmentSnapshotMapAdapter} containing
+	 * all enumerable properties from the given {@link Environment}.
+	 *
+	 * @param environment {@link Environment} to snapshot; must not be {@literal null}.
+	 * @return a new {@link EnvironmentSnapshotMapAdapter} for the given {@link Environment}.
+	 * @throws IllegalArgumentException if {@link Environment} is {@literal null}.
+	 * @throws UnsupportedOperationException if {@link Environment} is not a {@link ConfigurableEnvironment}.
+	 * @see #from(Environment, String)
+	 */
+	public static @NonNull EnvironmentSnapshotMapAdapter from(@NonNull Environment environment) {
+		return from(environment, NO_PREFIX);
+	}
+
+	/**
+	 * Factory method used to construct a new instance of {@link EnvironmentSnapshotMapAdapter} containing
+	 * only those properties from the given {@link Environment} whose names start with the given {@link String prefix}.
+	 *
+	 * @param environment {@link Environment} to snapshot; must not be {@literal null}.
+	 * @param prefix {@link String} used to filter property names; may be {@literal null} or empty
+	 * to include all properties.
+	 * @return a new {@link EnvironmentSnapshotMapAdapter} for the given {@link Environment}.
+	 * @throws IllegalArgumentException if {@link Environment} is {@literal null}.
+	 * @throws UnsupportedOperationException if {@link Environment} is not a {@link ConfigurableEnvironment}.
+	 * @see #EnvironmentSnapshotMapAdapter(Environment, String)
+	 */
+	public static @NonNull EnvironmentSnapshotMapAdapter from(@NonNull Environment environment,
+			@Nullable String prefix) {
+
+		return new EnvironmentSnapshotMapAdapter(environment, prefix);
+	}
+
+	private final Environment environment;
+
+	private volatile Map<String, String> snapshot;
+
+	private final String prefix;
+
+	/**
+	 * Constructs a new instance of {@link EnvironmentSnapshotMapAdapter} initialized with the given {@link Environment}
+	 * and {@link String prefix}, taking the initial snapshot.
+	 *
+	 * @param environment {@link Environment} to snapshot; must not be {@literal null}.
+	 * @param prefix {@link String} used to filter property names; may be {@literal null} or empty
+	 * to include all properties.
+	 * @throws IllegalArgumentException if {@link Environment} is {@literal null}.
+	 * @throws UnsupportedOperationException if {@link Environment} is not a {@link ConfigurableEnvironment}.
+	 * @see org.springframework.core.env.Environment
+	 * @see #refresh()
+	 */
+	public EnvironmentSnapshotMapAdapter(@NonNull Environment environment, @Nullable String prefix) {
+
+		Assert.notNull(environment, "Environment must not be null");
+
+		this.environment = environment;
+		this.prefix = prefix != null ? prefix : NO_PREFIX;
+
+		refresh();
+	}
+
+	/**
+	 * Gets the configured {@link Environment} from which the snapshot is taken.
+	 *
+	 * @return the configured {@link Environment}; never {@literal null}.
+	 * @see org.springframework.core.env.Environment
+	 */
+	protected @NonNull Environment getEnvironment() {
+		return this.environment;
+	}
+
+	/**
+	 * Gets the {@link String prefix} used to filter the property names included in the snapshot.
+	 *
+	 * @return the {@link String prefix} used to filter property names; never {@literal null},
+	 * but may be empty.
+	 */
+	public @NonNull String getPrefix() {
+		return this.prefix;
+	}
+
+	/**
+	 * Re-enumerates and re-resolves the properties of the configured {@link Environment}, replacing
+	 * the current snapshot.
+	 *
+	 * The first {@link PropertySource} declaring a given property name wins, consistent with
+	 * the precedence of {@link ConfigurableEnvironment#getPropertySources()}. Each property value is resolved
+	 * once using {@link Environment#getProperty(String)} so that placeholders are resolved as they would be
+	 * when accessing the {@link Environment} directly.
+	 *
+	 * @return this {@link EnvironmentSnapshotMapAdapter}.
+	 * @throws UnsupportedOperationException if {@link Environment} is not a {@link ConfigurableEnvironment}.
+	 * @see org.springframework.core.env.ConfigurableEnvironment#getPropertySources()
+	 */
+	public @NonNull EnvironmentSnapshotMapAdapter refresh() {
+
+		Environment environment = getEnvironment();
+
+		if (environment instanceof ConfigurableEnvironment) {
+
+			Map<String, String> snapshot = new HashMap<>();
+
+			MutablePropertySources propertySources = ((ConfigurableEnvironment) environment).getPropertySources();
+
+			if (propertySources != null) {
+				for (PropertySource<?> propertySource : propertySources) {
+					if (propertySource instanceof EnumerablePropertySource) {
+
+						String[] propertyNames = ((EnumerablePropertySource<?>) propertySource).getPropertyNames();
+
+						for (String propertyName : ArrayUtils.nullSafeArray(propertyNames, String.class)) {
+							if (isIncluded(propertyName) && !snapshot.containsKey(propertyName)) {
+								snapshot.put(propertyName, environment.getProperty(propertyName));
+							}
+						}
+					}
+				}
+			}
+
+			this.snapshot = Collections.unmodifiableMap(snapshot);
+
+			return this;
+		}
+
+		throw newUnsupportedOperationException("Unable to take a snapshot of the Environment [%s]",
+			environment.getClass().getName());
+	}
+
+	private boolean isIncluded(@Nullable String propertyName) {
+		return StringUtils.hasText(propertyName) && propertyName.startsWith(getPrefix());
+	}
+
+	/**
+	 * Null-safe method determining whether the given {@link Object key} is a property in the snapshot.
+	 *
+	 * @param key {@link Object key} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Object key} is a property in the snapshot.
+	 */
+	@Override
+	public boolean containsKey(@Nullable Object key) {
+		return key != null && this.snapshot.containsKey(key);
+	}
+
+	/**
+	 * Gets the pre-resolved {@link String value} of the property identified by the given {@link Object key}
+	 * from the snapshot.
+	 *
+	 * @param key {@link Object key} identifying the property.
+	 * @return the pre-resolved {@link String value} of the property, or {@literal null} if the property
+	 * is not in the snapshot or resolved to {@literal null}.
+	 */
+	@Override
+	public @Nullable String get(@Nullable Object key) {
+		return key != null ? this.snapshot.get(key) : null;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int size() {
+		return this.snapshot.size();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		return this.snapshot.entrySet();
+	}
+}
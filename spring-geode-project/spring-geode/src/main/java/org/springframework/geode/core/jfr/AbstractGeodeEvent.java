@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.jfr;
+
+import java.lang.reflect.Proxy;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+/**
+ * Abstract base class for all Java Flight Recorder (JFR) {@link Event Events} emitted by Spring Boot for Apache Geode.
+ *
+ * Events are meant to be used with the {@link #begin()}, {@link #shouldCommit()} and {@link #commit()} idiom, where
+ * the {@literal Event} fields are only computed and set when the {@literal Event} is actually recorded. When no
+ * recording is in progress, or the {@literal Event} is disabled, the cost of an {@literal Event} is reduced to
+ * a short-lived, non-escaping allocation and a couple of checks that the JIT compiler can eliminate.
+ *
+ * @author John Blum
+ * @see jdk.jfr.Event
+ * @since 2.0.0
+ */
+@Category("Spring Geode")
+@StackTrace(false)
+public abstract class AbstractGeodeEvent extends Event {
+
+	/**
+	 * Null-safe operation used to resolve the {@link Region#getFullPath() full path} of the given {@link Region}.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return the {@link Region#getFullPath() full path} of the given {@link Region} or {@literal null}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	protected static @Nullable String regionPath(@Nullable Region<?, ?> region) {
+		return region != null ? region.getFullPath() : null;
+	}
+
+	/**
+	 * Null-safe operation used to resolve the name of the {@link Class type} of the given {@link Object}.
+	 *
+	 * For JDK dynamic proxies, such as Spring Data Repositories, the name of the first proxied interface is used
+	 * in place of the generated proxy {@link Class} name.
+	 *
+	 * @param target {@link Object} to evaluate.
+	 * @return the name of the {@link Class type} of the given {@link Object} or {@literal null}.
+	 */
+	protected static @Nullable String typeName(@Nullable Object target) {
+
+		if (target == null) {
+			return null;
+		}
+
+		Class<?> type = target.getClass();
+
+		if (Proxy.isProxyClass(type) && type.getInterfaces().length > 0) {
+			return type.getInterfaces()[0].getName();
+		}
+
+		return ClassUtils.getUserClass(type).getName();
+	}
+}
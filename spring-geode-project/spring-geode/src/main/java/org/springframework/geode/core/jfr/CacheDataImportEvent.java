@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.jfr;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder (JFR) {@link jdk.jfr.Event} recording data imported into a {@link Region}.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.data.CacheDataImporterExporter
+ * @see org.springframework.geode.core.jfr.AbstractGeodeEvent
+ * @since 2.0.0
+ */
+@Name("org.springframework.geode.CacheDataImport")
+@Label("Cache Data Import")
+@Category({ "Spring Geode", "Data" })
+@Description("Data imported into a Region")
+public class CacheDataImportEvent extends AbstractGeodeEvent {
+
+	@Label("Region")
+	private String region;
+
+	@Label("Entries")
+	@Description("Number of entries put into the Region")
+	private int entries;
+
+	/**
+	 * Sets the number of entries imported into the {@link Region}.
+	 *
+	 * @param entries number of entries imported into the {@link Region}.
+	 */
+	public void setEntries(int entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Commits this {@link jdk.jfr.Event} when recorded.
+	 *
+	 * @param region {@link Region} into which the data was imported.
+	 */
+	public void complete(@Nullable Region<?, ?> region) {
+
+		if (shouldCommit()) {
+			this.region = regionPath(region);
+			commit();
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.jfr;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder (JFR) {@link jdk.jfr.Event} recording an attempt to connect to a Locator or CacheServer
+ * made while determining whether an Apache Geode cluster is available.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.config.annotation.ClusterAwareConfiguration
+ * @see org.springframework.geode.core.jfr.AbstractGeodeEvent
+ * @since 2.0.0
+ */
+@Name("org.springframework.geode.ClusterConnectionProbe")
+@Label("Cluster Connection Probe")
+@Category({ "Spring Geode", "Cluster" })
+@Description("Attempt to connect to a Locator or CacheServer of an Apache Geode cluster")
+public class ClusterConnectionProbeEvent extends AbstractGeodeEvent {
+
+	@Label("Host")
+	private String host;
+
+	@Label("Port")
+	private int port;
+
+	@Label("Connected")
+	private boolean connected;
+
+	/**
+	 * Commits this {@link jdk.jfr.Event} when recorded.
+	 *
+	 * @param host {@link String} containing the name of the probed host.
+	 * @param port {@link Integer} containing the probed port.
+	 * @param connected boolean value indicating whether the connection succeeded.
+	 */
+	public void complete(@Nullable String host, int port, boolean connected) {
+
+		if (shouldCommit()) {
+			this.host = host;
+			this.port = port;
+			this.connected = connected;
+			commit();
+		}
+	}
+}
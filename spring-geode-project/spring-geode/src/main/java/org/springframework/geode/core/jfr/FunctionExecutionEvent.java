@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.jfr;
+
+import java.lang.reflect.Method;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder (JFR) {@link jdk.jfr.Event} recording an Apache Geode
+ * {@link org.apache.geode.cache.execute.Function} {@link org.apache.geode.cache.execute.Execution}
+ * invoked through an SDG POJO interface.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.function.support.FunctionExecutionEventInterceptor
+ * @see org.springframework.geode.core.jfr.AbstractGeodeEvent
+ * @since 2.0.0
+ */
+@Name("org.springframework.geode.FunctionExecution")
+@Label("Function Execution")
+@Category({ "Spring Geode", "Function" })
+@Description("Function executed through a Spring Data for Apache Geode Function Execution interface")
+public class FunctionExecutionEvent extends AbstractGeodeEvent {
+
+	@Label("Function ID")
+	private String functionId;
+
+	@Label("Method")
+	private String method;
+
+	@Label("Failed")
+	private boolean failed;
+
+	/**
+	 * Commits this {@link jdk.jfr.Event} when recorded.
+	 *
+	 * @param functionId {@link String ID} of the executed {@literal Function}.
+	 * @param method {@link Method} of the Function Execution interface that was invoked.
+	 * @param failed boolean value indicating whether the {@literal Function} {@literal Execution} failed.
+	 */
+	public void complete(@Nullable String functionId, @Nullable Method method, boolean failed) {
+
+		if (shouldCommit()) {
+			this.functionId = functionId;
+			this.method = method != null ? method.getDeclaringClass().getName() + "." + method.getName() : null;
+			this.failed = failed;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.jfr;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder (JFR) {@link jdk.jfr.Event} recording the processing of a batch of
+ * {@link org.apache.geode.cache.asyncqueue.AsyncEvent AsyncEvents} by a Spring Data Repository.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+ * @see org.springframework.geode.core.jfr.AbstractGeodeEvent
+ * @since 2.0.0
+ */
+@Name("org.springframework.geode.RepositoryAsyncEventBatch")
+@Label("Repository AsyncEvent Batch")
+@Category({ "Spring Geode", "Cache" })
+@Description("Batch of AsyncEvents processed by a Spring Data Repository")
+public class RepositoryAsyncEventBatchEvent extends AbstractGeodeEvent {
+
+	@Label("Repository")
+	private String repository;
+
+	@Label("Batch Size")
+	private int batchSize;
+
+	@Label("Processed")
+	@Description("Whether all AsyncEvents in the batch were processed successfully")
+	private boolean processed;
+
+	/**
+	 * Commits this {@link jdk.jfr.Event} when recorded.
+	 *
+	 * @param repository Spring Data Repository that processed the batch.
+	 * @param events {@link List} of {@literal AsyncEvents} in the batch.
+	 * @param processed boolean value indicating whether the batch was processed successfully.
+	 */
+	public void complete(@Nullable Object repository, @Nullable List<?> events, boolean processed) {
+
+		if (shouldCommit()) {
+			this.repository = typeName(repository);
+			this.batchSize = events != null ? events.size() : 0;
+			this.processed = processed;
+			commit();
+		}
+	}
+}
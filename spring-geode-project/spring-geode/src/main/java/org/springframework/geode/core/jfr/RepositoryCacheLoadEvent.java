@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.jfr;
+
+import org.apache.geode.cache.LoaderHelper;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder (JFR) {@link jdk.jfr.Event} recording a cache miss loaded from a Spring Data Repository.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.cache.RepositoryCacheLoader
+ * @see org.springframework.geode.core.jfr.AbstractGeodeEvent
+ * @since 2.0.0
+ */
+@Name("org.springframework.geode.RepositoryCacheLoad")
+@Label("Repository Cache Load")
+@Category({ "Spring Geode", "Cache" })
+@Description("Value loaded from a Spring Data Repository on a cache miss")
+public class RepositoryCacheLoadEvent extends AbstractGeodeEvent {
+
+	@Label("Region")
+	private String region;
+
+	@Label("Key")
+	private String key;
+
+	@Label("Repository")
+	private String repository;
+
+	@Label("Found")
+	@Description("Whether the Repository returned a value for the key")
+	private boolean found;
+
+	/**
+	 * Commits this {@link jdk.jfr.Event} when recorded.
+	 *
+	 * @param helper {@link LoaderHelper} describing the cache miss.
+	 * @param repository Spring Data Repository used to load the value.
+	 * @param found boolean value indicating whether a value was found.
+	 */
+	public void complete(@Nullable LoaderHelper<?, ?> helper, @Nullable Object repository, boolean found) {
+
+		if (shouldCommit()) {
+			this.region = helper != null ? regionPath(helper.getRegion()) : null;
+			this.key = helper != null ? String.valueOf(helper.getKey()) : null;
+			this.repository = typeName(repository);
+			this.found = found;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.jfr;
+
+import org.apache.geode.cache.CacheEvent;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder (JFR) {@link jdk.jfr.Event} recording a cache write (i.e. create, update, destroy or clear)
+ * propagated to a Spring Data Repository.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.cache.RepositoryCacheWriter
+ * @see org.springframework.geode.core.jfr.AbstractGeodeEvent
+ * @since 2.0.0
+ */
+@Name("org.springframework.geode.RepositoryCacheWrite")
+@Label("Repository Cache Write")
+@Category({ "Spring Geode", "Cache" })
+@Description("Cache write propagated to a Spring Data Repository")
+public class RepositoryCacheWriteEvent extends AbstractGeodeEvent {
+
+	@Label("Operation")
+	private String operation;
+
+	@Label("Region")
+	private String region;
+
+	@Label("Repository")
+	private String repository;
+
+	/**
+	 * Commits this {@link jdk.jfr.Event} when recorded.
+	 *
+	 * @param operation {@link String name} of the cache operation.
+	 * @param cacheEvent {@link CacheEvent} describing the cache operation.
+	 * @param repository Spring Data Repository to which the cache operation was propagated.
+	 */
+	public void complete(@Nullable String operation, @Nullable CacheEvent<?, ?> cacheEvent,
+			@Nullable Object repository) {
+
+		if (shouldCommit()) {
+			this.operation = operation;
+			this.region = cacheEvent != null ? regionPath(cacheEvent.getRegion()) : null;
+			this.repository = typeName(repository);
+			commit();
+		}
+	}
+}
@@ -16,22 +16,42 @@
 package org.springframework.geode.core.util;
 
 import java.util.Optional;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.logging.LoggingSystem;
 import org.springframework.boot.logging.LoggingSystemFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 /**
  * Abstract base class used to perform actions on Spring Boot configuration and components.
  *
  * @author John Blum
+ * @see org.springframework.core.metrics.ApplicationStartup
+ * @see org.springframework.core.metrics.StartupStep
  * @see org.springframework.geode.core.util.SpringExtensions
  * @since 2.0.0
  */
 @SuppressWarnings("unused")
 public abstract class SpringBootExtensions extends SpringExtensions {
 
+	public static final boolean DEFAULT_LAZY_INITIALIZATION_ENABLED = false;
+
+	public static final String AOT_PROCESSING_PROPERTY = "spring.aot.processing";
+
+	public static final String LAZY_INITIALIZATION_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.lazy-initialization.enabled";
+
+	public static final String STARTUP_STEP_NAME_PREFIX = "spring.boot.data.gemfire.";
+
 	/**
 	 * Cleans up all resources allocated by the {@link LoggingSystem} loaded, configured and initialized by Spring Boot.
 	 *
@@ -55,4 +75,101 @@ public abstract class SpringBootExtensions extends SpringExtensions {
 			.map(loggingSystemFactory -> loggingSystemFactory.getLoggingSystem(classLoader))
 			.ifPresent(LoggingSystem::cleanUp);
 	}
+
+	/**
+	 * Determines whether the application is currently being processed ahead-of-time (AOT) by the Spring AOT engine,
+	 * for instance, while building a GraalVM native image.
+	 *
+	 * During AOT processing, {@link org.springframework.context.annotation.Condition Conditions} are evaluated
+	 * and their outcome is recorded in the generated code. Therefore, components should avoid evaluating conditions
+	 * that depend on the runtime environment, such as the availability of a cluster, at build time.
+	 *
+	 * @return a boolean value indicating whether the application is being processed ahead-of-time.
+	 * @see #AOT_PROCESSING_PROPERTY
+	 */
+	public static boolean isAotProcessing() {
+		return Boolean.getBoolean(AOT_PROCESSING_PROPERTY);
+	}
+
+	/**
+	 * Determines whether Spring Boot for Apache Geode's opt-in {@literal lazy initialization} mode is enabled.
+	 *
+	 * In {@literal lazy initialization} mode, auto-configured components that are not required to start
+	 * the application (e.g. {@link org.springframework.data.gemfire.GemfireTemplate Region templates},
+	 * {@literal Function Execution} proxies and the cache data import) are deferred until first use.
+	 *
+	 * @param environment {@link Environment} used to evaluate the {@link #LAZY_INITIALIZATION_ENABLED_PROPERTY}.
+	 * @return a boolean value indicating whether {@literal lazy initialization} mode is enabled.
+	 * @see org.springframework.core.env.Environment
+	 * @see #LAZY_INITIALIZATION_ENABLED_PROPERTY
+	 */
+	public static boolean isLazyInitializationEnabled(@Nullable Environment environment) {
+
+		return environment != null && Boolean.TRUE.equals(environment.getProperty(LAZY_INITIALIZATION_ENABLED_PROPERTY,
+			Boolean.class, DEFAULT_LAZY_INITIALIZATION_ENABLED));
+	}
+
+	/**
+	 * Resolves the Spring {@link ApplicationStartup} from the given {@link Object source}.
+	 *
+	 * The {@link Object source} may be a {@link ConfigurableApplicationContext}, a {@link ConfigurableBeanFactory}
+	 * or a {@link SpringApplication}.
+	 *
+	 * @param source {@link Object} from which the {@link ApplicationStartup} is resolved.
+	 * @return the resolved {@link ApplicationStartup} or {@link ApplicationStartup#DEFAULT}, which does not record
+	 * any {@link StartupStep StartupSteps}, if the {@link ApplicationStartup} cannot be resolved.
+	 * @see org.springframework.core.metrics.ApplicationStartup
+	 */
+	public static @NonNull ApplicationStartup resolveApplicationStartup(@Nullable Object source) {
+
+		ApplicationStartup applicationStartup = source instanceof ConfigurableApplicationContext applicationContext
+			? applicationContext.getApplicationStartup()
+			: source instanceof ConfigurableBeanFactory beanFactory
+			? beanFactory.getApplicationStartup()
+			: source instanceof SpringApplication springApplication
+			? springApplication.getApplicationStartup()
+			: null;
+
+		return applicationStartup != null ? applicationStartup : ApplicationStartup.DEFAULT;
+	}
+
+	/**
+	 * Performs the given unit of work inside a {@link StartupStep} recorded by the given {@link ApplicationStartup}.
+	 *
+	 * The {@link StartupStep} is named with the {@link #STARTUP_STEP_NAME_PREFIX}, is passed to the unit of work
+	 * so that the work can {@link StartupStep#tag(String, String) tag} the step, and is always ended, even when
+	 * the unit of work fails.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param applicationStartup {@link ApplicationStartup} used to record the {@link StartupStep}.
+	 * @param name {@link String} containing the name of the {@link StartupStep} relative to
+	 * the {@link #STARTUP_STEP_NAME_PREFIX}; must not be {@literal null} or empty.
+	 * @param work {@link Function} performing the unit of work; must not be {@literal null}.
+	 * @return the result of the unit of work.
+	 * @throws IllegalArgumentException if the {@link String name} is not set or the {@link Function} is null.
+	 * @see org.springframework.core.metrics.ApplicationStartup
+	 * @see org.springframework.core.metrics.StartupStep
+	 */
+	public static <T> T doInStartupStep(@Nullable ApplicationStartup applicationStartup, @NonNull String name,
+			@NonNull Function<StartupStep, T> work) {
+
+		Assert.hasText(name, "StartupStep name is required");
+		Assert.notNull(work, "Work is required");
+
+		ApplicationStartup resolvedApplicationStartup =
+			applicationStartup != null ? applicationStartup : ApplicationStartup.DEFAULT;
+
+		StartupStep step = resolvedApplicationStartup.start(STARTUP_STEP_NAME_PREFIX + name);
+
+		try {
+			return work.apply(step);
+		}
+		catch (RuntimeException | Error cause) {
+			step.tag("failure", cause.getClass().getName());
+			throw cause;
+		}
+		finally {
+			step.end();
+		}
+	}
 }
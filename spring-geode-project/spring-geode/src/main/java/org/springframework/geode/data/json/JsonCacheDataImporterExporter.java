@@ -24,11 +24,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.geode.core.jfr.CacheDataExportEvent;
+import org.springframework.geode.core.jfr.CacheDataImportEvent;
 import org.springframework.geode.data.CacheDataExporter;
 import org.springframework.geode.data.CacheDataImporter;
 import org.springframework.geode.data.json.converter.AbstractObjectArrayToJsonConverter;
+import org.springframework.geode.data.json.converter.JsonConverterFactory;
 import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
-import org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter;
+import org.springframework.geode.data.json.converter.support.DefaultJsonConverterFactory;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter;
 import org.springframework.geode.pdx.ObjectPdxInstanceAdapter;
 import org.springframework.geode.pdx.PdxInstanceWrapper;
@@ -48,9 +51,11 @@ import org.springframework.util.Assert;
  * @see org.springframework.core.io.Resource
  * @see org.springframework.geode.data.CacheDataExporter
  * @see org.springframework.geode.data.CacheDataImporter
+ * @see org.springframework.geode.data.json.converter.JsonConverterFactory
  * @see org.springframework.geode.data.json.converter.JsonToPdxArrayConverter
  * @see org.springframework.geode.data.json.converter.ObjectArrayToJsonConverter
  * @see org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter
+ * @see org.springframework.geode.data.json.converter.support.SchemaInferringJsonToPdxConverter
  * @see org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter
  * @see org.springframework.geode.pdx.ObjectPdxInstanceAdapter
  * @see org.springframework.geode.pdx.PdxInstanceWrapper
@@ -61,8 +66,13 @@ import org.springframework.util.Assert;
 @SuppressWarnings("rawtypes")
 public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImporterExporter {
 
+	protected static final boolean DEFAULT_CACHE_DATA_IMPORT_JSON_SCHEMA_INFERENCE_ENABLED = false;
+
 	protected static final PdxInstance[] EMPTY_PDX_INSTANCE_ARRAY = {};
 
+	protected static final String CACHE_DATA_IMPORT_JSON_SCHEMA_INFERENCE_ENABLED_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.import.json.schema-inference.enabled";
+
 	@Autowired(required = false)
 	private JsonToPdxArrayConverter jsonToPdxArrayConverter;
 
@@ -97,7 +107,28 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 	}
 
 	private @NonNull JsonToPdxArrayConverter newJsonToPdxArrayConverter() {
-		return new JacksonJsonToPdxConverter();
+
+		JsonConverterFactory jsonConverterFactory = DefaultJsonConverterFactory.resolveInstance();
+
+		return isJsonSchemaInferenceEnabled()
+			? jsonConverterFactory.getSchemaInferringJsonToPdxArrayConverter()
+			: jsonConverterFactory.getJsonToPdxArrayConverter();
+	}
+
+	/**
+	 * Determines whether PDX schema inference has been enabled for JSON import.
+	 *
+	 * @return a boolean value indicating whether PDX schema inference has been enabled for JSON import;
+	 * {@literal false} by default.
+	 * @see org.springframework.geode.data.json.converter.support.SchemaInferringJsonToPdxConverter
+	 * @see #getEnvironment()
+	 */
+	protected boolean isJsonSchemaInferenceEnabled() {
+
+		return getEnvironment()
+			.map(environment -> environment.getProperty(CACHE_DATA_IMPORT_JSON_SCHEMA_INFERENCE_ENABLED_PROPERTY_NAME,
+				Boolean.class, DEFAULT_CACHE_DATA_IMPORT_JSON_SCHEMA_INFERENCE_ENABLED))
+			.orElse(DEFAULT_CACHE_DATA_IMPORT_JSON_SCHEMA_INFERENCE_ENABLED);
 	}
 
 	/**
@@ -118,16 +149,28 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 
 		Assert.notNull(region, "Region must not be null");
 
-		getExportResourceResolver()
-			.resolve(region)
-			.ifPresent(resource -> {
+		CacheDataExportEvent exportEvent = new CacheDataExportEvent();
 
-				String json = toJson(region);
+		exportEvent.begin();
 
-				getLogger().debug("Saving JSON [{}] from Region [{}]", json, region.getName());
+		try {
+			getExportResourceResolver()
+				.resolve(region)
+				.ifPresent(resource -> {
 
-				getResourceWriter().write(resource, json.getBytes());
-			});
+					String json = toJson(region);
+
+					getLogger().debug("Saving JSON [{}] from Region [{}]", json, region.getName());
+
+					byte[] data = json.getBytes();
+
+					getResourceWriter().write(resource, data);
+					exportEvent.setBytes(data.length);
+				});
+		}
+		finally {
+			exportEvent.complete(region);
+		}
 
 		return region;
 	}
@@ -140,11 +183,23 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 
 		Assert.notNull(region, "Region must not be null");
 
-		getImportResourceResolver()
-			.resolve(region)
-			.map(this.getResourceReader()::read)
-			.map(this::toPdx)
-			.ifPresent(pdxInstances -> regionPutPdx(region, pdxInstances));
+		CacheDataImportEvent importEvent = new CacheDataImportEvent();
+
+		importEvent.begin();
+
+		try {
+			getImportResourceResolver()
+				.resolve(region)
+				.map(this.getResourceReader()::read)
+				.map(this::toPdx)
+				.ifPresent(pdxInstances -> {
+					regionPutPdx(region, pdxInstances);
+					importEvent.setEntries(pdxInstances != null ? pdxInstances.length : 0);
+				});
+		}
+		finally {
+			importEvent.complete(region);
+		}
 
 		return region;
 	}
@@ -18,7 +18,7 @@ package org.springframework.geode.data.json.converter;
 import java.util.Map;
 
 import org.springframework.data.gemfire.util.CollectionUtils;
-import org.springframework.geode.data.json.converter.support.JSONFormatterPdxToJsonConverter;
+import org.springframework.geode.data.json.converter.support.DefaultJsonConverterFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -40,11 +40,10 @@ public abstract class AbstractObjectArrayToJsonConverter implements ObjectArrayT
 	protected static final String END_ARRAY = "]";
 	protected static final String JSON_OBJECT_SEPARATOR = ", ";
 
-	private ObjectToJsonConverter converter = newObjectToJsonConverter();
+	private ObjectToJsonConverter converter = resolveObjectToJsonConverter();
 
-	// TODO configure via an SPI
-	private @NonNull ObjectToJsonConverter newObjectToJsonConverter() {
-		return new JSONFormatterPdxToJsonConverter();
+	private @NonNull ObjectToJsonConverter resolveObjectToJsonConverter() {
+		return DefaultJsonConverterFactory.resolveInstance().getObjectToJsonConverter();
 	}
 
 	/**
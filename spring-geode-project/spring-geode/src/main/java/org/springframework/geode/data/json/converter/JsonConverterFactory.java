@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.json.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Service Provider Interface (SPI) defining a contract for a registry of shared, thread-safe JSON converters
+ * and Jackson {@link ObjectMapper ObjectMappers} used by all JSON processing paths.
+ *
+ * Implementations are declared in {@literal META-INF/spring.factories} under the {@link JsonConverterFactory}
+ * key and resolved at runtime with
+ * {@link org.springframework.geode.data.json.converter.support.DefaultJsonConverterFactory#resolveInstance()}.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see com.fasterxml.jackson.databind.ObjectReader
+ * @see com.fasterxml.jackson.databind.ObjectWriter
+ * @see org.springframework.geode.data.json.converter.JsonToObjectConverter
+ * @see org.springframework.geode.data.json.converter.JsonToPdxArrayConverter
+ * @see org.springframework.geode.data.json.converter.JsonToPdxConverter
+ * @see org.springframework.geode.data.json.converter.ObjectToJsonConverter
+ * @see org.springframework.geode.data.json.converter.support.DefaultJsonConverterFactory
+ * @since 2.0.0
+ */
+public interface JsonConverterFactory {
+
+	/**
+	 * Returns the shared, thread-safe Jackson {@link ObjectMapper} used to read and write {@literal JSON}.
+	 *
+	 * @return the shared, thread-safe Jackson {@link ObjectMapper}; never {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 */
+	@NonNull ObjectMapper getObjectMapper();
+
+	/**
+	 * Returns a shared, thread-safe Jackson {@link ObjectReader} built from the {@link #getObjectMapper()}
+	 * to read {@literal JSON} into an instance of the given {@link Class type}.
+	 *
+	 * @param type {@link Class type} of the {@link Object} to read; must not be {@literal null}.
+	 * @return a shared, thread-safe Jackson {@link ObjectReader} for the given {@link Class type};
+	 * never {@literal null}.
+	 * @throws IllegalArgumentException if {@link Class type} is {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectReader
+	 * @see #getObjectMapper()
+	 */
+	@NonNull ObjectReader getObjectReader(@NonNull Class<?> type);
+
+	/**
+	 * Returns a shared, thread-safe Jackson {@link ObjectWriter} built from the {@link #getObjectMapper()}
+	 * to write an instance of the given {@link Class type} as {@literal JSON}.
+	 *
+	 * @param type {@link Class type} of the {@link Object} to write; must not be {@literal null}.
+	 * @return a shared, thread-safe Jackson {@link ObjectWriter} for the given {@link Class type};
+	 * never {@literal null}.
+	 * @throws IllegalArgumentException if {@link Class type} is {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectWriter
+	 * @see #getObjectMapper()
+	 */
+	@NonNull ObjectWriter getObjectWriter(@NonNull Class<?> type);
+
+	/**
+	 * Returns the shared {@link JsonToObjectConverter}.
+	 *
+	 * @return the shared {@link JsonToObjectConverter}; never {@literal null}.
+	 * @see org.springframework.geode.data.json.converter.JsonToObjectConverter
+	 */
+	@NonNull JsonToObjectConverter getJsonToObjectConverter();
+
+	/**
+	 * Returns the shared {@link JsonToPdxConverter}.
+	 *
+	 * @return the shared {@link JsonToPdxConverter}; never {@literal null}.
+	 * @see org.springframework.geode.data.json.converter.JsonToPdxConverter
+	 */
+	@NonNull JsonToPdxConverter getJsonToPdxConverter();
+
+	/**
+	 * Returns the shared {@link JsonToPdxArrayConverter}.
+	 *
+	 * @return the shared {@link JsonToPdxArrayConverter}; never {@literal null}.
+	 * @see org.springframework.geode.data.json.converter.JsonToPdxArrayConverter
+	 */
+	@NonNull JsonToPdxArrayConverter getJsonToPdxArrayConverter();
+
+	/**
+	 * Returns the shared {@link JsonToPdxArrayConverter} that infers a stable PDX schema per {@literal @type}.
+	 *
+	 * The converter is shared so that the PDX schema inferred for each {@literal @type} is reused
+	 * across conversions.
+	 *
+	 * @return the shared, schema inferring {@link JsonToPdxArrayConverter}; never {@literal null}.
+	 * @see org.springframework.geode.data.json.converter.support.SchemaInferringJsonToPdxConverter
+	 */
+	@NonNull JsonToPdxArrayConverter getSchemaInferringJsonToPdxArrayConverter();
+
+	/**
+	 * Returns the shared {@link ObjectToJsonConverter}.
+	 *
+	 * @return the shared {@link ObjectToJsonConverter}; never {@literal null}.
+	 * @see org.springframework.geode.data.json.converter.ObjectToJsonConverter
+	 */
+	@NonNull ObjectToJsonConverter getObjectToJsonConverter();
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.json.converter.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.geode.data.json.converter.JsonConverterFactory;
+import org.springframework.geode.data.json.converter.JsonToObjectConverter;
+import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
+import org.springframework.geode.data.json.converter.JsonToPdxConverter;
+import org.springframework.geode.data.json.converter.ObjectToJsonConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Default {@link JsonConverterFactory} implementation backed by Jackson and Apache Geode's
+ * {@link org.apache.geode.pdx.JSONFormatter}.
+ *
+ * The Jackson {@link ObjectMapper} is created and configured once, a Jackson {@link ObjectReader}
+ * and {@link ObjectWriter} are built once per {@link Class type} read or written, and the converters
+ * are lazily created once on first use and then shared. Any Jackson
+ * {@link com.fasterxml.jackson.databind.Module Modules} registered as a Java service on the classpath,
+ * such as {@literal Afterburner} or {@literal Blackbird}, are registered with the shared {@link ObjectMapper}.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see com.fasterxml.jackson.databind.ObjectReader
+ * @see com.fasterxml.jackson.databind.ObjectWriter
+ * @see org.springframework.core.io.support.SpringFactoriesLoader
+ * @see org.springframework.geode.data.json.converter.JsonConverterFactory
+ * @see org.springframework.util.function.SingletonSupplier
+ * @since 2.0.0
+ */
+public class DefaultJsonConverterFactory implements JsonConverterFactory {
+
+	private static final SingletonSupplier<JsonConverterFactory> INSTANCE =
+		SingletonSupplier.of(DefaultJsonConverterFactory::loadJsonConverterFactory);
+
+	/**
+	 * Resolves the single, shared instance of the {@link JsonConverterFactory}.
+	 *
+	 * The first {@link JsonConverterFactory} declared in {@literal META-INF/spring.factories}, in order,
+	 * is used when present. Otherwise, a new {@link DefaultJsonConverterFactory} is used.
+	 *
+	 * @return the single, shared instance of the {@link JsonConverterFactory}; never {@literal null}.
+	 * @see org.springframework.core.io.support.SpringFactoriesLoader#loadFactories(Class, ClassLoader)
+	 */
+	public static @NonNull JsonConverterFactory resolveInstance() {
+		return INSTANCE.obtain();
+	}
+
+	private static @NonNull JsonConverterFactory loadJsonConverterFactory() {
+
+		List<JsonConverterFactory> jsonConverterFactories = SpringFactoriesLoader
+			.loadFactories(JsonConverterFactory.class, DefaultJsonConverterFactory.class.getClassLoader());
+
+		return !jsonConverterFactories.isEmpty()
+			? jsonConverterFactories.get(0)
+			: new DefaultJsonConverterFactory();
+	}
+
+	private final Map<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, ObjectWriter> objectWriters = new ConcurrentHashMap<>();
+
+	private final ObjectMapper objectMapper;
+
+	private final SingletonSupplier<JsonToObjectConverter> jsonToObjectConverter =
+		SingletonSupplier.of(this::newJsonToObjectConverter);
+
+	private final SingletonSupplier<JsonToPdxConverter> jsonToPdxConverter =
+		SingletonSupplier.of(this::newJsonToPdxConverter);
+
+	private final SingletonSupplier<JsonToPdxArrayConverter> jsonToPdxArrayConverter =
+		SingletonSupplier.of(this::newJsonToPdxArrayConverter);
+
+	private final SingletonSupplier<JsonToPdxArrayConverter> schemaInferringJsonToPdxArrayConverter =
+		SingletonSupplier.of(this::newSchemaInferringJsonToPdxArrayConverter);
+
+	private final SingletonSupplier<ObjectToJsonConverter> objectToJsonConverter =
+		SingletonSupplier.of(this::newObjectToJsonConverter);
+
+	/**
+	 * Constructs a new instance of {@link DefaultJsonConverterFactory} creating and configuring
+	 * the shared Jackson {@link ObjectMapper}.
+	 *
+	 * @see #newObjectMapper()
+	 */
+	public DefaultJsonConverterFactory() {
+		this.objectMapper = newObjectMapper();
+	}
+
+	/**
+	 * Constructs a new Jackson {@link ObjectMapper} used to read and write {@link String JSON}.
+	 *
+	 * @return a new Jackson {@link ObjectMapper}; never {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 */
+	protected @NonNull ObjectMapper newObjectMapper() {
+
+		return new ObjectMapper()
+			.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false)
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+			.configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true)
+			.findAndRegisterModules();
+	}
+
+	/**
+	 * Constructs a new {@link JsonToObjectConverter} shared by all callers of {@link #getJsonToObjectConverter()}.
+	 *
+	 * @return a new {@link JsonToObjectConverter}; never {@literal null}.
+	 * @see JacksonJsonToObjectConverter
+	 */
+	protected @NonNull JsonToObjectConverter newJsonToObjectConverter() {
+		return new JacksonJsonToObjectConverter();
+	}
+
+	/**
+	 * Constructs a new {@link JsonToPdxConverter} shared by all callers of {@link #getJsonToPdxConverter()}.
+	 *
+	 * @return a new {@link JsonToPdxConverter}; never {@literal null}.
+	 * @see JSONFormatterJsonToPdxConverter
+	 */
+	protected @NonNull JsonToPdxConverter newJsonToPdxConverter() {
+		return new JSONFormatterJsonToPdxConverter();
+	}
+
+	/**
+	 * Constructs a new {@link JsonToPdxArrayConverter} shared by all callers of {@link #getJsonToPdxArrayConverter()}.
+	 *
+	 * @return a new {@link JsonToPdxArrayConverter}; never {@literal null}.
+	 * @see JacksonJsonToPdxConverter
+	 */
+	protected @NonNull JsonToPdxArrayConverter newJsonToPdxArrayConverter() {
+		return new JacksonJsonToPdxConverter();
+	}
+
+	/**
+	 * Constructs a new, schema inferring {@link JsonToPdxArrayConverter} shared by all callers of
+	 * {@link #getSchemaInferringJsonToPdxArrayConverter()}.
+	 *
+	 * @return a new, schema inferring {@link JsonToPdxArrayConverter}; never {@literal null}.
+	 * @see SchemaInferringJsonToPdxConverter
+	 */
+	protected @NonNull JsonToPdxArrayConverter newSchemaInferringJsonToPdxArrayConverter() {
+		return new SchemaInferringJsonToPdxConverter();
+	}
+
+	/**
+	 * Constructs a new {@link ObjectToJsonConverter} shared by all callers of {@link #getObjectToJsonConverter()}.
+	 *
+	 * @return a new {@link ObjectToJsonConverter}; never {@literal null}.
+	 * @see JSONFormatterPdxToJsonConverter
+	 */
+	protected @NonNull ObjectToJsonConverter newObjectToJsonConverter() {
+		return new JSONFormatterPdxToJsonConverter();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull ObjectMapper getObjectMapper() {
+		return this.objectMapper;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull ObjectReader getObjectReader(@NonNull Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		return this.objectReaders.computeIfAbsent(type, getObjectMapper()::readerFor);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull ObjectWriter getObjectWriter(@NonNull Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		return this.objectWriters.computeIfAbsent(type, getObjectMapper()::writerFor);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull JsonToObjectConverter getJsonToObjectConverter() {
+		return this.jsonToObjectConverter.obtain();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull JsonToPdxConverter getJsonToPdxConverter() {
+		return this.jsonToPdxConverter.obtain();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull JsonToPdxArrayConverter getJsonToPdxArrayConverter() {
+		return this.jsonToPdxArrayConverter.obtain();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull JsonToPdxArrayConverter getSchemaInferringJsonToPdxArrayConverter() {
+		return this.schemaInferringJsonToPdxArrayConverter.obtain();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull ObjectToJsonConverter getObjectToJsonConverter() {
+		return this.objectToJsonConverter.obtain();
+	}
+}
@@ -37,11 +37,10 @@ import org.springframework.lang.NonNull;
  */
 public class JSONFormatterJsonToPdxConverter implements JsonToPdxConverter {
 
-	private JsonToObjectConverter converter = newJsonToObjectConverter();
+	private JsonToObjectConverter converter = resolveJsonToObjectConverter();
 
-	// TODO configure via an SPIs
-	private JsonToObjectConverter newJsonToObjectConverter() {
-		return new JacksonJsonToObjectConverter();
+	private JsonToObjectConverter resolveJsonToObjectConverter() {
+		return DefaultJsonConverterFactory.resolveInstance().getJsonToObjectConverter();
 	}
 
 	/**
@@ -168,7 +168,7 @@ public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverte
 	 * and the {@link PdxInstance} is not based on a valid {@link Class} type.
 	 * @see JacksonObjectToJsonConverter#convert(Object)
 	 * @see org.apache.geode.pdx.PdxInstance
-	 * @see #newObjectMapper(Object)
+	 * @see #resolveObjectMapper(Object)
 	 */
 	@SuppressWarnings("unused")
 	protected @NonNull String decorate(@NonNull PdxInstance pdxInstance, @NonNull String json) {
@@ -176,7 +176,7 @@ public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverte
 		if (isDecorationRequired(pdxInstance, json)) {
 			try {
 
-				ObjectMapper objectMapper = newObjectMapper(json);
+				ObjectMapper objectMapper = resolveObjectMapper(json);
 
 				JsonNode jsonNode = objectMapper.readTree(json);
 
@@ -16,9 +16,7 @@
 package org.springframework.geode.data.json.converter.support;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.POJONode;
@@ -50,22 +48,18 @@ public class JacksonJsonToObjectConverter implements JsonToObjectConverter {
 
 	protected static final String AT_TYPE_FIELD_NAME = PdxInstanceWrapper.AT_TYPE_FIELD_NAME;
 
-	private ObjectMapper objectMapper = newObjectMapper();
+	private ObjectMapper objectMapper = resolveObjectMapper();
 
 	/**
-	 * Constructs a new Jackson {@link ObjectMapper} to convert {@link String JSON} into an {@link Object} (POJO).
+	 * Resolves the shared Jackson {@link ObjectMapper} used to convert {@link String JSON}
+	 * into an {@link Object} (POJO).
 	 *
-	 * @return a new Jackson {@link ObjectMapper}; never {@literal null}.
+	 * @return the shared Jackson {@link ObjectMapper}; never {@literal null}.
+	 * @see org.springframework.geode.data.json.converter.JsonConverterFactory#getObjectMapper()
 	 * @see com.fasterxml.jackson.databind.ObjectMapper
 	 */
-	// TODO configure via an SPI
-	private @NonNull ObjectMapper newObjectMapper() {
-
-		return new ObjectMapper()
-			.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false)
-			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-			.configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true)
-			.findAndRegisterModules();
+	private @NonNull ObjectMapper resolveObjectMapper() {
+		return DefaultJsonConverterFactory.resolveInstance().getObjectMapper();
 	}
 
 	/**
@@ -51,7 +51,7 @@ import org.springframework.lang.Nullable;
  */
 public class JacksonJsonToPdxConverter implements JsonToPdxArrayConverter {
 
-	private JsonToPdxConverter converter = newJsonToPdxConverter();
+	private JsonToPdxConverter converter = resolveJsonToPdxConverter();
 
 	private ObjectMapper objectMapper = newObjectMapper();
 
@@ -59,12 +59,10 @@ public class JacksonJsonToPdxConverter implements JsonToPdxArrayConverter {
 		return () -> iterator;
 	}
 
-	// TODO configure via an SPI
-	private JsonToPdxConverter newJsonToPdxConverter() {
-		return new JSONFormatterJsonToPdxConverter();
+	private JsonToPdxConverter resolveJsonToPdxConverter() {
+		return DefaultJsonConverterFactory.resolveInstance().getJsonToPdxConverter();
 	}
 
-	// TODO configure via an SPI
 	private ObjectMapper newObjectMapper() {
 		return new ObjectMapper();
 	}
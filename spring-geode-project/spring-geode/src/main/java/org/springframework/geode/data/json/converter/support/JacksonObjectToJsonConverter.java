@@ -15,6 +15,9 @@
  */
 package org.springframework.geode.data.json.converter.support;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -47,6 +50,8 @@ public class JacksonObjectToJsonConverter implements ObjectToJsonConverter {
 
 	protected static final String AT_TYPE_METADATA_PROPERTY_NAME = PdxInstanceWrapper.AT_TYPE_FIELD_NAME;
 
+	private final Map<Class<?>, ObjectMapper> objectMappers = new ConcurrentHashMap<>();
+
 	/**
 	 * Converts the given {@link Object} into {@link String JSON}.
 	 *
@@ -81,13 +86,32 @@ public class JacksonObjectToJsonConverter implements ObjectToJsonConverter {
 	 * @throws JsonProcessingException if the generation of {@link String JSON} from the given {@link Object}
 	 * results in an error.
 	 * @see com.fasterxml.jackson.databind.ObjectMapper#writeValueAsString(Object)
-	 * @see #newObjectMapper(Object)
+	 * @see #resolveObjectMapper(Object)
 	 */
 	protected @NonNull String convertObjectToJson(@NonNull Object source) throws JsonProcessingException {
 
 		Assert.notNull(source, "Source object to convert must not be null");
 
-		return newObjectMapper(source).writeValueAsString(source);
+		return resolveObjectMapper(source).writeValueAsString(source);
+	}
+
+	/**
+	 * Resolves the Jackson {@link ObjectMapper} used to convert the given {@link Object} into {@link String JSON}.
+	 *
+	 * A Jackson {@link ObjectMapper} is {@link #newObjectMapper(Object) constructed} once
+	 * per {@link Object#getClass() type} of the given {@link Object} and then reused.
+	 *
+	 * @param target {@link Object} to convert to {@link String JSON}; must not be {@literal null}.
+	 * @return the Jackson {@link ObjectMapper} for the {@link Class type} of the given {@link Object}.
+	 * @throws IllegalArgumentException if {@link Object target} is {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 * @see #newObjectMapper(Object)
+	 */
+	protected @NonNull ObjectMapper resolveObjectMapper(@NonNull Object target) {
+
+		Assert.notNull(target, "Target object must not be null");
+
+		return this.objectMappers.computeIfAbsent(target.getClass(), type -> newObjectMapper(target));
 	}
 
 	/**
@@ -0,0 +1,453 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.json.converter.support;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.geode.pdx.FieldType;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.geode.cache.SimpleCacheResolver;
+import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
+import org.springframework.geode.data.json.converter.JsonToPdxConverter;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link JsonToPdxArrayConverter} implementation that infers a single, stable PDX schema for each
+ * {@literal @type} of {@literal JSON} object and writes each field using the exact PDX {@link FieldType}.
+ *
+ * Unlike {@link JSONFormatter}, which creates a PDX type from the fields of each individual {@literal JSON} object
+ * and writes all numbers using generic widening, this converter keeps one inferred schema per {@literal @type}
+ * for the lifetime of the converter and creates each {@link PdxInstance} with a {@link PdxInstanceFactory} using
+ * {@link PdxInstanceFactory#writeInt(String, int)}, {@link PdxInstanceFactory#writeLong(String, long)} and so on.
+ * This results in fewer PDX types, smaller serialized values and faster field reads.
+ *
+ * {@literal JSON} content is read with a streaming {@link JsonParser}, one object at a time. Each object is observed
+ * by the schema of its {@literal @type} before it is written, and the schema is only widened when an object declares
+ * a new field or a value that does not fit the inferred {@link FieldType}. Since schemas only ever widen, the number
+ * of PDX types created per {@literal @type} is bounded and stops growing once the schema is stable, regardless of
+ * how many times {@literal JSON} for that {@literal @type} is converted.
+ *
+ * Fields that are missing or {@literal null} in any {@literal JSON} object of a given {@literal @type} are written
+ * as {@link FieldType#OBJECT} with boxed values. {@link BigDecimal} and {@link java.math.BigInteger} values are
+ * written as {@link FieldType#OBJECT} to preserve precision. {@literal JSON} objects without {@literal @type}
+ * metadata are converted with the configured {@link JsonToPdxConverter}.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.core.JsonParser
+ * @see com.fasterxml.jackson.databind.JsonNode
+ * @see com.fasterxml.jackson.databind.ObjectReader
+ * @see org.apache.geode.pdx.FieldType
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.apache.geode.pdx.PdxInstanceFactory
+ * @see org.springframework.geode.data.json.converter.JsonConverterFactory
+ * @see org.springframework.geode.data.json.converter.JsonToPdxArrayConverter
+ * @since 2.0.0
+ */
+public class SchemaInferringJsonToPdxConverter implements JsonToPdxArrayConverter {
+
+	protected static final String AT_TYPE_FIELD_NAME = PdxInstanceWrapper.AT_TYPE_FIELD_NAME;
+
+	private JsonToPdxConverter converter = resolveJsonToPdxConverter();
+
+	private final Map<String, PdxSchema> schemas = new ConcurrentHashMap<>();
+
+	private ObjectReader objectReader = resolveObjectReader();
+
+	private JsonToPdxConverter resolveJsonToPdxConverter() {
+		return DefaultJsonConverterFactory.resolveInstance().getJsonToPdxConverter();
+	}
+
+	private ObjectReader resolveObjectReader() {
+		return DefaultJsonConverterFactory.resolveInstance().getObjectReader(ObjectNode.class);
+	}
+
+	/**
+	 * Returns a reference to the configured {@link JsonToPdxConverter} used to convert {@literal JSON} objects
+	 * without {@literal @type} metadata to PDX.
+	 *
+	 * @return a reference to the configured {@link JsonToPdxConverter}; never {@literal null}.
+	 * @see org.springframework.geode.data.json.converter.JsonToPdxConverter
+	 */
+	protected @NonNull JsonToPdxConverter getJsonToPdxConverter() {
+		return this.converter;
+	}
+
+	/**
+	 * Returns a reference to the shared Jackson {@link ObjectReader} used to read {@literal JSON} objects.
+	 *
+	 * @return a reference to the shared Jackson {@link ObjectReader}; never {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectReader
+	 */
+	protected @NonNull ObjectReader getObjectReader() {
+		return this.objectReader;
+	}
+
+	/**
+	 * Returns the {@link PdxSchema} inferred so far for the given {@literal @type}.
+	 *
+	 * @param typeName {@link String} containing the {@literal @type} of the {@literal JSON} objects.
+	 * @return the {@link PdxSchema} inferred for the given {@literal @type}, or {@literal null}
+	 * if no {@literal JSON} object of the given {@literal @type} has been converted yet.
+	 * @see PdxSchema
+	 */
+	public @Nullable PdxSchema getSchema(@Nullable String typeName) {
+		return typeName != null ? this.schemas.get(typeName) : null;
+	}
+
+	/**
+	 * Converts the given {@link String JSON} containing a single object or an array of objects into an array of
+	 * {@link PdxInstance PdxInstances} using one inferred PDX schema per {@literal @type}.
+	 *
+	 * @param json {@link String JSON} data to convert.
+	 * @return an array of {@link PdxInstance} objects from the given {@link String JSON}.
+	 * @throws IllegalStateException if the {@link String JSON} is not a JSON object or an array of JSON objects.
+	 * @throws DataRetrievalFailureException if the {@link String JSON} cannot be read.
+	 * @see #readObjects(String, Consumer)
+	 * @see #toPdx(ObjectNode)
+	 */
+	@Override
+	public @NonNull PdxInstance[] convert(@NonNull String json) {
+
+		List<PdxInstance> pdxList = new ArrayList<>();
+
+		readObjects(json, object -> pdxList.add(toPdx(object)));
+
+		return pdxList.toArray(new PdxInstance[0]);
+	}
+
+	/**
+	 * Streams the {@literal JSON} objects from the given {@link String JSON} one object at a time
+	 * to the given {@link Consumer}.
+	 *
+	 * Only the {@literal JSON} object currently being processed is materialized as a tree.
+	 *
+	 * @param json {@link String JSON} to read.
+	 * @param objectConsumer {@link Consumer} of each {@literal JSON} object read from the given {@link String JSON}.
+	 * @throws IllegalStateException if the {@link String JSON} is not a JSON object or an array of JSON objects.
+	 * @throws DataRetrievalFailureException if the {@link String JSON} cannot be read.
+	 * @see com.fasterxml.jackson.core.JsonParser
+	 */
+	protected void readObjects(@NonNull String json, @NonNull Consumer<ObjectNode> objectConsumer) {
+
+		try (JsonParser parser = getObjectReader().createParser(json)) {
+
+			JsonToken token = parser.nextToken();
+
+			if (JsonToken.START_ARRAY.equals(token)) {
+				for (token = parser.nextToken(); !JsonToken.END_ARRAY.equals(token); token = parser.nextToken()) {
+					objectConsumer.accept(readObject(parser, token));
+				}
+			}
+			else {
+				objectConsumer.accept(readObject(parser, token));
+			}
+		}
+		catch (IOException cause) {
+			throw new DataRetrievalFailureException("Failed to read JSON content", cause);
+		}
+	}
+
+	private @NonNull ObjectNode readObject(@NonNull JsonParser parser, @Nullable JsonToken token) throws IOException {
+
+		if (!JsonToken.START_OBJECT.equals(token)) {
+
+			String message = String.format("Unable to process JSON token [%s]; expected either an object or an array",
+				token);
+
+			throw new IllegalStateException(message);
+		}
+
+		return getObjectReader().readValue(parser);
+	}
+
+	/**
+	 * Converts the given {@literal JSON} object to PDX.
+	 *
+	 * {@literal JSON} objects with {@literal @type} metadata are first observed by the {@link PdxSchema}
+	 * of their {@literal @type}, widening the schema if necessary, and then written using the schema.
+	 *
+	 * @param object {@literal JSON} object to convert.
+	 * @return a {@link PdxInstance} for the given {@literal JSON} object.
+	 * @see #toPdx(ObjectNode, Map)
+	 */
+	protected @NonNull PdxInstance toPdx(@NonNull ObjectNode object) {
+
+		String typeName = resolveTypeName(object);
+
+		return typeName != null
+			? toPdx(object, this.schemas.computeIfAbsent(typeName, PdxSchema::new).observe(object))
+			: getJsonToPdxConverter().convert(object.toString());
+	}
+
+	/**
+	 * Creates a {@link PdxInstance} from the given {@literal JSON} object using the given PDX field types.
+	 *
+	 * @param object {@literal JSON} object to convert.
+	 * @param fieldTypes {@link Map} of field names to PDX {@link FieldType FieldTypes} inferred for the
+	 * {@literal @type} of the {@literal JSON} object.
+	 * @return a {@link PdxInstance} for the given {@literal JSON} object.
+	 * @see org.apache.geode.pdx.PdxInstanceFactory
+	 * @see #newPdxInstanceFactory()
+	 */
+	protected @NonNull PdxInstance toPdx(@NonNull ObjectNode object, @NonNull Map<String, FieldType> fieldTypes) {
+
+		PdxInstanceFactory factory = newPdxInstanceFactory();
+
+		fieldTypes.forEach((fieldName, fieldType) -> {
+
+			JsonNode value = object.get(fieldName);
+
+			switch (fieldType) {
+				case BOOLEAN:
+					factory.writeBoolean(fieldName, value.booleanValue());
+					break;
+				case INT:
+					factory.writeInt(fieldName, value.intValue());
+					break;
+				case LONG:
+					factory.writeLong(fieldName, value.longValue());
+					break;
+				case DOUBLE:
+					factory.writeDouble(fieldName, value.doubleValue());
+					break;
+				case STRING:
+					factory.writeString(fieldName, isNull(value) ? null : value.textValue());
+					break;
+				default:
+					factory.writeObject(fieldName, toObject(value));
+			}
+		});
+
+		return PdxInstanceWrapper.from(factory.create());
+	}
+
+	/**
+	 * Constructs a new {@link PdxInstanceFactory} used to create {@link PdxInstance PdxInstances}
+	 * for {@literal JSON} objects.
+	 *
+	 * @return a new {@link PdxInstanceFactory}.
+	 * @see org.apache.geode.pdx.PdxInstanceFactory
+	 */
+	protected @NonNull PdxInstanceFactory newPdxInstanceFactory() {
+
+		return SimpleCacheResolver.getInstance().require()
+			.createPdxInstanceFactory(JSONFormatter.JSON_CLASSNAME)
+			.neverDeserialize();
+	}
+
+	/**
+	 * Converts the given {@link JsonNode} to a boxed, Java {@link Object} value.
+	 *
+	 * Nested {@literal JSON} objects are converted to PDX with {@link JSONFormatter}
+	 * and {@literal JSON} arrays are converted to a {@link List}.
+	 *
+	 * @param value {@link JsonNode} to convert.
+	 * @return the Java {@link Object} value for the given {@link JsonNode}.
+	 */
+	protected @Nullable Object toObject(@Nullable JsonNode value) {
+
+		if (isNull(value)) {
+			return null;
+		}
+		else if (value.isObject()) {
+			return JSONFormatter.fromJSON(value.toString());
+		}
+		else if (value.isArray()) {
+
+			List<Object> list = new ArrayList<>(value.size());
+
+			for (Iterator<JsonNode> elements = value.elements(); elements.hasNext(); ) {
+				list.add(toObject(elements.next()));
+			}
+
+			return list;
+		}
+		else if (value.isBigDecimal()) {
+			return value.decimalValue();
+		}
+		else if (value.isNumber()) {
+			return value.isFloatingPointNumber() ? value.doubleValue() : value.numberValue();
+		}
+		else if (value.isBoolean()) {
+			return value.booleanValue();
+		}
+
+		return value.asText();
+	}
+
+	private @Nullable String resolveTypeName(@NonNull ObjectNode object) {
+
+		JsonNode typeNode = object.get(AT_TYPE_FIELD_NAME);
+
+		String typeName = typeNode != null && typeNode.isTextual() ? typeNode.textValue() : null;
+
+		return StringUtils.hasText(typeName) ? typeName : null;
+	}
+
+	private static boolean isNull(@Nullable JsonNode value) {
+		return value == null || value.isNull() || value.isMissingNode();
+	}
+
+	/**
+	 * The {@link PdxSchema} class infers the PDX {@link FieldType} of each field declared by {@literal JSON} objects
+	 * of the same {@literal @type}.
+	 *
+	 * Fields keep the order in which they were first observed. Observed {@link FieldType FieldTypes} are widened
+	 * as needed, from {@link FieldType#INT} to {@link FieldType#LONG} to {@link FieldType#DOUBLE}, and to
+	 * {@link FieldType#OBJECT} when values of incompatible types are observed for the same field.
+	 * A {@link PdxSchema} never narrows and is safe to use from multiple {@link Thread Threads}.
+	 */
+	protected static class PdxSchema {
+
+		private int objectCount;
+
+		private final Map<String, FieldType> fieldTypes = new LinkedHashMap<>();
+
+		private final Map<String, Integer> nonNullValueCounts = new HashMap<>();
+
+		private final String typeName;
+
+		/**
+		 * Constructs a new {@link PdxSchema} for the given {@literal @type}.
+		 *
+		 * @param typeName {@link String} containing the {@literal @type} of the {@literal JSON} objects.
+		 */
+		protected PdxSchema(@NonNull String typeName) {
+			this.typeName = typeName;
+		}
+
+		/**
+		 * Returns the {@literal @type} of the {@literal JSON} objects described by this schema.
+		 *
+		 * @return the {@literal @type} of the {@literal JSON} objects described by this schema.
+		 */
+		public @NonNull String getTypeName() {
+			return this.typeName;
+		}
+
+		/**
+		 * Returns an unmodifiable {@link Map} of field names to the PDX {@link FieldType} used to write the field.
+		 *
+		 * Fields with primitive types that are missing or {@literal null} in any observed {@literal JSON} object
+		 * are reported as {@link FieldType#OBJECT} so that {@literal null} can be written.
+		 *
+		 * @return an unmodifiable {@link Map} of field names to PDX {@link FieldType FieldTypes}.
+		 */
+		public synchronized @NonNull Map<String, FieldType> getFieldTypes() {
+
+			Map<String, FieldType> resolvedFieldTypes = new LinkedHashMap<>(this.fieldTypes.size());
+
+			this.fieldTypes.forEach((fieldName, fieldType) -> {
+
+				boolean nullable = this.nonNullValueCounts.getOrDefault(fieldName, 0) < this.objectCount;
+
+				resolvedFieldTypes.put(fieldName, fieldType == null || (nullable && isPrimitive(fieldType))
+					? FieldType.OBJECT
+					: fieldType);
+			});
+
+			return Collections.unmodifiableMap(resolvedFieldTypes);
+		}
+
+		/**
+		 * Observes the fields and values of the given {@literal JSON} object, widening this schema if necessary.
+		 *
+		 * @param object {@literal JSON} object to observe.
+		 * @return the {@link #getFieldTypes() field types} of this schema after observing the given object,
+		 * which can be used to write the given object.
+		 * @see #getFieldTypes()
+		 */
+		synchronized @NonNull Map<String, FieldType> observe(@NonNull ObjectNode object) {
+
+			this.objectCount++;
+
+			for (Iterator<Map.Entry<String, JsonNode>> fields = object.fields(); fields.hasNext(); ) {
+
+				Map.Entry<String, JsonNode> field = fields.next();
+
+				String fieldName = field.getKey();
+				JsonNode value = field.getValue();
+
+				if (isNull(value)) {
+					this.fieldTypes.putIfAbsent(fieldName, null);
+				}
+				else {
+					this.fieldTypes.put(fieldName, widen(this.fieldTypes.get(fieldName), fieldTypeOf(value)));
+					this.nonNullValueCounts.merge(fieldName, 1, Integer::sum);
+				}
+			}
+
+			return getFieldTypes();
+		}
+
+		static @NonNull FieldType fieldTypeOf(@NonNull JsonNode value) {
+
+			return value.isBoolean() ? FieldType.BOOLEAN
+				: value.isInt() ? FieldType.INT
+				: value.isLong() ? FieldType.LONG
+				: value.isBigDecimal() ? FieldType.OBJECT
+				: value.isFloatingPointNumber() ? FieldType.DOUBLE
+				: value.isTextual() ? FieldType.STRING
+				: FieldType.OBJECT;
+		}
+
+		static @NonNull FieldType widen(@Nullable FieldType currentType, @NonNull FieldType observedType) {
+
+			if (currentType == null || currentType.equals(observedType)) {
+				return observedType;
+			}
+			else if (isNumeric(currentType) && isNumeric(observedType)) {
+				return FieldType.DOUBLE.equals(currentType) || FieldType.DOUBLE.equals(observedType)
+					? FieldType.DOUBLE
+					: FieldType.LONG;
+			}
+
+			return FieldType.OBJECT;
+		}
+
+		private static boolean isNumeric(@NonNull FieldType fieldType) {
+			return FieldType.INT.equals(fieldType) || FieldType.LONG.equals(fieldType)
+				|| FieldType.DOUBLE.equals(fieldType);
+		}
+
+		private static boolean isPrimitive(@NonNull FieldType fieldType) {
+			return isNumeric(fieldType) || FieldType.BOOLEAN.equals(fieldType);
+		}
+	}
+}
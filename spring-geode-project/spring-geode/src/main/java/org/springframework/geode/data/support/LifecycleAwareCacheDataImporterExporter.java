@@ -15,34 +15,53 @@
  */
 package org.springframework.geode.data.support;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.apache.geode.cache.Region;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.Lifecycle;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.gemfire.support.SmartLifecycleSupport;
 import org.springframework.geode.core.io.ResourceReader;
 import org.springframework.geode.core.io.ResourceResolver;
 import org.springframework.geode.core.io.ResourceWriter;
+import org.springframework.geode.core.util.SpringBootExtensions;
 import org.springframework.geode.data.CacheDataImporterExporter;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ExportResourceResolver;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ImportResourceResolver;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A {@link CacheDataImporterExporter} implementation using the {@literal Decorator Software Design Pattern} to wrap
@@ -53,12 +72,20 @@ import org.springframework.util.Assert;
  * This wrapper {@literal decorates} the Apache Geode cache {@link Region} data import operation enabling it
  * to be configured {@link ImportLifecycle#EAGER eagerly}, after the {@link Region} bean as been initialized,
  * or {@link ImportLifecycle#LAZY lazily}, once all beans have been fully initialized and the Spring
- * {@link ApplicationContext} is refreshed.
+ * {@link ApplicationContext} is refreshed, or {@link ImportLifecycle#DEFERRED deferred}, in the background
+ * off the application startup path.
+ *
+ * While a {@link ImportLifecycle#DEFERRED deferred} cache data import is in progress, the application's
+ * {@link ReadinessState} is held at {@link ReadinessState#REFUSING_TRAFFIC}, so that the application does not serve
+ * requests from partially imported {@link Region Regions}, nor have its writes overwritten by the imported data.
  *
  * @author John Blum
  * @see org.apache.geode.cache.Region
+ * @see org.springframework.boot.availability.AvailabilityChangeEvent
+ * @see org.springframework.boot.availability.ReadinessState
  * @see org.springframework.context.ApplicationContext
  * @see org.springframework.context.ApplicationContextAware
+ * @see org.springframework.context.ApplicationListener
  * @see org.springframework.context.EnvironmentAware
  * @see org.springframework.context.Lifecycle
  * @see org.springframework.context.ResourceLoaderAware
@@ -76,7 +103,8 @@ import org.springframework.util.Assert;
  */
 @SuppressWarnings("rawtypes")
 public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporterExporter,
-		ApplicationContextAware, EnvironmentAware, InitializingBean, ResourceLoaderAware, SmartLifecycleSupport {
+		ApplicationContextAware, ApplicationListener<AvailabilityChangeEvent<ReadinessState>>, EnvironmentAware,
+		InitializingBean, ResourceLoaderAware, SmartLifecycleSupport {
 
 	protected static final int DEFAULT_IMPORT_PHASE = Integer.MIN_VALUE + 1000000;
 
@@ -86,15 +114,32 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 	protected static final String CACHE_DATA_IMPORT_PHASE_PROPERTY_NAME =
 		"spring.boot.data.gemfire.cache.data.import.phase";
 
+	protected static final String CACHE_DATA_IMPORT_STARTUP_STEP_NAME = "cache.data.import";
+	protected static final String DEFERRED_IMPORT_THREAD_NAME_PREFIX = "CacheDataImport-";
+
+	private static final Logger logger = LoggerFactory.getLogger(LifecycleAwareCacheDataImporterExporter.class);
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+	private final AtomicReference<CompletableFuture<Void>> deferredImport = new AtomicReference<>(null);
+
 	private final AtomicReference<ImportLifecycle> resolvedImportLifecycle = new AtomicReference<>(null);
 	private final AtomicReference<Integer> resolvedImportPhase = new AtomicReference<>(null);
 
 	private final CacheDataImporterExporter importerExporter;
 
+	// Both guarded by the deferredImport monitor
+	private boolean deferredImportInProgress;
+	private boolean readinessHeldForDeferredImport;
+
 	private Environment environment;
 
 	private final Set<Region> regionsForImport = Collections.synchronizedSet(new HashSet<>());
 
+	private final Supplier<Executor> deferredImportExecutor = SingletonSupplier.of(this::newDeferredImportExecutor);
+
 	/**
 	 * Constructs a new instance of the {@link LifecycleAwareCacheDataImporterExporter} initialized with the given,
 	 * target {@link CacheDataImporterExporter} that is wrapped by this implementation to decorate all cache import
@@ -139,14 +184,43 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 
 		if (applicationContext != null) {
 
+			this.applicationEventPublisher = applicationContext;
+
 			CacheDataImporterExporter importerExporter = getCacheDataImporterExporter();
 
 			if (importerExporter instanceof ApplicationContextAware) {
 				((ApplicationContextAware) importerExporter).setApplicationContext(applicationContext);
 			}
+
+			if (applicationContext instanceof ConfigurableApplicationContext) {
+				this.applicationStartup = SpringBootExtensions.resolveApplicationStartup(applicationContext);
+			}
 		}
 	}
 
+	/**
+	 * Returns an {@link Optional} reference to the {@link ApplicationEventPublisher} used to publish
+	 * a {@link DeferredImportEvent} when a {@link ImportLifecycle#DEFERRED deferred} cache data import finishes.
+	 *
+	 * @return an {@link Optional} reference to the {@link ApplicationEventPublisher}.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 * @see java.util.Optional
+	 */
+	protected Optional<ApplicationEventPublisher> getApplicationEventPublisher() {
+		return Optional.ofNullable(this.applicationEventPublisher);
+	}
+
+	/**
+	 * Returns the Spring {@link ApplicationStartup} used to record the cache data import
+	 * as a {@link org.springframework.core.metrics.StartupStep}.
+	 *
+	 * @return the Spring {@link ApplicationStartup}; never {@literal null}.
+	 * @see org.springframework.core.metrics.ApplicationStartup
+	 */
+	protected @NonNull ApplicationStartup getApplicationStartup() {
+		return this.applicationStartup;
+	}
+
 	/**
 	 * Returns a reference to the configured {@link CacheDataImporterExporter} wrapped by this {@link Lifecycle} aware
 	 * and capable {@link CacheDataImporterExporter}.
@@ -351,16 +425,30 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 	 * {@literal spring.boot.data.gemfire.cache.data.import.lifecycle} property
 	 * in Spring Boot {@literal application.properties}.
 	 *
+	 * When the property is not set and Spring Boot for Apache Geode's {@literal lazy initialization} mode is enabled,
+	 * then the cache data import is {@link ImportLifecycle#DEFERRED deferred}. That is, the import is not performed
+	 * on first use of a {@link Region}, but in the background on {@link #start()}, and the application refuses traffic
+	 * until the import completes.
+	 *
 	 * @return the configured {@link ImportLifecycle}.
 	 * @see LifecycleAwareCacheDataImporterExporter.ImportLifecycle
+	 * @see SpringBootExtensions#isLazyInitializationEnabled(Environment)
 	 */
 	protected ImportLifecycle resolveImportLifecycle() {
 
 		return resolvedImportLifecycle.updateAndGet(currentValue -> currentValue != null ? currentValue
 			: getEnvironment()
-				.map(env -> env.getProperty(CACHE_DATA_IMPORT_LIFECYCLE_PROPERTY_NAME, String.class,
-					ImportLifecycle.getDefault().name()))
-				.map(ImportLifecycle::from)
+				.map(env -> {
+
+					ImportLifecycle defaultImportLifecycle = SpringBootExtensions.isLazyInitializationEnabled(env)
+						? ImportLifecycle.DEFERRED
+						: ImportLifecycle.getDefault();
+
+					return Optional.ofNullable(env.getProperty(CACHE_DATA_IMPORT_LIFECYCLE_PROPERTY_NAME,
+							String.class, defaultImportLifecycle.name()))
+						.map(ImportLifecycle::from)
+						.orElse(defaultImportLifecycle);
+				})
 				.orElseGet(ImportLifecycle::getDefault));
 	}
 
@@ -379,29 +467,195 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 				.orElse(DEFAULT_IMPORT_PHASE));
 	}
 
+	/**
+	 * Returns an {@link Optional} {@link CompletableFuture} tracking the {@link ImportLifecycle#DEFERRED deferred}
+	 * cache data import.
+	 *
+	 * The {@link CompletableFuture} completes normally once the data has been imported into all targeted
+	 * {@link Region Regions} and exceptionally if the import failed. Completing the returned {@link CompletableFuture}
+	 * has no effect on the import itself.
+	 *
+	 * @return an {@link Optional} {@link CompletableFuture} tracking the {@link ImportLifecycle#DEFERRED deferred}
+	 * cache data import, or {@link Optional#empty()} if a deferred import has not been started.
+	 * @see java.util.concurrent.CompletableFuture
+	 * @see #start()
+	 */
+	public Optional<CompletableFuture<Void>> getDeferredImport() {
+		return Optional.ofNullable(this.deferredImport.get()).map(CompletableFuture::copy);
+	}
+
+	/**
+	 * Returns the {@link Executor} used to perform a {@link ImportLifecycle#DEFERRED deferred} cache data import.
+	 *
+	 * @return the {@link Executor} used to perform a {@link ImportLifecycle#DEFERRED deferred} cache data import.
+	 * @see java.util.concurrent.Executor
+	 * @see #newDeferredImportExecutor()
+	 */
+	protected @NonNull Executor getDeferredImportExecutor() {
+		return this.deferredImportExecutor.get();
+	}
+
+	/**
+	 * Constructs a new {@link Executor} used to perform a {@link ImportLifecycle#DEFERRED deferred}
+	 * cache data import.
+	 *
+	 * This method is called at most once per instance.
+	 *
+	 * @return a new {@link Executor} used to perform a {@link ImportLifecycle#DEFERRED deferred} cache data import.
+	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor
+	 * @see #getDeferredImportExecutor()
+	 */
+	protected @NonNull Executor newDeferredImportExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(DEFERRED_IMPORT_THREAD_NAME_PREFIX);
+
+		executor.setDaemon(true);
+
+		return executor;
+	}
+
 	/**
 	 * Performs the cache data import for each of the targeted {@link Region Regions}.
 	 *
+	 * A {@link ImportLifecycle#DEFERRED deferred} cache data import is performed asynchronously so that
+	 * the Spring {@link ApplicationContext} refresh does not wait on the import. The outcome is available from
+	 * {@link #getDeferredImport()} and is published as a {@link DeferredImportEvent}. Until the import completes
+	 * successfully, the application's {@link ReadinessState} is held at {@link ReadinessState#REFUSING_TRAFFIC}.
+	 *
 	 * @see #getCacheDataImporterExporter()
+	 * @see #getDeferredImport()
+	 * @see #getDeferredImportExecutor()
 	 * @see #getRegionsForImport()
 	 */
 	@Override
 	public void start() {
 
-		// Technically, the resolveImportLifecycle().isLazy() check is not strictly required since if the cache data
+		ImportLifecycle importLifecycle = resolveImportLifecycle();
+
+		// Technically, the importLifecycle.isLazy() check is not strictly required since if the cache data
 		// import is "eager", then the regionsForImport Set will be empty anyway.
-		if (resolveImportLifecycle().isLazy()) {
-			getRegionsForImport().forEach(getCacheDataImporterExporter()::importInto);
+		if (importLifecycle.isLazy()) {
+			importRegions(importLifecycle);
+		}
+		else if (importLifecycle.isDeferred()) {
+			synchronized (this.deferredImport) {
+
+				CompletableFuture<Void> currentImport = this.deferredImport.get();
+
+				if (currentImport == null || currentImport.isDone()) {
+					this.deferredImportInProgress = true;
+					this.deferredImport.set(CompletableFuture
+						.runAsync(() -> importRegions(importLifecycle), getDeferredImportExecutor())
+						.whenComplete((result, cause) -> onDeferredImportComplete(cause)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Holds the application's {@link ReadinessState} at {@link ReadinessState#REFUSING_TRAFFIC} when the application
+	 * becomes ready to {@link ReadinessState#ACCEPTING_TRAFFIC accept traffic} while
+	 * a {@link ImportLifecycle#DEFERRED deferred} cache data import is still in progress.
+	 *
+	 * @param event {@link AvailabilityChangeEvent} signaling a change in the application's {@link ReadinessState}.
+	 * @see org.springframework.boot.availability.AvailabilityChangeEvent
+	 * @see #onDeferredImportComplete(Throwable)
+	 */
+	@Override
+	public void onApplicationEvent(@NonNull AvailabilityChangeEvent<ReadinessState> event) {
+
+		if (event.getSource() != this && ReadinessState.ACCEPTING_TRAFFIC.equals(event.getState())) {
+
+			synchronized (this.deferredImport) {
+				if (this.deferredImportInProgress) {
+					this.readinessHeldForDeferredImport = true;
+				}
+				else {
+					return;
+				}
+			}
+
+			if (logger.isInfoEnabled()) {
+				logger.info("Refusing traffic until the deferred cache data import completes");
+			}
+
+			publishReadinessState(ReadinessState.REFUSING_TRAFFIC);
 		}
 	}
 
+	/**
+	 * Logs a failed {@link ImportLifecycle#DEFERRED deferred} cache data import and publishes
+	 * a {@link DeferredImportEvent} with the outcome.
+	 *
+	 * If the application's {@link ReadinessState} was held for the import, then the application is allowed to
+	 * {@link ReadinessState#ACCEPTING_TRAFFIC accept traffic} once the import succeeds. After a failed import,
+	 * the application continues to refuse traffic since its {@link Region Regions} may be incomplete.
+	 *
+	 * @param cause {@link Throwable} causing the deferred cache data import to fail;
+	 * {@literal null} if the import was successful.
+	 * @see DeferredImportEvent
+	 */
+	protected void onDeferredImportComplete(@Nullable Throwable cause) {
+
+		Throwable resolvedCause = cause instanceof CompletionException && cause.getCause() != null
+			? cause.getCause()
+			: cause;
+
+		boolean readinessHeld;
+
+		synchronized (this.deferredImport) {
+			readinessHeld = this.readinessHeldForDeferredImport;
+			this.deferredImportInProgress = false;
+			this.readinessHeldForDeferredImport = false;
+		}
+
+		if (resolvedCause != null && logger.isErrorEnabled()) {
+			logger.error("Deferred cache data import failed", resolvedCause);
+		}
+
+		getApplicationEventPublisher().ifPresent(eventPublisher ->
+			eventPublisher.publishEvent(new DeferredImportEvent(this, resolvedCause)));
+
+		if (readinessHeld && resolvedCause == null) {
+			publishReadinessState(ReadinessState.ACCEPTING_TRAFFIC);
+		}
+	}
+
+	private void publishReadinessState(@NonNull ReadinessState readinessState) {
+
+		getApplicationEventPublisher().ifPresent(eventPublisher ->
+			AvailabilityChangeEvent.publish(eventPublisher, this, readinessState));
+	}
+
+	private void importRegions(@NonNull ImportLifecycle importLifecycle) {
+
+		SpringBootExtensions.doInStartupStep(getApplicationStartup(), CACHE_DATA_IMPORT_STARTUP_STEP_NAME, step -> {
+
+			Set<Region> regionsForImportSet = getRegionsForImport();
+
+			List<Region> regionsForImport;
+
+			synchronized (regionsForImportSet) {
+				regionsForImport = new ArrayList<>(regionsForImportSet);
+			}
+
+			step.tag("lifecycle", importLifecycle.name())
+				.tag("regions", String.valueOf(regionsForImport.size()));
+
+			regionsForImport.forEach(getCacheDataImporterExporter()::importInto);
+
+			return regionsForImport;
+		});
+	}
+
 	/**
 	 * An {@link Enum Enumeration} defining the different modes for the cache data import lifecycle.
 	 */
 	public enum ImportLifecycle {
 
 		EAGER("Imports cache data during Region bean post processing, after initialization"),
-		LAZY("Imports cache data during the appropriate phase on Lifecycle start");
+		LAZY("Imports cache data during the appropriate phase on Lifecycle start"),
+		DEFERRED("Imports cache data asynchronously, off the application startup path, on Lifecycle start");
 
 		private final String description;
 
@@ -431,6 +685,10 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 			return EAGER.equals(this);
 		}
 
+		public boolean isDeferred() {
+			return DEFERRED.equals(this);
+		}
+
 		public boolean isLazy() {
 			return LAZY.equals(this);
 		}
@@ -440,4 +698,30 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 			return this.description;
 		}
 	}
+
+	/**
+	 * Spring {@link ApplicationEvent} published when a {@link ImportLifecycle#DEFERRED deferred} cache data import
+	 * completes, either successfully or with a failure.
+	 *
+	 * @see org.springframework.context.ApplicationEvent
+	 * @since 2.0.0
+	 */
+	@SuppressWarnings("serial")
+	public static class DeferredImportEvent extends ApplicationEvent {
+
+		private final transient Throwable cause;
+
+		public DeferredImportEvent(@NonNull LifecycleAwareCacheDataImporterExporter source, @Nullable Throwable cause) {
+			super(source);
+			this.cause = cause;
+		}
+
+		public Optional<Throwable> getCause() {
+			return Optional.ofNullable(this.cause);
+		}
+
+		public boolean isSuccessful() {
+			return this.cause == null;
+		}
+	}
 }
@@ -21,19 +21,26 @@ import java.io.File;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.ResourceLoaderAware;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.expression.BeanFactoryAccessor;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.env.Environment;
@@ -105,6 +112,12 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 	protected static final String CACHE_DATA_IMPORT_RESOURCE_LOCATION_PROPERTY_NAME =
 		"spring.boot.data.gemfire.cache.data.import.resource.location";
 
+	protected static final String CACHE_DATA_RESOURCE_RESOLUTION_PRECOMPUTED_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.resource.resolution.precomputed";
+
+	protected static final String ENVIRONMENT_CHANGE_EVENT_CLASS_NAME =
+		"org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
 	protected static final String RESOURCE_NAME_PATTERN = "data-%s.json";
 
 	private ExportResourceResolver exportResourceResolver;
@@ -117,6 +130,8 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 
 	private ResourceWriter resourceWriter;
 
+	private final AtomicBoolean contextRefreshed = new AtomicBoolean(false);
+
 	/**
 	 * Initializes the export and import {@link ResourceResolver ResourceResolvers} as needed along with
 	 * the {@link ResourceReader reader} and {@link ResourceWriter writer} for the {@link Resource}
@@ -132,6 +147,67 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 
 		Stream.of(getExportResourceResolver(), getImportResourceResolver())
 			.forEach(this.newCompositeObjectAwareInitializer());
+
+		if (isResourceResolutionPrecomputed()) {
+			precomputeResourceResolution();
+		}
+	}
+
+	/**
+	 * Determines whether the {@link Resource Resources} to import and export are resolved once per {@link Region}
+	 * and reused, as configured with
+	 * the {@literal spring.boot.data.gemfire.cache.data.resource.resolution.precomputed} property.
+	 *
+	 * @return a boolean value indicating whether {@link Resource} resolution is precomputed.
+	 * @see #precomputeResourceResolution()
+	 */
+	protected boolean isResourceResolutionPrecomputed() {
+
+		return getEnvironment()
+			.map(environment -> environment.getProperty(CACHE_DATA_RESOURCE_RESOLUTION_PRECOMPUTED_PROPERTY_NAME,
+				Boolean.class, false))
+			.orElse(false);
+	}
+
+	/**
+	 * Precomputes the {@link Region} independent state used by the configured {@link AbstractCacheResourceResolver
+	 * CacheResourceResolvers} to resolve {@link Resource Resources} and registers an {@link ApplicationListener}
+	 * invalidating the {@link Resource Resources} resolved per {@link Region} when the {@link ApplicationContext}
+	 * is refreshed again or the {@link Environment} changes.
+	 *
+	 * The initial {@link ContextRefreshedEvent} does not invalidate resolution since the {@link Resource Resources}
+	 * were precomputed with the same configuration while the {@link ApplicationContext} was being refreshed.
+	 *
+	 * @see AbstractCacheResourceResolver#precompute()
+	 * @see AbstractCacheResourceResolver#invalidate()
+	 */
+	protected void precomputeResourceResolution() {
+
+		Stream.of(getExportResourceResolver(), getImportResourceResolver())
+			.filter(AbstractCacheResourceResolver.class::isInstance)
+			.map(AbstractCacheResourceResolver.class::cast)
+			.forEach(AbstractCacheResourceResolver::precompute);
+
+		getApplicationContext()
+			.filter(ConfigurableApplicationContext.class::isInstance)
+			.map(ConfigurableApplicationContext.class::cast)
+			.ifPresent(applicationContext -> applicationContext.addApplicationListener(event -> {
+				if (isResourceResolutionInvalidatingEvent(event)) {
+					Stream.of(getExportResourceResolver(), getImportResourceResolver())
+						.filter(AbstractCacheResourceResolver.class::isInstance)
+						.map(AbstractCacheResourceResolver.class::cast)
+						.forEach(AbstractCacheResourceResolver::invalidate);
+				}
+			}));
+	}
+
+	// Matches Spring Cloud's EnvironmentChangeEvent by name in order to not require Spring Cloud on the classpath.
+	// Only a subsequent ContextRefreshedEvent invalidates resolution; the first one follows precomputation.
+	boolean isResourceResolutionInvalidatingEvent(@Nullable ApplicationEvent event) {
+
+		return event instanceof ContextRefreshedEvent
+			? this.contextRefreshed.getAndSet(true)
+			: event != null && ENVIRONMENT_CHANGE_EVENT_CLASS_NAME.equals(event.getClass().getName());
 	}
 
 	Consumer<Object> newCompositeObjectAwareInitializer() {
@@ -324,8 +400,14 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 
 		private final Map<String, Expression> compiledExpressions;
 
+		private final Map<String, Optional<Resource>> precomputedResources = new ConcurrentHashMap<>();
+
+		private final Map<String, Optional<String>> precomputedResourceLocations = new ConcurrentHashMap<>();
+
 		private final SimpleEvaluationContext.Builder evaluationContextBuilder;
 
+		private volatile boolean precomputed;
+
 		/**
 		 * Constructs a new instance of {@link AbstractCacheResourceResolver}.
 		 *
@@ -426,6 +508,76 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 			return Optional.ofNullable(this.environment);
 		}
 
+		/**
+		 * Enables precomputed {@link Resource} resolution.
+		 *
+		 * The configured {@link #getResourceLocationPropertyName() resource location property} is read from
+		 * the {@link Environment} and parsed once, and the {@link Resource} resolved for each {@link Region}
+		 * is reused until this resolver is {@link #invalidate() invalidated}.
+		 *
+		 * @see #getResourceLocationPropertyName()
+		 * @see #invalidate()
+		 */
+		public void precompute() {
+
+			this.precomputed = true;
+
+			invalidate();
+
+			Optional.ofNullable(getResourceLocationPropertyName())
+				.filter(StringUtils::hasText)
+				.flatMap(this::getResourceLocationProperty)
+				.ifPresent(this::parse);
+		}
+
+		/**
+		 * Determines whether {@link Resource} resolution is precomputed.
+		 *
+		 * @return a boolean value indicating whether {@link Resource} resolution is precomputed.
+		 * @see #precompute()
+		 */
+		public boolean isPrecomputed() {
+			return this.precomputed;
+		}
+
+		/**
+		 * Invalidates all {@link Resource Resources} and {@link String resource locations} resolved
+		 * in precomputed mode, for instance, when the {@link Environment} changes.
+		 *
+		 * @see #precompute()
+		 */
+		public void invalidate() {
+			this.precomputedResourceLocations.clear();
+			this.precomputedResources.clear();
+		}
+
+		/**
+		 * Gets the {@link String name} of the property declaring the {@link String location} of the {@link Resource}
+		 * resolved by this resolver.
+		 *
+		 * @return the {@link String name} of the {@link Resource} location property; may be {@literal null}.
+		 */
+		protected @Nullable String getResourceLocationPropertyName() {
+			return null;
+		}
+
+		/**
+		 * Resolves the {@link Resource} for the given {@link Region} with the given {@link Function resolver},
+		 * reusing the previously resolved {@link Resource} for the {@link Region} in precomputed mode.
+		 *
+		 * @param region {@link Region} used to resolve the {@link Resource}; must not be {@literal null}.
+		 * @param resolver {@link Function} resolving the {@link Resource} for the {@link Region}.
+		 * @return an {@link Optional} {@link Resource} for the given {@link Region}.
+		 * @see #isPrecomputed()
+		 */
+		protected Optional<Resource> resolve(@NonNull Region<?, ?> region,
+				@NonNull Function<Region<?, ?>, Optional<Resource>> resolver) {
+
+			return isPrecomputed()
+				? this.precomputedResources.computeIfAbsent(region.getFullPath(), fullPath -> resolver.apply(region))
+				: resolver.apply(region);
+		}
+
 		/**
 		 * Gets the configured {@link ExpressionParser} used to parse SpEL {@link String expressions}.
 		 *
@@ -490,14 +642,23 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 			Assert.notNull(region, "Region must not be null");
 			Assert.hasText(propertyName, () -> String.format("Property name [%s] must be specified", propertyName));
 
-			return getEnvironment()
-				.filter(environment -> environment.containsProperty(propertyName))
-				.map(environment -> environment.getProperty(propertyName))
-				.filter(StringUtils::hasText)
+			return getResourceLocationProperty(propertyName)
 				.map(resourceLocation -> evaluate(resourceLocation, region))
 				.orElseGet(() -> getFullyQualifiedResourceLocation(region));
 		}
 
+		private Optional<String> getResourceLocationProperty(@NonNull String propertyName) {
+
+			Function<String, Optional<String>> propertyResolver = name -> getEnvironment()
+				.filter(environment -> environment.containsProperty(name))
+				.map(environment -> environment.getProperty(name))
+				.filter(StringUtils::hasText);
+
+			return isPrecomputed()
+				? this.precomputedResourceLocations.computeIfAbsent(propertyName, propertyResolver)
+				: propertyResolver.apply(propertyName);
+		}
+
 		/**
 		 * Evaluates the given SpEL {@link String expression}.
 		 *
@@ -605,18 +766,29 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 
 			Assert.notNull(region, "Region must not be null");
 
-			String resourceLocation = getResourceLocation(region, CACHE_DATA_EXPORT_RESOURCE_LOCATION_PROPERTY_NAME);
+			return resolve(region, it -> {
 
-			Optional<Resource> resource = resolve(resourceLocation);
+				String resourceLocation = getResourceLocation(it, getResourceLocationPropertyName());
 
-			boolean writable = resource.filter(ResourceUtils::isWritable).isPresent();
+				Optional<Resource> resource = resolve(resourceLocation);
 
-			if (!writable) {
-				getLogger().warn("Resource [{}] for Region [{}] is not writable",
-					resourceLocation, region.getFullPath());
-			}
+				boolean writable = resource.filter(ResourceUtils::isWritable).isPresent();
 
-			return resource;
+				if (!writable) {
+					getLogger().warn("Resource [{}] for Region [{}] is not writable",
+						resourceLocation, it.getFullPath());
+				}
+
+				return resource;
+			});
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		protected @NonNull String getResourceLocationPropertyName() {
+			return CACHE_DATA_EXPORT_RESOURCE_LOCATION_PROPERTY_NAME;
 		}
 
 		/**
@@ -671,23 +843,34 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 
 			Assert.notNull(region, "Region must not be null");
 
-			String resourceLocation = getResourceLocation(region, CACHE_DATA_IMPORT_RESOURCE_LOCATION_PROPERTY_NAME);
+			return resolve(region, it -> {
 
-			Optional<Resource> resource = resolve(resourceLocation);
+				String resourceLocation = getResourceLocation(it, getResourceLocationPropertyName());
 
-			boolean exists = resource.isPresent();
-			boolean readable = exists && resource.filter(Resource::isReadable).isPresent();
+				Optional<Resource> resource = resolve(resourceLocation);
 
-			if (!exists) {
-				getLogger().warn("Resource [{}] for Region [{}] could not be found; skipping import for Region",
-					resourceLocation, region.getFullPath());
-			}
-			else {
-				Assert.state(readable, () -> String.format("Resource [%1$s] for Region [%2$s] is not readable",
-					resourceLocation, region.getFullPath()));
-			}
+				boolean exists = resource.isPresent();
+				boolean readable = exists && resource.filter(Resource::isReadable).isPresent();
 
-			return resource;
+				if (!exists) {
+					getLogger().warn("Resource [{}] for Region [{}] could not be found; skipping import for Region",
+						resourceLocation, it.getFullPath());
+				}
+				else {
+					Assert.state(readable, () -> String.format("Resource [%1$s] for Region [%2$s] is not readable",
+						resourceLocation, it.getFullPath()));
+				}
+
+				return resource;
+			});
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		protected @NonNull String getResourceLocationPropertyName() {
+			return CACHE_DATA_IMPORT_RESOURCE_LOCATION_PROPERTY_NAME;
 		}
 
 		@Nullable @Override
@@ -710,4 +893,18 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 			return ResourcePrefix.CLASSPATH_URL_PREFIX.toUrlPrefix();
 		}
 	}
+
+	/**
+	 * Spring {@link RuntimeHintsRegistrar} registering the JSON {@link Resource Resources} imported from
+	 * the {@literal classpath} by default, one per {@link Region}, with a native image.
+	 *
+	 * @see org.springframework.aot.hint.RuntimeHintsRegistrar
+	 */
+	static class CacheDataResourceRuntimeHints implements RuntimeHintsRegistrar {
+
+		@Override
+		public void registerHints(@NonNull RuntimeHints hints, @Nullable ClassLoader classLoader) {
+			hints.resources().registerPattern(String.format(RESOURCE_NAME_PATTERN, "*"));
+		}
+	}
 }
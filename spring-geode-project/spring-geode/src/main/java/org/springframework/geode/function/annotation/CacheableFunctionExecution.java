@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+/**
+ * The {@link CacheableFunctionExecution} annotation declares that the results of a {@link Function}
+ * {@link Execution} defined on a SDG POJO {@link Function} {@link Execution} interface are cached on the client.
+ *
+ * Results are keyed by {@link Function#getId() Function ID}, arguments and filter. When used with
+ * {@link org.springframework.data.gemfire.function.annotation.OnRegion}, the cached results are invalidated
+ * when the data in the target {@link org.apache.geode.cache.Region} changes.
+ *
+ * The annotation may be declared on the {@link Function} {@link Execution} interface, in which case it applies
+ * to all methods of the interface.
+ *
+ * Only {@link Function Functions} with results depending solely on their arguments, filter and target
+ * {@link org.apache.geode.cache.Region} data should be cached. A cached result is shared by all callers
+ * and is not copied, so callers must not modify it.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.function.support.FunctionResultCache
+ * @since 2.0.0
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@SuppressWarnings("unused")
+public @interface CacheableFunctionExecution {
+
+	/**
+	 * Number of seconds for which a cached result is valid.
+	 *
+	 * Defaults to {@literal 0}, in which case the time-to-live of the
+	 * {@link org.springframework.geode.function.support.FunctionResultCache} is used.
+	 */
+	long timeToLiveSeconds() default 0L;
+
+}
@@ -15,17 +15,29 @@
  */
 package org.springframework.geode.function.config;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.function.config.AbstractFunctionExecutionConfigurationSource;
 import org.springframework.data.gemfire.function.config.AnnotationFunctionExecutionConfigurationSource;
 import org.springframework.data.gemfire.function.config.FunctionExecutionBeanDefinitionRegistrar;
+import org.springframework.geode.core.util.SpringBootExtensions;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -38,15 +50,22 @@ import org.springframework.util.Assert;
  * @see org.springframework.beans.factory.BeanFactory
  * @see org.springframework.beans.factory.BeanFactoryAware
  * @see org.springframework.boot.autoconfigure.AutoConfigurationPackages
+ * @see org.springframework.context.EnvironmentAware
+ * @see org.springframework.core.env.Environment
  * @see org.springframework.core.type.AnnotationMetadata
  * @see org.springframework.data.gemfire.function.config.FunctionExecutionBeanDefinitionRegistrar
+ * @see org.springframework.geode.function.config.FunctionExecutionProxyBeanPostProcessor
  * @since 1.0.0
  */
 public abstract class AbstractFunctionExecutionAutoConfigurationExtension
-		extends FunctionExecutionBeanDefinitionRegistrar implements BeanFactoryAware {
+		extends FunctionExecutionBeanDefinitionRegistrar implements BeanFactoryAware, EnvironmentAware {
+
+	protected static final String FUNCTION_EXECUTIONS_STARTUP_STEP_NAME = "function.executions.register";
 
 	private BeanFactory beanFactory;
 
+	private Environment environment;
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.beanFactory = beanFactory;
@@ -59,8 +78,77 @@ public abstract class AbstractFunctionExecutionAutoConfigurationExtension
 		return this.beanFactory;
 	}
 
+	@Override
+	public void setEnvironment(@Nullable Environment environment) {
+		this.environment = environment;
+	}
+
+	protected @Nullable Environment getEnvironment() {
+		return this.environment;
+	}
+
 	protected abstract Class<?> getConfiguration();
 
+	/**
+	 * Registers SDG POJO {@link Function} {@link Execution} interfaces along with
+	 * the {@link FunctionExecutionProxyBeanPostProcessor} adapting interface methods returning
+	 * a {@link java.util.concurrent.CompletableFuture}, Reactor {@link reactor.core.publisher.Mono}
+	 * or Reactor {@link reactor.core.publisher.Flux}, caching the results of interface methods annotated with
+	 * {@link org.springframework.geode.function.annotation.CacheableFunctionExecution} and recording each
+	 * {@link Function} {@link Execution} as a Java Flight Recorder (JFR) event.
+	 *
+	 * The registration is recorded as a {@link org.springframework.core.metrics.StartupStep}. When lazy initialization
+	 * is enabled, the {@link Function} {@link Execution} proxies are not created until first use.
+	 *
+	 * @see org.springframework.geode.function.config.FunctionExecutionProxyBeanPostProcessor
+	 * @see SpringBootExtensions#isLazyInitializationEnabled(Environment)
+	 */
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+
+		SpringBootExtensions.doInStartupStep(SpringBootExtensions.resolveApplicationStartup(this.beanFactory),
+			FUNCTION_EXECUTIONS_STARTUP_STEP_NAME, step -> {
+
+				Set<String> existingBeanNames = new HashSet<>(Arrays.asList(registry.getBeanDefinitionNames()));
+
+				super.registerBeanDefinitions(importingClassMetadata, registry);
+
+				Set<String> functionExecutionBeanNames = new HashSet<>(Arrays.asList(registry.getBeanDefinitionNames()));
+
+				functionExecutionBeanNames.removeAll(existingBeanNames);
+
+				boolean lazy = SpringBootExtensions.isLazyInitializationEnabled(getEnvironment());
+
+				if (lazy) {
+					functionExecutionBeanNames.stream()
+						.map(registry::getBeanDefinition)
+						.forEach(beanDefinition -> beanDefinition.setLazyInit(true));
+				}
+
+				registerFunctionExecutionProxyBeanPostProcessor(registry);
+
+				step.tag("functionExecutions", String.valueOf(functionExecutionBeanNames.size()))
+					.tag("lazy", String.valueOf(lazy));
+
+				return functionExecutionBeanNames;
+			});
+	}
+
+	private void registerFunctionExecutionProxyBeanPostProcessor(BeanDefinitionRegistry registry) {
+
+		String beanName = FunctionExecutionProxyBeanPostProcessor.class.getName();
+
+		if (!registry.containsBeanDefinition(beanName)) {
+
+			AbstractBeanDefinition beanDefinition = BeanDefinitionBuilder
+				.rootBeanDefinition(FunctionExecutionProxyBeanPostProcessor.class)
+				.setRole(BeanDefinition.ROLE_INFRASTRUCTURE)
+				.getBeanDefinition();
+
+			registry.registerBeanDefinition(beanName, beanDefinition);
+		}
+	}
+
 	@SuppressWarnings("unused")
 	@Override
 	protected AbstractFunctionExecutionConfigurationSource newAnnotationBasedFunctionExecutionConfigurationSource(
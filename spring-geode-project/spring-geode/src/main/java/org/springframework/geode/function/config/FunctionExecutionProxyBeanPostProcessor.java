@@ -0,0 +1,437 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.config;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.query.CqException;
+import org.apache.geode.cache.query.CqQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.function.annotation.OnRegion;
+import org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean;
+import org.springframework.geode.function.annotation.CacheableFunctionExecution;
+import org.springframework.geode.function.support.AsyncFunctionExecutionInterceptor;
+import org.springframework.geode.function.support.CachingFunctionExecutionInterceptor;
+import org.springframework.geode.function.support.FunctionExecutionEventInterceptor;
+import org.springframework.geode.function.support.FunctionResultCache;
+import org.springframework.geode.function.support.FunctionResultCacheInvalidatingListener;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring {@link BeanPostProcessor} wrapping SDG POJO interfaces defining Apache Geode {@link Function}
+ * {@link Execution Executions} in a proxy adding asynchronous {@link Execution}, result caching and
+ * Java Flight Recorder (JFR) events.
+ *
+ * Methods returning a {@link java.util.concurrent.CompletableFuture}, {@link java.util.concurrent.CompletionStage},
+ * Reactor {@link reactor.core.publisher.Mono} or Reactor {@link reactor.core.publisher.Flux} are performed on
+ * a dedicated {@link Executor}. A bean named {@value #FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME} of type
+ * {@link Executor} is used when present. Otherwise, a bounded pool of daemon {@link Thread Threads} with a queue
+ * of at most {@value #DEFAULT_EXECUTOR_QUEUE_CAPACITY} pending {@link Execution Executions} is created and shutdown
+ * when the Spring container is closed. {@link Execution Executions} submitted while the queue is full are rejected,
+ * completing the returned {@link java.util.concurrent.CompletableFuture} or Reactor {@link reactor.core.publisher.Mono}
+ * or {@link reactor.core.publisher.Flux} with a {@link java.util.concurrent.RejectedExecutionException}.
+ *
+ * The results of methods annotated with {@link CacheableFunctionExecution} are cached in the
+ * {@link FunctionResultCache} bean named {@value #FUNCTION_RESULT_CACHE_BEAN_NAME} when present, or a default
+ * {@link FunctionResultCache} otherwise. For {@link OnRegion} {@link Function} {@link Execution Executions},
+ * a {@link FunctionResultCacheInvalidatingListener} is registered on the target {@link Region}.
+ *
+ * On a client, a {@link Region} {@link org.apache.geode.cache.CacheListener} is only notified of changes made
+ * on the servers when the client {@link Region} has registered interest. Therefore, once the Spring container
+ * is refreshed and all CQs have been started, the {@link FunctionResultCacheInvalidatingListener} is also added to
+ * each {@link CqQuery} on the client {@link Region}. A warning is logged for any client {@link Region} with neither
+ * registered interest nor a CQ, since cached results are then only invalidated by the client's own writes
+ * and otherwise expire after their time-to-live.
+ *
+ * Every SDG {@link Function} {@link Execution} interface is proxied. Every {@link Function} {@link Execution} that
+ * is actually performed, i.e. not served from the {@link FunctionResultCache}, emits
+ * a {@link org.springframework.geode.core.jfr.FunctionExecutionEvent}. Interfaces declaring neither asynchronous
+ * nor {@link CacheableFunctionExecution} methods are only wrapped with
+ * the {@link FunctionExecutionEventInterceptor}, which does little more than delegate when no recording is active.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.Executor
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.context.event.ContextRefreshedEvent
+ * @see org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean
+ * @see org.springframework.geode.function.annotation.CacheableFunctionExecution
+ * @see org.springframework.geode.function.support.AsyncFunctionExecutionInterceptor
+ * @see org.springframework.geode.function.support.CachingFunctionExecutionInterceptor
+ * @see org.springframework.geode.function.support.FunctionExecutionEventInterceptor
+ * @see org.springframework.geode.function.support.FunctionResultCache
+ * @see org.springframework.geode.function.support.FunctionResultCacheInvalidatingListener
+ * @since 2.0.0
+ */
+public class FunctionExecutionProxyBeanPostProcessor implements ApplicationListener<ContextRefreshedEvent>,
+		BeanClassLoaderAware, BeanFactoryAware, BeanPostProcessor, DisposableBean {
+
+	public static final String FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME = "gemfireFunctionExecutionExecutor";
+
+	public static final String FUNCTION_RESULT_CACHE_BEAN_NAME = "gemfireFunctionResultCache";
+
+	protected static final int DEFAULT_EXECUTOR_QUEUE_CAPACITY = 1000;
+
+	protected static final String FUNCTION_EXECUTION_THREAD_NAME_PREFIX = "GemFireFunctionExecution-";
+
+	private BeanFactory beanFactory;
+
+	private ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
+
+	private volatile Executor executor;
+
+	private volatile ExecutorService defaultExecutorService;
+
+	private volatile FunctionResultCache functionResultCache;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<Region<?, ?>, FunctionResultCacheInvalidatingListener<?, ?>> invalidatingListeners =
+		new ConcurrentHashMap<>();
+
+	@Override
+	public void setBeanClassLoader(@Nullable ClassLoader beanClassLoader) {
+		this.beanClassLoader = beanClassLoader;
+	}
+
+	@Override
+	public void setBeanFactory(@NonNull BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	protected Optional<ConfigurableListableBeanFactory> getBeanFactory() {
+
+		return Optional.ofNullable(this.beanFactory)
+			.filter(ConfigurableListableBeanFactory.class::isInstance)
+			.map(ConfigurableListableBeanFactory.class::cast);
+	}
+
+	/**
+	 * Wraps the SDG {@link Function} {@link Execution} proxy in a proxy recording each {@link Function}
+	 * {@link Execution}, caching the results of {@link CacheableFunctionExecution} methods and performing
+	 * the {@link Function} {@link Execution} asynchronously for methods returning an asynchronous result.
+	 *
+	 * @see org.springframework.geode.function.support.AsyncFunctionExecutionInterceptor
+	 * @see org.springframework.geode.function.support.CachingFunctionExecutionInterceptor
+	 * @see org.springframework.geode.function.support.FunctionExecutionEventInterceptor
+	 */
+	@Override
+	public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+
+		return resolveFunctionExecutionProxyFactoryBean(bean, beanName)
+			.map(this::newFunctionExecutionProxy)
+			.orElse(bean);
+	}
+
+	private Optional<GemfireFunctionProxyFactoryBean> resolveFunctionExecutionProxyFactoryBean(@NonNull Object bean,
+			@NonNull String beanName) {
+
+		if (bean instanceof FactoryBean) {
+			return Optional.empty();
+		}
+
+		return getBeanFactory()
+			.filter(beanFactory -> beanFactory.containsBeanDefinition(beanName))
+			.filter(beanFactory -> beanFactory.isFactoryBean(beanName))
+			.map(beanFactory -> beanFactory.getBean(BeanFactory.FACTORY_BEAN_PREFIX + beanName))
+			.filter(GemfireFunctionProxyFactoryBean.class::isInstance)
+			.map(GemfireFunctionProxyFactoryBean.class::cast)
+			.filter(factoryBean -> factoryBean.getObjectType() != null);
+	}
+
+	private @NonNull Object newFunctionExecutionProxy(@NonNull GemfireFunctionProxyFactoryBean factoryBean) {
+
+		Class<?> functionExecutionInterface = factoryBean.getObjectType();
+
+		MethodInterceptor functionExecutionInterceptor = new FunctionExecutionEventInterceptor(factoryBean);
+
+		if (CachingFunctionExecutionInterceptor.hasCacheableMethods(functionExecutionInterface)) {
+
+			FunctionResultCache functionResultCache = resolveFunctionResultCache();
+
+			String regionPath = resolveRegion(functionExecutionInterface)
+				.map(region -> registerFunctionResultCacheInvalidatingListener(functionResultCache, region))
+				.orElse(null);
+
+			functionExecutionInterceptor =
+				new CachingFunctionExecutionInterceptor(functionExecutionInterceptor, functionResultCache, regionPath);
+		}
+
+		if (AsyncFunctionExecutionInterceptor.hasAsyncMethods(functionExecutionInterface)) {
+			functionExecutionInterceptor =
+				new AsyncFunctionExecutionInterceptor(functionExecutionInterceptor, resolveExecutor());
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory(functionExecutionInterface, functionExecutionInterceptor);
+
+		return proxyFactory.getProxy(this.beanClassLoader);
+	}
+
+	private Optional<Region<?, ?>> resolveRegion(@NonNull Class<?> functionExecutionInterface) {
+
+		return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(functionExecutionInterface, OnRegion.class))
+			.map(OnRegion::region)
+			.filter(StringUtils::hasText)
+			.flatMap(regionBeanName -> getBeanFactory()
+				.filter(beanFactory -> beanFactory.containsBean(regionBeanName))
+				.map(beanFactory -> (Region<?, ?>) beanFactory.getBean(regionBeanName, Region.class)));
+	}
+
+	/**
+	 * Registers a {@link FunctionResultCacheInvalidatingListener} on the given {@link Region}, once per {@link Region}.
+	 *
+	 * @param functionResultCache {@link FunctionResultCache} to invalidate when the data in the {@link Region} changes.
+	 * @param region {@link Region} targeted by the {@link Function} {@link Execution Executions}.
+	 * @return the {@link Region#getFullPath() path} of the given {@link Region}.
+	 * @see org.springframework.geode.function.support.FunctionResultCacheInvalidatingListener
+	 */
+	@SuppressWarnings("unchecked")
+	protected @NonNull String registerFunctionResultCacheInvalidatingListener(
+			@NonNull FunctionResultCache functionResultCache, @NonNull Region<?, ?> region) {
+
+		String regionPath = region.getFullPath();
+
+		this.invalidatingListeners.computeIfAbsent(region, it -> {
+
+			FunctionResultCacheInvalidatingListener<Object, Object> listener =
+				new FunctionResultCacheInvalidatingListener<>(functionResultCache, regionPath);
+
+			((Region<Object, Object>) it).getAttributesMutator().addCacheListener(listener);
+
+			return listener;
+		});
+
+		return regionPath;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Adds the {@link FunctionResultCacheInvalidatingListener} of each client {@link Region} targeted by
+	 * {@link CacheableFunctionExecution cacheable} {@link Function} {@link Execution Executions} to the CQs
+	 * on the {@link Region}, warning about client {@link Region Regions} that receive no server-side changes.
+	 *
+	 * @param event {@link ContextRefreshedEvent} signaling all Spring beans have been initialized and started.
+	 * @see org.springframework.context.event.ContextRefreshedEvent
+	 */
+	@Override
+	public void onApplicationEvent(@NonNull ContextRefreshedEvent event) {
+
+		this.invalidatingListeners.forEach((region, listener) -> {
+
+			if (isClientRegion(region)) {
+
+				boolean cqRegistered = registerWithContinuousQueries(region, listener);
+
+				if (!cqRegistered && !hasRegisteredInterest(region)) {
+					getLogger().warn("Client Region [{}] has neither registered interest nor a CQ;"
+						+ " cached results of Function executions on this Region are only invalidated by this"
+						+ " client's own changes and will otherwise expire after their time-to-live",
+						region.getFullPath());
+				}
+			}
+		});
+	}
+
+	private boolean isClientRegion(@NonNull Region<?, ?> region) {
+		return StringUtils.hasText(region.getAttributes().getPoolName());
+	}
+
+	private boolean hasRegisteredInterest(@NonNull Region<?, ?> region) {
+
+		try {
+			return !region.getInterestList().isEmpty() || !region.getInterestListRegex().isEmpty();
+		}
+		catch (RuntimeException ignore) {
+			return false;
+		}
+	}
+
+	private boolean registerWithContinuousQueries(@NonNull Region<?, ?> region,
+			@NonNull FunctionResultCacheInvalidatingListener<?, ?> listener) {
+
+		CqQuery[] continuousQueries = resolveContinuousQueries(region);
+
+		for (CqQuery continuousQuery : continuousQueries) {
+			if (!Arrays.asList(continuousQuery.getCqAttributes().getCqListeners()).contains(listener)) {
+				continuousQuery.getCqAttributesMutator().addCqListener(listener);
+			}
+		}
+
+		return continuousQueries.length > 0;
+	}
+
+	/**
+	 * Resolves the {@link CqQuery CQs} registered on the given client {@link Region} with the {@link Pool}
+	 * used by the {@link Region}.
+	 *
+	 * @param region client {@link Region} for which to resolve the {@link CqQuery CQs}.
+	 * @return an array of {@link CqQuery CQs} on the given {@link Region}; never {@literal null}.
+	 * @see org.apache.geode.cache.query.QueryService#getCqs(String)
+	 */
+	protected @NonNull CqQuery[] resolveContinuousQueries(@NonNull Region<?, ?> region) {
+
+		Pool pool = PoolManager.find(region.getAttributes().getPoolName());
+
+		try {
+
+			CqQuery[] continuousQueries = pool != null ? pool.getQueryService().getCqs(region.getFullPath()) : null;
+
+			return continuousQueries != null ? continuousQueries : new CqQuery[0];
+		}
+		catch (CqException | RuntimeException cause) {
+
+			getLogger().debug("Failed to resolve CQs for Region [{}]", region.getFullPath(), cause);
+
+			return new CqQuery[0];
+		}
+	}
+
+	/**
+	 * Resolves the {@link FunctionResultCache} used to cache the results of {@link Function}
+	 * {@link Execution Executions}.
+	 *
+	 * @return the resolved {@link FunctionResultCache}.
+	 * @see org.springframework.geode.function.support.FunctionResultCache
+	 */
+	protected @NonNull FunctionResultCache resolveFunctionResultCache() {
+
+		FunctionResultCache functionResultCache = this.functionResultCache;
+
+		if (functionResultCache == null) {
+			synchronized (this) {
+				functionResultCache = this.functionResultCache;
+				if (functionResultCache == null) {
+					functionResultCache = getBeanFactory()
+						.filter(beanFactory -> beanFactory.containsBean(FUNCTION_RESULT_CACHE_BEAN_NAME))
+						.map(beanFactory -> beanFactory.getBean(FUNCTION_RESULT_CACHE_BEAN_NAME, FunctionResultCache.class))
+						.orElseGet(FunctionResultCache::new);
+					this.functionResultCache = functionResultCache;
+				}
+			}
+		}
+
+		return functionResultCache;
+	}
+
+	/**
+	 * Resolves the {@link Executor} used to perform {@link Function} {@link Execution Executions} asynchronously.
+	 *
+	 * @return the resolved {@link Executor}.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected @NonNull Executor resolveExecutor() {
+
+		Executor executor = this.executor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.executor;
+				if (executor == null) {
+					executor = getBeanFactory()
+						.filter(beanFactory -> beanFactory.containsBean(FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME))
+						.map(beanFactory -> beanFactory.getBean(FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME, Executor.class))
+						.orElseGet(this::newDefaultExecutorService);
+					this.executor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Constructs a new, bounded {@link ExecutorService} of daemon {@link Thread Threads} used to perform
+	 * {@link Function} {@link Execution Executions} asynchronously when no {@link Executor} bean is declared.
+	 *
+	 * At most {@value #DEFAULT_EXECUTOR_QUEUE_CAPACITY} {@link Execution Executions} wait for a {@link Thread}.
+	 * Further {@link Execution Executions} are rejected with a {@link java.util.concurrent.RejectedExecutionException}
+	 * rather than run on, and block, the calling {@link Thread}.
+	 *
+	 * @return a new {@link ExecutorService}.
+	 * @see java.util.concurrent.ThreadPoolExecutor.AbortPolicy
+	 * @see java.util.concurrent.ThreadPoolExecutor
+	 */
+	protected @NonNull ExecutorService newDefaultExecutorService() {
+
+		int poolSize = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(FUNCTION_EXECUTION_THREAD_NAME_PREFIX);
+
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executorService = new ThreadPoolExecutor(poolSize, poolSize,
+			60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(DEFAULT_EXECUTOR_QUEUE_CAPACITY), threadFactory,
+			new ThreadPoolExecutor.AbortPolicy());
+
+		executorService.allowCoreThreadTimeOut(true);
+
+		this.defaultExecutorService = executorService;
+
+		return executorService;
+	}
+
+	/**
+	 * Shuts down the default {@link ExecutorService} if created.
+	 */
+	@Override
+	public void destroy() {
+
+		ExecutorService executorService = this.defaultExecutorService;
+
+		if (executorService != null) {
+			executorService.shutdown();
+		}
+	}
+}
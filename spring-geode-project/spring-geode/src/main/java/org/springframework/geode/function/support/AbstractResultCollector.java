@@ -51,21 +51,30 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 
 		unit = resolveTimeUnit(unit);
 
-		long durationInMilliseconds = unit.toMillis(duration);
-		long timeout = System.currentTimeMillis() + unit.toMillis(duration);
-		long waitInMilliseconds = Math.max(50, Math.min(durationInMilliseconds / 5, durationInMilliseconds));
+		long timeout = System.nanoTime() + unit.toNanos(duration);
 
 		synchronized (this) {
-			while (getResult() == null && System.currentTimeMillis() < timeout) {
-				unit.timedWait(this, waitInMilliseconds);
+
+			long remainingNanoseconds = timeout - System.nanoTime();
+
+			while (getResult() == null && remainingNanoseconds > 0L) {
+				TimeUnit.NANOSECONDS.timedWait(this, remainingNanoseconds);
+				remainingNanoseconds = timeout - System.nanoTime();
 			}
 		}
 
 		return getResult();
 	}
 
+	/**
+	 * Sets the {@literal result} and notifies any {@link Thread Threads} waiting in {@link #getResult(long, TimeUnit)}
+	 * so that the {@literal result} is returned as soon as it arrives.
+	 *
+	 * @param result {@link Object result} of the Function execution.
+	 */
 	protected synchronized void setResult(S result) {
 		this.result = result;
+		notifyAll();
 	}
 
 	protected TimeUnit resolveTimeUnit(TimeUnit unit) {
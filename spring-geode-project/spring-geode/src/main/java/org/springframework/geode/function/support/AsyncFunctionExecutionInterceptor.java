@@ -0,0 +1,337 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The {@link AsyncFunctionExecutionInterceptor} class is a {@link MethodInterceptor} adapting SDG POJO
+ * interfaces defining Apache Geode {@link Function} {@link Execution Executions} with methods returning
+ * a {@link CompletableFuture}, {@link CompletionStage}, Reactor {@link Mono} or Reactor {@link Flux}.
+ *
+ * The blocking {@link Function} {@link Execution} is performed by the delegate (SDG) {@link MethodInterceptor}
+ * on the configured {@link Executor} so that the calling {@link Thread} is never blocked. Methods with any other
+ * return type are delegated to the delegate {@link MethodInterceptor} on the calling {@link Thread}.
+ *
+ * If the {@link Function} {@link Execution} returns a {@link Flux}, {@link Stream} or {@link CompletionStage},
+ * for example when the {@link Function} {@link Execution} is configured with a {@link FluxResultCollector},
+ * {@link StreamingResultCollector} or {@link CompletableResultCollector}, then the results are bridged from
+ * the {@link org.apache.geode.cache.execute.ResultCollector} as the results arrive.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @since 2.0.0
+ */
+public class AsyncFunctionExecutionInterceptor implements MethodInterceptor {
+
+	private static final boolean REACTOR_PRESENT =
+		ClassUtils.isPresent("reactor.core.publisher.Flux", AsyncFunctionExecutionInterceptor.class.getClassLoader());
+
+	/**
+	 * Determines whether the given {@link Method} returns an asynchronous result, that is, a {@link CompletableFuture},
+	 * {@link CompletionStage}, Reactor {@link Mono} or Reactor {@link Flux}.
+	 *
+	 * @param method {@link Method} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Method} returns an asynchronous result.
+	 * @see java.lang.reflect.Method
+	 */
+	public static boolean isAsync(@Nullable Method method) {
+		return method != null && ReturnType.of(method) != ReturnType.SYNCHRONOUS;
+	}
+
+	/**
+	 * Determines whether the given {@link Class interface} declares any {@link Method} returning
+	 * an asynchronous result.
+	 *
+	 * @param type {@link Class interface} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class interface} declares any {@link Method}
+	 * returning an asynchronous result.
+	 * @see #isAsync(Method)
+	 */
+	public static boolean hasAsyncMethods(@Nullable Class<?> type) {
+		return type != null && Arrays.stream(type.getMethods()).anyMatch(AsyncFunctionExecutionInterceptor::isAsync);
+	}
+
+	private final Executor executor;
+
+	private final Map<Method, ReturnType> returnTypes = new ConcurrentHashMap<>();
+
+	private final MethodInterceptor delegate;
+
+	/**
+	 * Constructs a new {@link AsyncFunctionExecutionInterceptor} initialized with the delegate (SDG)
+	 * {@link MethodInterceptor} performing the {@link Function} {@link Execution} and the {@link Executor}
+	 * used to perform the {@link Function} {@link Execution} asynchronously.
+	 *
+	 * @param delegate {@link MethodInterceptor} performing the {@link Function} {@link Execution};
+	 * must not be {@literal null}.
+	 * @param executor {@link Executor} used to perform the {@link Function} {@link Execution} asynchronously;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the delegate {@link MethodInterceptor} or {@link Executor}
+	 * is {@literal null}.
+	 */
+	public AsyncFunctionExecutionInterceptor(@NonNull MethodInterceptor delegate, @NonNull Executor executor) {
+
+		Assert.notNull(delegate, "Delegate MethodInterceptor is required");
+		Assert.notNull(executor, "Executor is required");
+
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns a reference to the delegate (SDG) {@link MethodInterceptor} performing
+	 * the {@link Function} {@link Execution}.
+	 *
+	 * @return a reference to the delegate {@link MethodInterceptor}.
+	 */
+	protected @NonNull MethodInterceptor getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Returns a reference to the {@link Executor} used to perform the {@link Function} {@link Execution}
+	 * asynchronously.
+	 *
+	 * @return a reference to the {@link Executor}.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		switch (this.returnTypes.computeIfAbsent(method, ReturnType::of)) {
+			case COMPLETABLE_FUTURE:
+				return executeAsync(invocation).thenCompose(result -> toCompletableFuture(result, method));
+			case MONO:
+				return ReactorFunctionExecutions.toMono(this, invocation);
+			case FLUX:
+				return ReactorFunctionExecutions.toFlux(this, invocation);
+			default:
+				return getDelegate().invoke(invocation);
+		}
+	}
+
+	/**
+	 * Performs the {@link Function} {@link Execution} asynchronously on the configured {@link Executor}.
+	 *
+	 * @param invocation {@link MethodInvocation} of the {@link Function} {@link Execution} interface {@link Method}.
+	 * @return a {@link CompletableFuture} completed with the raw {@link Object result}
+	 * of the {@link Function} {@link Execution}, or completed exceptionally with
+	 * a {@link RejectedExecutionException} if the {@link Executor} rejects the {@link Function} {@link Execution}.
+	 */
+	protected @NonNull CompletableFuture<Object> executeAsync(@NonNull MethodInvocation invocation) {
+
+		try {
+			return CompletableFuture.supplyAsync(() -> execute(invocation), getExecutor());
+		}
+		catch (RejectedExecutionException cause) {
+			return CompletableFuture.failedFuture(cause);
+		}
+	}
+
+	@Nullable Object execute(@NonNull MethodInvocation invocation) {
+
+		try {
+			return getDelegate().invoke(invocation);
+		}
+		catch (RuntimeException cause) {
+			throw cause;
+		}
+		catch (Throwable cause) {
+			throw new CompletionException(cause);
+		}
+	}
+
+	/**
+	 * Adapts the raw {@link Object result} of the {@link Function} {@link Execution} to the value type
+	 * of the {@link CompletableFuture} returned by the given {@link Method}.
+	 *
+	 * If the value type is a {@link Collection} or {@link Iterable}, then all results are returned
+	 * in a {@link List}. Otherwise, the single result is extracted from the results.
+	 */
+	@SuppressWarnings("unchecked")
+	private @NonNull CompletableFuture<Object> toCompletableFuture(@Nullable Object result, @NonNull Method method) {
+
+		if (result instanceof CompletionStage) {
+			return ((CompletionStage<Object>) result).toCompletableFuture()
+				.thenApply(it -> adaptResult(it, method));
+		}
+
+		return CompletableFuture.completedFuture(adaptResult(result, method));
+	}
+
+	@Nullable Object adaptResult(@Nullable Object result, @NonNull Method method) {
+
+		Class<?> valueType = ResolvableType.forMethodReturnType(method).getGeneric(0).resolve(Object.class);
+
+		if (Iterable.class.isAssignableFrom(valueType)) {
+			return result instanceof Iterable && !(result instanceof Collection)
+				? toList((Iterable<?>) result)
+				: result;
+		}
+
+		return extractSingleResult(result);
+	}
+
+	@Nullable Object extractSingleResult(@Nullable Object result) {
+
+		if (result instanceof Iterable) {
+
+			Iterator<?> iterator = ((Iterable<?>) result).iterator();
+
+			return iterator.hasNext() ? extractSingleResult(iterator.next()) : null;
+		}
+
+		return result;
+	}
+
+	@NonNull List<Object> toList(@NonNull Iterable<?> iterable) {
+
+		List<Object> list = new ArrayList<>();
+
+		iterable.forEach(list::add);
+
+		return list;
+	}
+
+	enum ReturnType {
+
+		COMPLETABLE_FUTURE,
+		FLUX,
+		MONO,
+		SYNCHRONOUS;
+
+		static @NonNull ReturnType of(@NonNull Method method) {
+
+			Class<?> returnType = method.getReturnType();
+
+			if (CompletableFuture.class.equals(returnType) || CompletionStage.class.equals(returnType)) {
+				return COMPLETABLE_FUTURE;
+			}
+			else if (REACTOR_PRESENT && ReactorFunctionExecutions.isMono(returnType)) {
+				return MONO;
+			}
+			else if (REACTOR_PRESENT && ReactorFunctionExecutions.isFlux(returnType)) {
+				return FLUX;
+			}
+
+			return SYNCHRONOUS;
+		}
+	}
+
+	/**
+	 * Reactor support kept in a separate class so that Reactor is only loaded when present on the classpath.
+	 */
+	static abstract class ReactorFunctionExecutions {
+
+		static boolean isFlux(Class<?> type) {
+			return Flux.class.equals(type);
+		}
+
+		static boolean isMono(Class<?> type) {
+			return Mono.class.equals(type);
+		}
+
+		static Scheduler newScheduler(Executor executor) {
+			return Schedulers.fromExecutor(executor);
+		}
+
+		static @NonNull Mono<Object> toMono(@NonNull AsyncFunctionExecutionInterceptor interceptor,
+				@NonNull MethodInvocation invocation) {
+
+			return Mono.fromCallable(() -> interceptor.execute(invocation))
+				.subscribeOn(newScheduler(interceptor.getExecutor()))
+				.flatMap(result -> result instanceof CompletionStage
+					? Mono.fromCompletionStage((CompletionStage<?>) result)
+					: Mono.justOrEmpty(result))
+				.flatMap(result -> Mono.justOrEmpty(interceptor.adaptResult(result, invocation.getMethod())));
+		}
+
+		static @NonNull Flux<Object> toFlux(@NonNull AsyncFunctionExecutionInterceptor interceptor,
+				@NonNull MethodInvocation invocation) {
+
+			return Mono.fromCallable(() -> interceptor.execute(invocation))
+				.subscribeOn(newScheduler(interceptor.getExecutor()))
+				.flatMapMany(ReactorFunctionExecutions::adaptToFlux);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static @NonNull Flux<Object> adaptToFlux(@Nullable Object result) {
+
+			if (result instanceof Flux) {
+				return (Flux<Object>) result;
+			}
+			else if (result instanceof Stream) {
+				return Flux.fromStream((Stream<Object>) result);
+			}
+			else if (result instanceof CompletionStage) {
+				return Mono.fromCompletionStage((CompletionStage<Object>) result)
+					.flatMapMany(ReactorFunctionExecutions::adaptToFlux);
+			}
+			else if (result instanceof Iterable) {
+				return Flux.fromIterable((Iterable<Object>) result)
+					.filter(element -> element != null);
+			}
+
+			return Flux.justOrEmpty(result);
+		}
+	}
+}
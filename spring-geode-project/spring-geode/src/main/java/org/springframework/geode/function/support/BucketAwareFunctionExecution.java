@@ -0,0 +1,907 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package org.springframework.geode.function.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.PartitionResolver;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.internal.ClientMetadataService;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.internal.cache.EntryOperationImpl;
+import org.apache.geode.internal.cache.InternalCache;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * The {@link BucketAwareFunctionExecution} class executes a {@link Function} on a {@link Region#getFullPath()
+ * partitioned} {@link Region} by splitting the key filter by bucket, grouping the buckets by the member hosting
+ * their primary and performing a separate, concurrent {@link Function} {@link Execution} for each group, so that
+ * a slow member only delays the buckets it hosts.
+ *
+ * Keys are assigned to buckets the same way Apache Geode assigns keys to buckets, that is, by the
+ * {@link Object#hashCode() hash code} of the routing object modulo the total number of buckets. When created with
+ * {@link #onRegion(Region, String)}, the routing object of a key is resolved with the {@link PartitionResolver}
+ * configured in the {@link PartitionAttributes} of the {@link Region}, and the member hosting a key is resolved with
+ * {@link PartitionRegionHelper#getPrimaryMemberForKey(Region, Object)} on a peer, or from the single-hop metadata
+ * on a client. Buckets for which no member can be resolved, for example before a client has received the single-hop
+ * metadata, are assigned round-robin to at most {@link #withParallelism(int) parallelism} groups.
+ *
+ * Every bucket must complete within the timeout. The first attempt of a group executes all buckets of the group
+ * in a single {@link Execution}. When an attempt has not completed after the hedge delay, each of its buckets that
+ * has not completed yet is hedged, that is, executed again on its own, and the first successful result of each bucket
+ * is used. Failed attempts are retried per bucket until the maximum number of attempts is reached. Attempts that are
+ * no longer needed, because their buckets completed by other means, timed out or the {@link Execution} failed,
+ * are cancelled and their {@link Thread Threads} interrupted. Hedging is enabled by default. Therefore, only use
+ * the defaults with idempotent, read-only {@link Function Functions}, and set the maximum number of attempts
+ * to {@literal 1} otherwise.
+ *
+ * Results are merged into a {@link StreamingResultCollector} as each {@link Execution} completes, so that
+ * the results of fast members can be consumed without waiting on slow members.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the results.
+ * @see org.apache.geode.cache.PartitionResolver
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @since 2.0.0
+ */
+public class BucketAwareFunctionExecution<T> {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 2;
+
+	public static final int DEFAULT_PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	public static final Duration DEFAULT_HEDGE_DELAY = Duration.ofMillis(100);
+
+	public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+	protected static final int DEFAULT_EXECUTOR_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+	protected static final int DEFAULT_EXECUTOR_QUEUE_CAPACITY = 1024;
+
+	protected static final String EXECUTION_TIMEOUT_MESSAGE =
+		"Function execution on buckets %1$s did not complete in [%2$s]";
+
+	protected static final String SCHEDULER_THREAD_NAME_PREFIX = "BucketAwareFunctionExecutionScheduler-";
+
+	protected static final String THREAD_NAME_PREFIX = "BucketAwareFunctionExecution-";
+
+	/**
+	 * Factory method used to construct a new {@link BucketAwareFunctionExecution} executing the {@link Function}
+	 * with the given {@link Function#getId() ID} on the given {@link Region}.
+	 *
+	 * The total number of buckets and the {@link PartitionResolver} are resolved from the {@link Region Region's}
+	 * {@link PartitionAttributes} when present, as on a peer. Otherwise, as on a client, the total number of buckets
+	 * defaults to {@link PartitionAttributesFactory#GLOBAL_MAX_BUCKETS_DEFAULT} and the routing object of a key is
+	 * the key itself. The members hosting the buckets are resolved with {@link PartitionRegionHelper} on a peer and
+	 * from the single-hop metadata on a client.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param region {@link Region} on which the {@link Function} is executed; must not be {@literal null}.
+	 * @param functionId {@link String} containing the {@link Function#getId() ID} of the {@link Function};
+	 * must not be {@literal null} or empty.
+	 * @return a new {@link BucketAwareFunctionExecution}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null} or the {@link Function#getId() ID}
+	 * is {@literal null} or empty.
+	 * @see org.apache.geode.cache.execute.FunctionService#onRegion(Region)
+	 */
+	public static @NonNull <T> BucketAwareFunctionExecution<T> onRegion(@NonNull Region<?, ?> region,
+			@NonNull String functionId) {
+
+		Assert.notNull(region, "Region is required");
+		Assert.hasText(functionId, "Function ID is required");
+
+		return new BucketAwareFunctionExecution<T>(newRegionFilteredExecution(region, functionId))
+			.withMemberResolver(newMemberResolver(region))
+			.withRoutingObjectResolver(newRoutingObjectResolver(region))
+			.withTotalNumberOfBuckets(resolveTotalNumberOfBuckets(region));
+	}
+
+	/**
+	 * Factory method used to construct a new {@link BucketAwareFunctionExecution} performing each
+	 * {@link Execution} with the given {@link FilteredExecution}.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param filteredExecution {@link FilteredExecution} performing the {@link Execution} for a filter;
+	 * must not be {@literal null}.
+	 * @return a new {@link BucketAwareFunctionExecution}.
+	 * @throws IllegalArgumentException if {@link FilteredExecution} is {@literal null}.
+	 * @see FilteredExecution
+	 */
+	public static @NonNull <T> BucketAwareFunctionExecution<T> using(@NonNull FilteredExecution<T> filteredExecution) {
+		return new BucketAwareFunctionExecution<>(filteredExecution);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static @NonNull <T> FilteredExecution<T> newRegionFilteredExecution(@NonNull Region<?, ?> region,
+			@NonNull String functionId) {
+
+		return (filter, arguments) -> {
+
+			Execution execution = FunctionService.onRegion(region).withFilter(filter);
+
+			if (arguments.length > 0) {
+				execution = execution.setArguments(arguments);
+			}
+
+			Object result = execution.execute(functionId).getResult();
+
+			return result instanceof Iterable ? (Iterable<T>) result : Collections.singletonList((T) result);
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static @Nullable java.util.function.Function<Object, Object> newMemberResolver(
+			@NonNull Region<?, ?> region) {
+
+		if (PartitionRegionHelper.isPartitionedRegion(region)) {
+
+			Region<Object, Object> partitionedRegion = (Region<Object, Object>) region;
+
+			return key -> PartitionRegionHelper.getPrimaryMemberForKey(partitionedRegion, key);
+		}
+
+		ClientMetadataService clientMetadataService = region.getRegionService() instanceof InternalCache cache
+			? cache.getClientMetadataService()
+			: null;
+
+		return clientMetadataService != null
+			? key -> clientMetadataService.getBucketServerLocation(region, Operation.FUNCTION_EXECUTION, key,
+				null, null)
+			: null;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static @Nullable java.util.function.Function<Object, Object> newRoutingObjectResolver(
+			@NonNull Region<?, ?> region) {
+
+		PartitionAttributes<?, ?> partitionAttributes = resolvePartitionAttributes(region);
+
+		PartitionResolver partitionResolver = partitionAttributes != null
+			? partitionAttributes.getPartitionResolver()
+			: null;
+
+		return partitionResolver != null
+			? key -> partitionResolver.getRoutingObject(new EntryOperationImpl(region, Operation.FUNCTION_EXECUTION,
+				key, null, null))
+			: null;
+	}
+
+	private static @Nullable PartitionAttributes<?, ?> resolvePartitionAttributes(@NonNull Region<?, ?> region) {
+
+		return region.getAttributes() != null
+			? region.getAttributes().getPartitionAttributes()
+			: null;
+	}
+
+	private static int resolveTotalNumberOfBuckets(@NonNull Region<?, ?> region) {
+
+		PartitionAttributes<?, ?> partitionAttributes = resolvePartitionAttributes(region);
+
+		return partitionAttributes != null
+			? partitionAttributes.getTotalNumBuckets()
+			: PartitionAttributesFactory.GLOBAL_MAX_BUCKETS_DEFAULT;
+	}
+
+	private Duration hedgeDelay = DEFAULT_HEDGE_DELAY;
+	private Duration timeout = DEFAULT_TIMEOUT;
+
+	private Executor executor;
+
+	private final FilteredExecution<T> filteredExecution;
+
+	private java.util.function.Function<Object, Object> memberResolver = key -> null;
+
+	private java.util.function.Function<Object, Object> routingObjectResolver = java.util.function.Function.identity();
+
+	private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+	private int parallelism = DEFAULT_PARALLELISM;
+	private int totalNumberOfBuckets = PartitionAttributesFactory.GLOBAL_MAX_BUCKETS_DEFAULT;
+
+	private Object[] arguments = new Object[0];
+
+	/**
+	 * Constructs a new {@link BucketAwareFunctionExecution} performing each {@link Execution}
+	 * with the given {@link FilteredExecution}.
+	 *
+	 * @param filteredExecution {@link FilteredExecution} performing the {@link Execution} for a filter;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link FilteredExecution} is {@literal null}.
+	 */
+	protected BucketAwareFunctionExecution(@NonNull FilteredExecution<T> filteredExecution) {
+
+		Assert.notNull(filteredExecution, "FilteredExecution is required");
+
+		this.filteredExecution = filteredExecution;
+	}
+
+	protected @NonNull Object[] getArguments() {
+		return this.arguments;
+	}
+
+	protected @NonNull Executor getExecutor() {
+		return this.executor != null ? this.executor : DefaultExecutorHolder.EXECUTOR;
+	}
+
+	protected @NonNull FilteredExecution<T> getFilteredExecution() {
+		return this.filteredExecution;
+	}
+
+	protected @Nullable Duration getHedgeDelay() {
+		return this.hedgeDelay;
+	}
+
+	protected int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	protected int getParallelism() {
+		return this.parallelism;
+	}
+
+	protected @NonNull Duration getTimeout() {
+		return this.timeout;
+	}
+
+	protected int getTotalNumberOfBuckets() {
+		return this.totalNumberOfBuckets;
+	}
+
+	/**
+	 * Sets the {@link Object arguments} passed to the {@link Function}.
+	 *
+	 * @param arguments array of {@link Object arguments} passed to the {@link Function}.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withArguments(@Nullable Object... arguments) {
+		this.arguments = arguments != null ? arguments : new Object[0];
+		return this;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to perform the {@link Execution Executions} concurrently.
+	 *
+	 * Defaults to a shared, fixed-size pool of daemon {@link Thread Threads}, two per available processor,
+	 * queueing at most {@value #DEFAULT_EXECUTOR_QUEUE_CAPACITY} attempts. An attempt rejected by
+	 * the {@link Executor} counts as a failed attempt.
+	 *
+	 * @param executor {@link Executor} used to perform the {@link Execution Executions}.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link Duration delay} after which each bucket of an attempt that has not completed is hedged.
+	 *
+	 * Hedged {@link Execution Executions} count toward the maximum number of attempts of a bucket.
+	 * Defaults to {@link #DEFAULT_HEDGE_DELAY}.
+	 *
+	 * @param hedgeDelay {@link Duration delay} after which the buckets of an attempt are hedged; {@literal null}
+	 * disables hedging.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 * @see #withMaxAttempts(int)
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withHedgeDelay(@Nullable Duration hedgeDelay) {
+		this.hedgeDelay = hedgeDelay;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of attempts, including hedged {@link Execution Executions} and retries,
+	 * for each bucket. Set to {@literal 1} to disable both hedging and retries.
+	 *
+	 * @param maxAttempts maximum number of attempts; must be greater than {@literal 0}.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 * @throws IllegalArgumentException if {@literal maxAttempts} is less than {@literal 1}.
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withMaxAttempts(int maxAttempts) {
+		Assert.isTrue(maxAttempts > 0, () -> String.format("Max attempts [%d] must be greater than 0", maxAttempts));
+		this.maxAttempts = maxAttempts;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link java.util.function.Function} resolving the member hosting the primary bucket of a key,
+	 * for example a {@link org.apache.geode.distributed.DistributedMember} or a server location.
+	 *
+	 * The buckets are grouped by member. Defaults to a {@link java.util.function.Function} that cannot resolve
+	 * the member of any key.
+	 *
+	 * @param memberResolver {@link java.util.function.Function} resolving the member of a key; returns
+	 * {@literal null} if the member cannot be resolved.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withMemberResolver(
+			@Nullable java.util.function.Function<Object, Object> memberResolver) {
+
+		this.memberResolver = memberResolver != null ? memberResolver : key -> null;
+
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of groups into which the buckets are split when the members hosting
+	 * the buckets cannot be resolved.
+	 *
+	 * @param parallelism maximum number of groups of buckets without a resolved member; must be greater
+	 * than {@literal 0}.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 * @throws IllegalArgumentException if {@literal parallelism} is less than {@literal 1}.
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, () -> String.format("Parallelism [%d] must be greater than 0", parallelism));
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link java.util.function.Function} resolving the routing object of a key, for example when
+	 * the {@link Region} is configured with a {@link PartitionResolver}.
+	 *
+	 * Defaults to the key itself.
+	 *
+	 * @param routingObjectResolver {@link java.util.function.Function} resolving the routing object of a key.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withRoutingObjectResolver(
+			@Nullable java.util.function.Function<Object, Object> routingObjectResolver) {
+
+		this.routingObjectResolver = routingObjectResolver != null
+			? routingObjectResolver
+			: java.util.function.Function.identity();
+
+		return this;
+	}
+
+	/**
+	 * Sets the maximum {@link Duration} within which every bucket must complete, including hedged
+	 * {@link Execution Executions} and retries.
+	 *
+	 * @param timeout maximum {@link Duration} within which every bucket must complete; must not be {@literal null}.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 * @throws IllegalArgumentException if {@literal timeout} is {@literal null}.
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withTimeout(@NonNull Duration timeout) {
+		Assert.notNull(timeout, "Timeout is required");
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Sets the total number of buckets configured for the partitioned {@link Region}.
+	 *
+	 * @param totalNumberOfBuckets total number of buckets; must be greater than {@literal 0}.
+	 * @return this {@link BucketAwareFunctionExecution}.
+	 * @throws IllegalArgumentException if {@literal totalNumberOfBuckets} is less than {@literal 1}.
+	 */
+	public @NonNull BucketAwareFunctionExecution<T> withTotalNumberOfBuckets(int totalNumberOfBuckets) {
+
+		Assert.isTrue(totalNumberOfBuckets > 0,
+			() -> String.format("Total number of buckets [%d] must be greater than 0", totalNumberOfBuckets));
+
+		this.totalNumberOfBuckets = totalNumberOfBuckets;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the bucket for the given key.
+	 *
+	 * @param key key to resolve the bucket for; must not be {@literal null}.
+	 * @return the bucket for the given key.
+	 */
+	protected int resolveBucketId(@NonNull Object key) {
+
+		Object routingObject = this.routingObjectResolver.apply(key);
+
+		return Math.abs(Objects.requireNonNull(routingObject, "Routing object is required").hashCode()
+			% getTotalNumberOfBuckets());
+	}
+
+	/**
+	 * Splits the given filter into groups of keys by bucket. All keys of a bucket are in the same group.
+	 *
+	 * The buckets hosted by the same member are grouped together. The buckets for which no member can be resolved
+	 * are assigned round-robin, in bucket order, to at most {@link #withParallelism(int) parallelism} groups.
+	 *
+	 * @param filter {@link Collection} of keys to split.
+	 * @return a {@link List} of groups of keys.
+	 */
+	public @NonNull List<Set<Object>> partition(@Nullable Collection<?> filter) {
+
+		return groupBuckets(filter).stream()
+			.map(group -> group.stream()
+				.flatMap(bucket -> bucket.keys.stream())
+				.collect(Collectors.toSet()))
+			.collect(Collectors.toList());
+	}
+
+	private @NonNull List<List<Bucket>> groupBuckets(@Nullable Collection<?> filter) {
+
+		Map<Object, Map<Integer, Set<Object>>> keysByBucketByMember = new LinkedHashMap<>();
+		Map<Integer, Set<Object>> unresolvedKeysByBucket = new TreeMap<>();
+
+		if (!CollectionUtils.isEmpty(filter)) {
+			for (Object key : filter) {
+
+				Object member = this.memberResolver.apply(key);
+
+				Map<Integer, Set<Object>> keysByBucket = member != null
+					? keysByBucketByMember.computeIfAbsent(member, it -> new TreeMap<>())
+					: unresolvedKeysByBucket;
+
+				keysByBucket.computeIfAbsent(resolveBucketId(key), bucketId -> new HashSet<>()).add(key);
+			}
+		}
+
+		List<List<Bucket>> groups = new ArrayList<>();
+
+		keysByBucketByMember.values().forEach(keysByBucket -> groups.add(keysByBucket.entrySet().stream()
+			.map(entry -> new Bucket(entry.getKey(), entry.getValue()))
+			.collect(Collectors.toList())));
+
+		int unresolvedGroupCount = Math.min(getParallelism(), unresolvedKeysByBucket.size());
+		int index = 0;
+
+		List<List<Bucket>> unresolvedGroups = new ArrayList<>(unresolvedGroupCount);
+
+		for (Map.Entry<Integer, Set<Object>> entry : unresolvedKeysByBucket.entrySet()) {
+
+			int groupIndex = index++ % unresolvedGroupCount;
+
+			if (groupIndex == unresolvedGroups.size()) {
+				unresolvedGroups.add(new ArrayList<>());
+			}
+
+			unresolvedGroups.get(groupIndex).add(new Bucket(entry.getKey(), entry.getValue()));
+		}
+
+		groups.addAll(unresolvedGroups);
+
+		return groups;
+	}
+
+	/**
+	 * Executes the {@link Function} concurrently for each group of buckets of the given filter.
+	 *
+	 * @param filter {@link Collection} of keys used to filter the {@link Function} {@link Execution};
+	 * must not be {@literal null} or empty.
+	 * @return a {@link Stream} of results as each {@link Execution} completes. The {@link Stream} throws
+	 * a {@link FunctionException} when consumed if any bucket could not be executed successfully.
+	 * @throws IllegalArgumentException if the filter is {@literal null} or empty.
+	 * @see #executeAsync(Collection)
+	 */
+	public @NonNull Stream<T> execute(@NonNull Collection<?> filter) {
+		return executeAsync(filter).getResult();
+	}
+
+	/**
+	 * Executes the {@link Function} concurrently for each group of buckets of the given filter.
+	 *
+	 * @param filter {@link Collection} of keys used to filter the {@link Function} {@link Execution};
+	 * must not be {@literal null} or empty.
+	 * @return the {@link StreamingResultCollector} receiving the results as each {@link Execution} completes.
+	 * @throws IllegalArgumentException if the filter is {@literal null} or empty.
+	 * @see org.springframework.geode.function.support.StreamingResultCollector
+	 */
+	public @NonNull StreamingResultCollector<T> executeAsync(@NonNull Collection<?> filter) {
+
+		Assert.notEmpty(filter, "Filter is required");
+
+		StreamingResultCollector<T> resultCollector = new StreamingResultCollector<>();
+
+		new BucketExecutions(groupBuckets(filter), resultCollector).start();
+
+		return resultCollector;
+	}
+
+	private boolean isHedgingEnabled() {
+
+		Duration hedgeDelay = getHedgeDelay();
+
+		return hedgeDelay != null && !hedgeDelay.isNegative() && getMaxAttempts() > 1;
+	}
+
+	/**
+	 * Tracks the attempts of a single {@link BucketAwareFunctionExecution#execute(Collection) execution} for all
+	 * buckets of the filter. All state is guarded by this object's monitor. The {@link FilteredExecution} is always
+	 * performed, and attempts are always submitted to the {@link Executor}, without holding the monitor.
+	 */
+	private final class BucketExecutions {
+
+		private boolean ended;
+
+		private int remaining;
+
+		private final List<Attempt> pending = new ArrayList<>();
+
+		private final List<Bucket> buckets = new ArrayList<>();
+
+		private final List<Future<?>> timers = new ArrayList<>();
+
+		private final List<List<Bucket>> groups;
+
+		private final StreamingResultCollector<T> resultCollector;
+
+		private BucketExecutions(@NonNull List<List<Bucket>> groups,
+				@NonNull StreamingResultCollector<T> resultCollector) {
+
+			this.groups = groups;
+			this.resultCollector = resultCollector;
+			this.groups.forEach(this.buckets::addAll);
+			this.remaining = this.buckets.size();
+		}
+
+		void start() {
+
+			synchronized (this) {
+
+				schedule(this::timeout, getTimeout());
+
+				this.groups.forEach(this::attempt);
+			}
+
+			launchPending();
+		}
+
+		// Must be called while holding the monitor.
+		private void attempt(@NonNull List<Bucket> candidates) {
+
+			if (!this.ended) {
+
+				List<Bucket> attemptedBuckets = candidates.stream()
+					.filter(bucket -> !bucket.done && bucket.started < getMaxAttempts())
+					.collect(Collectors.toList());
+
+				if (!attemptedBuckets.isEmpty()) {
+
+					Attempt attempt = new Attempt(attemptedBuckets);
+
+					attemptedBuckets.forEach(bucket -> {
+						bucket.started++;
+						bucket.attempts.add(attempt);
+					});
+
+					attempt.task = new FutureTask<>(() -> perform(attempt), null);
+
+					this.pending.add(attempt);
+				}
+			}
+		}
+
+		private void launchPending() {
+
+			List<Attempt> attempts;
+
+			synchronized (this) {
+				attempts = new ArrayList<>(this.pending);
+				this.pending.clear();
+			}
+
+			for (Attempt attempt : attempts) {
+				try {
+					getExecutor().execute(attempt.task);
+
+					if (isHedgingEnabled()) {
+						synchronized (this) {
+							schedule(() -> hedge(attempt), getHedgeDelay());
+						}
+					}
+				}
+				catch (RejectedExecutionException cause) {
+					onFailure(attempt, cause);
+				}
+			}
+		}
+
+		// Must be called while holding the monitor.
+		private void schedule(@NonNull Runnable task, @NonNull Duration delay) {
+
+			if (!this.ended) {
+				this.timers.add(DefaultExecutorHolder.SCHEDULER.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS));
+			}
+		}
+
+		private void perform(@NonNull Attempt attempt) {
+
+			Iterable<T> results;
+
+			try {
+				Set<Object> filter = new HashSet<>();
+
+				attempt.buckets.forEach(bucket -> filter.addAll(bucket.keys));
+
+				results = getFilteredExecution().execute(Collections.unmodifiableSet(filter), getArguments());
+			}
+			catch (Exception cause) {
+				onFailure(attempt, cause);
+				return;
+			}
+
+			onSuccess(attempt, results != null ? results : Collections.emptyList());
+		}
+
+		private void hedge(@NonNull Attempt attempt) {
+
+			synchronized (this) {
+				if (!attempt.finished) {
+					attempt.buckets.forEach(bucket -> attempt(Collections.singletonList(bucket)));
+				}
+			}
+
+			launchPending();
+		}
+
+		private void onSuccess(@NonNull Attempt attempt, @NonNull Iterable<T> results) {
+
+			synchronized (this) {
+
+				if (!this.ended && !attempt.finished) {
+
+					finish(attempt);
+
+					results.forEach(result -> this.resultCollector.addResult(null, result));
+
+					attempt.buckets.forEach(bucket -> bucket.done = true);
+
+					this.remaining -= attempt.buckets.size();
+
+					for (Bucket bucket : attempt.buckets) {
+
+						// The results of an attempt of several buckets cannot be split by bucket, so any other
+						// attempt that includes a completed bucket is superseded.
+						for (Attempt otherAttempt : new ArrayList<>(bucket.attempts)) {
+							cancel(otherAttempt);
+							otherAttempt.buckets.stream()
+								.filter(otherBucket -> !otherBucket.done)
+								.forEach(otherBucket -> onAttemptEnded(otherBucket, null));
+						}
+					}
+
+					if (this.remaining == 0) {
+						end(null);
+					}
+				}
+			}
+
+			launchPending();
+		}
+
+		private void onFailure(@NonNull Attempt attempt, @NonNull Throwable cause) {
+
+			synchronized (this) {
+				if (!this.ended && !attempt.finished) {
+					finish(attempt);
+					attempt.buckets.stream()
+						.filter(bucket -> !bucket.done)
+						.forEach(bucket -> onAttemptEnded(bucket, cause));
+				}
+			}
+
+			launchPending();
+		}
+
+		// Must be called while holding the monitor. The cause is null when the attempt was superseded.
+		private void onAttemptEnded(@NonNull Bucket bucket, @Nullable Throwable cause) {
+
+			if (cause != null) {
+				bucket.lastFailure = cause;
+			}
+			else if (!bucket.attempts.isEmpty()) {
+				return;
+			}
+
+			if (bucket.started < getMaxAttempts()) {
+				attempt(Collections.singletonList(bucket));
+			}
+			else if (bucket.attempts.isEmpty()) {
+				end(bucket.lastFailure != null ? bucket.lastFailure
+					: new FunctionException(String.format("Function execution on bucket [%d] failed", bucket.id)));
+			}
+		}
+
+		// Must be called while holding the monitor.
+		private void finish(@NonNull Attempt attempt) {
+			attempt.finished = true;
+			attempt.buckets.forEach(bucket -> bucket.attempts.remove(attempt));
+		}
+
+		// Must be called while holding the monitor.
+		private void cancel(@NonNull Attempt attempt) {
+			finish(attempt);
+			attempt.task.cancel(true);
+		}
+
+		private synchronized void timeout() {
+
+			if (!this.ended) {
+
+				Set<Integer> bucketIds = this.buckets.stream()
+					.filter(bucket -> !bucket.done)
+					.map(bucket -> bucket.id)
+					.collect(Collectors.toCollection(TreeSet::new));
+
+				end(new FunctionException(String.format(EXECUTION_TIMEOUT_MESSAGE, bucketIds, getTimeout())));
+			}
+		}
+
+		// Must be called while holding the monitor.
+		private void end(@Nullable Throwable cause) {
+
+			if (!this.ended) {
+
+				this.ended = true;
+
+				this.timers.forEach(timer -> timer.cancel(false));
+				this.timers.clear();
+
+				Set<Attempt> attempts = new LinkedHashSet<>();
+
+				this.buckets.forEach(bucket -> attempts.addAll(bucket.attempts));
+				attempts.forEach(this::cancel);
+
+				this.pending.clear();
+
+				if (cause != null) {
+					this.resultCollector.endResults(cause);
+				}
+				else {
+					this.resultCollector.endResults();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A bucket of the filter along with the state of its attempts, guarded by the monitor of the owning
+	 * {@link BucketExecutions}.
+	 */
+	private static final class Bucket {
+
+		private final int id;
+
+		private final Set<Object> keys;
+
+		private final List<Attempt> attempts = new ArrayList<>();
+
+		private boolean done;
+
+		private int started;
+
+		private Throwable lastFailure;
+
+		private Bucket(int id, @NonNull Set<Object> keys) {
+			this.id = id;
+			this.keys = keys;
+		}
+	}
+
+	/**
+	 * A single {@link Execution} of one or more buckets.
+	 */
+	private static final class Attempt {
+
+		private final List<Bucket> buckets;
+
+		private boolean finished;
+
+		private FutureTask<Void> task;
+
+		private Attempt(@NonNull List<Bucket> buckets) {
+			this.buckets = buckets;
+		}
+	}
+
+	private static final class DefaultExecutorHolder {
+
+		private static final Executor EXECUTOR = newExecutor();
+
+		private static final ScheduledExecutorService SCHEDULER = newScheduler();
+
+		private static @NonNull Executor newExecutor() {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+
+			threadFactory.setDaemon(true);
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_EXECUTOR_POOL_SIZE,
+				DEFAULT_EXECUTOR_POOL_SIZE, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(DEFAULT_EXECUTOR_QUEUE_CAPACITY), threadFactory,
+				new ThreadPoolExecutor.AbortPolicy());
+
+			executor.allowCoreThreadTimeOut(true);
+
+			return executor;
+		}
+
+		private static @NonNull ScheduledExecutorService newScheduler() {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(SCHEDULER_THREAD_NAME_PREFIX);
+
+			threadFactory.setDaemon(true);
+
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+
+			scheduler.setRemoveOnCancelPolicy(true);
+
+			return scheduler;
+		}
+	}
+
+	/**
+	 * {@link FunctionalInterface} performing a {@link Function} {@link Execution} for a filter.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 */
+	@FunctionalInterface
+	public interface FilteredExecution<T> {
+
+		/**
+		 * Performs the {@link Function} {@link Execution} for the given filter.
+		 *
+		 * @param filter {@link Set} of keys used to filter the {@link Function} {@link Execution}.
+		 * @param arguments array of {@link Object arguments} passed to the {@link Function}.
+		 * @return the results of the {@link Function} {@link Execution}.
+		 * @throws Exception if the {@link Function} {@link Execution} fails.
+		 */
+		@Nullable Iterable<T> execute(@NonNull Set<?> filter, @NonNull Object[] arguments) throws Exception;
+
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.geode.function.annotation.CacheableFunctionExecution;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link CachingFunctionExecutionInterceptor} class is a {@link MethodInterceptor} returning the cached
+ * {@link Object result} of a {@link Function} {@link Execution} defined on a SDG POJO {@link Function}
+ * {@link Execution} interface method annotated with {@link CacheableFunctionExecution}.
+ *
+ * The {@link Function#getId() Function ID} is resolved from SDG's {@link FunctionId} annotation, defaulting
+ * to the {@link Method#getName() method name}, and the filter from the method parameter annotated with SDG's
+ * {@link Filter} annotation. Methods not annotated with {@link CacheableFunctionExecution} are delegated
+ * to the delegate (SDG) {@link MethodInterceptor}.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.function.annotation.CacheableFunctionExecution
+ * @see org.springframework.geode.function.support.FunctionResultCache
+ * @since 2.0.0
+ */
+public class CachingFunctionExecutionInterceptor implements MethodInterceptor {
+
+	private static final int NO_FILTER_PARAMETER_INDEX = -1;
+
+	/**
+	 * Determines whether the results of the {@link Function} {@link Execution} defined by the given {@link Method}
+	 * are cached.
+	 *
+	 * @param method {@link Method} to evaluate.
+	 * @return a boolean value indicating whether the results of the {@link Function} {@link Execution}
+	 * defined by the given {@link Method} are cached.
+	 * @see org.springframework.geode.function.annotation.CacheableFunctionExecution
+	 */
+	public static boolean isCacheable(@Nullable Method method) {
+		return method != null && resolveCacheableFunctionExecution(method) != null;
+	}
+
+	/**
+	 * Determines whether the given {@link Class interface} declares any {@link Method} with cached results.
+	 *
+	 * @param type {@link Class interface} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class interface} declares any {@link Method}
+	 * with cached results.
+	 * @see #isCacheable(Method)
+	 */
+	public static boolean hasCacheableMethods(@Nullable Class<?> type) {
+		return type != null && Arrays.stream(type.getMethods()).anyMatch(CachingFunctionExecutionInterceptor::isCacheable);
+	}
+
+	private static @Nullable CacheableFunctionExecution resolveCacheableFunctionExecution(@NonNull Method method) {
+
+		CacheableFunctionExecution cacheableFunctionExecution =
+			AnnotatedElementUtils.findMergedAnnotation(method, CacheableFunctionExecution.class);
+
+		return cacheableFunctionExecution != null ? cacheableFunctionExecution
+			: AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), CacheableFunctionExecution.class);
+	}
+
+	private final FunctionResultCache functionResultCache;
+
+	private final Map<Method, CacheableMethod> cacheableMethods = new ConcurrentHashMap<>();
+
+	private final MethodInterceptor delegate;
+
+	private final String regionPath;
+
+	/**
+	 * Constructs a new {@link CachingFunctionExecutionInterceptor} initialized with the delegate (SDG)
+	 * {@link MethodInterceptor} performing the {@link Function} {@link Execution}, the {@link FunctionResultCache}
+	 * and the {@link Region#getFullPath() path} of the {@link Region} targeted by the {@link Function}
+	 * {@link Execution}, if any.
+	 *
+	 * @param delegate {@link MethodInterceptor} performing the {@link Function} {@link Execution};
+	 * must not be {@literal null}.
+	 * @param functionResultCache {@link FunctionResultCache} caching the {@link Function} {@link Execution} results;
+	 * must not be {@literal null}.
+	 * @param regionPath {@link String} containing the {@link Region#getFullPath() path} of the {@link Region}
+	 * targeted by the {@link Function} {@link Execution}; may be {@literal null}.
+	 * @throws IllegalArgumentException if the delegate {@link MethodInterceptor} or {@link FunctionResultCache}
+	 * is {@literal null}.
+	 */
+	public CachingFunctionExecutionInterceptor(@NonNull MethodInterceptor delegate,
+			@NonNull FunctionResultCache functionResultCache, @Nullable String regionPath) {
+
+		Assert.notNull(delegate, "Delegate MethodInterceptor is required");
+		Assert.notNull(functionResultCache, "FunctionResultCache is required");
+
+		this.delegate = delegate;
+		this.functionResultCache = functionResultCache;
+		this.regionPath = regionPath;
+	}
+
+	protected @NonNull MethodInterceptor getDelegate() {
+		return this.delegate;
+	}
+
+	protected @NonNull FunctionResultCache getFunctionResultCache() {
+		return this.functionResultCache;
+	}
+
+	protected @Nullable String getRegionPath() {
+		return this.regionPath;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+		CacheableMethod cacheableMethod =
+			this.cacheableMethods.computeIfAbsent(invocation.getMethod(), CacheableMethod::from);
+
+		if (cacheableMethod.isCacheable()) {
+
+			FunctionResultCache.Key key = cacheableMethod.newKey(getRegionPath(), invocation.getArguments());
+
+			try {
+				return getFunctionResultCache().getOrExecute(key, cacheableMethod.getTimeToLive(), () -> {
+					try {
+						return getDelegate().invoke(invocation);
+					}
+					catch (Exception | Error cause) {
+						throw cause;
+					}
+					catch (Throwable cause) {
+						throw new FunctionExecutionThrowable(cause);
+					}
+				});
+			}
+			catch (FunctionExecutionThrowable cause) {
+				throw cause.getCause();
+			}
+		}
+
+		return getDelegate().invoke(invocation);
+	}
+
+	private static final class FunctionExecutionThrowable extends RuntimeException {
+
+		private FunctionExecutionThrowable(@NonNull Throwable cause) {
+			super(cause);
+		}
+	}
+
+	static final class CacheableMethod {
+
+		static final CacheableMethod NOT_CACHEABLE = new CacheableMethod(null, null, NO_FILTER_PARAMETER_INDEX);
+
+		static @NonNull CacheableMethod from(@NonNull Method method) {
+
+			CacheableFunctionExecution cacheableFunctionExecution = resolveCacheableFunctionExecution(method);
+
+			if (cacheableFunctionExecution != null) {
+
+				Duration timeToLive = cacheableFunctionExecution.timeToLiveSeconds() > 0
+					? Duration.ofSeconds(cacheableFunctionExecution.timeToLiveSeconds())
+					: null;
+
+				return new CacheableMethod(resolveFunctionId(method), timeToLive, resolveFilterParameterIndex(method));
+			}
+
+			return NOT_CACHEABLE;
+		}
+
+		static @NonNull String resolveFunctionId(@NonNull Method method) {
+
+			FunctionId functionId = AnnotatedElementUtils.findMergedAnnotation(method, FunctionId.class);
+
+			return functionId != null && StringUtils.hasText(functionId.value())
+				? functionId.value()
+				: method.getName();
+		}
+
+		private static int resolveFilterParameterIndex(@NonNull Method method) {
+
+			for (int index = 0, count = method.getParameterCount(); index < count; index++) {
+				if (method.getParameters()[index].isAnnotationPresent(Filter.class)) {
+					return index;
+				}
+			}
+
+			return NO_FILTER_PARAMETER_INDEX;
+		}
+
+		private final Duration timeToLive;
+
+		private final int filterParameterIndex;
+
+		private final String functionId;
+
+		private CacheableMethod(@Nullable String functionId, @Nullable Duration timeToLive, int filterParameterIndex) {
+			this.functionId = functionId;
+			this.timeToLive = timeToLive;
+			this.filterParameterIndex = filterParameterIndex;
+		}
+
+		boolean isCacheable() {
+			return this.functionId != null;
+		}
+
+		@Nullable Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		@NonNull FunctionResultCache.Key newKey(@Nullable String regionPath, @Nullable Object[] arguments) {
+
+			Object[] resolvedArguments = arguments != null ? arguments : new Object[0];
+
+			Collection<?> filter = null;
+
+			if (this.filterParameterIndex > NO_FILTER_PARAMETER_INDEX
+					&& this.filterParameterIndex < resolvedArguments.length) {
+
+				Object filterArgument = resolvedArguments[this.filterParameterIndex];
+
+				filter = filterArgument instanceof Collection ? (Collection<?>) filterArgument : null;
+				resolvedArguments = removeArgument(resolvedArguments, this.filterParameterIndex);
+			}
+
+			return FunctionResultCache.newKey(regionPath, this.functionId, resolvedArguments, filter);
+		}
+
+		private @NonNull Object[] removeArgument(@NonNull Object[] arguments, int index) {
+
+			Object[] newArguments = new Object[arguments.length - 1];
+
+			System.arraycopy(arguments, 0, newArguments, 0, index);
+			System.arraycopy(arguments, index + 1, newArguments, index, arguments.length - index - 1);
+
+			return newArguments;
+		}
+	}
+}
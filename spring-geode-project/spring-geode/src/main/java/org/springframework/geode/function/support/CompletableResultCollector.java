@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link CompletableResultCollector} class is an abstract base implementation of the {@link ResultCollector}
+ * interface that signals completion of a Function execution with a {@link CompletableFuture}.
+ *
+ * Unlike the {@link AbstractResultCollector}, no locks are held while collecting results and callers waiting on
+ * the {@link #getResult() result} are released as soon as {@link #endResults()} is called, rather than polling.
+ *
+ * Subclasses must accumulate results in a thread-safe manner since Apache Geode may call
+ * {@link #addResult(DistributedMember, Object)} from multiple {@link Thread Threads} concurrently.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the results sent by each member executing the Function.
+ * @param <S> {@link Class type} of the final result of the Function execution.
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @since 2.0.0
+ */
+public abstract class CompletableResultCollector<T, S> implements ResultCollector<T, S> {
+
+	protected static final String RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE = "All results not received in time provided";
+
+	private final AtomicReference<CompletableFuture<S>> future = new AtomicReference<>(new CompletableFuture<>());
+
+	/**
+	 * Returns a {@link CompletableFuture} completed with the final {@literal result}
+	 * when {@link #endResults()} is called.
+	 *
+	 * @return a {@link CompletableFuture} completed with the final {@literal result}.
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	public @NonNull CompletableFuture<S> getResultFuture() {
+		return this.future.get();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void addResult(@Nullable DistributedMember memberId, @Nullable T resultOfSingleExecution) {
+		accumulate(memberId, resultOfSingleExecution);
+	}
+
+	/**
+	 * Accumulates the {@link Object result} sent by the given {@link DistributedMember member}.
+	 *
+	 * This method may be called from multiple {@link Thread Threads} concurrently.
+	 *
+	 * @param memberId {@link DistributedMember} that sent the {@link Object result}.
+	 * @param resultOfSingleExecution {@link Object result} sent by the {@link DistributedMember member}.
+	 */
+	protected abstract void accumulate(@Nullable DistributedMember memberId, @Nullable T resultOfSingleExecution);
+
+	/**
+	 * Computes the final {@literal result} from the accumulated results.
+	 *
+	 * @return the final {@literal result} of the Function execution.
+	 */
+	protected abstract @Nullable S finish();
+
+	/**
+	 * Resets the accumulated results.
+	 */
+	protected abstract void reset();
+
+	/**
+	 * Waits for {@link #endResults()} to be called and returns the final {@literal result}.
+	 *
+	 * @return the final {@literal result} of the Function execution.
+	 * @throws FunctionException if computing the final {@literal result} fails or the waiting {@link Thread}
+	 * is interrupted.
+	 */
+	@Override
+	public S getResult() throws FunctionException {
+
+		try {
+			return getResultFuture().get();
+		}
+		catch (ExecutionException cause) {
+			throw newFunctionException(cause.getCause());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw newFunctionException(cause);
+		}
+	}
+
+	/**
+	 * Waits at most the given {@literal duration} for {@link #endResults()} to be called
+	 * and returns the final {@literal result}.
+	 *
+	 * @param duration {@link Long} value of the maximum time to wait.
+	 * @param unit {@link TimeUnit} of the {@literal duration}; defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @return the final {@literal result} of the Function execution.
+	 * @throws FunctionException if all results were not received in the time provided
+	 * or computing the final {@literal result} fails.
+	 * @throws InterruptedException if the waiting {@link Thread} is interrupted.
+	 */
+	@Override
+	public S getResult(long duration, @Nullable TimeUnit unit) throws FunctionException, InterruptedException {
+
+		try {
+			return getResultFuture().get(duration, unit != null ? unit : TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException cause) {
+			throw newFunctionException(cause.getCause());
+		}
+		catch (TimeoutException cause) {
+			throw new FunctionException(RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE, cause);
+		}
+	}
+
+	/**
+	 * Completes the {@link #getResultFuture() result future} with the {@link #finish() final result}.
+	 */
+	@Override
+	public void endResults() {
+
+		CompletableFuture<S> resultFuture = getResultFuture();
+
+		try {
+			resultFuture.complete(finish());
+		}
+		catch (Throwable cause) {
+			resultFuture.completeExceptionally(cause);
+		}
+	}
+
+	/**
+	 * Resets the accumulated results.
+	 *
+	 * Apache Geode calls this method before retrying a highly available (HA) Function execution. If the Function
+	 * execution has already ended, then a new {@link #getResultFuture() result future} is created.
+	 */
+	@Override
+	public void clearResults() {
+
+		reset();
+		this.future.updateAndGet(resultFuture -> resultFuture.isDone() ? new CompletableFuture<>() : resultFuture);
+	}
+
+	private FunctionException newFunctionException(Throwable cause) {
+
+		return cause instanceof FunctionException
+			? (FunctionException) cause
+			: new FunctionException(cause);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * The {@link FluxResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * exposing the results sent by each member executing the Function as a Reactor {@link Flux} while
+ * the results arrive.
+ *
+ * The results are emitted to a unicast {@link Sinks.Many sink}, which buffers the results until the {@link Flux}
+ * is subscribed to. Therefore, the {@link Flux} can only be subscribed to once. {@literal null} results
+ * are not emitted since Reactive Streams do not permit {@literal null} values.
+ *
+ * Results that have been emitted cannot be recalled. Therefore, {@link #clearResults()} has no effect
+ * and this {@link ResultCollector} should not be used with highly available (HA) Functions, which Apache Geode
+ * may retry.
+ *
+ * Using this {@link ResultCollector} requires {@literal reactor-core} on the application classpath.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the results sent by each member executing the Function.
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Sinks
+ * @since 2.0.0
+ */
+public class FluxResultCollector<T> implements ResultCollector<T, Flux<T>> {
+
+	protected static final Duration DEFAULT_EMIT_FAILURE_DURATION = Duration.ofSeconds(5);
+
+	private final Sinks.EmitFailureHandler emitFailureHandler =
+		Sinks.EmitFailureHandler.busyLooping(DEFAULT_EMIT_FAILURE_DURATION);
+
+	private final Sinks.Many<T> results = Sinks.many().unicast().onBackpressureBuffer();
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void addResult(@Nullable DistributedMember memberId, @Nullable T resultOfSingleExecution) {
+
+		if (resultOfSingleExecution != null) {
+			this.results.emitNext(resultOfSingleExecution, this.emitFailureHandler);
+		}
+	}
+
+	/**
+	 * Returns a {@link Flux} of the results as the results arrive.
+	 *
+	 * @return a {@link Flux} of the results as the results arrive.
+	 * @see reactor.core.publisher.Flux
+	 */
+	@Override
+	public @NonNull Flux<T> getResult() throws FunctionException {
+		return this.results.asFlux();
+	}
+
+	/**
+	 * Returns a {@link Flux} of the results as the results arrive, waiting at most the given {@literal duration}
+	 * for all the results.
+	 *
+	 * The {@link Flux} signals a {@link FunctionException} if all the results were not received
+	 * in the time provided.
+	 *
+	 * @param duration {@link Long} value of the maximum time to wait for all the results.
+	 * @param unit {@link TimeUnit} of the {@literal duration}; defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @return a {@link Flux} of the results as the results arrive.
+	 * @see reactor.core.publisher.Flux
+	 */
+	@Override
+	public @NonNull Flux<T> getResult(long duration, @Nullable TimeUnit unit) throws FunctionException {
+
+		Duration timeout = Duration.ofNanos((unit != null ? unit : TimeUnit.MILLISECONDS).toNanos(duration));
+
+		Mono<Long> deadline = Mono.delay(timeout).cache();
+
+		return getResult()
+			.timeout(deadline, result -> deadline)
+			.onErrorMap(TimeoutException.class, cause ->
+				new FunctionException(CompletableResultCollector.RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE, cause));
+	}
+
+	/**
+	 * Completes the {@link Flux} of results.
+	 */
+	@Override
+	public void endResults() {
+		this.results.emitComplete(this.emitFailureHandler);
+	}
+
+	/**
+	 * Has no effect since results that have been emitted cannot be recalled.
+	 */
+	@Override
+	public void clearResults() { }
+
+}
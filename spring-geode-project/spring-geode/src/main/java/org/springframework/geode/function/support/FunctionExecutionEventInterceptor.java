@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+import org.springframework.geode.core.jfr.FunctionExecutionEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link FunctionExecutionEventInterceptor} class is a {@link MethodInterceptor} emitting
+ * a {@link FunctionExecutionEvent} Java Flight Recorder (JFR) event for each {@link Function} {@link Execution}
+ * performed by the delegate (SDG) {@link MethodInterceptor}.
+ *
+ * The {@link FunctionExecutionEventInterceptor} must directly decorate the SDG {@link MethodInterceptor} so that
+ * cached results are not recorded and asynchronous {@link Function} {@link Execution Executions} are timed on
+ * the {@link Thread} performing the {@link Function} {@link Execution}.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.core.jfr.FunctionExecutionEvent
+ * @since 2.0.0
+ */
+public class FunctionExecutionEventInterceptor implements MethodInterceptor {
+
+	private final Map<Method, String> functionIds = new ConcurrentHashMap<>();
+
+	private final MethodInterceptor delegate;
+
+	/**
+	 * Constructs a new {@link FunctionExecutionEventInterceptor} initialized with the delegate (SDG)
+	 * {@link MethodInterceptor} performing the {@link Function} {@link Execution}.
+	 *
+	 * @param delegate {@link MethodInterceptor} performing the {@link Function} {@link Execution};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the delegate {@link MethodInterceptor} is {@literal null}.
+	 */
+	public FunctionExecutionEventInterceptor(@NonNull MethodInterceptor delegate) {
+
+		Assert.notNull(delegate, "Delegate MethodInterceptor is required");
+
+		this.delegate = delegate;
+	}
+
+	protected @NonNull MethodInterceptor getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+		FunctionExecutionEvent functionExecutionEvent = new FunctionExecutionEvent();
+
+		boolean failed = true;
+
+		functionExecutionEvent.begin();
+
+		try {
+
+			Object result = getDelegate().invoke(invocation);
+
+			failed = false;
+
+			return result;
+		}
+		finally {
+
+			Method method = invocation.getMethod();
+
+			functionExecutionEvent.complete(this.functionIds.computeIfAbsent(method,
+				CachingFunctionExecutionInterceptor.CacheableMethod::resolveFunctionId), method, failed);
+		}
+	}
+}
@@ -0,0 +1,621 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.BaseStream;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link FunctionResultCache} class is a bounded, client-side cache of {@link Function} {@link Execution}
+ * results keyed by {@link Function#getId() Function ID}, arguments and filter.
+ *
+ * Entries expire after a configurable time-to-live (TTL) and the least recently used entries are evicted when
+ * the cache exceeds its maximum size. All entries for a given {@link Region} are invalidated by
+ * {@link #invalidate(String)}, which is typically called by a {@link FunctionResultCacheInvalidatingListener}
+ * on {@link Region} or CQ events.
+ *
+ * Cached results are read without locking. Concurrent requests for the same {@link Key} that miss the cache
+ * are collapsed into a single {@link Function} {@link Execution}; the other callers wait for and share its result,
+ * or its failure.
+ *
+ * A result computed while its {@link Region} is invalidated is returned but not cached. Results that can only
+ * be consumed once, such as a {@link java.util.stream.Stream}, {@link Iterator}, {@link CompletionStage}
+ * or Reactive Streams {@literal Publisher}, are never cached.
+ *
+ * Cached results are not copied. The same result instance is returned to every caller until it expires
+ * or is invalidated, so callers must not modify it. {@link Function Functions} returning mutable results,
+ * such as a {@link java.util.List} or {@link Map}, should return results that are not modified after
+ * they are returned, or callers should copy the result before modifying it.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.function.support.FunctionResultCacheInvalidatingListener
+ * @since 2.0.0
+ */
+public class FunctionResultCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+	private static final Class<?> PUBLISHER_TYPE = resolvePublisherType();
+
+	private static final Object NOT_CACHEABLE = new Object();
+
+	private static @Nullable Class<?> resolvePublisherType() {
+
+		ClassLoader classLoader = FunctionResultCache.class.getClassLoader();
+
+		return ClassUtils.isPresent("org.reactivestreams.Publisher", classLoader)
+			? ClassUtils.resolveClassName("org.reactivestreams.Publisher", classLoader)
+			: null;
+	}
+
+	/**
+	 * Factory method used to construct a new cache {@link Key}.
+	 *
+	 * @param regionPath {@link String} containing the {@link Region#getFullPath() path} of the {@link Region}
+	 * targeted by the {@link Function} {@link Execution}; may be {@literal null}.
+	 * @param functionId {@link String} containing the {@link Function#getId() ID} of the {@link Function};
+	 * must not be {@literal null} or empty.
+	 * @param arguments array of {@link Object arguments} passed to the {@link Function}.
+	 * @param filter {@link Collection} of keys used to filter the {@link Function} {@link Execution}.
+	 * @return a new cache {@link Key}.
+	 * @throws IllegalArgumentException if the {@link Function#getId() Function ID} is {@literal null} or empty.
+	 */
+	public static @NonNull Key newKey(@Nullable String regionPath, @NonNull String functionId,
+			@Nullable Object[] arguments, @Nullable Collection<?> filter) {
+
+		return new Key(regionPath, functionId, arguments, filter);
+	}
+
+	private final int maximumSize;
+
+	private final Duration timeToLive;
+
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	private final AtomicLong accessClock = new AtomicLong();
+	private final AtomicLong globalGeneration = new AtomicLong();
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicLong> regionGenerations = new ConcurrentHashMap<>();
+
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * Constructs a new {@link FunctionResultCache} with the {@link #DEFAULT_MAXIMUM_SIZE default maximum size}
+	 * and {@link #DEFAULT_TIME_TO_LIVE default time-to-live}.
+	 */
+	public FunctionResultCache() {
+		this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Constructs a new {@link FunctionResultCache} with the given maximum size and default time-to-live.
+	 *
+	 * @param maximumSize maximum number of cached results; must be greater than {@literal 0}.
+	 * @param timeToLive default {@link Duration} for which a cached result is valid; must be positive.
+	 * @throws IllegalArgumentException if the maximum size is less than {@literal 1} or the time-to-live
+	 * is {@literal null} or not positive.
+	 */
+	public FunctionResultCache(int maximumSize, @NonNull Duration timeToLive) {
+
+		Assert.isTrue(maximumSize > 0, () -> String.format("Maximum size [%d] must be greater than 0", maximumSize));
+		Assert.notNull(timeToLive, "Time-to-live is required");
+		Assert.isTrue(isPositive(timeToLive), () -> String.format("Time-to-live [%s] must be positive", timeToLive));
+
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+	}
+
+	private static boolean isPositive(@Nullable Duration duration) {
+		return duration != null && !duration.isNegative() && !duration.isZero();
+	}
+
+	/**
+	 * Returns the maximum number of cached results.
+	 *
+	 * @return the maximum number of cached results.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Returns the default {@link Duration} for which a cached result is valid.
+	 *
+	 * @return the default {@link Duration time-to-live}.
+	 */
+	public @NonNull Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Returns the {@link Statistics} of this cache.
+	 *
+	 * @return the {@link Statistics} of this cache.
+	 * @see Statistics
+	 */
+	public @NonNull Statistics getStatistics() {
+		return new Statistics(this.hitCount.sum(), this.missCount.sum(), this.evictionCount.sum(),
+			this.invalidationCount.sum(), size());
+	}
+
+	/**
+	 * Returns the cached result for the given {@link Key} if present and not expired, otherwise performs
+	 * the {@link Function} {@link Execution} and caches the result using the default time-to-live.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param key cache {@link Key}; must not be {@literal null}.
+	 * @param execution {@link Callable} performing the {@link Function} {@link Execution}; must not be {@literal null}.
+	 * @return the cached or computed result.
+	 * @throws Exception if the {@link Function} {@link Execution} fails.
+	 * @see #getOrExecute(Key, Duration, Callable)
+	 */
+	public @Nullable <T> T getOrExecute(@NonNull Key key, @NonNull Callable<T> execution) throws Exception {
+		return getOrExecute(key, getTimeToLive(), execution);
+	}
+
+	/**
+	 * Returns the cached result for the given {@link Key} if present and not expired, otherwise performs
+	 * the {@link Function} {@link Execution} and caches the result using the given time-to-live.
+	 *
+	 * If the {@link Function} {@link Execution} for the given {@link Key} is already in progress, then this method
+	 * waits for and returns its result, or throws its failure, rather than performing the {@link Execution} again.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param key cache {@link Key}; must not be {@literal null}.
+	 * @param timeToLive {@link Duration} for which the result is valid; defaults to {@link #getTimeToLive()}
+	 * if {@literal null} or not positive.
+	 * @param execution {@link Callable} performing the {@link Function} {@link Execution}; must not be {@literal null}.
+	 * @return the cached or computed result.
+	 * @throws Exception if the {@link Function} {@link Execution} fails.
+	 */
+	@SuppressWarnings("unchecked")
+	public @Nullable <T> T getOrExecute(@NonNull Key key, @Nullable Duration timeToLive,
+			@NonNull Callable<T> execution) throws Exception {
+
+		Assert.notNull(key, "Key is required");
+		Assert.notNull(execution, "Function Execution is required");
+
+		while (true) {
+
+			Entry entry = this.entries.get(key);
+
+			if (entry == null) {
+
+				Entry newEntry = new Entry(currentGeneration(key.getRegionPath()), nextAccessTime());
+
+				entry = this.entries.putIfAbsent(key, newEntry);
+
+				if (entry == null) {
+					this.missCount.increment();
+					return execute(key, newEntry, timeToLive, execution);
+				}
+			}
+
+			if (entry.isExpired(System.nanoTime())) {
+				if (this.entries.remove(key, entry)) {
+					this.evictionCount.increment();
+				}
+			}
+			else {
+
+				entry.setLastAccessTime(nextAccessTime());
+
+				Object result = entry.awaitValue();
+
+				if (result != NOT_CACHEABLE) {
+					this.hitCount.increment();
+					return (T) result;
+				}
+
+				this.missCount.increment();
+
+				return execution.call();
+			}
+		}
+	}
+
+	private @Nullable <T> T execute(@NonNull Key key, @NonNull Entry entry, @Nullable Duration timeToLive,
+			@NonNull Callable<T> execution) throws Exception {
+
+		T result;
+
+		boolean cacheable;
+
+		try {
+			result = execution.call();
+			cacheable = isCacheable(result);
+		}
+		catch (Throwable cause) {
+			this.entries.remove(key, entry);
+			entry.fail(cause);
+			throw cause;
+		}
+
+		if (cacheable) {
+
+			Duration resolvedTimeToLive = isPositive(timeToLive) ? timeToLive : getTimeToLive();
+
+			entry.complete(result, System.nanoTime() + resolvedTimeToLive.toNanos());
+
+			if (entry.getGeneration() == currentGeneration(key.getRegionPath())) {
+				evictLeastRecentlyUsedEntries();
+			}
+			else {
+				this.entries.remove(key, entry);
+			}
+		}
+		else {
+			this.entries.remove(key, entry);
+			entry.complete(NOT_CACHEABLE, System.nanoTime());
+		}
+
+		return result;
+	}
+
+	private long nextAccessTime() {
+		return this.accessClock.incrementAndGet();
+	}
+
+	private long currentGeneration(@Nullable String regionPath) {
+
+		long globalGeneration = this.globalGeneration.get();
+
+		return StringUtils.hasText(regionPath)
+			? globalGeneration + this.regionGenerations.computeIfAbsent(regionPath, path -> new AtomicLong()).get()
+			: globalGeneration;
+	}
+
+	/**
+	 * Determines whether the given {@link Object result} of a {@link Function} {@link Execution} can be cached.
+	 *
+	 * @param result {@link Object result} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Object result} can be cached.
+	 */
+	protected boolean isCacheable(@Nullable Object result) {
+
+		return !(result instanceof BaseStream
+			|| result instanceof CompletionStage
+			|| result instanceof Future
+			|| result instanceof Iterator
+			|| (PUBLISHER_TYPE != null && PUBLISHER_TYPE.isInstance(result)));
+	}
+
+	/**
+	 * Evicts the least recently used results until this cache no longer exceeds its maximum size.
+	 *
+	 * Only one thread evicts at a time. Finding the least recently used result scans the cache, which is
+	 * negligible compared to the cost of a {@link Function} {@link Execution} causing the eviction.
+	 */
+	private void evictLeastRecentlyUsedEntries() {
+
+		if (this.entries.size() > getMaximumSize() && this.evicting.compareAndSet(false, true)) {
+			try {
+				while (this.entries.size() > getMaximumSize()) {
+
+					Map.Entry<Key, Entry> leastRecentlyUsed = null;
+
+					for (Map.Entry<Key, Entry> mapEntry : this.entries.entrySet()) {
+
+						Entry entry = mapEntry.getValue();
+
+						if (entry.isDone() && (leastRecentlyUsed == null
+								|| entry.getLastAccessTime() < leastRecentlyUsed.getValue().getLastAccessTime())) {
+							leastRecentlyUsed = mapEntry;
+						}
+					}
+
+					if (leastRecentlyUsed == null) {
+						break;
+					}
+
+					if (this.entries.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue())) {
+						this.evictionCount.increment();
+					}
+				}
+			}
+			finally {
+				this.evicting.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Invalidates all cached results of {@link Function} {@link Execution Executions} targeting
+	 * the {@link Region} with the given {@link Region#getFullPath() path}.
+	 *
+	 * @param regionPath {@link String} containing the {@link Region#getFullPath() path} of the {@link Region}.
+	 */
+	public void invalidate(@Nullable String regionPath) {
+
+		if (StringUtils.hasText(regionPath)) {
+
+			this.regionGenerations.computeIfAbsent(regionPath, path -> new AtomicLong()).incrementAndGet();
+
+			this.entries.entrySet().removeIf(mapEntry -> {
+
+				boolean remove = regionPath.equals(mapEntry.getKey().getRegionPath());
+
+				if (remove && mapEntry.getValue().isDone()) {
+					this.invalidationCount.increment();
+				}
+
+				return remove;
+			});
+		}
+	}
+
+	/**
+	 * Invalidates all cached results.
+	 */
+	public void invalidateAll() {
+
+		this.globalGeneration.incrementAndGet();
+
+		this.entries.entrySet().removeIf(mapEntry -> {
+
+			if (mapEntry.getValue().isDone()) {
+				this.invalidationCount.increment();
+			}
+
+			return true;
+		});
+	}
+
+	/**
+	 * Returns the number of cached results, including expired results not yet evicted
+	 * and {@link Function} {@link Execution Executions} in progress.
+	 *
+	 * @return the number of cached results.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Key identifying the cached result of a {@link Function} {@link Execution}.
+	 *
+	 * The filter is compared irrespective of order.
+	 */
+	public static final class Key {
+
+		private final Object[] arguments;
+
+		private final Set<?> filter;
+
+		private final String functionId;
+		private final String regionPath;
+
+		private final int hashCode;
+
+		private Key(@Nullable String regionPath, @NonNull String functionId, @Nullable Object[] arguments,
+				@Nullable Collection<?> filter) {
+
+			Assert.hasText(functionId, "Function ID is required");
+
+			this.regionPath = regionPath;
+			this.functionId = functionId;
+			this.arguments = arguments != null ? arguments.clone() : new Object[0];
+			this.filter = filter != null ? new HashSet<>(filter) : Collections.emptySet();
+			this.hashCode = Objects.hash(this.regionPath, this.functionId, this.filter)
+				+ 31 * Arrays.deepHashCode(this.arguments);
+		}
+
+		public @NonNull Object[] getArguments() {
+			return this.arguments.clone();
+		}
+
+		public @NonNull Set<?> getFilter() {
+			return Collections.unmodifiableSet(this.filter);
+		}
+
+		public @NonNull String getFunctionId() {
+			return this.functionId;
+		}
+
+		public @Nullable String getRegionPath() {
+			return this.regionPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) obj;
+
+			return this.hashCode == that.hashCode
+				&& this.functionId.equals(that.functionId)
+				&& Objects.equals(this.regionPath, that.regionPath)
+				&& this.filter.equals(that.filter)
+				&& Arrays.deepEquals(this.arguments, that.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s[%2$s](%3$s) filter %4$s", this.functionId,
+				StringUtils.hasText(this.regionPath) ? this.regionPath : "",
+				Arrays.deepToString(this.arguments), this.filter);
+		}
+	}
+
+	private static final class Entry {
+
+		private final CompletableFuture<Object> value = new CompletableFuture<>();
+
+		private final long generation;
+
+		private volatile long expirationTime;
+		private volatile long lastAccessTime;
+
+		private Entry(long generation, long lastAccessTime) {
+			this.generation = generation;
+			this.lastAccessTime = lastAccessTime;
+		}
+
+		long getGeneration() {
+			return this.generation;
+		}
+
+		long getLastAccessTime() {
+			return this.lastAccessTime;
+		}
+
+		void setLastAccessTime(long lastAccessTime) {
+			this.lastAccessTime = lastAccessTime;
+		}
+
+		@Nullable Object awaitValue() throws Exception {
+
+			try {
+				return this.value.get();
+			}
+			catch (ExecutionException cause) {
+
+				Throwable failure = cause.getCause();
+
+				if (failure instanceof Error) {
+					throw (Error) failure;
+				}
+
+				throw failure instanceof Exception ? (Exception) failure : cause;
+			}
+		}
+
+		void complete(@Nullable Object value, long expirationTime) {
+			this.expirationTime = expirationTime;
+			this.value.complete(value);
+		}
+
+		void fail(@NonNull Throwable cause) {
+			this.value.completeExceptionally(cause);
+		}
+
+		boolean isDone() {
+			return this.value.isDone();
+		}
+
+		boolean isExpired(long now) {
+			return isDone() && now - this.expirationTime >= 0;
+		}
+	}
+
+	/**
+	 * Point-in-time snapshot of the hit, miss, eviction and invalidation counts of a {@link FunctionResultCache}.
+	 */
+	public static final class Statistics {
+
+		private final long evictionCount;
+		private final long hitCount;
+		private final long invalidationCount;
+		private final long missCount;
+
+		private final int size;
+
+		Statistics(long hitCount, long missCount, long evictionCount, long invalidationCount, int size) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.invalidationCount = invalidationCount;
+			this.size = size;
+		}
+
+		public long getEvictionCount() {
+			return this.evictionCount;
+		}
+
+		public long getHitCount() {
+			return this.hitCount;
+		}
+
+		public double getHitRatio() {
+
+			long requestCount = getRequestCount();
+
+			return requestCount > 0 ? (double) getHitCount() / requestCount : 0.0d;
+		}
+
+		public long getInvalidationCount() {
+			return this.invalidationCount;
+		}
+
+		public long getMissCount() {
+			return this.missCount;
+		}
+
+		public long getRequestCount() {
+			return getHitCount() + getMissCount();
+		}
+
+		public int getSize() {
+			return this.size;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ hits = %1$d, misses = %2$d, evictions = %3$d, invalidations = %4$d, size = %5$d }",
+				getHitCount(), getMissCount(), getEvictionCount(), getInvalidationCount(), getSize());
+		}
+	}
+}
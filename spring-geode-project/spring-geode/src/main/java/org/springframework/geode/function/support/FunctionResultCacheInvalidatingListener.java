@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheListener} and {@link CqListener} invalidating the cached {@link FunctionResultCache results}
+ * of {@link org.apache.geode.cache.execute.Function} executions targeting a {@link Region} when the data
+ * in the {@link Region} changes.
+ *
+ * On a client, the {@link CacheListener} only receives events for changes made on the server when the client
+ * {@link Region} has registered interest in the keys. Alternatively, register this listener with a CQ
+ * selecting the data on which the {@link org.apache.geode.cache.execute.Function} results depend.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.query.CqListener
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.geode.function.support.FunctionResultCache
+ * @since 2.0.0
+ */
+public class FunctionResultCacheInvalidatingListener<K, V> extends CacheListenerAdapter<K, V> implements CqListener {
+
+	private final FunctionResultCache functionResultCache;
+
+	private final String regionPath;
+
+	/**
+	 * Constructs a new {@link FunctionResultCacheInvalidatingListener} invalidating the cached results
+	 * of {@link org.apache.geode.cache.execute.Function} executions targeting the given {@link Region}.
+	 *
+	 * @param functionResultCache {@link FunctionResultCache} to invalidate; must not be {@literal null}.
+	 * @param region {@link Region} targeted by the {@link org.apache.geode.cache.execute.Function} executions;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link FunctionResultCache} or {@link Region} is {@literal null}.
+	 */
+	public FunctionResultCacheInvalidatingListener(@NonNull FunctionResultCache functionResultCache,
+			@NonNull Region<?, ?> region) {
+
+		this(functionResultCache, requireRegion(region).getFullPath());
+	}
+
+	/**
+	 * Constructs a new {@link FunctionResultCacheInvalidatingListener} invalidating the cached results
+	 * of {@link org.apache.geode.cache.execute.Function} executions targeting the {@link Region}
+	 * with the given {@link Region#getFullPath() path}.
+	 *
+	 * @param functionResultCache {@link FunctionResultCache} to invalidate; must not be {@literal null}.
+	 * @param regionPath {@link String} containing the {@link Region#getFullPath() path} of the {@link Region};
+	 * must not be {@literal null} or empty.
+	 * @throws IllegalArgumentException if the {@link FunctionResultCache} is {@literal null}
+	 * or the {@link Region#getFullPath() path} is {@literal null} or empty.
+	 */
+	public FunctionResultCacheInvalidatingListener(@NonNull FunctionResultCache functionResultCache,
+			@NonNull String regionPath) {
+
+		Assert.notNull(functionResultCache, "FunctionResultCache is required");
+		Assert.hasText(regionPath, "Region path is required");
+
+		this.functionResultCache = functionResultCache;
+		this.regionPath = regionPath;
+	}
+
+	private static @NonNull Region<?, ?> requireRegion(@Nullable Region<?, ?> region) {
+
+		Assert.notNull(region, "Region is required");
+
+		return region;
+	}
+
+	protected @NonNull FunctionResultCache getFunctionResultCache() {
+		return this.functionResultCache;
+	}
+
+	protected @NonNull String getRegionPath() {
+		return this.regionPath;
+	}
+
+	@Override
+	public void afterCreate(EntryEvent<K, V> event) {
+		invalidate();
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<K, V> event) {
+		invalidate();
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<K, V> event) {
+		invalidate();
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<K, V> event) {
+		invalidate();
+	}
+
+	@Override
+	public void afterRegionClear(RegionEvent<K, V> event) {
+		invalidate();
+	}
+
+	@Override
+	public void afterRegionDestroy(RegionEvent<K, V> event) {
+		invalidate();
+	}
+
+	@Override
+	public void afterRegionInvalidate(RegionEvent<K, V> event) {
+		invalidate();
+	}
+
+	@Override
+	public void onEvent(CqEvent event) {
+		invalidate();
+	}
+
+	@Override
+	public void onError(CqEvent event) {
+		invalidate();
+	}
+
+	@Override
+	public void close() { }
+
+	/**
+	 * Invalidates all cached results of {@link org.apache.geode.cache.execute.Function} executions targeting
+	 * the {@link Region}.
+	 *
+	 * @see FunctionResultCache#invalidate(String)
+	 */
+	protected void invalidate() {
+		getFunctionResultCache().invalidate(getRegionPath());
+	}
+}
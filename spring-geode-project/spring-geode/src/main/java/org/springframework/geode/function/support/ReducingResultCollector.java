@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ReducingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * that folds each result into an immutable {@literal accumulated value} as the results arrive, without
+ * buffering all the results.
+ *
+ * The {@literal accumulated value} is updated with a lock-free compare-and-set. Therefore, the accumulator
+ * {@link BiFunction} must not have side effects and must not modify the {@literal accumulated value}
+ * since the {@link BiFunction} may be applied more than once for the same result under contention.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the results sent by each member executing the Function.
+ * @param <S> {@link Class type} of the accumulated value.
+ * @see java.util.concurrent.atomic.AtomicReference
+ * @see java.util.function.BiFunction
+ * @see org.springframework.geode.function.support.CompletableResultCollector
+ * @since 2.0.0
+ */
+public class ReducingResultCollector<T, S> extends CompletableResultCollector<T, S> {
+
+	private final AtomicReference<S> accumulatedValue;
+
+	private final BiFunction<S, ? super T, S> accumulator;
+
+	private final S identity;
+
+	/**
+	 * Constructs a new {@link ReducingResultCollector} initialized with the given {@literal identity}
+	 * and {@link BiFunction accumulator}.
+	 *
+	 * @param identity initial {@literal accumulated value}.
+	 * @param accumulator {@link BiFunction} used to fold each result into the {@literal accumulated value};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link BiFunction accumulator} is {@literal null}.
+	 */
+	public ReducingResultCollector(@Nullable S identity, @NonNull BiFunction<S, ? super T, S> accumulator) {
+
+		Assert.notNull(accumulator, "Accumulator is required");
+
+		this.identity = identity;
+		this.accumulator = accumulator;
+		this.accumulatedValue = new AtomicReference<>(identity);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected void accumulate(@Nullable DistributedMember memberId, @Nullable T resultOfSingleExecution) {
+		this.accumulatedValue.updateAndGet(value -> this.accumulator.apply(value, resultOfSingleExecution));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected @Nullable S finish() {
+		return this.accumulatedValue.get();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected void reset() {
+		this.accumulatedValue.set(this.identity);
+	}
+}
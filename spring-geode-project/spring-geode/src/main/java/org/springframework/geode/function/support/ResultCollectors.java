@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ResultCollectors} class is an abstract utility class containing factory methods for lock-free,
+ * streaming and incrementally reducing {@link ResultCollector ResultCollectors}.
+ *
+ * None of the reducing {@link ResultCollector ResultCollectors} buffer all the results. Each result is folded into
+ * the final {@literal result} as the result arrives.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.geode.function.support.CompletableResultCollector
+ * @see org.springframework.geode.function.support.FluxResultCollector
+ * @see org.springframework.geode.function.support.ReducingResultCollector
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @since 2.0.0
+ */
+public abstract class ResultCollectors {
+
+	/**
+	 * Returns a new {@link ResultCollector} exposing the results as a {@link java.util.stream.Stream}
+	 * while the results arrive.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @return a new {@link StreamingResultCollector}.
+	 * @see org.springframework.geode.function.support.StreamingResultCollector
+	 */
+	public static @NonNull <T> StreamingResultCollector<T> streaming() {
+		return new StreamingResultCollector<>();
+	}
+
+	/**
+	 * Returns a new {@link ResultCollector} exposing the results as a Reactor {@link reactor.core.publisher.Flux}
+	 * while the results arrive.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @return a new {@link FluxResultCollector}.
+	 * @see org.springframework.geode.function.support.FluxResultCollector
+	 */
+	public static @NonNull <T> FluxResultCollector<T> flux() {
+		return new FluxResultCollector<>();
+	}
+
+	/**
+	 * Returns a new {@link ResultCollector} folding each result into an immutable {@literal accumulated value}.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param <S> {@link Class type} of the accumulated value.
+	 * @param identity initial {@literal accumulated value}.
+	 * @param accumulator side effect free {@link BiFunction} used to fold each result into
+	 * the {@literal accumulated value}; must not be {@literal null}.
+	 * @return a new {@link ReducingResultCollector}.
+	 * @see org.springframework.geode.function.support.ReducingResultCollector
+	 */
+	public static @NonNull <T, S> ReducingResultCollector<T, S> reducing(@Nullable S identity,
+			@NonNull BiFunction<S, ? super T, S> accumulator) {
+
+		return new ReducingResultCollector<>(identity, accumulator);
+	}
+
+	/**
+	 * Returns a new {@link ResultCollector} summing the {@link Long} values of the results.
+	 *
+	 * {@literal null} results are ignored.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param mapper {@link ToLongFunction} mapping each result to a {@link Long} value; must not be {@literal null}.
+	 * @return a new {@link ResultCollector} summing the {@link Long} values of the results.
+	 * @see java.util.concurrent.atomic.LongAdder
+	 */
+	public static @NonNull <T> CompletableResultCollector<T, Long> summingLong(
+			@NonNull ToLongFunction<? super T> mapper) {
+
+		Assert.notNull(mapper, "Mapper is required");
+
+		return new CompletableResultCollector<T, Long>() {
+
+			private final LongAdder sum = new LongAdder();
+
+			@Override
+			protected void accumulate(@Nullable DistributedMember memberId, @Nullable T resultOfSingleExecution) {
+
+				if (resultOfSingleExecution != null) {
+					this.sum.add(mapper.applyAsLong(resultOfSingleExecution));
+				}
+			}
+
+			@Override
+			protected Long finish() {
+				return this.sum.sum();
+			}
+
+			@Override
+			protected void reset() {
+				this.sum.reset();
+			}
+		};
+	}
+
+	/**
+	 * Returns a new {@link ResultCollector} summing the {@link Double} values of the results.
+	 *
+	 * {@literal null} results are ignored.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param mapper {@link ToDoubleFunction} mapping each result to a {@link Double} value;
+	 * must not be {@literal null}.
+	 * @return a new {@link ResultCollector} summing the {@link Double} values of the results.
+	 * @see java.util.concurrent.atomic.DoubleAdder
+	 */
+	public static @NonNull <T> CompletableResultCollector<T, Double> summingDouble(
+			@NonNull ToDoubleFunction<? super T> mapper) {
+
+		Assert.notNull(mapper, "Mapper is required");
+
+		return new CompletableResultCollector<T, Double>() {
+
+			private final DoubleAdder sum = new DoubleAdder();
+
+			@Override
+			protected void accumulate(@Nullable DistributedMember memberId, @Nullable T resultOfSingleExecution) {
+
+				if (resultOfSingleExecution != null) {
+					this.sum.add(mapper.applyAsDouble(resultOfSingleExecution));
+				}
+			}
+
+			@Override
+			protected Double finish() {
+				return this.sum.sum();
+			}
+
+			@Override
+			protected void reset() {
+				this.sum.reset();
+			}
+		};
+	}
+
+	/**
+	 * Returns a new {@link ResultCollector} retaining only the greatest {@literal n} results, in descending order,
+	 * as determined by the given {@link Comparator}.
+	 *
+	 * At most {@literal n} results are retained at any time. {@literal null} results are ignored.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param n number of results to retain; must be greater than {@literal 0}.
+	 * @param comparator {@link Comparator} used to order the results; must not be {@literal null}.
+	 * @return a new {@link ResultCollector} retaining the greatest {@literal n} results.
+	 * @see org.springframework.geode.function.support.ReducingResultCollector
+	 * @see java.util.Comparator
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, List<T>> top(int n,
+			@NonNull Comparator<? super T> comparator) {
+
+		Assert.isTrue(n > 0, () -> String.format("The number of results to retain [%d] must be greater than 0", n));
+		Assert.notNull(comparator, "Comparator is required");
+
+		return new ReducingResultCollector<>(Collections.emptyList(), (topResults, result) -> {
+
+			if (result == null) {
+				return topResults;
+			}
+
+			int size = topResults.size();
+
+			if (size == n && comparator.compare(result, topResults.get(size - 1)) <= 0) {
+				return topResults;
+			}
+
+			List<T> newTopResults = new ArrayList<>(Math.min(size + 1, n));
+
+			boolean added = false;
+
+			for (T topResult : topResults) {
+
+				if (!added && comparator.compare(result, topResult) > 0) {
+					newTopResults.add(result);
+					added = true;
+				}
+
+				if (newTopResults.size() < n) {
+					newTopResults.add(topResult);
+				}
+			}
+
+			if (!added && newTopResults.size() < n) {
+				newTopResults.add(result);
+			}
+
+			return Collections.unmodifiableList(newTopResults);
+		});
+	}
+
+	/**
+	 * Returns a new {@link ResultCollector} merging the {@link Map} results into a single {@link Map}.
+	 *
+	 * Values mapped to the same key by multiple results are combined with the given {@link BinaryOperator}.
+	 * {@literal null} results, keys and values are ignored.
+	 *
+	 * @param <K> {@link Class type} of the {@link Map} keys.
+	 * @param <V> {@link Class type} of the {@link Map} values.
+	 * @param mergeFunction {@link BinaryOperator} used to combine values mapped to the same key;
+	 * must not be {@literal null}.
+	 * @return a new {@link ResultCollector} merging the {@link Map} results.
+	 * @see java.util.concurrent.ConcurrentHashMap#merge(Object, Object, BiFunction)
+	 */
+	public static @NonNull <K, V> CompletableResultCollector<Map<K, V>, Map<K, V>> mergingMaps(
+			@NonNull BinaryOperator<V> mergeFunction) {
+
+		Assert.notNull(mergeFunction, "Merge function is required");
+
+		return new CompletableResultCollector<Map<K, V>, Map<K, V>>() {
+
+			private final ConcurrentMap<K, V> map = new ConcurrentHashMap<>();
+
+			@Override
+			protected void accumulate(@Nullable DistributedMember memberId,
+					@Nullable Map<K, V> resultOfSingleExecution) {
+
+				if (resultOfSingleExecution != null) {
+					resultOfSingleExecution.forEach((key, value) -> {
+						if (key != null && value != null) {
+							this.map.merge(key, value, mergeFunction);
+						}
+					});
+				}
+			}
+
+			@Override
+			protected Map<K, V> finish() {
+				return new HashMap<>(this.map);
+			}
+
+			@Override
+			protected void reset() {
+				this.map.clear();
+			}
+		};
+	}
+}
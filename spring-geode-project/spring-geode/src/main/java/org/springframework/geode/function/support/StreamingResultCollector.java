@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link StreamingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * exposing the results sent by each member executing the Function as a {@link Stream} while the results arrive.
+ *
+ * The {@link Stream} returned from {@link #getResult()} is returned immediately and blocks only while waiting
+ * for the next result. The {@link Stream} ends when {@link #endResults()} is called. Results are handed off
+ * from the Apache Geode {@link Thread Threads} to the consuming {@link Thread} through a lock-free queue
+ * and each result is delivered exactly once, so the results should be consumed by a single {@link Stream}.
+ *
+ * Results that have been streamed cannot be recalled. Therefore, {@link #clearResults()} has no effect
+ * and this {@link ResultCollector} should not be used with highly available (HA) Functions, which Apache Geode
+ * may retry.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the results sent by each member executing the Function.
+ * @see java.util.concurrent.LinkedTransferQueue
+ * @see java.util.stream.Stream
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @since 2.0.0
+ */
+public class StreamingResultCollector<T> implements ResultCollector<T, Stream<T>> {
+
+	protected static final String RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE =
+		CompletableResultCollector.RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE;
+
+	private static final Object END_OF_RESULTS = new Object();
+
+	private static final Object NULL_RESULT = new Object();
+
+	private static final class ErrorMarker {
+
+		private final Throwable cause;
+
+		private ErrorMarker(@NonNull Throwable cause) {
+			this.cause = cause;
+		}
+	}
+
+	private final BlockingQueue<Object> results = new LinkedTransferQueue<>();
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void addResult(@Nullable DistributedMember memberId, @Nullable T resultOfSingleExecution) {
+		this.results.add(resultOfSingleExecution != null ? resultOfSingleExecution : NULL_RESULT);
+	}
+
+	/**
+	 * Returns a {@link Stream} of the results as the results arrive, waiting indefinitely for each result.
+	 *
+	 * @return a {@link Stream} of the results as the results arrive.
+	 * @see java.util.stream.Stream
+	 */
+	@Override
+	public @NonNull Stream<T> getResult() throws FunctionException {
+		return newStream(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Returns a {@link Stream} of the results as the results arrive, waiting at most the given {@literal duration}
+	 * for all the results.
+	 *
+	 * The {@link Stream} throws a {@link FunctionException} when consumed if all the results were not received
+	 * in the time provided.
+	 *
+	 * @param duration {@link Long} value of the maximum time to wait for all the results.
+	 * @param unit {@link TimeUnit} of the {@literal duration}; defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @return a {@link Stream} of the results as the results arrive.
+	 * @see java.util.stream.Stream
+	 */
+	@Override
+	public @NonNull Stream<T> getResult(long duration, @Nullable TimeUnit unit) throws FunctionException {
+
+		long timeoutInNanoseconds = (unit != null ? unit : TimeUnit.MILLISECONDS).toNanos(duration);
+
+		return newStream(System.nanoTime() + Math.max(timeoutInNanoseconds, 0L));
+	}
+
+	private @NonNull Stream<T> newStream(long deadline) {
+
+		Spliterator<T> spliterator =
+			new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public boolean tryAdvance(Consumer<? super T> action) {
+
+					Object result = next(deadline);
+
+					if (result == END_OF_RESULTS) {
+						// Put the end marker back so that other Streams also end.
+						results.add(END_OF_RESULTS);
+						return false;
+					}
+
+					if (result instanceof ErrorMarker) {
+						results.add(result);
+						throw newFunctionException(((ErrorMarker) result).cause);
+					}
+
+					action.accept(result != NULL_RESULT ? (T) result : null);
+
+					return true;
+				}
+			};
+
+		return StreamSupport.stream(spliterator, false);
+	}
+
+	private @NonNull Object next(long deadline) {
+
+		try {
+
+			Object result = deadline == Long.MAX_VALUE
+				? this.results.take()
+				: this.results.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+			if (result == null) {
+				throw new FunctionException(RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE);
+			}
+
+			return result;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException(cause);
+		}
+	}
+
+	/**
+	 * Ends the {@link Stream} of results.
+	 */
+	@Override
+	public void endResults() {
+		this.results.add(END_OF_RESULTS);
+	}
+
+	/**
+	 * Ends the {@link Stream} of results with an error. The {@link Stream} throws a {@link FunctionException}
+	 * caused by the given {@link Throwable} when consumed after all the results received before the error.
+	 *
+	 * @param cause {@link Throwable} causing the results to end; must not be {@literal null}.
+	 */
+	public void endResults(@NonNull Throwable cause) {
+		this.results.add(new ErrorMarker(cause));
+	}
+
+	private static @NonNull FunctionException newFunctionException(@NonNull Throwable cause) {
+		return cause instanceof FunctionException ? (FunctionException) cause : new FunctionException(cause);
+	}
+
+	/**
+	 * Has no effect since results that have been streamed cannot be recalled.
+	 */
+	@Override
+	public void clearResults() { }
+
+}
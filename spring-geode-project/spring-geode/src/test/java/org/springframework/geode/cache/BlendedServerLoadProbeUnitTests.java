@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerMetrics;
+
+/**
+ * Unit Tests for {@link BlendedServerLoadProbe}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.server.ServerLoad
+ * @see org.apache.geode.cache.server.ServerMetrics
+ * @see org.springframework.geode.cache.BlendedServerLoadProbe
+ * @since 2.0.0
+ */
+public class BlendedServerLoadProbeUnitTests {
+
+	private ServerMetrics mockServerMetrics(int connectionCount, int maxConnections, int subscriptionConnectionCount) {
+
+		ServerMetrics mockServerMetrics = mock(ServerMetrics.class);
+
+		when(mockServerMetrics.getConnectionCount()).thenReturn(connectionCount);
+		when(mockServerMetrics.getMaxConnections()).thenReturn(maxConnections);
+		when(mockServerMetrics.getSubscriptionConnectionCount()).thenReturn(subscriptionConnectionCount);
+
+		return mockServerMetrics;
+	}
+
+	private BlendedServerLoadProbe newServerLoadProbe(float connectionWeight, float cpuWeight, float heapWeight,
+			float queueWeight, float cpuLoad, float heapLoad, float queueLoad) {
+
+		return new BlendedServerLoadProbe(connectionWeight, cpuWeight, heapWeight, queueWeight, 100) {
+
+			@Override
+			protected float resolveCpuLoad() {
+				return cpuLoad;
+			}
+
+			@Override
+			protected float resolveHeapLoad() {
+				return heapLoad;
+			}
+
+			@Override
+			protected float resolveQueueLoad() {
+				return queueLoad;
+			}
+		};
+	}
+
+	@Test
+	public void getLoadBlendsSignalsUsingWeights() {
+
+		BlendedServerLoadProbe serverLoadProbe =
+			newServerLoadProbe(1.0f, 1.0f, 1.0f, 1.0f, 0.5f, 0.8f, 0.0f);
+
+		ServerLoad load = serverLoadProbe.getLoad(mockServerMetrics(20, 100, 3));
+
+		assertThat(load.getConnectionLoad()).isCloseTo((0.2f + 0.5f + 0.8f + 0.0f) / 4.0f, within(0.0001f));
+		assertThat(load.getLoadPerConnection()).isCloseTo(0.25f / 100.0f, within(0.0001f));
+		assertThat(load.getSubscriptionConnectionLoad()).isEqualTo(3.0f);
+		assertThat(load.getLoadPerSubscriptionConnection()).isEqualTo(1.0f);
+	}
+
+	@Test
+	public void getLoadWithOnlyConnectionWeightMatchesConnectionLoad() {
+
+		BlendedServerLoadProbe serverLoadProbe =
+			newServerLoadProbe(1.0f, 0.0f, 0.0f, 0.0f, 1.0f, 1.0f, 1.0f);
+
+		ServerLoad load = serverLoadProbe.getLoad(mockServerMetrics(40, 800, 0));
+
+		assertThat(load.getConnectionLoad()).isCloseTo(0.05f, within(0.0001f));
+		assertThat(load.getLoadPerConnection()).isCloseTo(1.0f / 800.0f, within(0.0001f));
+	}
+
+	@Test
+	public void getLoadWithoutConnectionWeightStillAccountsForNewConnections() {
+
+		BlendedServerLoadProbe serverLoadProbe =
+			newServerLoadProbe(0.0f, 1.0f, 0.0f, 0.0f, 0.3f, 0.0f, 0.0f);
+
+		ServerLoad load = serverLoadProbe.getLoad(mockServerMetrics(10, 100, 0));
+
+		assertThat(load.getConnectionLoad()).isCloseTo(0.3f, within(0.0001f));
+		assertThat(load.getLoadPerConnection()).isCloseTo(0.01f, within(0.0001f));
+	}
+
+	@Test
+	public void getLoadClampsSignals() {
+
+		BlendedServerLoadProbe serverLoadProbe =
+			newServerLoadProbe(1.0f, 1.0f, 1.0f, 1.0f, Float.NaN, -1.0f, 5.0f);
+
+		ServerLoad load = serverLoadProbe.getLoad(mockServerMetrics(200, 100, 0));
+
+		assertThat(load.getConnectionLoad()).isCloseTo(0.5f, within(0.0001f));
+	}
+
+	@Test
+	public void resolvesSignalsFromRunningJvm() {
+
+		BlendedServerLoadProbe serverLoadProbe = new BlendedServerLoadProbe();
+
+		assertThat(serverLoadProbe.resolveCpuLoad()).isGreaterThanOrEqualTo(0.0f);
+		assertThat(serverLoadProbe.resolveHeapLoad()).isBetween(0.0f, 1.0f);
+		assertThat(serverLoadProbe.resolveQueueLoad()).isGreaterThanOrEqualTo(0.0f);
+	}
+
+	@Test
+	public void constructWithNegativeWeightThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new BlendedServerLoadProbe(1.0f, -1.0f, 1.0f, 1.0f, 100))
+			.withMessage("CPU weight [-1.0] must be greater than or equal to 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void constructWithAllZeroWeightsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new BlendedServerLoadProbe(0.0f, 0.0f, 0.0f, 0.0f, 100))
+			.withMessage("At least one weight must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void constructWithNonPositiveQueueSizeThresholdThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new BlendedServerLoadProbe(1.0f, 1.0f, 1.0f, 1.0f, 0))
+			.withMessage("Queue size threshold [0] must be greater than 0")
+			.withNoCause();
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheWriterException;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventOperationRepositoryFunction;
+import org.springframework.geode.core.jfr.RepositoryAsyncEventBatchEvent;
+import org.springframework.geode.core.jfr.RepositoryCacheLoadEvent;
+import org.springframework.geode.core.jfr.RepositoryCacheWriteEvent;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit Tests asserting the Java Flight Recorder (JFR) events recorded by {@link RepositoryCacheLoader},
+ * {@link RepositoryCacheWriter} and {@link RepositoryAsyncEventListener}.
+ *
+ * @author John Blum
+ * @see jdk.jfr.Recording
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+ * @see org.springframework.geode.cache.RepositoryCacheLoader
+ * @see org.springframework.geode.cache.RepositoryCacheWriter
+ * @since 2.0.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class RepositoryCacheEventRecordingUnitTests {
+
+	private static final String REPOSITORY_ASYNC_EVENT_BATCH_EVENT_NAME =
+		"org.springframework.geode.RepositoryAsyncEventBatch";
+
+	private static final String REPOSITORY_CACHE_LOAD_EVENT_NAME = "org.springframework.geode.RepositoryCacheLoad";
+
+	private static final String REPOSITORY_CACHE_WRITE_EVENT_NAME = "org.springframework.geode.RepositoryCacheWrite";
+
+	private CrudRepository mockRepository;
+
+	private Region mockRegion;
+
+	@Before
+	public void setup() {
+
+		this.mockRepository = mock(CrudRepository.class);
+		this.mockRegion = mock(Region.class);
+
+		doReturn("/Customers").when(this.mockRegion).getFullPath();
+	}
+
+	private List<RecordedEvent> record(Class<? extends Event> eventType, String eventName, Runnable runnable)
+			throws Exception {
+
+		Path recordingFile = Files.createTempFile("repository-cache-events", ".jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable(eventType).withoutThreshold();
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(recordingFile);
+
+			return RecordingFile.readAllEvents(recordingFile).stream()
+				.filter(event -> eventName.equals(event.getEventType().getName()))
+				.collect(Collectors.toList());
+		}
+		finally {
+			Files.deleteIfExists(recordingFile);
+		}
+	}
+
+	private LoaderHelper mockLoaderHelper(Object key) {
+
+		LoaderHelper mockLoaderHelper = mock(LoaderHelper.class);
+
+		doReturn(key).when(mockLoaderHelper).getKey();
+		doReturn(this.mockRegion).when(mockLoaderHelper).getRegion();
+
+		return mockLoaderHelper;
+	}
+
+	private EntryEvent mockEntryEvent(Object key, Object value) {
+
+		EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn(key).when(mockEntryEvent).getKey();
+		doReturn(value).when(mockEntryEvent).getNewValue();
+		doReturn(this.mockRegion).when(mockEntryEvent).getRegion();
+
+		return mockEntryEvent;
+	}
+
+	@Test
+	public void loadRecordsRepositoryCacheLoadEvent() throws Exception {
+
+		doReturn(Optional.of("Jon Doe")).when(this.mockRepository).findById(eq(1));
+		doReturn(Optional.empty()).when(this.mockRepository).findById(eq(2));
+
+		RepositoryCacheLoader cacheLoader = new RepositoryCacheLoader<>(this.mockRepository);
+
+		List<RecordedEvent> events = record(RepositoryCacheLoadEvent.class, REPOSITORY_CACHE_LOAD_EVENT_NAME, () -> {
+			assertThat(cacheLoader.load(mockLoaderHelper(1))).isEqualTo("Jon Doe");
+			assertThat(cacheLoader.load(mockLoaderHelper(2))).isNull();
+		});
+
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getString("region")).isEqualTo("/Customers");
+		assertThat(events.get(0).getString("key")).isEqualTo("1");
+		assertThat(events.get(0).getString("repository")).isNotBlank();
+		assertThat(events.get(0).getBoolean("found")).isTrue();
+		assertThat(events.get(1).getString("key")).isEqualTo("2");
+		assertThat(events.get(1).getBoolean("found")).isFalse();
+	}
+
+	@Test
+	public void loadRecordsRepositoryCacheLoadEventOnFailure() throws Exception {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockRepository).findById(any());
+
+		RepositoryCacheLoader cacheLoader = new RepositoryCacheLoader<>(this.mockRepository);
+
+		List<RecordedEvent> events = record(RepositoryCacheLoadEvent.class, REPOSITORY_CACHE_LOAD_EVENT_NAME, () ->
+			assertThatExceptionOfType(RuntimeException.class)
+				.isThrownBy(() -> cacheLoader.load(mockLoaderHelper(1))));
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("key")).isEqualTo("1");
+		assertThat(events.get(0).getBoolean("found")).isFalse();
+	}
+
+	@Test
+	public void writeRecordsRepositoryCacheWriteEventForEachOperation() throws Exception {
+
+		RepositoryCacheWriter cacheWriter = new RepositoryCacheWriter<>(this.mockRepository);
+
+		List<RecordedEvent> events = record(RepositoryCacheWriteEvent.class, REPOSITORY_CACHE_WRITE_EVENT_NAME, () -> {
+			cacheWriter.beforeCreate(mockEntryEvent(1, "Jon Doe"));
+			cacheWriter.beforeUpdate(mockEntryEvent(1, "Jane Doe"));
+			cacheWriter.beforeDestroy(mockEntryEvent(1, null));
+		});
+
+		assertThat(events).hasSize(3);
+		assertThat(events.stream().map(event -> event.getString("operation")))
+			.containsExactly("create", "update", "destroy");
+		assertThat(events).allSatisfy(event -> {
+			assertThat(event.getString("region")).isEqualTo("/Customers");
+			assertThat(event.getString("repository")).isNotBlank();
+		});
+	}
+
+	@Test
+	public void writeRecordsRepositoryCacheWriteEventOnFailure() throws Exception {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockRepository).save(any());
+
+		RepositoryCacheWriter cacheWriter = new RepositoryCacheWriter<>(this.mockRepository);
+
+		List<RecordedEvent> events = record(RepositoryCacheWriteEvent.class, REPOSITORY_CACHE_WRITE_EVENT_NAME, () ->
+			assertThatExceptionOfType(CacheWriterException.class)
+				.isThrownBy(() -> cacheWriter.beforeCreate(mockEntryEvent(1, "Jon Doe"))));
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("operation")).isEqualTo("create");
+	}
+
+	@Test
+	public void processEventsRecordsRepositoryAsyncEventBatchEvent() throws Exception {
+
+		AsyncEvent mockEventOne = mock(AsyncEvent.class, "AsyncEventOne");
+		AsyncEvent mockEventTwo = mock(AsyncEvent.class, "AsyncEventTwo");
+
+		AsyncEventOperationRepositoryFunction mockRepositoryFunction =
+			mock(AsyncEventOperationRepositoryFunction.class);
+
+		doReturn(true).when(mockRepositoryFunction).canProcess(any());
+		doReturn(true).when(mockRepositoryFunction).apply(eq(mockEventOne));
+		doReturn(false).when(mockRepositoryFunction).apply(eq(mockEventTwo));
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(this.mockRepository);
+
+		listener.register(mockRepositoryFunction);
+
+		List<RecordedEvent> events =
+			record(RepositoryAsyncEventBatchEvent.class, REPOSITORY_ASYNC_EVENT_BATCH_EVENT_NAME, () -> {
+				assertThat(listener.processEvents(Arrays.asList(mockEventOne))).isTrue();
+				assertThat(listener.processEvents(Arrays.asList(mockEventOne, mockEventTwo))).isFalse();
+			});
+
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getInt("batchSize")).isEqualTo(1);
+		assertThat(events.get(0).getBoolean("processed")).isTrue();
+		assertThat(events.get(0).getString("repository")).isNotBlank();
+		assertThat(events.get(1).getInt("batchSize")).isEqualTo(2);
+		assertThat(events.get(1).getBoolean("processed")).isFalse();
+	}
+}
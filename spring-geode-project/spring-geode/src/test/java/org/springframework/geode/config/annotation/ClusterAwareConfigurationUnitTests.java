@@ -53,6 +53,7 @@ import org.mockito.InOrder;
 import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.client.SocketFactory;
 
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ConditionContext;
@@ -60,6 +61,8 @@ import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.gemfire.support.ConnectionEndpoint;
 import org.springframework.data.gemfire.support.ConnectionEndpointList;
 import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
@@ -151,6 +154,29 @@ public class ClusterAwareConfigurationUnitTests extends IntegrationTestsSupport
 		verifyNoInteractions(mockConditionContext);
 	}
 
+	@Test
+	public void matchesDuringAotProcessingWillNotCallDoCachedMatch() {
+
+		ConditionContext mockConditionContext = mock(ConditionContext.class);
+
+		doReturn(false).when(this.condition).isMatch(eq(mockConditionContext));
+		doReturn(true).when(this.condition).isAotProcessing();
+		doReturn(false).when(this.condition).isStrictMatch(eq(mockConditionContext), any());
+
+		assertThat(this.condition.matches(mockConditionContext, null)).isFalse();
+
+		InOrder order = inOrder(this.condition);
+
+		order.verify(this.condition, times(1)).isMatch(eq(mockConditionContext));
+		order.verify(this.condition, times(1)).isAotProcessing();
+		order.verify(this.condition, never()).doCachedMatch(any());
+		order.verify(this.condition, times(1)).isStrictMatch(eq(mockConditionContext), any());
+
+		assertThat(ClusterAwareConfiguration.ClusterAwareCondition.wasClusterAvailabilityEvaluated()).isFalse();
+
+		verifyNoInteractions(mockConditionContext);
+	}
+
 	@Test
 	public void isMatchQueriesEnvironmentReturnsTrue() {
 
@@ -233,6 +259,7 @@ public class ClusterAwareConfigurationUnitTests extends IntegrationTestsSupport
 		InOrder order = inOrder(this.condition, mockConditionContext, mockConnectionEndpointList, mockEnvironment);
 
 		order.verify(this.condition, times(1)).doMatch(eq(mockConditionContext));
+		order.verify(mockConditionContext, times(1)).getBeanFactory();
 		order.verify(mockConditionContext, times(1)).getEnvironment();
 		order.verify(this.condition, times(1)).getConnectionEndpoints(eq(mockEnvironment));
 		order.verify(this.condition, times(1)).countConnections(eq(mockConnectionEndpointList));
@@ -247,6 +274,35 @@ public class ClusterAwareConfigurationUnitTests extends IntegrationTestsSupport
 		verifyNoInteractions(mockConnectionEndpointList, mockEnvironment);
 	}
 
+	@Test
+	public void doMatchRecordsStartupStep() {
+
+		ApplicationStartup mockApplicationStartup = mock(ApplicationStartup.class);
+
+		ConditionContext mockConditionContext = mock(ConditionContext.class);
+
+		ConfigurableListableBeanFactory mockBeanFactory = mock(ConfigurableListableBeanFactory.class);
+
+		ConnectionEndpointList mockConnectionEndpointList = mock(ConnectionEndpointList.class);
+
+		StartupStep mockStartupStep = mock(StartupStep.class);
+
+		doReturn(mockBeanFactory).when(mockConditionContext).getBeanFactory();
+		doReturn(mockApplicationStartup).when(mockBeanFactory).getApplicationStartup();
+		doReturn(mockStartupStep).when(mockApplicationStartup).start(anyString());
+		doReturn(mockStartupStep).when(mockStartupStep).tag(anyString(), anyString());
+		doReturn(mockConnectionEndpointList).when(this.condition).getConnectionEndpoints(any());
+		doReturn(1).when(this.condition).countConnections(eq(mockConnectionEndpointList));
+
+		assertThat(this.condition.doMatch(mockConditionContext)).isTrue();
+
+		verify(mockApplicationStartup, times(1)).start(eq("spring.boot.data.gemfire."
+			+ ClusterAwareConfiguration.CLUSTER_CONDITION_STARTUP_STEP_NAME));
+		verify(mockStartupStep, times(1)).tag(eq("connectionCount"), eq("1"));
+		verify(mockStartupStep, times(1)).tag(eq("match"), eq("true"));
+		verify(mockStartupStep, times(1)).end();
+	}
+
 	@Test
 	public void isMatchReturnsTrue() {
 		assertThat(this.condition.isMatch(null, 1)).isTrue();
@@ -462,7 +518,67 @@ public class ClusterAwareConfigurationUnitTests extends IntegrationTestsSupport
 
 		}).when(this.condition).connect(any(ConnectionEndpoint.class));
 
-		assertThat(this.condition.countConnections(list)).isEqualTo(2);
+		assertThat(this.condition.countConnections(list, false)).isEqualTo(2);
+	}
+
+	@Test
+	public void countConnectionsShortCircuitsOnFirstConnection() throws Exception {
+
+		ConnectionEndpointList list = new ConnectionEndpointList(
+			new ConnectionEndpoint("blackhole", 1234),
+			new ConnectionEndpoint("mailbox", 9012),
+			new ConnectionEndpoint("pobox", 40404)
+		);
+
+		doReturn(mock(Logger.class)).when(this.condition).getLogger();
+
+		doAnswer(invocation -> {
+
+			ConnectionEndpoint connectionEndpoint = invocation.getArgument(0);
+
+			if ("blackhole".equals(connectionEndpoint.getHost())) {
+				Thread.sleep(5000L);
+			}
+
+			Socket mockSocket = mock(Socket.class);
+			doReturn(true).when(mockSocket).isConnected();
+			return mockSocket;
+
+		}).when(this.condition).connect(any(ConnectionEndpoint.class));
+
+		long startTime = System.currentTimeMillis();
+
+		assertThat(this.condition.countConnections(list)).isOne();
+		assertThat(System.currentTimeMillis() - startTime).isLessThan(2000L);
+	}
+
+	@Test
+	public void countConnectionsProbesConnectionEndpointsConcurrently() throws Exception {
+
+		ConnectionEndpointList list = new ConnectionEndpointList(
+			new ConnectionEndpoint("blackhole", 1234),
+			new ConnectionEndpoint("deadend", 5678),
+			new ConnectionEndpoint("nowhere", 9012),
+			new ConnectionEndpoint("void", 40404)
+		);
+
+		doReturn(mock(Logger.class)).when(this.condition).getLogger();
+
+		doAnswer(invocation -> {
+			Thread.sleep(ClusterAwareConfiguration.DEFAULT_TIMEOUT_IN_MILLISECONDS);
+			throw new IOException("TEST");
+		}).when(this.condition).connect(any(ConnectionEndpoint.class));
+
+		long startTime = System.currentTimeMillis();
+
+		assertThat(this.condition.countConnections(list)).isZero();
+		assertThat(System.currentTimeMillis() - startTime)
+			.isLessThan(ClusterAwareConfiguration.DEFAULT_PROBE_TIMEOUT_IN_MILLISECONDS + 500L);
+	}
+
+	@Test
+	public void countConnectionsWithNoConnectionEndpointsIsZero() {
+		assertThat(this.condition.countConnections(new ConnectionEndpointList())).isZero();
 	}
 
 	@Test
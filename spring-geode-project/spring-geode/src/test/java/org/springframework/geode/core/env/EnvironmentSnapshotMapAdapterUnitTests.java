@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.env;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.springframework.core.env.AbstractEnvironment;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.data.gemfire.tests.support.MapBuilder;
+
+/**
+ * Unit Tests for {@link EnvironmentSnapshotMapAdapter}.
+ *
+ * @author John Blum
+ * @see java.util.Map
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.core.env.ConfigurableEnvironment
+ * @see org.springframework.core.env.AbstractEnvironment
+ * @see org.springframework.geode.core.env.EnvironmentSnapshotMapAdapter
+ * @since 2.0.0
+ */
+public class EnvironmentSnapshotMapAdapterUnitTests {
+
+	private ConfigurableEnvironment newEnvironment(Map<String, Object> properties) {
+
+		ConfigurableEnvironment environment = new AbstractEnvironment() { };
+
+		environment.getPropertySources().addFirst(new MapPropertySource("TestProperties", properties));
+
+		return environment;
+	}
+
+	@Test
+	public void fromEnvironmentWithPrefixIncludesOnlyPrefixedProperties() {
+
+		ConfigurableEnvironment environment = newEnvironment(MapBuilder.<String, Object>newMapBuilder()
+			.put("gemfire.name", "TestMember")
+			.put("gemfire.groups", "TestGroup")
+			.put("spring.application.name", "TestApp")
+			.build());
+
+		EnvironmentSnapshotMapAdapter snapshot = EnvironmentSnapshotMapAdapter.from(environment, "gemfire.");
+
+		assertThat(snapshot).isNotNull();
+		assertThat(snapshot.getEnvironment()).isSameAs(environment);
+		assertThat(snapshot.getPrefix()).isEqualTo("gemfire.");
+		assertThat(snapshot).hasSize(2);
+		assertThat(snapshot).containsEntry("gemfire.name", "TestMember");
+		assertThat(snapshot).containsEntry("gemfire.groups", "TestGroup");
+		assertThat(snapshot.containsKey("spring.application.name")).isFalse();
+		assertThat(snapshot.containsKey(null)).isFalse();
+		assertThat(snapshot.get(null)).isNull();
+	}
+
+	@Test
+	public void fromEnvironmentWithNullPrefixIncludesAllProperties() {
+
+		ConfigurableEnvironment environment = newEnvironment(MapBuilder.<String, Object>newMapBuilder()
+			.put("gemfire.name", "TestMember")
+			.put("spring.application.name", "TestApp")
+			.build());
+
+		EnvironmentSnapshotMapAdapter snapshot = EnvironmentSnapshotMapAdapter.from(environment, null);
+
+		assertThat(snapshot.getPrefix()).isEmpty();
+		assertThat(snapshot).hasSize(2);
+		assertThat(snapshot).containsKeys("gemfire.name", "spring.application.name");
+	}
+
+	@Test
+	public void snapshotResolvesPlaceholdersAndHonorsPropertySourcePrecedence() {
+
+		ConfigurableEnvironment environment = newEnvironment(MapBuilder.<String, Object>newMapBuilder()
+			.put("gemfire.name", "${test.member.name}")
+			.put("test.member.name", "PlaceholderMember")
+			.build());
+
+		environment.getPropertySources().addLast(new MapPropertySource("LowerPrecedenceProperties",
+			MapBuilder.<String, Object>newMapBuilder()
+				.put("gemfire.name", "OverriddenMember")
+				.put("gemfire.locators", "localhost[10334]")
+				.build()));
+
+		EnvironmentSnapshotMapAdapter snapshot = EnvironmentSnapshotMapAdapter.from(environment, "gemfire.");
+
+		assertThat(snapshot).hasSize(2);
+		assertThat(snapshot).containsEntry("gemfire.name", "PlaceholderMember");
+		assertThat(snapshot).containsEntry("gemfire.locators", "localhost[10334]");
+	}
+
+	@Test
+	public void snapshotResolvesPropertyValuesOnlyOnce() {
+
+		ConfigurableEnvironment environment = spy(newEnvironment(MapBuilder.<String, Object>newMapBuilder()
+			.put("gemfire.name", "TestMember")
+			.build()));
+
+		EnvironmentSnapshotMapAdapter snapshot = EnvironmentSnapshotMapAdapter.from(environment, "gemfire.");
+
+		for (int count = 0; count < 3; count++) {
+			assertThat(snapshot.get("gemfire.name")).isEqualTo("TestMember");
+			assertThat(snapshot.entrySet()).hasSize(1);
+			assertThat(snapshot.entrySet().iterator().next().getValue()).isEqualTo("TestMember");
+		}
+
+		verify(environment, times(1)).getProperty("gemfire.name");
+	}
+
+	@Test
+	public void snapshotIsNotUpdatedUntilRefreshed() {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("gemfire.name", "TestMember");
+
+		ConfigurableEnvironment environment = newEnvironment(properties);
+
+		EnvironmentSnapshotMapAdapter snapshot = EnvironmentSnapshotMapAdapter.from(environment, "gemfire.");
+
+		properties.put("gemfire.name", "UpdatedMember");
+		properties.put("gemfire.groups", "TestGroup");
+
+		assertThat(snapshot).hasSize(1);
+		assertThat(snapshot).containsEntry("gemfire.name", "TestMember");
+		assertThat(snapshot.refresh()).isSameAs(snapshot);
+		assertThat(snapshot).hasSize(2);
+		assertThat(snapshot).containsEntry("gemfire.name", "UpdatedMember");
+		assertThat(snapshot).containsEntry("gemfire.groups", "TestGroup");
+	}
+
+	@Test
+	public void snapshotIsImmutable() {
+
+		EnvironmentSnapshotMapAdapter snapshot =
+			EnvironmentSnapshotMapAdapter.from(newEnvironment(MapBuilder.<String, Object>newMapBuilder()
+				.put("gemfire.name", "TestMember")
+				.build()), "gemfire.");
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> snapshot.put("gemfire.groups", "TestGroup"));
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> snapshot.remove("gemfire.name"));
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> snapshot.entrySet().iterator().next().setValue("MockMember"));
+
+		assertThat(snapshot).containsEntry("gemfire.name", "TestMember");
+	}
+
+	@Test
+	public void snapshotIgnoresNonEnumerablePropertySources() {
+
+		PropertySource<?> mockPropertySource = mock(PropertySource.class);
+
+		ConfigurableEnvironment environment = newEnvironment(MapBuilder.<String, Object>newMapBuilder()
+			.put("gemfire.name", "TestMember")
+			.build());
+
+		environment.getPropertySources().addLast(mockPropertySource);
+
+		EnvironmentSnapshotMapAdapter snapshot = EnvironmentSnapshotMapAdapter.from(environment, "gemfire.");
+
+		assertThat(snapshot).hasSize(1);
+		assertThat(snapshot).containsEntry("gemfire.name", "TestMember");
+	}
+
+	@Test
+	public void fromNonConfigurableEnvironmentThrowsUnsupportedOperationException() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> EnvironmentSnapshotMapAdapter.from(mockEnvironment))
+			.withMessageStartingWith("Unable to take a snapshot of the Environment")
+			.withNoCause();
+
+		verifyNoInteractions(mockEnvironment);
+	}
+
+	@Test
+	public void fromNullEnvironmentThrowsIllegalArgumentException() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> EnvironmentSnapshotMapAdapter.from(null, "gemfire."))
+			.withMessage("Environment must not be null")
+			.withNoCause();
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link SpringBootExtensions}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.core.metrics.ApplicationStartup
+ * @see org.springframework.geode.core.util.SpringBootExtensions
+ * @since 2.0.0
+ */
+public class SpringBootExtensionsUnitTests {
+
+	@Test
+	public void isAotProcessingIsCorrect() {
+
+		try {
+			assertThat(SpringBootExtensions.isAotProcessing()).isFalse();
+
+			System.setProperty(SpringBootExtensions.AOT_PROCESSING_PROPERTY, "true");
+
+			assertThat(SpringBootExtensions.isAotProcessing()).isTrue();
+		}
+		finally {
+			System.clearProperty(SpringBootExtensions.AOT_PROCESSING_PROPERTY);
+		}
+	}
+
+	@Test
+	public void isLazyInitializationEnabledIsCorrect() {
+
+		MockEnvironment environment = new MockEnvironment();
+
+		assertThat(SpringBootExtensions.isLazyInitializationEnabled(null)).isFalse();
+		assertThat(SpringBootExtensions.isLazyInitializationEnabled(environment)).isFalse();
+
+		environment.setProperty(SpringBootExtensions.LAZY_INITIALIZATION_ENABLED_PROPERTY, "true");
+
+		assertThat(SpringBootExtensions.isLazyInitializationEnabled(environment)).isTrue();
+	}
+
+	@Test
+	public void resolveApplicationStartupFromApplicationContextAndBeanFactory() {
+
+		ApplicationStartup mockApplicationStartup = mock(ApplicationStartup.class);
+
+		ConfigurableApplicationContext mockApplicationContext = mock(ConfigurableApplicationContext.class);
+
+		ConfigurableListableBeanFactory mockBeanFactory = mock(ConfigurableListableBeanFactory.class);
+
+		doReturn(mockApplicationStartup).when(mockApplicationContext).getApplicationStartup();
+		doReturn(mockApplicationStartup).when(mockBeanFactory).getApplicationStartup();
+
+		assertThat(SpringBootExtensions.resolveApplicationStartup(mockApplicationContext))
+			.isSameAs(mockApplicationStartup);
+		assertThat(SpringBootExtensions.resolveApplicationStartup(mockBeanFactory)).isSameAs(mockApplicationStartup);
+	}
+
+	@Test
+	public void resolveApplicationStartupDefaultsToNoOp() {
+
+		assertThat(SpringBootExtensions.resolveApplicationStartup(null)).isSameAs(ApplicationStartup.DEFAULT);
+		assertThat(SpringBootExtensions.resolveApplicationStartup("test")).isSameAs(ApplicationStartup.DEFAULT);
+		assertThat(SpringBootExtensions.resolveApplicationStartup(mock(ConfigurableListableBeanFactory.class)))
+			.isSameAs(ApplicationStartup.DEFAULT);
+	}
+
+	@Test
+	public void doInStartupStepStartsAndEndsStep() {
+
+		ApplicationStartup mockApplicationStartup = mock(ApplicationStartup.class);
+
+		StartupStep mockStartupStep = mock(StartupStep.class);
+
+		doReturn(mockStartupStep).when(mockApplicationStartup).start(eq("spring.boot.data.gemfire.test"));
+
+		assertThat(SpringBootExtensions.doInStartupStep(mockApplicationStartup, "test", step -> {
+			assertThat(step).isSameAs(mockStartupStep);
+			return "result";
+		})).isEqualTo("result");
+
+		verify(mockStartupStep, times(1)).end();
+	}
+
+	@Test
+	public void doInStartupStepTagsFailureAndEndsStep() {
+
+		ApplicationStartup mockApplicationStartup = mock(ApplicationStartup.class);
+
+		StartupStep mockStartupStep = mock(StartupStep.class);
+
+		doReturn(mockStartupStep).when(mockApplicationStartup).start(eq("spring.boot.data.gemfire.test"));
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> SpringBootExtensions.doInStartupStep(mockApplicationStartup, "test", step -> {
+				throw new IllegalStateException("TEST");
+			}))
+			.withMessage("TEST");
+
+		verify(mockStartupStep, times(1)).tag(eq("failure"), eq(IllegalStateException.class.getName()));
+		verify(mockStartupStep, times(1)).end();
+	}
+
+	@Test
+	public void doInStartupStepWithNullApplicationStartupUsesNoOp() {
+		assertThat(SpringBootExtensions.doInStartupStep(null, "test", step -> 1)).isOne();
+	}
+}
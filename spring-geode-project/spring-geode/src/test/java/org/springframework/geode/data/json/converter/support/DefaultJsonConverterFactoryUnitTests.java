@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.json.converter.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.junit.Test;
+
+import org.springframework.geode.data.json.converter.JsonConverterFactory;
+
+/**
+ * Unit Tests for {@link DefaultJsonConverterFactory}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see org.springframework.geode.data.json.converter.JsonConverterFactory
+ * @see org.springframework.geode.data.json.converter.support.DefaultJsonConverterFactory
+ * @since 2.0.0
+ */
+public class DefaultJsonConverterFactoryUnitTests {
+
+	@Test
+	public void resolvesSharedInstance() {
+
+		JsonConverterFactory factory = DefaultJsonConverterFactory.resolveInstance();
+
+		assertThat(factory).isInstanceOf(DefaultJsonConverterFactory.class);
+		assertThat(DefaultJsonConverterFactory.resolveInstance()).isSameAs(factory);
+	}
+
+	@Test
+	public void objectMapperConfigurationIsCorrect() {
+
+		DefaultJsonConverterFactory factory = new DefaultJsonConverterFactory();
+
+		ObjectMapper objectMapper = factory.getObjectMapper();
+
+		assertThat(objectMapper).isNotNull();
+		assertThat(objectMapper.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)).isTrue();
+		assertThat(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES)).isFalse();
+		assertThat(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isFalse();
+		assertThat(factory.getObjectMapper()).isSameAs(objectMapper);
+	}
+
+	@Test
+	public void objectReadersAreSharedPerType() {
+
+		DefaultJsonConverterFactory factory = new DefaultJsonConverterFactory();
+
+		ObjectReader stringReader = factory.getObjectReader(String.class);
+
+		assertThat(stringReader).isNotNull();
+		assertThat(stringReader.getValueType().getRawClass()).isEqualTo(String.class);
+		assertThat(factory.getObjectReader(String.class)).isSameAs(stringReader);
+		assertThat(factory.getObjectReader(Integer.class)).isNotSameAs(stringReader);
+		assertThat(factory.getObjectReader(Integer.class).getValueType().getRawClass()).isEqualTo(Integer.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getObjectReaderWithNullType() {
+		new DefaultJsonConverterFactory().getObjectReader(null);
+	}
+
+	@Test
+	public void objectWritersAreSharedPerType() {
+
+		DefaultJsonConverterFactory factory = new DefaultJsonConverterFactory();
+
+		ObjectWriter stringWriter = factory.getObjectWriter(String.class);
+
+		assertThat(stringWriter).isNotNull();
+		assertThat(factory.getObjectWriter(String.class)).isSameAs(stringWriter);
+		assertThat(factory.getObjectWriter(Integer.class)).isNotSameAs(stringWriter);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getObjectWriterWithNullType() {
+		new DefaultJsonConverterFactory().getObjectWriter(null);
+	}
+
+	@Test
+	public void convertersAreSharedAndOfTheExpectedType() {
+
+		DefaultJsonConverterFactory factory = new DefaultJsonConverterFactory();
+
+		assertThat(factory.getJsonToObjectConverter()).isInstanceOf(JacksonJsonToObjectConverter.class);
+		assertThat(factory.getJsonToObjectConverter()).isSameAs(factory.getJsonToObjectConverter());
+		assertThat(factory.getJsonToPdxConverter()).isInstanceOf(JSONFormatterJsonToPdxConverter.class);
+		assertThat(factory.getJsonToPdxConverter()).isSameAs(factory.getJsonToPdxConverter());
+		assertThat(factory.getJsonToPdxArrayConverter()).isInstanceOf(JacksonJsonToPdxConverter.class);
+		assertThat(factory.getJsonToPdxArrayConverter()).isSameAs(factory.getJsonToPdxArrayConverter());
+		assertThat(factory.getSchemaInferringJsonToPdxArrayConverter())
+			.isInstanceOf(SchemaInferringJsonToPdxConverter.class);
+		assertThat(factory.getSchemaInferringJsonToPdxArrayConverter())
+			.isSameAs(factory.getSchemaInferringJsonToPdxArrayConverter());
+		assertThat(factory.getObjectToJsonConverter()).isInstanceOf(JSONFormatterPdxToJsonConverter.class);
+		assertThat(factory.getObjectToJsonConverter()).isSameAs(factory.getObjectToJsonConverter());
+	}
+}
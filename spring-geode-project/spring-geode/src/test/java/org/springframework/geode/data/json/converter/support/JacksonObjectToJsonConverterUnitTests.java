@@ -73,6 +73,28 @@ public class JacksonObjectToJsonConverterUnitTests {
 		verify(mockObjectMapper, times(1)).writeValueAsString(eq(source));
 	}
 
+	@Test
+	public void convertReusesObjectMapperPerType() throws JsonProcessingException {
+
+		Object sourceOne = new Object();
+		Object sourceTwo = new Object();
+
+		ObjectMapper mockObjectMapper = mock(ObjectMapper.class);
+
+		JacksonObjectToJsonConverter converter = spy(new JacksonObjectToJsonConverter());
+
+		doReturn("{}").when(mockObjectMapper).writeValueAsString(any());
+		doReturn(mockObjectMapper).when(converter).newObjectMapper(any());
+
+		assertThat(converter.convert(sourceOne)).isEqualTo("{}");
+		assertThat(converter.convert(sourceTwo)).isEqualTo("{}");
+
+		verify(converter, times(1)).newObjectMapper(eq(sourceOne));
+		verify(converter, never()).newObjectMapper(eq(sourceTwo));
+		verify(mockObjectMapper, times(1)).writeValueAsString(eq(sourceOne));
+		verify(mockObjectMapper, times(1)).writeValueAsString(eq(sourceTwo));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void convertNullThrowsIllegalArgumentException() {
 
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.json.converter.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.databind.node.DecimalNode;
+
+import org.junit.Test;
+
+import org.apache.geode.pdx.FieldType;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
+
+import org.springframework.geode.data.json.converter.JsonToPdxConverter;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
+
+/**
+ * Unit Tests for {@link SchemaInferringJsonToPdxConverter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.pdx.FieldType
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.apache.geode.pdx.PdxInstanceFactory
+ * @see org.springframework.geode.data.json.converter.support.SchemaInferringJsonToPdxConverter
+ * @since 2.0.0
+ */
+public class SchemaInferringJsonToPdxConverterUnitTests {
+
+	private static final String CUSTOMER_TYPE = "example.app.crm.model.Customer";
+
+	private PdxInstanceFactory newMockPdxInstanceFactory() {
+
+		PdxInstanceFactory mockPdxInstanceFactory = mock(PdxInstanceFactory.class);
+
+		doReturn(mock(PdxInstance.class)).when(mockPdxInstanceFactory).create();
+
+		return mockPdxInstanceFactory;
+	}
+
+	private SchemaInferringJsonToPdxConverter newConverter(PdxInstanceFactory pdxInstanceFactory) {
+
+		SchemaInferringJsonToPdxConverter converter = spy(new SchemaInferringJsonToPdxConverter());
+
+		doReturn(pdxInstanceFactory).when(converter).newPdxInstanceFactory();
+
+		return converter;
+	}
+
+	@Test
+	public void convertInfersSchemaPerTypeAndWidensNumericFieldTypes() {
+
+		String json = "[{ \"@type\": \"" + CUSTOMER_TYPE + "\", \"id\": 1, \"age\": 21, \"score\": 1,"
+			+ " \"name\": \"Jon Doe\", \"active\": true },"
+			+ " { \"@type\": \"" + CUSTOMER_TYPE + "\", \"id\": 2, \"age\": 4294967296, \"score\": 1.5,"
+			+ " \"name\": \"Jane Doe\", \"active\": false }]";
+
+		SchemaInferringJsonToPdxConverter converter = newConverter(newMockPdxInstanceFactory());
+
+		assertThat(converter.getSchema(CUSTOMER_TYPE)).isNull();
+		assertThat(converter.convert(json)).hasSize(2);
+
+		SchemaInferringJsonToPdxConverter.PdxSchema schema = converter.getSchema(CUSTOMER_TYPE);
+
+		assertThat(schema).isNotNull();
+		assertThat(schema.getTypeName()).isEqualTo(CUSTOMER_TYPE);
+		assertThat(schema.getFieldTypes()).containsExactly(
+			entry("@type", FieldType.STRING),
+			entry("id", FieldType.INT),
+			entry("age", FieldType.LONG),
+			entry("score", FieldType.DOUBLE),
+			entry("name", FieldType.STRING),
+			entry("active", FieldType.BOOLEAN)
+		);
+	}
+
+	@Test
+	public void convertWithNullMissingAndMixedFieldsUsesObjectFieldType() {
+
+		String json = "[{ \"@type\": \"" + CUSTOMER_TYPE + "\", \"id\": 1, \"age\": null, \"code\": 1,"
+			+ " \"name\": null },"
+			+ " { \"@type\": \"" + CUSTOMER_TYPE + "\", \"id\": 2, \"code\": \"A\", \"name\": \"Jane Doe\","
+			+ " \"email\": null }]";
+
+		SchemaInferringJsonToPdxConverter converter = newConverter(newMockPdxInstanceFactory());
+
+		converter.convert(json);
+
+		assertThat(converter.getSchema(CUSTOMER_TYPE).getFieldTypes()).containsExactly(
+			entry("@type", FieldType.STRING),
+			entry("id", FieldType.INT),
+			entry("age", FieldType.OBJECT),
+			entry("code", FieldType.OBJECT),
+			entry("name", FieldType.STRING),
+			entry("email", FieldType.OBJECT)
+		);
+	}
+
+	@Test
+	public void convertWritesTypedFieldsWideningSchemaOnlyWhenNeeded() {
+
+		String json = "[{ \"@type\": \"" + CUSTOMER_TYPE + "\", \"id\": 1, \"name\": \"Jon Doe\" },"
+			+ " { \"@type\": \"" + CUSTOMER_TYPE + "\", \"id\": 4294967296, \"name\": \"Jane Doe\" }]";
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		PdxInstanceFactory mockPdxInstanceFactory = mock(PdxInstanceFactory.class);
+
+		doReturn(mockPdxInstance).when(mockPdxInstanceFactory).create();
+
+		SchemaInferringJsonToPdxConverter converter = newConverter(mockPdxInstanceFactory);
+
+		PdxInstance[] pdxInstances = converter.convert(json);
+
+		assertThat(pdxInstances).hasSize(2);
+		assertThat(pdxInstances[0]).isInstanceOf(PdxInstanceWrapper.class);
+		assertThat(((PdxInstanceWrapper) pdxInstances[0]).getDelegate()).isSameAs(mockPdxInstance);
+
+		verify(converter, times(2)).newPdxInstanceFactory();
+		verify(mockPdxInstanceFactory, times(2)).writeString(eq("@type"), eq(CUSTOMER_TYPE));
+		verify(mockPdxInstanceFactory, times(1)).writeInt(eq("id"), eq(1));
+		verify(mockPdxInstanceFactory, times(1)).writeLong(eq("id"), eq(4294967296L));
+		verify(mockPdxInstanceFactory, times(1)).writeString(eq("name"), eq("Jon Doe"));
+		verify(mockPdxInstanceFactory, times(1)).writeString(eq("name"), eq("Jane Doe"));
+		verify(mockPdxInstanceFactory, times(2)).create();
+	}
+
+	@Test
+	public void convertReusesInferredSchemaAcrossConversions() {
+
+		PdxInstanceFactory mockPdxInstanceFactory = newMockPdxInstanceFactory();
+
+		SchemaInferringJsonToPdxConverter converter = newConverter(mockPdxInstanceFactory);
+
+		converter.convert("{ \"@type\": \"" + CUSTOMER_TYPE + "\", \"id\": 4294967296 }");
+
+		SchemaInferringJsonToPdxConverter.PdxSchema schema = converter.getSchema(CUSTOMER_TYPE);
+
+		converter.convert("{ \"@type\": \"" + CUSTOMER_TYPE + "\", \"id\": 1 }");
+
+		assertThat(converter.getSchema(CUSTOMER_TYPE)).isSameAs(schema);
+		assertThat(schema.getFieldTypes()).containsEntry("id", FieldType.LONG);
+
+		verify(mockPdxInstanceFactory, times(1)).writeLong(eq("id"), eq(4294967296L));
+		verify(mockPdxInstanceFactory, times(1)).writeLong(eq("id"), eq(1L));
+		verify(mockPdxInstanceFactory, never()).writeInt(anyString(), anyInt());
+	}
+
+	@Test
+	public void bigDecimalValuesUseObjectFieldTypeAndKeepPrecision() {
+
+		BigDecimal value = new BigDecimal("12345678901234567890.123456789");
+
+		DecimalNode decimalNode = DecimalNode.valueOf(value);
+
+		assertThat(SchemaInferringJsonToPdxConverter.PdxSchema.fieldTypeOf(decimalNode)).isEqualTo(FieldType.OBJECT);
+		assertThat(new SchemaInferringJsonToPdxConverter().toObject(decimalNode)).isEqualTo(value);
+	}
+
+	@Test
+	public void convertObjectWithoutTypeMetadataUsesJsonToPdxConverter() {
+
+		String json = "{ \"name\": \"Jon Doe\" }";
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		JsonToPdxConverter mockJsonToPdxConverter = mock(JsonToPdxConverter.class);
+
+		doReturn(mockPdxInstance).when(mockJsonToPdxConverter).convert(anyString());
+
+		SchemaInferringJsonToPdxConverter converter = spy(new SchemaInferringJsonToPdxConverter());
+
+		doReturn(mockJsonToPdxConverter).when(converter).getJsonToPdxConverter();
+
+		assertThat(converter.convert(json)).containsExactly(mockPdxInstance);
+
+		verify(mockJsonToPdxConverter, times(1)).convert(eq("{\"name\":\"Jon Doe\"}"));
+		verify(converter, never()).newPdxInstanceFactory();
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void convertNonObjectJsonThrowsIllegalStateException() {
+		new SchemaInferringJsonToPdxConverter().convert("[1, 2]");
+	}
+}
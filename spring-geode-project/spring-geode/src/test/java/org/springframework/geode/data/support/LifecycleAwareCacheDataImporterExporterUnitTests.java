@@ -18,7 +18,9 @@ package org.springframework.geode.data.support;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -27,11 +29,21 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.apache.geode.cache.Region;
 
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.ResourceLoaderAware;
@@ -39,7 +51,9 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.geode.core.io.ResourceReader;
 import org.springframework.geode.core.io.ResourceWriter;
+import org.springframework.geode.core.util.SpringBootExtensions;
 import org.springframework.geode.data.CacheDataImporterExporter;
+import org.springframework.geode.data.support.LifecycleAwareCacheDataImporterExporter.DeferredImportEvent;
 import org.springframework.geode.data.support.LifecycleAwareCacheDataImporterExporter.ImportLifecycle;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ExportResourceResolver;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ImportResourceResolver;
@@ -599,6 +613,33 @@ public class LifecycleAwareCacheDataImporterExporterUnitTests {
 		verifyNoInteractions(mockImporterExporter);
 	}
 
+	@Test
+	public void resolveImportLifecycleReturnsDeferredWhenLazyInitializationIsEnabled() {
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn(true).when(mockEnvironment)
+			.getProperty(eq(SpringBootExtensions.LAZY_INITIALIZATION_ENABLED_PROPERTY), eq(Boolean.class), eq(false));
+
+		doReturn(ImportLifecycle.DEFERRED.name()).when(mockEnvironment)
+			.getProperty(eq(LifecycleAwareCacheDataImporterExporter.CACHE_DATA_IMPORT_LIFECYCLE_PROPERTY_NAME),
+				eq(String.class), eq(ImportLifecycle.DEFERRED.name()));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			new LifecycleAwareCacheDataImporterExporter(mockImporterExporter);
+
+		importerExporter.setEnvironment(mockEnvironment);
+
+		assertThat(importerExporter.resolveImportLifecycle()).isEqualTo(ImportLifecycle.DEFERRED);
+
+		verify(mockEnvironment, times(1))
+			.getProperty(eq(LifecycleAwareCacheDataImporterExporter.CACHE_DATA_IMPORT_LIFECYCLE_PROPERTY_NAME),
+				eq(String.class), eq(ImportLifecycle.DEFERRED.name()));
+		verifyNoInteractions(mockImporterExporter);
+	}
+
 	@Test
 	public void resolveImportPhaseCachesResultAndReturnsIntegerMinValuePlusOneMillion() {
 
@@ -677,6 +718,227 @@ public class LifecycleAwareCacheDataImporterExporterUnitTests {
 		verifyNoInteractions(mockRegionOne, mockRegionTwo);
 	}
 
+	@Test
+	public void startImportsIntoRegionsUsingDeferredImportExecutorWhenImportLifecycleIsDeferred() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		Executor mockExecutor = mock(Executor.class);
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportLifecycle.DEFERRED).when(importerExporter).resolveImportLifecycle();
+		doReturn(mockExecutor).when(importerExporter).getDeferredImportExecutor();
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any(Runnable.class));
+
+		importerExporter.getRegionsForImport().add(mockRegionOne);
+		importerExporter.getRegionsForImport().add(mockRegionTwo);
+		importerExporter.start();
+
+		verify(mockExecutor, times(1)).execute(any(Runnable.class));
+		verify(mockImporterExporter, times(1)).importInto(eq(mockRegionOne));
+		verify(mockImporterExporter, times(1)).importInto(eq(mockRegionTwo));
+		verifyNoMoreInteractions(mockImporterExporter);
+	}
+
+	@Test
+	public void deferredImportExecutorIsCreatedOnce() {
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			new LifecycleAwareCacheDataImporterExporter(mock(CacheDataImporterExporter.class));
+
+		Executor executor = importerExporter.getDeferredImportExecutor();
+
+		assertThat(executor).isNotNull();
+		assertThat(importerExporter.getDeferredImportExecutor()).isSameAs(executor);
+	}
+
+	@Test
+	public void deferredImportIsExposedAndPublishedOnSuccess() {
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportLifecycle.DEFERRED).when(importerExporter).resolveImportLifecycle();
+		doReturn((Executor) Runnable::run).when(importerExporter).getDeferredImportExecutor();
+
+		importerExporter.setApplicationContext(mockApplicationContext);
+
+		assertThat(importerExporter.getDeferredImport()).isNotPresent();
+
+		importerExporter.getRegionsForImport().add(mock(Region.class));
+		importerExporter.start();
+
+		CompletableFuture<Void> deferredImport = importerExporter.getDeferredImport().orElse(null);
+
+		assertThat(deferredImport).isNotNull();
+		assertThat(deferredImport).isCompleted();
+
+		ArgumentCaptor<DeferredImportEvent> event = ArgumentCaptor.forClass(DeferredImportEvent.class);
+
+		verify(mockApplicationContext, times(1)).publishEvent(event.capture());
+
+		assertThat(event.getValue().getSource()).isSameAs(importerExporter);
+		assertThat(event.getValue().isSuccessful()).isTrue();
+		assertThat(event.getValue().getCause()).isNotPresent();
+	}
+
+	@Test
+	public void deferredImportIsExposedAndPublishedOnFailure() {
+
+		RuntimeException importFailure = new IllegalStateException("TEST");
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		doThrow(importFailure).when(mockImporterExporter).importInto(any());
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportLifecycle.DEFERRED).when(importerExporter).resolveImportLifecycle();
+		doReturn((Executor) Runnable::run).when(importerExporter).getDeferredImportExecutor();
+
+		importerExporter.setApplicationContext(mockApplicationContext);
+		importerExporter.getRegionsForImport().add(mock(Region.class));
+		importerExporter.start();
+
+		CompletableFuture<Void> deferredImport = importerExporter.getDeferredImport().orElse(null);
+
+		assertThat(deferredImport).isNotNull();
+		assertThat(deferredImport).isCompletedExceptionally();
+
+		ArgumentCaptor<DeferredImportEvent> event = ArgumentCaptor.forClass(DeferredImportEvent.class);
+
+		verify(mockApplicationContext, times(1)).publishEvent(event.capture());
+
+		assertThat(event.getValue().isSuccessful()).isFalse();
+		assertThat(event.getValue().getCause().orElse(null)).isSameAs(importFailure);
+	}
+
+	private List<ReadinessState> publishedReadinessStates(ApplicationContext mockApplicationContext,
+			int expectedEventCount) {
+
+		ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+
+		verify(mockApplicationContext, times(expectedEventCount)).publishEvent(events.capture());
+
+		return events.getAllValues().stream()
+			.filter(AvailabilityChangeEvent.class::isInstance)
+			.map(event -> (ReadinessState) ((AvailabilityChangeEvent<?>) event).getState())
+			.collect(Collectors.toList());
+	}
+
+	private LifecycleAwareCacheDataImporterExporter newDeferredImporterExporter(
+			CacheDataImporterExporter mockImporterExporter, ApplicationContext mockApplicationContext,
+			AtomicReference<Runnable> deferredImportTask) {
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportLifecycle.DEFERRED).when(importerExporter).resolveImportLifecycle();
+		doReturn((Executor) deferredImportTask::set).when(importerExporter).getDeferredImportExecutor();
+
+		importerExporter.setApplicationContext(mockApplicationContext);
+		importerExporter.getRegionsForImport().add(mock(Region.class));
+
+		return importerExporter;
+	}
+
+	@Test
+	public void deferredImportRefusesTrafficUntilImportCompletes() {
+
+		AtomicReference<Runnable> deferredImportTask = new AtomicReference<>(null);
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		LifecycleAwareCacheDataImporterExporter importerExporter = newDeferredImporterExporter(
+			mock(CacheDataImporterExporter.class), mockApplicationContext, deferredImportTask);
+
+		importerExporter.start();
+		importerExporter.onApplicationEvent(
+			new AvailabilityChangeEvent<>(mockApplicationContext, ReadinessState.ACCEPTING_TRAFFIC));
+
+		assertThat(publishedReadinessStates(mockApplicationContext, 1))
+			.containsExactly(ReadinessState.REFUSING_TRAFFIC);
+
+		deferredImportTask.get().run();
+
+		assertThat(importerExporter.getDeferredImport().orElse(null)).isCompleted();
+		assertThat(publishedReadinessStates(mockApplicationContext, 3))
+			.containsExactly(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC);
+	}
+
+	@Test
+	public void deferredImportDoesNotRefuseTrafficOnceImportCompletes() {
+
+		AtomicReference<Runnable> deferredImportTask = new AtomicReference<>(null);
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		LifecycleAwareCacheDataImporterExporter importerExporter = newDeferredImporterExporter(
+			mock(CacheDataImporterExporter.class), mockApplicationContext, deferredImportTask);
+
+		importerExporter.start();
+		deferredImportTask.get().run();
+		importerExporter.onApplicationEvent(
+			new AvailabilityChangeEvent<>(mockApplicationContext, ReadinessState.ACCEPTING_TRAFFIC));
+
+		assertThat(publishedReadinessStates(mockApplicationContext, 1)).isEmpty();
+	}
+
+	@Test
+	public void failedDeferredImportContinuesToRefuseTraffic() {
+
+		AtomicReference<Runnable> deferredImportTask = new AtomicReference<>(null);
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		doThrow(new IllegalStateException("TEST")).when(mockImporterExporter).importInto(any());
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			newDeferredImporterExporter(mockImporterExporter, mockApplicationContext, deferredImportTask);
+
+		importerExporter.start();
+		importerExporter.onApplicationEvent(
+			new AvailabilityChangeEvent<>(mockApplicationContext, ReadinessState.ACCEPTING_TRAFFIC));
+
+		deferredImportTask.get().run();
+
+		assertThat(importerExporter.getDeferredImport().orElse(null)).isCompletedExceptionally();
+		assertThat(publishedReadinessStates(mockApplicationContext, 2))
+			.containsExactly(ReadinessState.REFUSING_TRAFFIC);
+	}
+
+	@Test
+	public void readinessIsNotHeldWithoutDeferredImport() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			new LifecycleAwareCacheDataImporterExporter(mock(CacheDataImporterExporter.class));
+
+		importerExporter.setApplicationContext(mockApplicationContext);
+		importerExporter.onApplicationEvent(
+			new AvailabilityChangeEvent<>(mockApplicationContext, ReadinessState.ACCEPTING_TRAFFIC));
+
+		verify(mockApplicationContext, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
 	@Test
 	public void startDoesNothingWhenImportLifecycleIsEager() {
 
@@ -740,6 +1002,13 @@ public class LifecycleAwareCacheDataImporterExporterUnitTests {
 		assertThat(ImportLifecycle.LAZY.isLazy()).isTrue();
 	}
 
+	@Test
+	public void importLifecycleIsDeferred() {
+		assertThat(ImportLifecycle.EAGER.isDeferred()).isFalse();
+		assertThat(ImportLifecycle.LAZY.isDeferred()).isFalse();
+		assertThat(ImportLifecycle.DEFERRED.isDeferred()).isTrue();
+	}
+
 	@Test
 	public void importLifecycleToStringIsDescriptive() {
 
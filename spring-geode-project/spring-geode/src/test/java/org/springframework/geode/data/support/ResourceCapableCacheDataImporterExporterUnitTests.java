@@ -34,13 +34,21 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.apache.geode.cache.Region;
 
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.ResourceLoaderAware;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
@@ -144,8 +152,11 @@ public class ResourceCapableCacheDataImporterExporterUnitTests {
 		verify(mockImportResourceResolver, times(1)).setApplicationContext(eq(mockApplicationContext));
 		verify(mockImportResourceResolver, times(1)).setEnvironment(eq(mockEnvironment));
 		verify(mockImportResourceResolver, times(1)).setResourceLoader(eq(mockResourceLoader));
-		verifyNoInteractions(mockApplicationContext, mockEnvironment, mockResourceLoader,
-			mockResourceReader, mockResourceWriter);
+		verify(mockEnvironment, times(1)).getProperty(
+			eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_RESOURCE_RESOLUTION_PRECOMPUTED_PROPERTY_NAME),
+			eq(Boolean.class), eq(false));
+		verifyNoMoreInteractions(mockEnvironment);
+		verifyNoInteractions(mockApplicationContext, mockResourceLoader, mockResourceReader, mockResourceWriter);
 	}
 
 	@Test
@@ -183,7 +194,11 @@ public class ResourceCapableCacheDataImporterExporterUnitTests {
 		verify(mockImportResourceResolver, times(1)).setApplicationContext(eq(mockApplicationContext));
 		verify(mockImportResourceResolver, never()).setResourceLoader(any());
 		verifyNoMoreInteractions(mockImportResourceResolver);
-		verifyNoInteractions(mockApplicationContext, mockEnvironment);
+		verify(mockEnvironment, times(1)).getProperty(
+			eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_RESOURCE_RESOLUTION_PRECOMPUTED_PROPERTY_NAME),
+			eq(Boolean.class), eq(false));
+		verifyNoMoreInteractions(mockEnvironment);
+		verifyNoInteractions(mockApplicationContext);
 	}
 
 	@Test
@@ -833,6 +848,114 @@ public class ResourceCapableCacheDataImporterExporterUnitTests {
 		}
 	}
 
+	@Test
+	public void precomputedImportResourceResolverResolvesResourceOncePerRegion() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		doReturn("/One").when(mockRegionOne).getFullPath();
+		doReturn("/Two").when(mockRegionTwo).getFullPath();
+		doReturn(true).when(mockResource).isReadable();
+
+		AbstractImportResourceResolver importResourceResolver = spy(new TestImportResourceResolver());
+
+		doReturn("/path/to/resource.json")
+			.when(importResourceResolver).getResourceLocation(any(Region.class),
+				eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_IMPORT_RESOURCE_LOCATION_PROPERTY_NAME));
+
+		doReturn(Optional.of(mockResource)).when(importResourceResolver).resolve(eq("/path/to/resource.json"));
+
+		importResourceResolver.precompute();
+
+		assertThat(importResourceResolver.isPrecomputed()).isTrue();
+		assertThat(importResourceResolver.resolve(mockRegionOne)).isEqualTo(Optional.of(mockResource));
+		assertThat(importResourceResolver.resolve(mockRegionOne)).isEqualTo(Optional.of(mockResource));
+		assertThat(importResourceResolver.resolve(mockRegionTwo)).isEqualTo(Optional.of(mockResource));
+
+		verify(importResourceResolver, times(2)).resolve(eq("/path/to/resource.json"));
+
+		importResourceResolver.invalidate();
+
+		assertThat(importResourceResolver.resolve(mockRegionOne)).isEqualTo(Optional.of(mockResource));
+
+		verify(importResourceResolver, times(3)).resolve(eq("/path/to/resource.json"));
+		verify(importResourceResolver, times(2)).getResourceLocation(eq(mockRegionOne),
+			eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_IMPORT_RESOURCE_LOCATION_PROPERTY_NAME));
+	}
+
+	@Test
+	public void precomputedResourceResolverReadsResourceLocationPropertyOnce() {
+
+		String propertyName = ResourceCapableCacheDataImporterExporter.CACHE_DATA_EXPORT_RESOURCE_LOCATION_PROPERTY_NAME;
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn("One").when(mockRegionOne).getName();
+		doReturn("Two").when(mockRegionTwo).getName();
+		doReturn(true).when(mockEnvironment).containsProperty(eq(propertyName));
+		doReturn("file:///data/#{#regionName}.json").when(mockEnvironment).getProperty(eq(propertyName));
+
+		AbstractExportResourceResolver exportResourceResolver = spy(new TestExportResourceResolver());
+
+		exportResourceResolver.setEnvironment(mockEnvironment);
+		exportResourceResolver.precompute();
+
+		assertThat(exportResourceResolver.getResourceLocation(mockRegionOne, propertyName))
+			.isEqualTo("file:///data/one.json");
+		assertThat(exportResourceResolver.getResourceLocation(mockRegionTwo, propertyName))
+			.isEqualTo("file:///data/two.json");
+
+		verify(mockEnvironment, times(1)).containsProperty(eq(propertyName));
+		verify(mockEnvironment, times(1)).getProperty(eq(propertyName));
+		verify(exportResourceResolver, times(1)).parse(eq("file:///data/#{#regionName}.json"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void precomputeResourceResolutionInvalidatesResourceResolversOnSubsequentContextRefresh() {
+
+		ConfigurableApplicationContext mockApplicationContext = mock(ConfigurableApplicationContext.class);
+
+		AbstractExportResourceResolver exportResourceResolver = spy(new TestExportResourceResolver());
+		AbstractImportResourceResolver importResourceResolver = spy(new TestImportResourceResolver());
+
+		ResourceCapableCacheDataImporterExporter importerExporter = new TestResourceCapableCacheDataImporterExporter();
+
+		importerExporter.setApplicationContext(mockApplicationContext);
+		importerExporter.setExportResourceResolver(exportResourceResolver);
+		importerExporter.setImportResourceResolver(importResourceResolver);
+		importerExporter.precomputeResourceResolution();
+
+		assertThat(exportResourceResolver.isPrecomputed()).isTrue();
+		assertThat(importResourceResolver.isPrecomputed()).isTrue();
+
+		ArgumentCaptor<ApplicationListener<ApplicationEvent>> listener =
+			ArgumentCaptor.forClass(ApplicationListener.class);
+
+		verify(mockApplicationContext, times(1)).addApplicationListener(listener.capture());
+
+		listener.getValue().onApplicationEvent(new ContextRefreshedEvent(mockApplicationContext));
+
+		verify(exportResourceResolver, times(1)).invalidate();
+		verify(importResourceResolver, times(1)).invalidate();
+
+		listener.getValue().onApplicationEvent(new ContextRefreshedEvent(mockApplicationContext));
+
+		verify(exportResourceResolver, times(2)).invalidate();
+		verify(importResourceResolver, times(2)).invalidate();
+
+		listener.getValue().onApplicationEvent(new ContextClosedEvent(mockApplicationContext));
+
+		verify(exportResourceResolver, times(2)).invalidate();
+		verify(importResourceResolver, times(2)).invalidate();
+	}
+
 	@Test
 	public void classPathImportResourceResolverResolvesToClassPath() {
 
@@ -842,6 +965,18 @@ public class ResourceCapableCacheDataImporterExporterUnitTests {
 			.isEqualTo(ResourcePrefix.CLASSPATH_URL_PREFIX.toUrlPrefix());
 	}
 
+	@Test
+	public void cacheDataResourceRuntimeHintsRegistersDataResources() {
+
+		RuntimeHints hints = new RuntimeHints();
+
+		new ResourceCapableCacheDataImporterExporter.CacheDataResourceRuntimeHints()
+			.registerHints(hints, getClass().getClassLoader());
+
+		assertThat(RuntimeHintsPredicates.resource().forResource("data-example.json")).accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource().forResource("example.json")).rejects(hints);
+	}
+
 	interface ApplicationContextAndResourceLoaderAwareImportResourceResolver
 		extends ApplicationContextAware, ImportResourceResolver, ResourceLoaderAware {}
 
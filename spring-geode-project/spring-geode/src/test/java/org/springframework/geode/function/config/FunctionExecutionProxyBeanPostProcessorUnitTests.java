@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.query.CqAttributes;
+import org.apache.geode.cache.query.CqAttributesMutator;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.query.CqQuery;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean;
+import org.springframework.geode.function.support.FunctionResultCache;
+import org.springframework.geode.function.support.FunctionResultCacheInvalidatingListener;
+
+/**
+ * Unit Tests for {@link FunctionExecutionProxyBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.query.CqQuery
+ * @see org.springframework.geode.function.config.FunctionExecutionProxyBeanPostProcessor
+ * @since 2.0.0
+ */
+public class FunctionExecutionProxyBeanPostProcessorUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(String poolName) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn("/Example").when(mockRegion).getFullPath();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn(mock(AttributesMutator.class)).when(mockRegion).getAttributesMutator();
+		doReturn(Collections.emptyList()).when(mockRegion).getInterestList();
+		doReturn(Collections.emptyList()).when(mockRegion).getInterestListRegex();
+		doReturn(poolName).when(mockRegionAttributes).getPoolName();
+
+		return mockRegion;
+	}
+
+	private CqQuery mockContinuousQuery(CqAttributesMutator mutator) {
+
+		CqQuery mockContinuousQuery = mock(CqQuery.class);
+
+		CqAttributes mockContinuousQueryAttributes = mock(CqAttributes.class);
+
+		doReturn(mockContinuousQueryAttributes).when(mockContinuousQuery).getCqAttributes();
+		doReturn(new CqListener[0]).when(mockContinuousQueryAttributes).getCqListeners();
+		doReturn(mutator).when(mockContinuousQuery).getCqAttributesMutator();
+
+		return mockContinuousQuery;
+	}
+
+	private FunctionExecutionProxyBeanPostProcessor newPostProcessor(String beanName,
+			Class<?> functionExecutionInterface) {
+
+		ConfigurableListableBeanFactory mockBeanFactory = mock(ConfigurableListableBeanFactory.class);
+
+		GemfireFunctionProxyFactoryBean mockFactoryBean = mock(GemfireFunctionProxyFactoryBean.class);
+
+		doReturn(true).when(mockBeanFactory).containsBeanDefinition(eq(beanName));
+		doReturn(true).when(mockBeanFactory).isFactoryBean(eq(beanName));
+		doReturn(mockFactoryBean).when(mockBeanFactory).getBean(eq(BeanFactory.FACTORY_BEAN_PREFIX + beanName));
+		doReturn(functionExecutionInterface).when(mockFactoryBean).getObjectType();
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor = new FunctionExecutionProxyBeanPostProcessor();
+
+		postProcessor.setBeanFactory(mockBeanFactory);
+
+		return postProcessor;
+	}
+
+	@Test
+	public void postProcessAfterInitializationProxiesAsyncFunctionExecutionInterface() {
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor =
+			newPostProcessor("asyncFunctions", AsyncFunctions.class);
+
+		try {
+
+			Object bean = mock(AsyncFunctions.class);
+
+			Object processedBean = postProcessor.postProcessAfterInitialization(bean, "asyncFunctions");
+
+			assertThat(processedBean).isNotSameAs(bean);
+			assertThat(processedBean).isInstanceOf(AsyncFunctions.class);
+			assertThat(AopUtils.isAopProxy(processedBean)).isTrue();
+		}
+		finally {
+			postProcessor.destroy();
+		}
+	}
+
+	@Test
+	public void postProcessAfterInitializationProxiesPlainFunctionExecutionInterface() {
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor =
+			newPostProcessor("plainFunctions", PlainFunctions.class);
+
+		Object bean = mock(PlainFunctions.class);
+
+		Object processedBean = postProcessor.postProcessAfterInitialization(bean, "plainFunctions");
+
+		assertThat(processedBean).isNotSameAs(bean);
+		assertThat(processedBean).isInstanceOf(PlainFunctions.class);
+		assertThat(AopUtils.isAopProxy(processedBean)).isTrue();
+	}
+
+	@Test
+	public void postProcessAfterInitializationIgnoresOtherBeans() {
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor = new FunctionExecutionProxyBeanPostProcessor();
+
+		postProcessor.setBeanFactory(mock(ConfigurableListableBeanFactory.class));
+
+		Object bean = new Object();
+
+		assertThat(postProcessor.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+	}
+
+	@Test
+	public void registersInvalidatingListenerOncePerRegion() {
+
+		Region<Object, Object> mockRegion = mockRegion(null);
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor = new FunctionExecutionProxyBeanPostProcessor();
+
+		FunctionResultCache functionResultCache = new FunctionResultCache();
+
+		postProcessor.registerFunctionResultCacheInvalidatingListener(functionResultCache, mockRegion);
+		postProcessor.registerFunctionResultCacheInvalidatingListener(functionResultCache, mockRegion);
+
+		verify(mockRegion.getAttributesMutator(), times(1))
+			.addCacheListener(isA(FunctionResultCacheInvalidatingListener.class));
+	}
+
+	@Test
+	public void contextRefreshedAddsInvalidatingListenerToContinuousQueriesOnClientRegion() {
+
+		Region<Object, Object> mockRegion = mockRegion("DEFAULT");
+
+		CqAttributesMutator mockMutator = mock(CqAttributesMutator.class);
+
+		Logger mockLogger = mock(Logger.class);
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor = spy(new FunctionExecutionProxyBeanPostProcessor());
+
+		doReturn(mockLogger).when(postProcessor).getLogger();
+		doReturn(new CqQuery[] { mockContinuousQuery(mockMutator) })
+			.when(postProcessor).resolveContinuousQueries(eq(mockRegion));
+
+		postProcessor.registerFunctionResultCacheInvalidatingListener(new FunctionResultCache(), mockRegion);
+		postProcessor.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		verify(mockMutator, times(1)).addCqListener(isA(FunctionResultCacheInvalidatingListener.class));
+		verify(mockLogger, never()).warn(anyString(), any(Object.class));
+	}
+
+	@Test
+	public void contextRefreshedWarnsForClientRegionWithoutInterestOrContinuousQueries() {
+
+		Region<Object, Object> mockRegion = mockRegion("DEFAULT");
+
+		Logger mockLogger = mock(Logger.class);
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor = spy(new FunctionExecutionProxyBeanPostProcessor());
+
+		doReturn(mockLogger).when(postProcessor).getLogger();
+		doReturn(new CqQuery[0]).when(postProcessor).resolveContinuousQueries(eq(mockRegion));
+
+		postProcessor.registerFunctionResultCacheInvalidatingListener(new FunctionResultCache(), mockRegion);
+		postProcessor.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		verify(mockLogger, times(1)).warn(anyString(), eq("/Example"));
+	}
+
+	@Test
+	public void contextRefreshedIgnoresPeerRegions() {
+
+		Region<Object, Object> mockRegion = mockRegion(null);
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor = spy(new FunctionExecutionProxyBeanPostProcessor());
+
+		postProcessor.registerFunctionResultCacheInvalidatingListener(new FunctionResultCache(), mockRegion);
+		postProcessor.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		verify(postProcessor, never()).resolveContinuousQueries(any());
+		verify(postProcessor, never()).getLogger();
+	}
+
+	@Test
+	public void newDefaultExecutorServiceIsBoundedAndRejectsWhenFull() {
+
+		FunctionExecutionProxyBeanPostProcessor postProcessor = new FunctionExecutionProxyBeanPostProcessor();
+
+		ExecutorService executorService = postProcessor.newDefaultExecutorService();
+
+		try {
+			assertThat(executorService).isInstanceOf(ThreadPoolExecutor.class);
+
+			ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
+
+			assertThat(threadPoolExecutor.getQueue().remainingCapacity())
+				.isEqualTo(FunctionExecutionProxyBeanPostProcessor.DEFAULT_EXECUTOR_QUEUE_CAPACITY);
+			assertThat(threadPoolExecutor.getRejectedExecutionHandler()).isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+			assertThat(threadPoolExecutor.allowsCoreThreadTimeOut()).isTrue();
+		}
+		finally {
+			postProcessor.destroy();
+		}
+
+		assertThat(executorService.isShutdown()).isTrue();
+	}
+
+	interface AsyncFunctions {
+
+		CompletableFuture<Object> compute(Object argument);
+
+	}
+
+	interface PlainFunctions {
+
+		Object compute(Object argument);
+
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link AsyncFunctionExecutionInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.function.support.AsyncFunctionExecutionInterceptor
+ * @since 2.0.0
+ */
+public class AsyncFunctionExecutionInterceptorUnitTests {
+
+	private Executor mockExecutor;
+
+	private MethodInterceptor mockDelegate;
+
+	private Calculator calculator;
+
+	@Before
+	public void setup() {
+
+		this.mockDelegate = mock(MethodInterceptor.class);
+		this.mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(this.mockExecutor).execute(any(Runnable.class));
+
+		this.calculator = (Calculator) new ProxyFactory(Calculator.class,
+			new AsyncFunctionExecutionInterceptor(this.mockDelegate, this.mockExecutor)).getProxy();
+	}
+
+	private Method getCalculatorMethod(String name) throws NoSuchMethodException {
+		return Calculator.class.getMethod(name, double.class, double.class);
+	}
+
+	@Test
+	public void isAsyncIsCorrect() throws Exception {
+
+		assertThat(AsyncFunctionExecutionInterceptor.isAsync(getCalculatorMethod("add"))).isTrue();
+		assertThat(AsyncFunctionExecutionInterceptor.isAsync(getCalculatorMethod("multiply"))).isTrue();
+		assertThat(AsyncFunctionExecutionInterceptor.isAsync(getCalculatorMethod("subtract"))).isFalse();
+		assertThat(AsyncFunctionExecutionInterceptor.isAsync(null)).isFalse();
+		assertThat(AsyncFunctionExecutionInterceptor.hasAsyncMethods(Calculator.class)).isTrue();
+		assertThat(AsyncFunctionExecutionInterceptor.hasAsyncMethods(Runnable.class)).isFalse();
+	}
+
+	@Test
+	public void completableFutureExtractsSingleResultOnExecutor() throws Throwable {
+
+		doReturn(List.of(List.of(16.0d))).when(this.mockDelegate).invoke(any());
+
+		CompletableFuture<Double> result = this.calculator.add(8.0d, 8.0d);
+
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(16.0d);
+
+		verify(this.mockExecutor, times(1)).execute(any(Runnable.class));
+		verify(this.mockDelegate, times(1)).invoke(any());
+	}
+
+	@Test
+	public void completableFutureOfListReturnsAllResults() throws Throwable {
+
+		doReturn(Arrays.asList(1, 2, 3)).when(this.mockDelegate).invoke(any());
+
+		assertThat(this.calculator.sequence(3).get(5, TimeUnit.SECONDS)).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void completableFutureBridgesCompletionStageResult() throws Throwable {
+
+		doReturn(CompletableFuture.completedFuture(List.of(4.0d))).when(this.mockDelegate).invoke(any());
+
+		assertThat(this.calculator.add(2.0d, 2.0d).get(5, TimeUnit.SECONDS)).isEqualTo(4.0d);
+	}
+
+	@Test
+	public void completableFutureCompletesExceptionallyWhenFunctionExecutionFails() throws Throwable {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockDelegate).invoke(any());
+
+		assertThat(this.calculator.add(1.0d, 1.0d)).isCompletedExceptionally();
+	}
+
+	@Test
+	public void completableFutureCompletesExceptionallyWhenExecutorRejectsFunctionExecution() throws Throwable {
+
+		Executor mockRejectingExecutor = mock(Executor.class);
+
+		doThrow(new RejectedExecutionException("TEST")).when(mockRejectingExecutor).execute(any(Runnable.class));
+
+		Calculator calculator = (Calculator) new ProxyFactory(Calculator.class,
+			new AsyncFunctionExecutionInterceptor(this.mockDelegate, mockRejectingExecutor)).getProxy();
+
+		CompletableFuture<Double> result = calculator.add(1.0d, 1.0d);
+
+		assertThat(result).isCompletedExceptionally();
+		assertThat(result.handle((value, cause) -> cause).join()).isInstanceOf(RejectedExecutionException.class);
+
+		verify(this.mockDelegate, never()).invoke(any());
+	}
+
+	@Test
+	public void monoIsLazyAndExtractsSingleResult() throws Throwable {
+
+		doReturn(List.of(16.0d)).when(this.mockDelegate).invoke(any());
+
+		Mono<Double> result = this.calculator.multiply(4.0d, 4.0d);
+
+		verify(this.mockDelegate, never()).invoke(any());
+
+		assertThat(result.block(Duration.ofSeconds(5))).isEqualTo(16.0d);
+
+		verify(this.mockDelegate, times(1)).invoke(any());
+	}
+
+	@Test
+	public void fluxEmitsEachResult() throws Throwable {
+
+		doReturn(Arrays.asList(1, null, 2)).when(this.mockDelegate).invoke(any());
+
+		assertThat(this.calculator.range(2).collectList().block(Duration.ofSeconds(5))).containsExactly(1, 2);
+	}
+
+	@Test
+	public void fluxBridgesStreamingResultCollector() throws Throwable {
+
+		doReturn(Stream.of(1, 2, 3)).when(this.mockDelegate).invoke(any());
+
+		assertThat(this.calculator.range(3).collectList().block(Duration.ofSeconds(5))).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void synchronousMethodIsDelegatedOnCallingThread() throws Throwable {
+
+		doReturn(8.0d).when(this.mockDelegate).invoke(any());
+
+		assertThat(this.calculator.subtract(16.0d, 8.0d)).isEqualTo(8.0d);
+
+		verify(this.mockExecutor, never()).execute(any(Runnable.class));
+	}
+
+	interface Calculator {
+
+		CompletableFuture<Double> add(double operandOne, double operandTwo);
+
+		Mono<Double> multiply(double operandOne, double operandTwo);
+
+		Flux<Integer> range(int count);
+
+		CompletableFuture<List<Integer>> sequence(int count);
+
+		Object subtract(double operandOne, double operandTwo);
+
+	}
+}
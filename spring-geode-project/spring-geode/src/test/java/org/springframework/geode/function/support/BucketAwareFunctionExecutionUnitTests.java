@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BucketAwareFunctionExecution}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.BucketAwareFunctionExecution
+ * @since 2.0.0
+ */
+public class BucketAwareFunctionExecutionUnitTests {
+
+	private static final Set<Object> KEYS = IntStream.range(0, 100).boxed().collect(Collectors.toSet());
+
+	@Test
+	public void partitionKeepsBucketsTogetherAndBoundsGroups() {
+
+		BucketAwareFunctionExecution<Object> execution =
+			BucketAwareFunctionExecution.using((filter, arguments) -> null)
+				.withTotalNumberOfBuckets(10)
+				.withParallelism(3);
+
+		List<Set<Object>> groups = execution.partition(KEYS);
+
+		assertThat(groups).hasSize(3);
+		assertThat(groups.stream().mapToInt(Set::size).sum()).isEqualTo(KEYS.size());
+
+		groups.forEach(group -> {
+
+			Set<Integer> bucketIds = group.stream()
+				.map(execution::resolveBucketId)
+				.collect(Collectors.toSet());
+
+			group.forEach(key -> assertThat(groups.stream()
+				.filter(it -> it.contains(key))).hasSize(1));
+
+			bucketIds.forEach(bucketId -> assertThat(KEYS.stream()
+				.filter(key -> execution.resolveBucketId(key) == bucketId)
+				.allMatch(group::contains)).isTrue());
+		});
+	}
+
+	@Test
+	public void partitionUsesRoutingObjectResolver() {
+
+		BucketAwareFunctionExecution<Object> execution =
+			BucketAwareFunctionExecution.using((filter, arguments) -> null)
+				.withRoutingObjectResolver(key -> "same")
+				.withParallelism(8);
+
+		assertThat(execution.partition(KEYS)).hasSize(1);
+	}
+
+	@Test
+	public void partitionGroupsBucketsByMember() {
+
+		BucketAwareFunctionExecution<Object> execution =
+			BucketAwareFunctionExecution.using((filter, arguments) -> null)
+				.withMemberResolver(key -> (Integer) key % 3)
+				.withTotalNumberOfBuckets(9)
+				.withParallelism(8);
+
+		List<Set<Object>> groups = execution.partition(KEYS);
+
+		assertThat(groups).hasSize(3);
+		assertThat(groups.stream().mapToInt(Set::size).sum()).isEqualTo(KEYS.size());
+
+		groups.forEach(group -> assertThat(group.stream()
+			.map(key -> (Integer) key % 3)
+			.distinct()).hasSize(1));
+	}
+
+	@Test
+	public void executeMergesResultsOfAllGroups() {
+
+		AtomicInteger executionCount = new AtomicInteger();
+
+		List<Object> receivedArguments = new ArrayList<>();
+
+		BucketAwareFunctionExecution<Object> execution = BucketAwareFunctionExecution.using((filter, arguments) -> {
+				executionCount.incrementAndGet();
+				synchronized (receivedArguments) {
+					receivedArguments.add(arguments[0]);
+				}
+				return new ArrayList<>(filter);
+			})
+			.withArguments("test")
+			.withMaxAttempts(1)
+			.withTotalNumberOfBuckets(16)
+			.withParallelism(4);
+
+		List<Object> results = execution.execute(KEYS).collect(Collectors.toList());
+
+		assertThat(results).containsExactlyInAnyOrderElementsOf(KEYS);
+		assertThat(executionCount.get()).isEqualTo(4);
+		assertThat(receivedArguments).containsOnly("test");
+	}
+
+	@Test
+	public void executeRetriesFailedExecutionPerBucket() {
+
+		List<Collection<?>> filters = new CopyOnWriteArrayList<>();
+
+		BucketAwareFunctionExecution<Object> execution = BucketAwareFunctionExecution.using((filter, arguments) -> {
+				filters.add(filter);
+				if (filters.size() == 1) {
+					throw new IllegalStateException("TEST");
+				}
+				return new ArrayList<>(filter);
+			})
+			.withHedgeDelay(null)
+			.withMaxAttempts(2)
+			.withTotalNumberOfBuckets(4)
+			.withParallelism(1);
+
+		assertThat(execution.execute(KEYS).collect(Collectors.toList())).containsExactlyInAnyOrderElementsOf(KEYS);
+		assertThat(filters).hasSize(5);
+		assertThat(filters.get(0)).hasSameSizeAs(KEYS);
+		assertThat(filters.subList(1, 5)).allMatch(filter -> filter.stream()
+			.map(execution::resolveBucketId)
+			.distinct()
+			.count() == 1);
+	}
+
+	@Test
+	public void executeFailsWhenAttemptsAreExhausted() {
+
+		BucketAwareFunctionExecution<Object> execution = BucketAwareFunctionExecution.using((filter, arguments) -> {
+				throw new IllegalStateException("TEST");
+			})
+			.withMaxAttempts(2);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> execution.execute(KEYS).collect(Collectors.toList()))
+			.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void executeHedgesEachBucketOfSlowExecutionAndCancelsStalledAttempt() throws InterruptedException {
+
+		CountDownLatch neverReleased = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		AtomicInteger executionCount = new AtomicInteger();
+
+		BucketAwareFunctionExecution<Object> execution = BucketAwareFunctionExecution.using((filter, arguments) -> {
+				if (executionCount.incrementAndGet() == 1) {
+					try {
+						neverReleased.await(5, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException cause) {
+						interrupted.countDown();
+						throw cause;
+					}
+				}
+				return new ArrayList<>(filter);
+			})
+			.withHedgeDelay(Duration.ofMillis(20))
+			.withMaxAttempts(2)
+			.withTotalNumberOfBuckets(4)
+			.withParallelism(1);
+
+		long startTime = System.nanoTime();
+
+		assertThat(execution.execute(KEYS).collect(Collectors.toList())).containsExactlyInAnyOrderElementsOf(KEYS);
+		assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(5));
+		assertThat(executionCount.get()).isEqualTo(5);
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void executeHedgesOnlyBucketsOfSlowMember() {
+
+		CountDownLatch neverReleased = new CountDownLatch(1);
+
+		Map<Integer, AtomicInteger> executionCountByMember = new ConcurrentHashMap<>();
+
+		BucketAwareFunctionExecution<Object> execution = BucketAwareFunctionExecution.using((filter, arguments) -> {
+
+				int member = (Integer) filter.iterator().next() % 2;
+
+				if (executionCountByMember.computeIfAbsent(member, it -> new AtomicInteger()).incrementAndGet() == 1
+						&& member == 0) {
+
+					neverReleased.await(5, TimeUnit.SECONDS);
+				}
+
+				return new ArrayList<>(filter);
+			})
+			.withHedgeDelay(Duration.ofMillis(200))
+			.withMaxAttempts(2)
+			.withMemberResolver(key -> (Integer) key % 2)
+			.withTotalNumberOfBuckets(8);
+
+		assertThat(execution.execute(KEYS).collect(Collectors.toList())).containsExactlyInAnyOrderElementsOf(KEYS);
+		assertThat(executionCountByMember.get(0)).hasValue(5);
+		assertThat(executionCountByMember.get(1)).hasValue(1);
+	}
+
+	@Test
+	public void executeTimesOutSlowExecutionAndCancelsStalledAttempt() throws InterruptedException {
+
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		BucketAwareFunctionExecution<Object> execution = BucketAwareFunctionExecution.using((filter, arguments) -> {
+				try {
+					Thread.sleep(5000L);
+				}
+				catch (InterruptedException cause) {
+					interrupted.countDown();
+					throw cause;
+				}
+				return new ArrayList<>(filter);
+			})
+			.withTimeout(Duration.ofMillis(50))
+			.withParallelism(1);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> execution.execute(KEYS).collect(Collectors.toList()))
+			.withMessageContaining("did not complete in [PT0.05S]");
+
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void executeWithEmptyFilterIsIllegal() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> BucketAwareFunctionExecution.using((filter, arguments) -> null).execute(Set.of()))
+			.withMessage("Filter is required");
+	}
+}
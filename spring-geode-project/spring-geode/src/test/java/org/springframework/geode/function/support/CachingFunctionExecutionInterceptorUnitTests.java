@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.geode.function.annotation.CacheableFunctionExecution;
+
+/**
+ * Unit tests for {@link CachingFunctionExecutionInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.function.support.CachingFunctionExecutionInterceptor
+ * @since 2.0.0
+ */
+public class CachingFunctionExecutionInterceptorUnitTests {
+
+	private final AtomicInteger executionCount = new AtomicInteger();
+
+	private FunctionResultCache functionResultCache;
+
+	private MethodInterceptor mockDelegate;
+
+	private Leaderboard leaderboard;
+
+	@Before
+	public void setup() throws Throwable {
+
+		this.functionResultCache = new FunctionResultCache();
+		this.mockDelegate = mock(MethodInterceptor.class);
+
+		doAnswer(invocation -> this.executionCount.incrementAndGet()).when(this.mockDelegate).invoke(any());
+
+		this.leaderboard = (Leaderboard) new ProxyFactory(Leaderboard.class,
+			new CachingFunctionExecutionInterceptor(this.mockDelegate, this.functionResultCache, "/Scores"))
+				.getProxy();
+	}
+
+	@Test
+	public void isCacheableIsCorrect() throws Exception {
+
+		assertThat(CachingFunctionExecutionInterceptor.isCacheable(Leaderboard.class.getMethod("count", String.class)))
+			.isTrue();
+		assertThat(CachingFunctionExecutionInterceptor.isCacheable(Leaderboard.class.getMethod("rank", String.class)))
+			.isFalse();
+		assertThat(CachingFunctionExecutionInterceptor.hasCacheableMethods(Leaderboard.class)).isTrue();
+		assertThat(CachingFunctionExecutionInterceptor.hasCacheableMethods(CachedByType.class)).isTrue();
+		assertThat(CachingFunctionExecutionInterceptor.hasCacheableMethods(Runnable.class)).isFalse();
+	}
+
+	@Test
+	public void cacheableMethodReturnsCachedResult() throws Throwable {
+
+		assertThat(this.leaderboard.count("game")).isEqualTo(1);
+		assertThat(this.leaderboard.count("game")).isEqualTo(1);
+		assertThat(this.leaderboard.count("other")).isEqualTo(2);
+
+		verify(this.mockDelegate, times(2)).invoke(any());
+
+		assertThat(this.functionResultCache.getStatistics().getHitCount()).isOne();
+		assertThat(this.functionResultCache.getStatistics().getMissCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void cacheableMethodIsKeyedByFunctionIdAndFilter() throws Throwable {
+
+		assertThat(this.leaderboard.top(Set.of("a", "b"), 10)).isEqualTo(1);
+		assertThat(this.leaderboard.top(Set.of("b", "a"), 10)).isEqualTo(1);
+		assertThat(this.leaderboard.top(Set.of("a"), 10)).isEqualTo(2);
+
+		FunctionResultCache.Key expectedKey =
+			FunctionResultCache.newKey("/Scores", "topScores", new Object[] { 10 }, Set.of("a", "b"));
+
+		assertThat(this.functionResultCache.<Integer>getOrExecute(expectedKey, () -> -1)).isEqualTo(1);
+	}
+
+	@Test
+	public void cachedResultIsInvalidatedByRegion() throws Throwable {
+
+		assertThat(this.leaderboard.count("game")).isEqualTo(1);
+
+		this.functionResultCache.invalidate("/Scores");
+
+		assertThat(this.leaderboard.count("game")).isEqualTo(2);
+	}
+
+	@Test
+	public void nonCacheableMethodIsAlwaysDelegated() throws Throwable {
+
+		assertThat(this.leaderboard.rank("player")).isEqualTo(1);
+		assertThat(this.leaderboard.rank("player")).isEqualTo(2);
+		assertThat(this.functionResultCache.size()).isZero();
+	}
+
+	@Test
+	public void failedFunctionExecutionIsNotCached() throws Throwable {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockDelegate).invoke(any());
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.leaderboard.count("game"))
+			.withMessage("TEST");
+
+		assertThat(this.functionResultCache.size()).isZero();
+	}
+
+	interface Leaderboard {
+
+		@CacheableFunctionExecution(timeToLiveSeconds = 5)
+		Object count(String game);
+
+		Object rank(String player);
+
+		@CacheableFunctionExecution
+		@FunctionId("topScores")
+		Object top(@Filter Set<String> players, int limit);
+
+	}
+
+	@CacheableFunctionExecution
+	interface CachedByType {
+
+		Object count(String game);
+
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.geode.core.jfr.FunctionExecutionEvent;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit Tests for {@link FunctionExecutionEventInterceptor}.
+ *
+ * @author John Blum
+ * @see jdk.jfr.Recording
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.function.support.FunctionExecutionEventInterceptor
+ * @since 2.0.0
+ */
+public class FunctionExecutionEventInterceptorUnitTests {
+
+	private static final String FUNCTION_EXECUTION_EVENT_NAME = "org.springframework.geode.FunctionExecution";
+
+	private Leaderboard leaderboard;
+
+	@Before
+	public void setup() throws Throwable {
+
+		MethodInterceptor mockDelegate = mock(MethodInterceptor.class);
+
+		doAnswer(invocation -> {
+
+			MethodInvocation methodInvocation = invocation.getArgument(0);
+
+			if ("fail".equals(methodInvocation.getArguments()[0])) {
+				throw new IllegalStateException("TEST");
+			}
+
+			return 1;
+
+		}).when(mockDelegate).invoke(any());
+
+		this.leaderboard = (Leaderboard) new ProxyFactory(Leaderboard.class,
+			new FunctionExecutionEventInterceptor(mockDelegate)).getProxy();
+	}
+
+	private List<RecordedEvent> record(Runnable runnable) throws Exception {
+
+		Path recordingFile = Files.createTempFile("function-execution", ".jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable(FunctionExecutionEvent.class).withoutThreshold();
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(recordingFile);
+
+			return RecordingFile.readAllEvents(recordingFile).stream()
+				.filter(event -> FUNCTION_EXECUTION_EVENT_NAME.equals(event.getEventType().getName()))
+				.collect(Collectors.toList());
+		}
+		finally {
+			Files.deleteIfExists(recordingFile);
+		}
+	}
+
+	@Test
+	public void functionExecutionIsRecorded() throws Exception {
+
+		List<RecordedEvent> events = record(() -> assertThat(this.leaderboard.count("test")).isEqualTo(1));
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("functionId")).isEqualTo("countScores");
+		assertThat(events.get(0).getString("method")).isEqualTo(Leaderboard.class.getName() + ".count");
+		assertThat(events.get(0).getBoolean("failed")).isFalse();
+	}
+
+	@Test
+	public void failedFunctionExecutionIsRecorded() throws Exception {
+
+		List<RecordedEvent> events = record(() -> assertThatIllegalStateException()
+			.isThrownBy(() -> this.leaderboard.rank("fail"))
+			.withMessage("TEST"));
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("functionId")).isEqualTo("rank");
+		assertThat(events.get(0).getBoolean("failed")).isTrue();
+	}
+
+	interface Leaderboard {
+
+		@FunctionId("countScores")
+		Integer count(String player);
+
+		Integer rank(String player);
+
+	}
+}
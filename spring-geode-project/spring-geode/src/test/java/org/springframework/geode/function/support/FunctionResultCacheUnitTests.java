@@ -0,0 +1,314 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.CqEvent;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FunctionResultCache} and {@link FunctionResultCacheInvalidatingListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.FunctionResultCache
+ * @see org.springframework.geode.function.support.FunctionResultCacheInvalidatingListener
+ * @since 2.0.0
+ */
+public class FunctionResultCacheUnitTests {
+
+	private final AtomicInteger executionCount = new AtomicInteger();
+
+	private Integer execute() {
+		return this.executionCount.incrementAndGet();
+	}
+
+	@Test
+	public void constructWithInvalidMaximumSize() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new FunctionResultCache(0, Duration.ofSeconds(1)))
+			.withMessage("Maximum size [0] must be greater than 0");
+	}
+
+	@Test
+	public void constructWithInvalidTimeToLive() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new FunctionResultCache(1, Duration.ZERO))
+			.withMessage("Time-to-live [PT0S] must be positive");
+	}
+
+	@Test
+	public void keysAreEqualByFunctionIdArgumentsAndUnorderedFilter() {
+
+		FunctionResultCache.Key keyOne = FunctionResultCache.newKey("/Example", "count",
+			new Object[] { "a", new int[] { 1, 2 } }, Arrays.asList(1, 2));
+
+		FunctionResultCache.Key keyTwo = FunctionResultCache.newKey("/Example", "count",
+			new Object[] { "a", new int[] { 1, 2 } }, Set.of(2, 1));
+
+		assertThat(keyOne).isEqualTo(keyTwo);
+		assertThat(keyOne).hasSameHashCodeAs(keyTwo);
+		assertThat(keyOne).isNotEqualTo(FunctionResultCache.newKey("/Example", "sum",
+			new Object[] { "a", new int[] { 1, 2 } }, Arrays.asList(1, 2)));
+		assertThat(keyOne).isNotEqualTo(FunctionResultCache.newKey("/Example", "count",
+			new Object[] { "b", new int[] { 1, 2 } }, Arrays.asList(1, 2)));
+		assertThat(keyOne).isNotEqualTo(FunctionResultCache.newKey("/Example", "count",
+			new Object[] { "a", new int[] { 1, 2 } }, List.of(1)));
+		assertThat(keyOne).isNotEqualTo(FunctionResultCache.newKey("/Other", "count",
+			new Object[] { "a", new int[] { 1, 2 } }, Arrays.asList(1, 2)));
+	}
+
+	@Test
+	public void getOrExecuteCachesResultAndRecordsHitsAndMisses() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCache.Key key = FunctionResultCache.newKey("/Example", "count", null, null);
+
+		assertThat(cache.<Integer>getOrExecute(key, this::execute)).isEqualTo(1);
+		assertThat(cache.<Integer>getOrExecute(key, this::execute)).isEqualTo(1);
+		assertThat(cache.<Integer>getOrExecute(key, this::execute)).isEqualTo(1);
+
+		FunctionResultCache.Statistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getHitCount()).isEqualTo(2L);
+		assertThat(statistics.getMissCount()).isEqualTo(1L);
+		assertThat(statistics.getRequestCount()).isEqualTo(3L);
+		assertThat(statistics.getHitRatio()).isEqualTo(2.0d / 3.0d);
+		assertThat(statistics.getSize()).isOne();
+	}
+
+	@Test
+	public void getOrExecuteCachesNullResult() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCache.Key key = FunctionResultCache.newKey(null, "noop", null, null);
+
+		assertThat(cache.<Object>getOrExecute(key, () -> { execute(); return null; })).isNull();
+		assertThat(cache.<Object>getOrExecute(key, () -> { execute(); return null; })).isNull();
+		assertThat(this.executionCount.get()).isOne();
+	}
+
+	@Test
+	public void getOrExecuteReexecutesExpiredResult() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCache.Key key = FunctionResultCache.newKey("/Example", "count", null, null);
+
+		assertThat(cache.<Integer>getOrExecute(key, Duration.ofNanos(1), this::execute)).isEqualTo(1);
+
+		Thread.sleep(5L);
+
+		assertThat(cache.<Integer>getOrExecute(key, Duration.ofNanos(1), this::execute)).isEqualTo(2);
+		assertThat(cache.getStatistics().getEvictionCount()).isOne();
+	}
+
+	@Test
+	public void getOrExecuteEvictsLeastRecentlyUsedResult() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache(2, Duration.ofMinutes(1));
+
+		FunctionResultCache.Key keyOne = FunctionResultCache.newKey(null, "one", null, null);
+		FunctionResultCache.Key keyTwo = FunctionResultCache.newKey(null, "two", null, null);
+		FunctionResultCache.Key keyThree = FunctionResultCache.newKey(null, "three", null, null);
+
+		cache.getOrExecute(keyOne, this::execute);
+		cache.getOrExecute(keyTwo, this::execute);
+		cache.getOrExecute(keyOne, this::execute);
+		cache.getOrExecute(keyThree, this::execute);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getStatistics().getEvictionCount()).isOne();
+		assertThat(cache.<Integer>getOrExecute(keyOne, this::execute)).isEqualTo(1);
+		assertThat(cache.<Integer>getOrExecute(keyTwo, this::execute)).isEqualTo(4);
+	}
+
+	@Test
+	public void getOrExecuteCollapsesConcurrentMissesIntoOneExecution() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCache.Key key = FunctionResultCache.newKey("/Example", "count", null, null);
+
+		CountDownLatch executionStarted = new CountDownLatch(1);
+		CountDownLatch executionReleased = new CountDownLatch(1);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(5);
+
+		try {
+
+			Future<Integer> leader = executorService.submit(() -> cache.<Integer>getOrExecute(key, () -> {
+				executionStarted.countDown();
+				assertThat(executionReleased.await(5L, TimeUnit.SECONDS)).isTrue();
+				return execute();
+			}));
+
+			assertThat(executionStarted.await(5L, TimeUnit.SECONDS)).isTrue();
+
+			List<Future<Integer>> followers = new ArrayList<>();
+
+			for (int count = 0; count < 4; count++) {
+				followers.add(executorService.submit(() -> cache.<Integer>getOrExecute(key, this::execute)));
+			}
+
+			executionReleased.countDown();
+
+			assertThat(leader.get(5L, TimeUnit.SECONDS)).isEqualTo(1);
+
+			for (Future<Integer> follower : followers) {
+				assertThat(follower.get(5L, TimeUnit.SECONDS)).isEqualTo(1);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(this.executionCount.get()).isOne();
+		assertThat(cache.getStatistics().getMissCount()).isOne();
+		assertThat(cache.getStatistics().getHitCount()).isEqualTo(4L);
+	}
+
+	@Test
+	public void getOrExecuteDoesNotCacheFailure() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCache.Key key = FunctionResultCache.newKey("/Example", "count", null, null);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> cache.getOrExecute(key, () -> { throw new IllegalStateException("TEST"); }))
+			.withMessage("TEST");
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.<Integer>getOrExecute(key, this::execute)).isEqualTo(1);
+	}
+
+	@Test
+	public void getOrExecuteDoesNotCacheSingleUseResults() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCache.Key streamKey = FunctionResultCache.newKey(null, "stream", null, null);
+		FunctionResultCache.Key futureKey = FunctionResultCache.newKey(null, "future", null, null);
+
+		cache.getOrExecute(streamKey, () -> Stream.of(execute()));
+		cache.getOrExecute(streamKey, () -> Stream.of(execute()));
+		cache.getOrExecute(futureKey, () -> CompletableFuture.completedFuture(execute()));
+
+		assertThat(this.executionCount.get()).isEqualTo(3);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void invalidateRemovesResultsForRegionOnly() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCache.Key exampleKey = FunctionResultCache.newKey("/Example", "count", null, null);
+		FunctionResultCache.Key otherKey = FunctionResultCache.newKey("/Other", "count", null, null);
+
+		cache.getOrExecute(exampleKey, this::execute);
+		cache.getOrExecute(otherKey, this::execute);
+		cache.invalidate("/Example");
+
+		assertThat(cache.size()).isOne();
+		assertThat(cache.getStatistics().getInvalidationCount()).isOne();
+		assertThat(cache.<Integer>getOrExecute(exampleKey, this::execute)).isEqualTo(3);
+		assertThat(cache.<Integer>getOrExecute(otherKey, this::execute)).isEqualTo(2);
+	}
+
+	@Test
+	public void invalidateDuringExecutionDoesNotCacheStaleResult() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCache.Key key = FunctionResultCache.newKey("/Example", "count", null, null);
+
+		assertThat(cache.<Integer>getOrExecute(key, () -> {
+			cache.invalidate("/Example");
+			return execute();
+		})).isEqualTo(1);
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.<Integer>getOrExecute(key, this::execute)).isEqualTo(2);
+	}
+
+	@Test
+	public void invalidateAllRemovesAllResults() throws Exception {
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		cache.getOrExecute(FunctionResultCache.newKey("/Example", "count", null, null), this::execute);
+		cache.getOrExecute(FunctionResultCache.newKey(null, "count", null, null), this::execute);
+		cache.invalidateAll();
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getStatistics().getInvalidationCount()).isEqualTo(2L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void listenerInvalidatesRegionResultsOnEntryAndCqEvents() throws Exception {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn("/Example").when(mockRegion).getFullPath();
+
+		FunctionResultCache cache = new FunctionResultCache();
+
+		FunctionResultCacheInvalidatingListener<Object, Object> listener =
+			new FunctionResultCacheInvalidatingListener<>(cache, mockRegion);
+
+		FunctionResultCache.Key key = FunctionResultCache.newKey("/Example", "count", null, null);
+
+		cache.getOrExecute(key, this::execute);
+		listener.afterUpdate(mock(EntryEvent.class));
+
+		assertThat(cache.size()).isZero();
+
+		cache.getOrExecute(key, this::execute);
+		listener.onEvent(mock(CqEvent.class));
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getStatistics().getInvalidationCount()).isEqualTo(2L);
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Unit tests for {@link ResultCollectors}, {@link CompletableResultCollector} and {@link ReducingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.springframework.geode.function.support.CompletableResultCollector
+ * @see org.springframework.geode.function.support.ReducingResultCollector
+ * @see org.springframework.geode.function.support.ResultCollectors
+ * @since 2.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ResultCollectorsUnitTests {
+
+	@Mock
+	private DistributedMember mockDistributedMember;
+
+	@Test
+	public void summingLongSumsResults() {
+
+		CompletableResultCollector<Integer, Long> resultCollector = ResultCollectors.summingLong(Integer::longValue);
+
+		resultCollector.addResult(this.mockDistributedMember, 1);
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.addResult(this.mockDistributedMember, 2);
+		resultCollector.addResult(this.mockDistributedMember, 3);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(6L);
+	}
+
+	@Test
+	public void summingDoubleSumsResults() {
+
+		CompletableResultCollector<Double, Double> resultCollector =
+			ResultCollectors.summingDouble(Double::doubleValue);
+
+		resultCollector.addResult(this.mockDistributedMember, 1.5d);
+		resultCollector.addResult(this.mockDistributedMember, 2.5d);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(4.0d);
+	}
+
+	@Test
+	public void topRetainsGreatestResultsInDescendingOrder() {
+
+		ReducingResultCollector<Integer, List<Integer>> resultCollector =
+			ResultCollectors.top(3, Comparator.naturalOrder());
+
+		for (Integer result : new Integer[] { 5, 1, null, 9, 7, 3, 9, 2 }) {
+			resultCollector.addResult(this.mockDistributedMember, result);
+		}
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly(9, 9, 7);
+	}
+
+	@Test
+	public void topWithFewerResultsThanN() {
+
+		ReducingResultCollector<Integer, List<Integer>> resultCollector =
+			ResultCollectors.top(5, Comparator.naturalOrder());
+
+		resultCollector.addResult(this.mockDistributedMember, 2);
+		resultCollector.addResult(this.mockDistributedMember, 4);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly(4, 2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void topWithInvalidN() {
+		ResultCollectors.top(0, Comparator.<Integer>naturalOrder());
+	}
+
+	@Test
+	public void mergingMapsMergesResults() {
+
+		CompletableResultCollector<Map<String, Integer>, Map<String, Integer>> resultCollector =
+			ResultCollectors.mergingMaps(Integer::sum);
+
+		resultCollector.addResult(this.mockDistributedMember, Map.of("a", 1, "b", 2));
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.addResult(this.mockDistributedMember, Map.of("b", 3, "c", 4));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsOnly(Map.entry("a", 1), Map.entry("b", 5), Map.entry("c", 4));
+	}
+
+	@Test
+	public void reducingFoldsResults() {
+
+		ReducingResultCollector<String, String> resultCollector =
+			ResultCollectors.reducing("", (value, result) -> value + result);
+
+		resultCollector.addResult(this.mockDistributedMember, "a");
+		resultCollector.addResult(this.mockDistributedMember, "b");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo("ab");
+	}
+
+	@Test
+	public void getResultFutureCompletesOnEndResults() {
+
+		CompletableResultCollector<Integer, Long> resultCollector = ResultCollectors.summingLong(Integer::longValue);
+
+		CompletableFuture<Long> resultFuture = resultCollector.getResultFuture();
+
+		resultCollector.addResult(this.mockDistributedMember, 2);
+
+		assertThat(resultFuture).isNotDone();
+
+		resultCollector.endResults();
+
+		assertThat(resultFuture).isCompletedWithValue(2L);
+	}
+
+	@Test
+	public void getResultWithTimeoutReturnsResultWhenResultsEnd() throws Exception {
+
+		CompletableResultCollector<Integer, Long> resultCollector = ResultCollectors.summingLong(Integer::longValue);
+
+		CompletableFuture.runAsync(() -> {
+			resultCollector.addResult(this.mockDistributedMember, 4);
+			resultCollector.endResults();
+		});
+
+		assertThat(resultCollector.getResult(5, TimeUnit.SECONDS)).isEqualTo(4L);
+	}
+
+	@Test
+	public void getResultWithTimeoutThrowsFunctionExceptionWhenResultsDoNotEndInTime() {
+
+		CompletableResultCollector<Integer, Long> resultCollector = ResultCollectors.summingLong(Integer::longValue);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> resultCollector.getResult(10, TimeUnit.MILLISECONDS))
+			.withMessage(CompletableResultCollector.RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE);
+	}
+
+	@Test
+	public void clearResultsResetsAccumulatedResults() {
+
+		ReducingResultCollector<String, String> resultCollector =
+			ResultCollectors.reducing("", (value, result) -> value + result);
+
+		resultCollector.addResult(this.mockDistributedMember, "a");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo("a");
+
+		resultCollector.clearResults();
+
+		assertThat(resultCollector.getResultFuture()).isNotDone();
+
+		resultCollector.addResult(this.mockDistributedMember, "b");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo("b");
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit tests for {@link StreamingResultCollector} and {@link FluxResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.springframework.geode.function.support.FluxResultCollector
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @since 2.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StreamingResultCollectorUnitTests {
+
+	@Mock
+	private DistributedMember mockDistributedMember;
+
+	@Test
+	public void streamsResultsAsResultsArrive() {
+
+		StreamingResultCollector<String> resultCollector = ResultCollectors.streaming();
+
+		resultCollector.addResult(this.mockDistributedMember, "a");
+
+		Iterator<String> results = resultCollector.getResult().iterator();
+
+		assertThat(results.next()).isEqualTo("a");
+
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.addResult(this.mockDistributedMember, "b");
+		resultCollector.endResults();
+
+		assertThat(results.next()).isNull();
+		assertThat(results.next()).isEqualTo("b");
+		assertThat(results.hasNext()).isFalse();
+	}
+
+	@Test
+	public void streamsResultsSentFromAnotherThread() {
+
+		StreamingResultCollector<Integer> resultCollector = ResultCollectors.streaming();
+
+		CompletableFuture.runAsync(() -> {
+
+			for (int result = 1; result <= 100; result++) {
+				resultCollector.addResult(this.mockDistributedMember, result);
+			}
+
+			resultCollector.endResults();
+		});
+
+		assertThat(resultCollector.getResult().mapToInt(Integer::intValue).sum()).isEqualTo(5050);
+	}
+
+	@Test
+	public void streamWithTimeoutThrowsFunctionExceptionWhenResultsDoNotEndInTime() {
+
+		StreamingResultCollector<String> resultCollector = ResultCollectors.streaming();
+
+		resultCollector.addResult(this.mockDistributedMember, "a");
+
+		Stream<String> results = resultCollector.getResult(50, TimeUnit.MILLISECONDS);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> results.collect(Collectors.toList()))
+			.withMessage(StreamingResultCollector.RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE);
+	}
+
+	@Test
+	public void fluxEmitsResultsAndCompletesOnEndResults() {
+
+		FluxResultCollector<String> resultCollector = ResultCollectors.flux();
+
+		resultCollector.addResult(this.mockDistributedMember, "a");
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.addResult(this.mockDistributedMember, "b");
+		resultCollector.endResults();
+
+		List<String> results = resultCollector.getResult().collectList().block(Duration.ofSeconds(5));
+
+		assertThat(results).containsExactly("a", "b");
+	}
+
+	@Test
+	public void fluxWithTimeoutSignalsFunctionExceptionWhenResultsDoNotEndInTime() {
+
+		FluxResultCollector<String> resultCollector = ResultCollectors.flux();
+
+		resultCollector.addResult(this.mockDistributedMember, "a");
+
+		Flux<String> results = resultCollector.getResult(50, TimeUnit.MILLISECONDS);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> results.collectList().block(Duration.ofSeconds(5)))
+			.withMessage(CompletableResultCollector.RESULTS_NOT_RECEIVED_IN_TIME_MESSAGE);
+	}
+}
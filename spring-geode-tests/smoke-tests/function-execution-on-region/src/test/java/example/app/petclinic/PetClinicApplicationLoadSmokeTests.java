@@ -0,0 +1,317 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package example.app.petclinic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.annotation.Resource;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.gemfire.config.annotation.CacheServerApplication;
+import org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions;
+import org.springframework.data.gemfire.config.annotation.EnablePdx;
+import org.springframework.data.gemfire.function.annotation.GemfireFunction;
+import org.springframework.data.gemfire.function.config.EnableGemfireFunctions;
+import org.springframework.data.gemfire.tests.integration.ForkingClientServerIntegrationTestsSupport;
+import org.springframework.geode.function.support.BucketAwareFunctionExecution;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import example.app.petclinic.model.Pet;
+import example.app.petclinic.repo.PetRepository;
+
+/**
+ * Load Smoke Tests comparing the tail latency of an Apache Geode {@link Function} executed on a partitioned
+ * {@link Region} with a single {@link FunctionService#onRegion(Region)} execution to the tail latency of the same
+ * {@link Function} executed with a {@link BucketAwareFunctionExecution} using hedged executions, along with Smoke Tests
+ * asserting the hedging and retry behavior of a {@link BucketAwareFunctionExecution}.
+ *
+ * For the load test, the {@link Function} stalls randomly for a fraction of its invocations to simulate a slow
+ * member. For the other tests, the client decides the behavior of the {@link Function} for each attempt, so that
+ * the first attempt deterministically stalls or fails. Only a single server is forked, therefore routing of
+ * the executions to the servers hosting the buckets is not asserted.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see org.springframework.data.gemfire.tests.integration.ForkingClientServerIntegrationTestsSupport
+ * @see org.springframework.geode.function.support.BucketAwareFunctionExecution
+ * @see example.app.petclinic.model.Pet
+ * @since 2.0.0
+ */
+@ActiveProfiles("petclinic-client-function-execution-load")
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@SuppressWarnings("unused")
+public class PetClinicApplicationLoadSmokeTests extends ForkingClientServerIntegrationTestsSupport {
+
+	private static final int ITERATIONS = 200;
+	private static final int PET_COUNT = 1000;
+	private static final int RANDOM_STALL_PERCENTAGE = 5;
+
+	private static final Duration HEDGE_DELAY = Duration.ofMillis(100);
+	private static final Duration LOAD_HEDGE_DELAY = Duration.ofMillis(50);
+	private static final Duration RANDOM_STALL_DURATION = Duration.ofMillis(250);
+	private static final Duration STALL_DURATION = Duration.ofSeconds(5);
+
+	private static final String COUNT = "COUNT";
+	private static final String FAIL = "FAIL";
+	private static final String RANDOM = "RANDOM";
+	private static final String STALL = "STALL";
+
+	@BeforeClass
+	public static void startGeodeServer() throws Exception {
+		startGemFireServer(GeodeServerTestConfiguration.class,
+			"-Dspring.profiles.active=petclinic-server-function-execution-load");
+	}
+
+	private Set<String> petNames;
+
+	@Autowired
+	private PetRepository petRepository;
+
+	@Resource(name = "Pets")
+	private Region<String, Pet> pets;
+
+	@Before
+	public void setup() {
+
+		this.petNames = IntStream.range(0, PET_COUNT)
+			.mapToObj(index -> "Pet" + index)
+			.collect(Collectors.toSet());
+
+		if (this.petRepository.count() == 0) {
+			this.petRepository.saveAll(this.petNames.stream()
+				.map(name -> Pet.newPet(name).as(Pet.Type.DOG))
+				.collect(Collectors.toList()));
+		}
+
+		assertThat(this.petRepository.count()).isEqualTo(PET_COUNT);
+	}
+
+	@SuppressWarnings("unchecked")
+	private BucketAwareFunctionExecution<Integer> newBucketAwareExecution(AtomicInteger attempts,
+			String firstAttemptBehavior) {
+
+		return BucketAwareFunctionExecution.<Integer>using((filter, arguments) -> {
+
+			String behavior = attempts.incrementAndGet() == 1 ? firstAttemptBehavior : COUNT;
+
+			return (List<Integer>) FunctionService.onRegion(this.pets)
+				.withFilter(filter)
+				.setArguments(new Object[] { behavior })
+				.execute("CountPets")
+				.getResult();
+		});
+	}
+
+	private int sum(BucketAwareFunctionExecution<Integer> execution) {
+		return execution.execute(this.petNames).mapToInt(Integer::intValue).sum();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bucketAwareHedgedExecutionReducesTailLatency() {
+
+		long[] singleExecutionLatencies = measure(() -> {
+
+			List<Integer> counts = (List<Integer>) FunctionService.onRegion(this.pets)
+				.withFilter(this.petNames)
+				.setArguments(new Object[] { RANDOM })
+				.execute("CountPets")
+				.getResult();
+
+			return counts.stream().mapToInt(Integer::intValue).sum();
+		});
+
+		BucketAwareFunctionExecution<Integer> bucketAwareExecution =
+			BucketAwareFunctionExecution.<Integer>onRegion(this.pets, "CountPets")
+				.withArguments(RANDOM)
+				.withHedgeDelay(LOAD_HEDGE_DELAY)
+				.withMaxAttempts(5);
+
+		long[] bucketAwareExecutionLatencies = measure(() -> sum(bucketAwareExecution));
+
+		long singleExecutionP99 = percentile(singleExecutionLatencies, 0.99d);
+		long bucketAwareExecutionP99 = percentile(bucketAwareExecutionLatencies, 0.99d);
+
+		assertThat(singleExecutionP99)
+			.describedAs("Single execution p99 [%d ms] did not include a stalled execution", singleExecutionP99)
+			.isGreaterThanOrEqualTo(RANDOM_STALL_DURATION.toMillis());
+
+		assertThat(bucketAwareExecutionP99)
+			.describedAs("Bucket-aware p99 [%d ms] was not less than single execution p99 [%d ms]",
+				bucketAwareExecutionP99, singleExecutionP99)
+			.isLessThan(singleExecutionP99);
+	}
+
+	private long[] measure(Supplier<Integer> execution) {
+
+		long[] latencies = new long[ITERATIONS];
+
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+
+			long startTime = System.nanoTime();
+
+			assertThat(execution.get()).isEqualTo(PET_COUNT);
+
+			latencies[iteration] = Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+		}
+
+		return latencies;
+	}
+
+	private long percentile(long[] latencies, double percentile) {
+
+		long[] sortedLatencies = latencies.clone();
+
+		Arrays.sort(sortedLatencies);
+
+		int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+
+		return sortedLatencies[Math.max(index, 0)];
+	}
+
+	@Test
+	public void executesOneAttemptPerGroupOfBuckets() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		BucketAwareFunctionExecution<Integer> execution = newBucketAwareExecution(attempts, COUNT)
+			.withMaxAttempts(1)
+			.withParallelism(4);
+
+		assertThat(execution.partition(this.petNames)).hasSize(4);
+		assertThat(sum(execution)).isEqualTo(PET_COUNT);
+		assertThat(attempts).hasValue(4);
+	}
+
+	@Test
+	public void hedgedAttemptReturnsResultWhenFirstAttemptStalls() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		BucketAwareFunctionExecution<Integer> execution = newBucketAwareExecution(attempts, STALL)
+			.withHedgeDelay(HEDGE_DELAY)
+			.withMaxAttempts(2)
+			.withParallelism(1);
+
+		long startTime = System.nanoTime();
+
+		assertThat(sum(execution)).isEqualTo(PET_COUNT);
+
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+
+		assertThat(attempts.get()).isGreaterThan(1);
+		assertThat(elapsed).isGreaterThanOrEqualTo(HEDGE_DELAY);
+		assertThat(elapsed).isLessThan(STALL_DURATION);
+	}
+
+	@Test
+	public void failedAttemptIsRetried() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		BucketAwareFunctionExecution<Integer> execution = newBucketAwareExecution(attempts, FAIL)
+			.withHedgeDelay(null)
+			.withMaxAttempts(2)
+			.withParallelism(1);
+
+		assertThat(sum(execution)).isEqualTo(PET_COUNT);
+		assertThat(attempts.get()).isGreaterThan(1);
+	}
+
+	@Profile("petclinic-client-function-execution-load")
+	@EnableEntityDefinedRegions(basePackageClasses = Pet.class)
+	@SpringBootApplication(scanBasePackageClasses = PetClinicApplicationLoadSmokeTests.class)
+	static class GeodeClientTestConfiguration { }
+
+	@Profile("petclinic-server-function-execution-load")
+	@CacheServerApplication(name = "PetClinicApplicationLoadSmokeTestsServer")
+	@EnableEntityDefinedRegions(basePackageClasses = Pet.class)
+	@EnableGemfireFunctions
+	@EnablePdx
+	static class GeodeServerTestConfiguration {
+
+		public static void main(String[] args) {
+
+			AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(GeodeServerTestConfiguration.class);
+
+			applicationContext.registerShutdownHook();
+		}
+
+		@Bean
+		PetCountingFunctions petCountingFunctions() {
+			return new PetCountingFunctions();
+		}
+	}
+
+	public static class PetCountingFunctions {
+
+		@SuppressWarnings("rawtypes")
+		@GemfireFunction(id = "CountPets", hasResult = true)
+		public int countPets(FunctionContext functionContext, String behavior) throws InterruptedException {
+
+			if (STALL.equals(behavior)) {
+				Thread.sleep(STALL_DURATION.toMillis());
+			}
+			else if (RANDOM.equals(behavior) && ThreadLocalRandom.current().nextInt(100) < RANDOM_STALL_PERCENTAGE) {
+				Thread.sleep(RANDOM_STALL_DURATION.toMillis());
+			}
+			else if (FAIL.equals(behavior)) {
+				throw new IllegalStateException("Pet count failed");
+			}
+
+			RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+			Region<Object, Object> localData = PartitionRegionHelper.getLocalDataForContext(regionFunctionContext);
+
+			return (int) regionFunctionContext.getFilter().stream()
+				.filter(localData::containsKey)
+				.count();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package example.app.geode.nativeimage.client;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Spring Boot, Apache Geode {@link ClientCache} application configured and bootstrapped with the SBDG framework,
+ * defining a {@link ClientRegionShortcut#LOCAL LOCAL} {@link Region} accessed with the auto-configured
+ * {@link GemfireTemplate}, that can be processed ahead-of-time (AOT) and compiled to a GraalVM native image.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.springframework.boot.autoconfigure.SpringBootApplication
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.client.ClientRegionFactoryBean
+ * @since 2.0.0
+ */
+@SpringBootApplication
+@SuppressWarnings("unused")
+public class NativeClientCacheApplication {
+
+	static final String REGION_NAME = "Customers";
+
+	public static void main(String[] args) {
+		SpringApplication.run(NativeClientCacheApplication.class, args);
+	}
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@Bean(REGION_NAME)
+	ClientRegionFactoryBean<Long, String> customersRegion(GemFireCache gemfireCache) {
+
+		ClientRegionFactoryBean<Long, String> customersRegion = new ClientRegionFactoryBean<>();
+
+		customersRegion.setCache(gemfireCache);
+		customersRegion.setShortcut(ClientRegionShortcut.LOCAL);
+
+		return customersRegion;
+	}
+
+	@Bean
+	ApplicationRunner customersRunner(GemfireTemplate customersTemplate) {
+
+		return args -> {
+
+			customersTemplate.put(1L, "Jon Doe");
+
+			this.logger.info("Client Cache Region [{}] contains Customer [{}]", REGION_NAME,
+				customersTemplate.<Long, String>get(1L));
+		};
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package example.app.geode.nativeimage.peer;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.LocalRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Spring Boot, Apache Geode {@literal peer} {@link Cache} application configured and bootstrapped with the SBDG
+ * framework, defining a {@literal LOCAL} {@link Region} accessed with the auto-configured {@link GemfireTemplate},
+ * that can be processed ahead-of-time (AOT) and compiled to a GraalVM native image.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Cache
+ * @see org.springframework.boot.autoconfigure.SpringBootApplication
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.LocalRegionFactoryBean
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @since 2.0.0
+ */
+@SpringBootApplication
+@PeerCacheApplication(name = "NativePeerCacheApplication")
+@SuppressWarnings("unused")
+public class NativePeerCacheApplication {
+
+	static final String REGION_NAME = "Products";
+
+	public static void main(String[] args) {
+		SpringApplication.run(NativePeerCacheApplication.class, args);
+	}
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@Bean(REGION_NAME)
+	LocalRegionFactoryBean<Long, String> productsRegion(GemFireCache gemfireCache) {
+
+		LocalRegionFactoryBean<Long, String> productsRegion = new LocalRegionFactoryBean<>();
+
+		productsRegion.setCache(gemfireCache);
+
+		return productsRegion;
+	}
+
+	@Bean
+	ApplicationRunner productsRunner(GemfireTemplate productsTemplate) {
+
+		return args -> {
+
+			productsTemplate.put(1L, "Apple");
+
+			this.logger.info("Peer Cache Region [{}] contains Product [{}]", REGION_NAME,
+				productsTemplate.<Long, String>get(1L));
+		};
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package example.app.geode.nativeimage.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Smoke Tests for {@link NativeClientCacheApplication}.
+ *
+ * These tests run on the JVM with {@literal test} and in a GraalVM native image with {@literal nativeTest}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see example.app.geode.nativeimage.client.NativeClientCacheApplication
+ * @since 2.0.0
+ */
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = NativeClientCacheApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@SuppressWarnings("unused")
+public class NativeClientCacheApplicationSmokeTests extends IntegrationTestsSupport {
+
+	@Autowired
+	private ClientCache clientCache;
+
+	@Autowired
+	private GemfireTemplate customersTemplate;
+
+	@Test
+	public void clientCacheRegionAndTemplateAreConfigured() {
+
+		Region<Long, String> customers = this.clientCache.getRegion(NativeClientCacheApplication.REGION_NAME);
+
+		assertThat(customers).isNotNull();
+		assertThat(customers.getAttributes().getDataPolicy()).isEqualTo(DataPolicy.NORMAL);
+		assertThat(this.customersTemplate.getRegion()).isSameAs(customers);
+		assertThat(this.customersTemplate.<Long, String>get(1L)).isEqualTo("Jon Doe");
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package example.app.geode.nativeimage.peer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.Scope;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Smoke Tests for {@link NativePeerCacheApplication}.
+ *
+ * These tests run on the JVM with {@literal test} and in a GraalVM native image with {@literal nativeTest}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Cache
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see example.app.geode.nativeimage.peer.NativePeerCacheApplication
+ * @since 2.0.0
+ */
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = NativePeerCacheApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@SuppressWarnings("unused")
+public class NativePeerCacheApplicationSmokeTests extends IntegrationTestsSupport {
+
+	@Autowired
+	private Cache peerCache;
+
+	@Autowired
+	private GemfireTemplate productsTemplate;
+
+	@Test
+	public void peerCacheRegionAndTemplateAreConfigured() {
+
+		Region<Long, String> products = this.peerCache.getRegion(NativePeerCacheApplication.REGION_NAME);
+
+		assertThat(this.peerCache.getName()).isEqualTo(NativePeerCacheApplication.class.getSimpleName());
+		assertThat(products).isNotNull();
+		assertThat(products.getAttributes().getScope()).isEqualTo(Scope.LOCAL);
+		assertThat(this.productsTemplate.getRegion()).isSameAs(products);
+		assertThat(this.productsTemplate.<Long, String>get(1L)).isEqualTo("Apple");
+	}
+}